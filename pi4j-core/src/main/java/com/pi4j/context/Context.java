@@ -23,6 +23,7 @@ import com.pi4j.provider.Providers;
 import com.pi4j.provider.exception.ProviderInterfaceException;
 import com.pi4j.provider.exception.ProviderNotFoundException;
 import com.pi4j.registry.Registry;
+import com.pi4j.util.NativeCallStatistics;
 import com.pi4j.util.StringUtil;
 
 import java.util.concurrent.Future;
@@ -218,6 +219,21 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
      */
     BoardInfo boardInfo();
 
+    // ------------------------------------------------------------------------
+    // DIAGNOSTICS ACCESSOR METHODS
+    // ------------------------------------------------------------------------
+
+    /**
+     * Returns the counters and latency histograms of the native calls made by providers. They are only
+     * recorded if enabled with {@link ContextBuilder#enableNativeCallStatistics()} (or
+     * {@link NativeCallStatistics#enable()}); native calls are process-wide, so all contexts share them.
+     *
+     * @return the process-wide {@link NativeCallStatistics}
+     */
+    default NativeCallStatistics nativeCallStatistics() {
+        return NativeCallStatistics.instance();
+    }
+
     // ------------------------------------------------------------------------
     // I/O INSTANCE ACCESSOR/CREATOR METHODS
     // ------------------------------------------------------------------------
@@ -40,6 +40,14 @@ public class ContextBuilder implements Builder<Context> {
     // Add a field to store the GPIO chip name
     protected String gpioChipName;
 
+    // real-time execution of provider I/O threads
+    protected int realtimePriority = 0;
+    protected int[] realtimeCpus = new int[0];
+    protected boolean lockMemory = false;
+
+    // diagnostics
+    protected boolean nativeCallStatistics = false;
+
     /**
      * Private Constructor
      */
@@ -128,6 +136,75 @@ public class ContextBuilder implements Builder<Context> {
             return disableShutdownHook();
     }
 
+    /**
+     * Runs the I/O threads of native providers (such as GPIO edge-event loops) with the {@code SCHED_FIFO}
+     * real-time policy at the given priority. Requires {@code CAP_SYS_NICE} or a matching
+     * {@code RLIMIT_RTPRIO}; without it providers log a warning and keep the default scheduling.
+     * <p>
+     * The event loops call digital state listeners, batch listeners, event publishers and pulse decoders
+     * synchronously, so these run at the same priority: a {@code SCHED_FIFO} thread is only preempted by
+     * higher priorities, and a listener that blocks or spins delays every input of the loop and can starve
+     * ordinary threads on its core. Keep them short and hand further work to another thread.
+     *
+     * @param priority {@code SCHED_FIFO} priority from 1 to 99, or {@code 0} to disable real-time scheduling
+     * @return this builder instance for method chaining
+     * @throws IllegalArgumentException if the priority is outside of 0 to 99
+     */
+    public ContextBuilder realtimePriority(int priority) {
+        if (priority < 0 || priority > 99) {
+            throw new IllegalArgumentException("Real-time priority must be between 0 and 99, got " + priority);
+        }
+        this.realtimePriority = priority;
+        return this;
+    }
+
+    /**
+     * Pins the I/O threads of native providers to the given CPU cores, typically cores isolated from the
+     * scheduler with the {@code isolcpus} kernel parameter.
+     *
+     * @param cpus CPU core numbers; none to let the threads run on any core
+     * @return this builder instance for method chaining
+     * @throws IllegalArgumentException if a core number is negative
+     */
+    public ContextBuilder realtimeCpus(int... cpus) {
+        var copy = cpus == null ? new int[0] : cpus.clone();
+        for (var cpu : copy) {
+            if (cpu < 0) {
+                throw new IllegalArgumentException("CPU core number must not be negative, got " + cpu);
+            }
+        }
+        this.realtimeCpus = copy;
+        return this;
+    }
+
+    /**
+     * Locks current and future process memory into RAM once a native provider is initialized, so page
+     * faults do not add latency to I/O threads. Requires {@code CAP_IPC_LOCK} or a large enough
+     * {@code RLIMIT_MEMLOCK}; without it providers log a warning and continue.
+     *
+     * @return this builder instance for method chaining
+     */
+    public ContextBuilder lockMemory() {
+        this.lockMemory = true;
+        return this;
+    }
+
+    /**
+     * Records count, errors and latency of every native call made by providers, queryable through
+     * {@link Context#nativeCallStatistics()}. Adds a timestamp pair and a map update to each native call,
+     * so it is meant for diagnosing timing problems rather than for production.
+     * <p>
+     * Recording is process-wide: while the context runs, native calls of other contexts are recorded too.
+     * {@link Context#shutdown()} turns recording off again unless it was already enabled when the context
+     * was built. The recorded statistics are kept until {@link com.pi4j.util.NativeCallStatistics#reset()}.
+     *
+     * @return this builder instance for method chaining
+     */
+    public ContextBuilder enableNativeCallStatistics() {
+        this.nativeCallStatistics = true;
+        return this;
+    }
+
     /**
      * Builds an immutable configuration snapshot from the current builder state, without creating a context.
      *
@@ -142,6 +219,10 @@ public class ContextBuilder implements Builder<Context> {
             private final boolean autoDetectMockPlugins = ContextBuilder.this.autoDetectMockPlugins;
             private final boolean enableShutdownHook = ContextBuilder.this.enableShutdownHook;
             private final boolean autoDetectProviders = ContextBuilder.this.autoDetectProviders;
+            private final int realtimePriority = ContextBuilder.this.realtimePriority;
+            private final int[] realtimeCpus = ContextBuilder.this.realtimeCpus.clone();
+            private final boolean lockMemory = ContextBuilder.this.lockMemory;
+            private final boolean nativeCallStatistics = ContextBuilder.this.nativeCallStatistics;
 
             @Override
             public Collection<Provider> providers() {
@@ -162,6 +243,26 @@ public class ContextBuilder implements Builder<Context> {
             public boolean autoDetectProviders() {
                 return autoDetectProviders;
             }
+
+            @Override
+            public int realtimePriority() {
+                return realtimePriority;
+            }
+
+            @Override
+            public int[] realtimeCpus() {
+                return realtimeCpus.clone();
+            }
+
+            @Override
+            public boolean lockMemory() {
+                return lockMemory;
+            }
+
+            @Override
+            public boolean nativeCallStatistics() {
+                return nativeCallStatistics;
+            }
         };
     }
 
@@ -7,8 +7,8 @@ import java.util.Collection;
 /**
  * Immutable, read-only view of the settings used to create a Pi4J {@link Context}. Produced by a
  * {@link ContextBuilder} (via {@link ContextBuilder#toConfig()}) and exposed through {@link Context#config()},
- * it captures auto-detection flags, the default platform, the manually added {@link Provider}s and the
- * user-supplied properties.
+ * it captures auto-detection flags, the default platform, the manually added {@link Provider}s, the
+ * user-supplied properties and the real-time execution settings applied by native providers.
  *
  * @see ContextBuilder
  * @see Context
@@ -70,4 +70,54 @@ public interface ContextConfig {
      */
     default boolean isAutoDetectProviders() { return autoDetectProviders(); };
 
+    // **************************************************
+    // REAL-TIME EXECUTION
+    // **************************************************
+    /**
+     * Returns the {@code SCHED_FIFO} priority (1 to 99) requested for the I/O threads started by native
+     * providers, such as GPIO edge-event loops. Providers that do not support real-time scheduling ignore it.
+     *
+     * @return the real-time priority, or {@code 0} to keep the default time-shared scheduling
+     */
+    default int realtimePriority() {
+        return 0;
+    }
+
+    /**
+     * Returns the CPU cores the I/O threads started by native providers are pinned to.
+     *
+     * @return the CPU core numbers, or an empty array to let the threads run on any core
+     */
+    default int[] realtimeCpus() {
+        return new int[0];
+    }
+
+    /**
+     * Indicates whether native providers should lock the process memory (current and future pages) into
+     * RAM, so page faults do not add latency to I/O threads.
+     *
+     * @return {@code true} if memory locking is requested, {@code false} otherwise
+     */
+    default boolean lockMemory() {
+        return false;
+    }
+
+    /**
+     * Indicates whether native providers record call counts, errors and latencies in
+     * {@link com.pi4j.util.NativeCallStatistics}.
+     *
+     * @return {@code true} if native call statistics are enabled, {@code false} otherwise
+     */
+    default boolean nativeCallStatistics() {
+        return false;
+    }
+
+    /**
+     * Indicates whether any real-time execution setting is configured.
+     *
+     * @return {@code true} if a real-time priority, CPU affinity or memory locking is requested
+     */
+    default boolean isRealtime() {
+        return realtimePriority() > 0 || realtimeCpus().length > 0 || lockMemory();
+    }
 }
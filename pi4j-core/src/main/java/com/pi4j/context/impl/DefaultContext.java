@@ -17,6 +17,7 @@ import com.pi4j.provider.Provider;
 import com.pi4j.provider.Providers;
 import com.pi4j.registry.Registry;
 import com.pi4j.util.ExecutorPool;
+import com.pi4j.util.NativeCallStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +45,8 @@ public class DefaultContext implements Context {
     private final MutableRegistry mutableRegistry = new MutableRegistry(this);
 
     private volatile boolean isShutdown = false;
+    // process-wide recording state before this context enabled it, restored on shutdown
+    private boolean nativeCallStatisticsWereEnabled = false;
 
     public static Context newInstance(ContextConfig config) {
         return new DefaultContext(config);
@@ -64,6 +67,12 @@ public class DefaultContext implements Context {
         // set context config member reference
         this.config = config;
 
+        // start recording native calls before any provider opens a device
+        if (this.config.nativeCallStatistics()) {
+            nativeCallStatisticsWereEnabled = NativeCallStatistics.isEnabled();
+            NativeCallStatistics.instance().enable();
+        }
+
         // listen for shutdown to properly clean up
         // TODO :: ADD PI4J INTERNAL SHUTDOWN CALLBACKS/EVENTS
         if (this.config().enableShutdownHook()) {
@@ -241,6 +250,11 @@ public class DefaultContext implements Context {
         } catch (Exception e) {
             logger.error("failed to 'shutdown(); '", e);
             throw new ShutdownException(e);
+        } finally {
+            // stop the recording this context started, once its devices are closed
+            if (config.nativeCallStatistics() && !nativeCallStatisticsWereEnabled) {
+                NativeCallStatistics.instance().disable();
+            }
         }
 
         logger.info("Pi4J context/runtime successfully shutdown. Dispatching shutdown event.");
@@ -7,6 +7,7 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.IOType;
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalPortProvider;
 import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.io.pwm.PwmProvider;
 import com.pi4j.io.spi.SpiProvider;
@@ -42,6 +43,7 @@ public class MutableProviders implements Providers {
 
     private ProviderGroup<DigitalInputProvider> _digitalInput = new ProviderGroup<>(this, IOType.DIGITAL_INPUT);
     private ProviderGroup<DigitalOutputProvider> _digitalOutput = new ProviderGroup<>(this, IOType.DIGITAL_OUTPUT);
+    private ProviderGroup<DigitalPortProvider> _digitalPort = new ProviderGroup<>(this, IOType.DIGITAL_PORT);
     private ProviderGroup<PwmProvider> _pwm = new ProviderGroup<>(this, IOType.PWM);
     private ProviderGroup<SpiProvider> _spi = new ProviderGroup<>(this, IOType.SPI);
     private ProviderGroup<I2CProvider> _i2c = new ProviderGroup<>(this, IOType.I2C);
@@ -56,6 +58,11 @@ public class MutableProviders implements Providers {
         return _digitalOutput;
     }
 
+    @Override
+    public ProviderGroup<DigitalPortProvider> digitalPort() {
+        return _digitalPort;
+    }
+
     @Override
     public ProviderGroup<PwmProvider> pwm() {
         return _pwm;
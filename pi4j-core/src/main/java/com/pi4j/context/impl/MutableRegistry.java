@@ -6,6 +6,7 @@ import com.pi4j.exception.LifecycleException;
 import com.pi4j.io.IO;
 import com.pi4j.io.IOType;
 import com.pi4j.io.exception.*;
+import com.pi4j.jfr.IoLifecycleEvent;
 import com.pi4j.registry.Registry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,12 +50,18 @@ public class MutableRegistry implements Registry {
         usedAddresses.add(instance.config().getUniqueIdentifier());
 
         // Add the instance to the collection
+        var event = new IoLifecycleEvent();
+        event.begin();
+        var failed = true;
         try {
             instance.initialize(context);
             instances.put(id, instance);
+            failed = false;
         } catch (InitializeException e) {
             removeFromMap(instance);
             throw new IllegalStateException("Failed to initialize IO " + instance.getId(), e);
+        } finally {
+            commitEvent(event, "register", instance, failed);
         }
     }
 
@@ -101,6 +108,9 @@ public class MutableRegistry implements Registry {
             throw new IllegalArgumentException("An IO instance cannot be NULL.");
 
         // shutdown instance
+        var event = new IoLifecycleEvent();
+        event.begin();
+        var failed = true;
         try {
             long start = System.currentTimeMillis();
 
@@ -109,9 +119,12 @@ public class MutableRegistry implements Registry {
             if (took > 10) {
                 logger.info("Shutting down of IO {} took {}ms", instance.getId(), took);
             }
+            failed = false;
         } catch (LifecycleException e) {
             logger.error(e.getMessage(), e);
             throw new IOShutdownException(instance, e);
+        } finally {
+            commitEvent(event, "shutdown", instance, failed);
         }
 
         // remove the shutdown instance from the registry
@@ -121,6 +134,16 @@ public class MutableRegistry implements Registry {
         return instance;
     }
 
+    private static void commitEvent(IoLifecycleEvent event, String action, IO instance, boolean failed) {
+        if (event.shouldCommit()) {
+            event.action = action;
+            event.id = instance.id();
+            event.type = String.valueOf(instance.type());
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
     private <T extends IO> void removeFromMap(T instance) {
         Set<Integer> usedAddresses = this.usedAddressesByIoType.get(instance.type());
         if (usedAddresses == null)
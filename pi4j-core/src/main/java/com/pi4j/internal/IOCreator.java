@@ -46,6 +46,10 @@ public interface IOCreator {
         return create(config, DigitalInput.class);
     }
 
+    default DigitalPort create(DigitalPortConfig config) {
+        return create(config, DigitalPort.class);
+    }
+
     default Pwm create(PwmConfig config) {
         return create(config, Pwm.class);
     }
@@ -66,6 +70,10 @@ public interface IOCreator {
         return create(config.build());
     }
 
+    default DigitalPort create(DigitalPortConfigBuilder config) {
+        return create(config.build());
+    }
+
     default Pwm create(PwmConfigBuilder config) {
         return create(config.build());
     }
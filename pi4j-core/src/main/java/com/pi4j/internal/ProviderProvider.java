@@ -3,6 +3,7 @@ package com.pi4j.internal;
 import com.pi4j.io.IOType;
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalPortProvider;
 import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.io.pwm.PwmProvider;
 import com.pi4j.io.spi.SpiProvider;
@@ -41,6 +42,13 @@ public interface ProviderProvider {
         return this.provider(IOType.DIGITAL_OUTPUT);
     }
 
+    /**
+     * @throws ProviderException if any.
+     */
+    default <T extends DigitalPortProvider> T digitalPort() throws ProviderException {
+        return this.provider(IOType.DIGITAL_PORT);
+    }
+
     /**
      * @throws ProviderException if any.
      */
@@ -76,6 +84,13 @@ public interface ProviderProvider {
         return this.digitalOutput();
     }
 
+    /**
+     * @throws ProviderException if any.
+     */
+    default <T extends DigitalPortProvider> T getDigitalPortProvider() throws ProviderException {
+        return this.digitalPort();
+    }
+
     /**
      * @throws ProviderException if any.
      */
@@ -30,6 +30,8 @@ public enum IOType {
     DIGITAL_INPUT(DigitalInputProvider.class, DigitalInput.class, DigitalInputConfig.class, DigitalInputConfigBuilder.class),
     /** Digital output pin (drives a logic HIGH/LOW state). */
     DIGITAL_OUTPUT(DigitalOutputProvider.class, DigitalOutput.class, DigitalOutputConfig.class, DigitalOutputConfigBuilder.class),
+    /** Group of digital pins read or driven together as one bit field. */
+    DIGITAL_PORT(DigitalPortProvider.class, DigitalPort.class, DigitalPortConfig.class, DigitalPortConfigBuilder.class),
     /** Pulse-width modulation output. */
     PWM(PwmProvider.class, Pwm.class, PwmConfig.class, PwmConfigBuilder.class),
     /** I2C (Inter-Integrated Circuit) bus device. */
@@ -245,7 +247,7 @@ public enum IOType {
      * Parses a free-form textual I/O type name into the matching {@link IOType}.
      * <p>
      * Accepts the exact constant name as well as many common spellings, separators and aliases
-     * (for example {@code "din"}, {@code "digital input"}, {@code "pulse-width"}, {@code "i²c"} or
+     * (for example {@code "din"}, {@code "digital input"}, {@code "dport"}, {@code "pulse-width"}, {@code "i²c"} or
      * {@code "serial peripheral interface"}); matching is case-insensitive.
      *
      * @param ioType the textual I/O type name to parse
@@ -279,6 +281,13 @@ public enum IOType {
         if (ioType.startsWith("digital o")) return DIGITAL_OUTPUT;
         if (ioType.equalsIgnoreCase("dout")) return DIGITAL_OUTPUT;
 
+        // DIGITAL PORT
+        if (ioType.startsWith("digital.p")) return DIGITAL_PORT;
+        if (ioType.startsWith("digital-p")) return DIGITAL_PORT;
+        if (ioType.startsWith("digital_p")) return DIGITAL_PORT;
+        if (ioType.startsWith("digital p")) return DIGITAL_PORT;
+        if (ioType.equalsIgnoreCase("dport")) return DIGITAL_PORT;
+
         // PWM
         if (ioType.equalsIgnoreCase("pwm")) return PWM;
         if (ioType.equalsIgnoreCase("p.w.m")) return PWM;
@@ -0,0 +1,52 @@
+package com.pi4j.io.gpio.digital;
+
+/**
+ * Snapshot of the edge statistics of a {@link DigitalInput}, accumulated since
+ * {@link DigitalInput#startMeasurement()} was called. Periods are measured between consecutive rising
+ * edges and the high time between a rising and the following falling edge; the averages are exponential
+ * moving averages weighting the latest sample with 1/8, so they follow changes of the signal within a
+ * few periods while smoothing jitter.
+ *
+ * @param risingEdges        number of rising edges
+ * @param fallingEdges       number of falling edges
+ * @param lastEdgeNanos      timestamp of the latest edge in nanoseconds, {@code 0} before the first edge
+ * @param lastPeriodNanos    latest period in nanoseconds, {@code 0} before two rising edges were seen
+ * @param averagePeriodNanos moving average of the period in nanoseconds, {@code 0} if unknown
+ * @param averageHighNanos   moving average of the high time in nanoseconds, {@code 0} if unknown
+ */
+public record DigitalEdgeMeasurement(long risingEdges, long fallingEdges, long lastEdgeNanos,
+                                     long lastPeriodNanos, double averagePeriodNanos, double averageHighNanos) {
+
+    /** Measurement without any edges. */
+    public static final DigitalEdgeMeasurement EMPTY = new DigitalEdgeMeasurement(0, 0, 0, 0, 0, 0);
+
+    /**
+     * Returns the total number of edges.
+     *
+     * @return rising plus falling edges
+     */
+    public long edges() {
+        return risingEdges + fallingEdges;
+    }
+
+    /**
+     * Returns the signal frequency derived from the average period.
+     *
+     * @return the frequency in Hz, {@code 0} if unknown
+     */
+    public double frequencyHz() {
+        return averagePeriodNanos > 0 ? 1_000_000_000d / averagePeriodNanos : 0;
+    }
+
+    /**
+     * Returns the fraction of the period the signal is high, derived from the average high time and period.
+     *
+     * @return the duty cycle between {@code 0} and {@code 1}, {@code 0} if unknown
+     */
+    public double dutyCycle() {
+        if (averagePeriodNanos <= 0 || averageHighNanos <= 0) {
+            return 0;
+        }
+        return Math.min(1, averageHighNanos / averagePeriodNanos);
+    }
+}
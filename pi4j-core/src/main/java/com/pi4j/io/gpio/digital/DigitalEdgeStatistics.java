@@ -0,0 +1,84 @@
+package com.pi4j.io.gpio.digital;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Accumulates the edge statistics of a {@link DigitalInput} where the edges are detected, without an
+ * event object or listener call per edge. There must be a single writer calling
+ * {@link #record(long, DigitalState)}; any thread may take a consistent {@link #snapshot()} concurrently,
+ * which is guarded by a sequence lock instead of a monitor so the writer never waits for a reader.
+ */
+public final class DigitalEdgeStatistics {
+    // weight of the latest sample in the moving averages: 1 / 2^AVERAGE_SHIFT
+    private static final int AVERAGE_SHIFT = 3;
+
+    // odd while the writer is updating the fields below
+    private volatile long version = 0;
+
+    private long risingEdges;
+    private long fallingEdges;
+    private long lastEdgeNanos;
+    private long lastRisingNanos;
+    private boolean high;
+    private long lastPeriodNanos;
+    private double averagePeriodNanos;
+    private double averageHighNanos;
+
+    /**
+     * Records one edge. Only to be called by the single thread detecting the edges of the input.
+     *
+     * @param timestampNanos timestamp of the edge in nanoseconds
+     * @param state          the level after the edge; {@link DigitalState#UNKNOWN} is ignored
+     */
+    public void record(long timestampNanos, DigitalState state) {
+        if (state != DigitalState.HIGH && state != DigitalState.LOW) {
+            return;
+        }
+        var v = version;
+        version = v + 1;
+        VarHandle.storeStoreFence();
+        if (state == DigitalState.HIGH) {
+            if (risingEdges > 0) {
+                lastPeriodNanos = timestampNanos - lastRisingNanos;
+                averagePeriodNanos = average(averagePeriodNanos, lastPeriodNanos);
+            }
+            lastRisingNanos = timestampNanos;
+            risingEdges++;
+            high = true;
+        } else {
+            // a falling edge right after a lost rising edge would measure a wrong high time
+            if (high) {
+                averageHighNanos = average(averageHighNanos, timestampNanos - lastRisingNanos);
+            }
+            fallingEdges++;
+            high = false;
+        }
+        lastEdgeNanos = timestampNanos;
+        version = v + 2;
+    }
+
+    /**
+     * Returns a consistent copy of the statistics.
+     *
+     * @return the current {@link DigitalEdgeMeasurement}
+     */
+    public DigitalEdgeMeasurement snapshot() {
+        while (true) {
+            var v = version;
+            if ((v & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            var snapshot = new DigitalEdgeMeasurement(risingEdges, fallingEdges, lastEdgeNanos,
+                lastPeriodNanos, averagePeriodNanos, averageHighNanos);
+            VarHandle.loadLoadFence();
+            if (version == v) {
+                return snapshot;
+            }
+        }
+    }
+
+    private static double average(double average, long sample) {
+        return average == 0 ? sample : average + (sample - average) / (1 << AVERAGE_SHIFT);
+    }
+}
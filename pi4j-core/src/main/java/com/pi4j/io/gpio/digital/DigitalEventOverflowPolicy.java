@@ -0,0 +1,25 @@
+package com.pi4j.io.gpio.digital;
+
+/**
+ * Defines what a {@link DigitalStatePublisher} does with a new state change when the buffer of a subscriber
+ * is full because the subscriber consumes slower than the input changes.
+ */
+public enum DigitalEventOverflowPolicy {
+    /** Discards the oldest buffered change to make room for the new one. */
+    DROP_OLDEST,
+    /** Discards the new change and keeps the buffered ones. */
+    DROP_NEWEST,
+    /**
+     * Blocks the thread detecting the changes until the subscriber made room. Nothing is lost, but a slow
+     * subscriber stalls that thread. Providers with a shared event loop, such as the FFM GPIO provider,
+     * detect the changes of many inputs on one thread, so the wait also delays the events, debounce
+     * deadlines and decoder frame timeouts of every other input on that loop. Use it only with subscribers
+     * that reliably keep up.
+     */
+    BLOCK,
+    /**
+     * Discards all buffered changes and keeps only the new one, so the subscriber catches up with the
+     * latest state of the input at once.
+     */
+    LATEST
+}
@@ -0,0 +1,100 @@
+package com.pi4j.io.gpio.digital;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer between the thread detecting state changes of an input and the thread
+ * delivering them to one subscriber. There is a single producer; the producer may also advance the
+ * consumer position to discard buffered entries, which is why {@link #poll()} claims entries with a
+ * compare-and-set instead of a plain write.
+ * <p>
+ * A slot is only written once its position is behind the head, so a consumer which read a slot that
+ * is overwritten concurrently always fails its compare-and-set and retries.
+ */
+final class DigitalEventRingBuffer<E> {
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    // next position to consume
+    private final AtomicLong head = new AtomicLong();
+    // next position to produce, written by the producer only
+    private final AtomicLong tail = new AtomicLong();
+
+    DigitalEventRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 1, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Appends an entry if there is room.
+     *
+     * @param entry the entry to append
+     * @return {@code true} if appended, {@code false} if the buffer is full
+     */
+    boolean offer(E entry) {
+        var t = tail.get();
+        if (t - head.get() >= capacity) {
+            return false;
+        }
+        slots.set((int) (t % capacity), entry);
+        tail.set(t + 1);
+        return true;
+    }
+
+    /**
+     * Discards the oldest entry, if any. Producer side only.
+     *
+     * @return {@code true} if an entry was discarded
+     */
+    boolean discardOldest() {
+        while (true) {
+            var h = head.get();
+            if (h == tail.get()) {
+                return false;
+            }
+            if (head.compareAndSet(h, h + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Discards all entries. Producer side only.
+     *
+     * @return the number of entries discarded
+     */
+    int discardAll() {
+        var t = tail.get();
+        while (true) {
+            var h = head.get();
+            if (h == t || head.compareAndSet(h, t)) {
+                return (int) (t - h);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the oldest entry.
+     *
+     * @return the oldest entry, or {@code null} if the buffer is empty
+     */
+    E poll() {
+        while (true) {
+            var h = head.get();
+            if (h == tail.get()) {
+                return null;
+            }
+            var entry = slots.get((int) (h % capacity));
+            if (head.compareAndSet(h, h + 1)) {
+                return entry;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+}
@@ -3,6 +3,10 @@ package com.pi4j.io.gpio.digital;
 
 import com.pi4j.context.Context;
 import com.pi4j.io.Input;
+import com.pi4j.io.gpio.digital.decoder.PulseDecoder;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a digital input pin that reads a HIGH/LOW logic level from a GPIO source, optionally with
@@ -29,4 +33,93 @@ public interface DigitalInput extends Digital<DigitalInput, DigitalInputConfig,
      * @return the configured {@link PullResistance}
      */
     default PullResistance pull() { return config().pull(); }
+
+    /**
+     * Registers one or more listeners to be notified once per group of state changes detected together,
+     * rather than once per change as with {@link #addListener(DigitalStateChangeListener...)}. Inputs which
+     * detect changes one at a time deliver batches of a single change.
+     *
+     * @param listener one or more {@link DigitalStateChangeBatchListener} instances to register
+     * @return this instance for method chaining
+     */
+    DigitalInput addBatchListener(DigitalStateChangeBatchListener... listener);
+
+    /**
+     * Unregisters one or more previously added batch listeners.
+     *
+     * @param listener one or more {@link DigitalStateChangeBatchListener} instances to remove
+     * @return this instance for method chaining
+     */
+    DigitalInput removeBatchListener(DigitalStateChangeBatchListener... listener);
+
+    /**
+     * Binds this input to one channel of a pulse-train decoder, which then receives every edge of this
+     * input where it is detected, in place of per-edge listener calls. Edge detection stays active while
+     * decoders are bound.
+     *
+     * @param decoder the {@link PulseDecoder} to feed
+     * @param channel the decoder channel this input's line is connected to
+     * @return this instance for method chaining
+     * @throws IllegalArgumentException if the channel does not exist on the decoder
+     */
+    DigitalInput addDecoder(PulseDecoder<?> decoder, int channel);
+
+    /**
+     * Unbinds this input from a pulse-train decoder.
+     *
+     * @param decoder the {@link PulseDecoder} to stop feeding; unknown decoders are ignored
+     * @return this instance for method chaining
+     */
+    DigitalInput removeDecoder(PulseDecoder<?> decoder);
+
+    /**
+     * Starts accumulating edge counts, period, frequency and duty cycle of this input, discarding the
+     * statistics of a previous measurement. The edges are measured where they are detected, without a
+     * listener call per edge; edge detection stays active until {@link #stopMeasurement()} is called.
+     *
+     * @return this instance for method chaining
+     */
+    DigitalInput startMeasurement();
+
+    /**
+     * Stops accumulating edge statistics. The last statistics stay available through {@link #measurement()}.
+     *
+     * @return this instance for method chaining
+     */
+    DigitalInput stopMeasurement();
+
+    /**
+     * Returns a snapshot of the edge statistics accumulated since {@link #startMeasurement()}.
+     *
+     * @return the current {@link DigitalEdgeMeasurement}, {@link DigitalEdgeMeasurement#EMPTY} if no
+     *         measurement was started
+     */
+    DigitalEdgeMeasurement measurement();
+
+    /**
+     * Creates a {@link java.util.concurrent.Flow.Publisher} of the state changes of this input which
+     * delivers them to its subscribers on the {@link ForkJoinPool#commonPool() common pool}, decoupled
+     * from the thread detecting the changes by a bounded buffer per subscriber.
+     *
+     * @param capacity number of changes buffered per subscriber
+     * @param policy   what to do with a change when the buffer of a subscriber is full
+     * @return a new {@link DigitalStatePublisher}
+     */
+    default DigitalStatePublisher publisher(int capacity, DigitalEventOverflowPolicy policy) {
+        return publisher(capacity, policy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link java.util.concurrent.Flow.Publisher} of the state changes of this input which
+     * delivers them to its subscribers on the given executor, decoupled from the thread detecting the
+     * changes by a bounded buffer per subscriber.
+     *
+     * @param capacity number of changes buffered per subscriber
+     * @param policy   what to do with a change when the buffer of a subscriber is full
+     * @param executor executor delivering the changes to the subscribers
+     * @return a new {@link DigitalStatePublisher}
+     */
+    default DigitalStatePublisher publisher(int capacity, DigitalEventOverflowPolicy policy, Executor executor) {
+        return new DigitalStatePublisher(this, capacity, policy, executor);
+    }
 }
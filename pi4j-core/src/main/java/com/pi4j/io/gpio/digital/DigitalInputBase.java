@@ -1,11 +1,41 @@
 package com.pi4j.io.gpio.digital;
 
+import com.pi4j.context.Context;
+import com.pi4j.event.EventDelegate;
+import com.pi4j.event.EventManager;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.decoder.PulseDecoder;
+
+import java.util.Arrays;
+
 /**
  * Abstract base class for {@link DigitalInput} implementations, specializing {@link DigitalBase}
  * with the digital-input type parameters. Provider-specific subclasses extend this to supply the
  * actual hardware or expander read behaviour.
  */
 public abstract class DigitalInputBase extends DigitalBase<DigitalInput, DigitalInputConfig, DigitalInputProvider> implements DigitalInput {
+    // internal batch listeners collection
+    protected final EventManager<DigitalInput, DigitalStateChangeBatchListener, DigitalStateChangeBatch> batchEventManager;
+
+    // single-change batch for inputs which dispatch changes one at a time
+    private final ReusableDigitalStateChangeBatch singleBatch = new ReusableDigitalStateChangeBatch(this, 1);
+
+    // edge statistics of the current measurement; replaced on every start so there is a single writer
+    protected volatile DigitalEdgeStatistics edgeStatistics = null;
+    protected volatile boolean measuring = false;
+
+    /**
+     * A decoder channel fed by this input.
+     *
+     * @param decoder the decoder
+     * @param channel the channel of the decoder this input is bound to
+     */
+    protected record DecoderBinding(PulseDecoder<?> decoder, int channel) {
+    }
+
+    // bound decoders, replaced on change so the edge path iterates without allocation or locking
+    protected volatile DecoderBinding[] decoders = new DecoderBinding[0];
+
     /**
      * Creates a digital input bound to the given provider and configuration.
      *
@@ -14,5 +44,133 @@ public abstract class DigitalInputBase extends DigitalBase<DigitalInput, Digital
      */
     public DigitalInputBase(DigitalInputProvider provider, DigitalInputConfig config){
         super(provider, config);
+
+        // create an event manager for batched digital state changes
+        batchEventManager = new EventManager(this,
+                (EventDelegate<DigitalStateChangeBatchListener, DigitalStateChangeBatch>)
+                        (listener, batch) -> listener.onDigitalStateChanges(batch));
+    }
+
+    @Override
+    public DigitalInput addBatchListener(DigitalStateChangeBatchListener... listener) {
+        batchEventManager.add(listener);
+        return this;
+    }
+
+    @Override
+    public DigitalInput removeBatchListener(DigitalStateChangeBatchListener... listener) {
+        batchEventManager.remove(listener);
+        return this;
+    }
+
+    @Override
+    public synchronized DigitalInput addDecoder(PulseDecoder<?> decoder, int channel) {
+        if (channel < 0 || channel >= decoder.channels()) {
+            throw new IllegalArgumentException("Decoder " + decoder.getClass().getSimpleName()
+                + " has no channel " + channel);
+        }
+        var bound = Arrays.copyOf(decoders, decoders.length + 1);
+        bound[decoders.length] = new DecoderBinding(decoder, channel);
+        decoders = bound;
+        return this;
+    }
+
+    @Override
+    public synchronized DigitalInput removeDecoder(PulseDecoder<?> decoder) {
+        decoders = Arrays.stream(decoders)
+            .filter(binding -> binding.decoder() != decoder)
+            .toArray(DecoderBinding[]::new);
+        return this;
+    }
+
+    @Override
+    public DigitalInput startMeasurement() {
+        edgeStatistics = new DigitalEdgeStatistics();
+        measuring = true;
+        return this;
+    }
+
+    @Override
+    public DigitalInput stopMeasurement() {
+        measuring = false;
+        return this;
+    }
+
+    @Override
+    public DigitalEdgeMeasurement measurement() {
+        var statistics = edgeStatistics;
+        return statistics != null ? statistics.snapshot() : DigitalEdgeMeasurement.EMPTY;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Batch listeners, a running measurement and bound decoders count as well.
+     */
+    @Override
+    public boolean hasListenersOrBindings() {
+        return super.hasListenersOrBindings() || batchEventManager.hasListeners() || measuring
+            || decoders.length > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Registered batch listeners receive the change as a batch of one, and a running measurement records
+     * it, and bound decoders receive it followed by a flush. Since decoders are only flushed on changes
+     * here, frames ended by a timeout complete with the next change; inputs which can wake up without a
+     * change should also flush them once {@link PulseDecoder#pendingTimeoutNanos(long)} elapsed. Inputs
+     * which detect several changes at once should use {@link #dispatch(DigitalStateChangeBatch)} for batch
+     * listeners, {@link #stateChangeEventManager} for the others and {@link #edgeStatistics} and
+     * {@link #decoders} directly instead.
+     */
+    @Override
+    protected void dispatch(DigitalStateChangeEvent event) {
+        if (measuring) {
+            var statistics = edgeStatistics;
+            // inputs may dispatch from several threads, the statistics expect a single writer
+            synchronized (statistics) {
+                statistics.record(event.hasTimestamp() ? event.timestampNanos() : System.nanoTime(), event.state());
+            }
+        }
+        var bound = decoders;
+        if (bound.length > 0) {
+            var timestamp = event.hasTimestamp() ? event.timestampNanos() : System.nanoTime();
+            for (var binding : bound) {
+                binding.decoder().onEdge(binding.channel(), timestamp, event.state());
+            }
+            var now = System.nanoTime();
+            for (var binding : bound) {
+                binding.decoder().onFlush(now);
+            }
+        }
+        super.dispatch(event);
+        if (batchEventManager.hasListeners()) {
+            synchronized (singleBatch) {
+                singleBatch.clear();
+                singleBatch.add(event.hasTimestamp() ? event.timestampNanos() : System.nanoTime(),
+                    event.state());
+                singleBatch.addDroppedEvents(event.droppedEvents());
+                dispatch(singleBatch);
+            }
+        }
+    }
+
+    /**
+     * Delivers a batch of state changes to all registered batch listeners.
+     *
+     * @param batch the {@link DigitalStateChangeBatch} describing the changes and their source
+     */
+    protected void dispatch(DigitalStateChangeBatch batch) {
+        batchEventManager.dispatch(batch);
+    }
+
+    @Override
+    public DigitalInput shutdownInternal(Context context) throws ShutdownException {
+        // remove all batch listeners and end a running measurement
+        batchEventManager.clear();
+        measuring = false;
+        decoders = new DecoderBinding[0];
+        return super.shutdownInternal(context);
     }
 }
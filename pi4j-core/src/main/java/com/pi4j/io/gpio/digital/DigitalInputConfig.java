@@ -14,6 +14,10 @@ public interface DigitalInputConfig extends DigitalConfig<DigitalInputConfig> {
     String PULL_RESISTANCE_KEY = "pull";
     /** Property key under which the debounce interval is stored in a configuration map. */
     String DEBOUNCE_RESISTANCE_KEY = "debounce";
+    /** Property key under which the edge-event buffer size is stored in a configuration map. */
+    String EVENT_BUFFER_SIZE_KEY = "eventBufferSize";
+    /** Property key under which the state cache flag is stored in a configuration map. */
+    String CACHE_STATE_KEY = "cacheState";
 
     /**
      * Returns the pull resistance (pull-up, pull-down, or none) applied to the input pin.
@@ -45,6 +49,36 @@ public interface DigitalInputConfig extends DigitalConfig<DigitalInputConfig> {
      */
     default Long getDebounce(){ return debounce(); }
 
+    /**
+     * Returns how many edge events the provider may queue for this input before further edges are
+     * lost, for providers that buffer edges (such as the kernel GPIO character device).
+     *
+     * @return the configured number of buffered edge events, or {@code null} to use the provider default
+     */
+    Integer eventBufferSize();
+
+    /**
+     * Bean-style accessor equivalent to {@link #eventBufferSize()}.
+     *
+     * @return the configured number of buffered edge events, or {@code null} to use the provider default
+     */
+    default Integer getEventBufferSize(){ return eventBufferSize(); }
+
+    /**
+     * Returns whether the input may answer {@link DigitalInput#state()} from the level tracked through its
+     * edge events while edge detection is active, instead of reading the hardware on every call.
+     *
+     * @return {@code true} if the state cache is enabled, {@code false} or {@code null} otherwise
+     */
+    Boolean cacheState();
+
+    /**
+     * Bean-style accessor equivalent to {@link #cacheState()}.
+     *
+     * @return {@code true} if the state cache is enabled, {@code false} or {@code null} otherwise
+     */
+    default Boolean getCacheState(){ return cacheState(); }
+
     /**
      * Creates a new {@link DigitalInputConfigBuilder}.
      *
@@ -39,6 +39,25 @@ public interface DigitalInputConfigBuilder extends DigitalConfigBuilder<DigitalI
      */
     DigitalInputConfigBuilder debounce(Long interval, TimeUnit units);
 
+    /**
+     * Sets how many edge events the provider may queue for this input before further edges are lost.
+     * Fast inputs such as rotary encoders or tachometers need a larger buffer than the provider default.
+     *
+     * @param events the number of buffered edge events
+     * @return this builder for method chaining
+     */
+    DigitalInputConfigBuilder eventBufferSize(Integer events);
+
+    /**
+     * Enables answering {@link DigitalInput#state()} from the level tracked through the edge events while
+     * listeners are registered, for providers that support it. Reads then cost no hardware access; the
+     * provider falls back to reading the hardware whenever the tracked level may be stale.
+     *
+     * @param cacheState {@code true} to enable the state cache
+     * @return this builder for method chaining
+     */
+    DigitalInputConfigBuilder cacheState(Boolean cacheState);
+
     /**
      * Creates a new digital input config builder instance.
      *
@@ -0,0 +1,85 @@
+package com.pi4j.io.gpio.digital;
+
+import com.pi4j.context.Context;
+import com.pi4j.io.IO;
+import com.pi4j.io.exception.IOException;
+
+/**
+ * Represents a group of GPIO lines on the same chip that are requested, read and written together.
+ * <p>
+ * Unlike a set of individual {@link DigitalInput} or {@link DigitalOutput} instances, a port is backed by
+ * a single kernel line request, so all lines are sampled or driven by one native call. Values are exchanged
+ * as a {@code long} bit field: bit {@code n} corresponds to the {@code n}-th BCM pin listed in
+ * {@link DigitalPortConfig#bcms()}, which limits a port to 64 lines.
+ */
+public interface DigitalPort extends IO<DigitalPort, DigitalPortConfig, DigitalPortProvider> {
+
+    /** Maximum number of lines a single port may span (the kernel's {@code GPIO_V2_LINES_MAX}). */
+    int MAX_WIDTH = 64;
+
+    /**
+     * Creates a new {@link DigitalPortConfigBuilder} for assembling a digital port configuration.
+     *
+     * @param context the Pi4J context (not required by the current implementation but kept for API consistency)
+     * @return a new configuration builder instance
+     */
+    static DigitalPortConfigBuilder newConfigBuilder(Context context) {
+        return DigitalPortConfigBuilder.newInstance();
+    }
+
+    /**
+     * Reads the levels of all lines of the port in one operation.
+     *
+     * @return a bit field where bit {@code n} is set when the {@code n}-th line is HIGH
+     * @throws IOException if the port cannot be read
+     */
+    long read() throws IOException;
+
+    /**
+     * Drives all lines of the port in one operation.
+     *
+     * @param bits a bit field where bit {@code n} is the level of the {@code n}-th line
+     * @return this port for method chaining
+     * @throws IOException if the port is not an output or cannot be written
+     */
+    default DigitalPort write(long bits) throws IOException {
+        return write(bits, mask());
+    }
+
+    /**
+     * Drives the lines selected by {@code mask} in one operation, leaving all other lines untouched.
+     *
+     * @param bits a bit field where bit {@code n} is the level of the {@code n}-th line
+     * @param mask a bit field selecting which lines are updated
+     * @return this port for method chaining
+     * @throws IOException if the port is not an output or cannot be written
+     */
+    DigitalPort write(long bits, long mask) throws IOException;
+
+    /**
+     * Returns the number of lines in this port.
+     *
+     * @return the port width
+     */
+    default int width() {
+        return config().bcms().length;
+    }
+
+    /**
+     * Returns a mask with one bit set for every line of this port.
+     *
+     * @return the mask covering all lines of the port
+     */
+    default long mask() {
+        return width() >= MAX_WIDTH ? -1L : (1L << width()) - 1;
+    }
+
+    /**
+     * Returns the direction all lines of this port were requested with.
+     *
+     * @return the configured {@link DigitalPortDirection}
+     */
+    default DigitalPortDirection direction() {
+        return config().direction();
+    }
+}
@@ -0,0 +1,21 @@
+package com.pi4j.io.gpio.digital;
+
+import com.pi4j.io.IOBase;
+
+/**
+ * Abstract base implementation of {@link DigitalPort} shared by all provider implementations.
+ */
+public abstract class DigitalPortBase extends IOBase<DigitalPort, DigitalPortConfig, DigitalPortProvider> implements DigitalPort {
+
+    /**
+     * Creates a new digital port bound to the given provider and configuration.
+     *
+     * @param provider the {@link DigitalPortProvider} that created this instance
+     * @param config   the {@link DigitalPortConfig} describing the port lines and direction
+     * @throws com.pi4j.config.exception.ConfigException if the configuration does not describe a valid port
+     */
+    public DigitalPortBase(DigitalPortProvider provider, DigitalPortConfig config) {
+        super(provider, config);
+        config.validate();
+    }
+}
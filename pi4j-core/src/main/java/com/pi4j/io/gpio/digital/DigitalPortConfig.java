@@ -0,0 +1,93 @@
+package com.pi4j.io.gpio.digital;
+
+import com.pi4j.config.BusConfig;
+import com.pi4j.io.IOConfig;
+
+/**
+ * Configuration for a {@link DigitalPort}: the ordered list of BCM pins forming the port, the bus (GPIO chip)
+ * they belong to, the direction of the port and direction-specific settings such as the pull resistance of an
+ * input port or the initial value of an output port.
+ */
+public interface DigitalPortConfig extends IOConfig<DigitalPortConfig>, BusConfig<DigitalPortConfig> {
+    /** Property key for the comma-separated list of BCM pins forming the port. */
+    String BCMS_KEY = "bcms";
+    /** Property key for the port direction. */
+    String DIRECTION_KEY = "direction";
+    /** Property key for the pull resistance applied to every line of an input port. */
+    String PULL_RESISTANCE_KEY = "pull";
+    /** Property key for the initial bit field driven on an output port. */
+    String INITIAL_VALUE_KEY = "initial";
+
+    /**
+     * Returns the BCM pins forming the port, in bit order.
+     *
+     * @return the BCM pins; element {@code n} maps to bit {@code n} of the port value
+     */
+    int[] bcms();
+
+    /**
+     * Returns the BCM pins forming the port, in bit order.
+     *
+     * @return the BCM pins; element {@code n} maps to bit {@code n} of the port value
+     */
+    default int[] getBcms() {
+        return bcms();
+    }
+
+    /**
+     * Returns the direction all lines of the port are requested with.
+     *
+     * @return the configured {@link DigitalPortDirection}
+     */
+    DigitalPortDirection direction();
+
+    /**
+     * Returns the direction all lines of the port are requested with.
+     *
+     * @return the configured {@link DigitalPortDirection}
+     */
+    default DigitalPortDirection getDirection() {
+        return direction();
+    }
+
+    /**
+     * Returns the pull resistance applied to every line of an input port.
+     *
+     * @return the configured {@link PullResistance}
+     */
+    PullResistance pull();
+
+    /**
+     * Returns the pull resistance applied to every line of an input port.
+     *
+     * @return the configured {@link PullResistance}
+     */
+    default PullResistance getPull() {
+        return pull();
+    }
+
+    /**
+     * Returns the bit field driven on an output port as part of the line request.
+     *
+     * @return the initial value, or {@code null} if the lines keep their current level
+     */
+    Long initial();
+
+    /**
+     * Returns the bit field driven on an output port as part of the line request.
+     *
+     * @return the initial value, or {@code null} if the lines keep their current level
+     */
+    default Long getInitial() {
+        return initial();
+    }
+
+    /**
+     * Creates a new {@link DigitalPortConfigBuilder}.
+     *
+     * @return a new configuration builder instance
+     */
+    static DigitalPortConfigBuilder newBuilder() {
+        return DigitalPortConfigBuilder.newInstance();
+    }
+}
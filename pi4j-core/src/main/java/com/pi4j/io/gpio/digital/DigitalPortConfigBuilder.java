@@ -0,0 +1,54 @@
+package com.pi4j.io.gpio.digital;
+
+import com.pi4j.config.BusConfigBuilder;
+import com.pi4j.io.IOConfigBuilder;
+import com.pi4j.io.gpio.digital.impl.DefaultDigitalPortConfigBuilder;
+
+/**
+ * Fluent builder for assembling a {@link DigitalPortConfig}.
+ */
+public interface DigitalPortConfigBuilder extends
+    IOConfigBuilder<DigitalPortConfigBuilder, DigitalPortConfig>,
+    BusConfigBuilder<DigitalPortConfigBuilder, DigitalPortConfig> {
+
+    /**
+     * Sets the BCM pins forming the port, in bit order.
+     *
+     * @param bcms the BCM pins; element {@code n} maps to bit {@code n} of the port value
+     * @return this builder for method chaining
+     */
+    DigitalPortConfigBuilder bcms(int... bcms);
+
+    /**
+     * Sets the direction all lines of the port are requested with.
+     *
+     * @param direction the port direction
+     * @return this builder for method chaining
+     */
+    DigitalPortConfigBuilder direction(DigitalPortDirection direction);
+
+    /**
+     * Sets the pull resistance applied to every line of an input port.
+     *
+     * @param value the pull resistance
+     * @return this builder for method chaining
+     */
+    DigitalPortConfigBuilder pull(PullResistance value);
+
+    /**
+     * Sets the bit field driven on an output port as part of the line request.
+     *
+     * @param bits the initial value; bit {@code n} is the level of the {@code n}-th line
+     * @return this builder for method chaining
+     */
+    DigitalPortConfigBuilder initial(long bits);
+
+    /**
+     * Creates a new digital port config builder.
+     *
+     * @return a new builder instance
+     */
+    static DigitalPortConfigBuilder newInstance() {
+        return DefaultDigitalPortConfigBuilder.newInstance();
+    }
+}
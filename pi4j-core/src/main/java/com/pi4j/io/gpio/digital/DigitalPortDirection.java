@@ -0,0 +1,68 @@
+package com.pi4j.io.gpio.digital;
+
+import java.util.EnumSet;
+
+/**
+ * Direction in which all lines of a {@link DigitalPort} are requested. A port is either read as a
+ * whole ({@link #INPUT}) or driven as a whole ({@link #OUTPUT}); mixed-direction ports are not supported.
+ */
+public enum DigitalPortDirection {
+    /** Every line of the port is requested as an input. */
+    INPUT(0, "input"),
+    /** Every line of the port is requested as an output. */
+    OUTPUT(1, "output");
+
+    private final int value;
+    private final String name;
+
+    private DigitalPortDirection(int value, String name) {
+        this.value = value;
+        this.name = name;
+    }
+
+    /**
+     * Returns the numeric value of this direction.
+     *
+     * @return the numeric direction value
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the lower-case name of this direction.
+     *
+     * @return the direction name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name.toUpperCase();
+    }
+
+    /**
+     * Returns a set containing every direction.
+     *
+     * @return all {@link DigitalPortDirection} values
+     */
+    public static EnumSet<DigitalPortDirection> all() {
+        return EnumSet.allOf(DigitalPortDirection.class);
+    }
+
+    /**
+     * Parses a textual direction. Accepts the numeric value or any string starting with {@code "o"}
+     * (output) or {@code "i"} (input), case-insensitive.
+     *
+     * @param direction the text to parse
+     * @return the matching direction, {@link #INPUT} if the text is not recognised
+     */
+    public static DigitalPortDirection parse(String direction) {
+        if(direction.equalsIgnoreCase("0")) return DigitalPortDirection.INPUT;
+        if(direction.equalsIgnoreCase("1")) return DigitalPortDirection.OUTPUT;
+        if(direction.toLowerCase().startsWith("o")) return DigitalPortDirection.OUTPUT;
+        return DigitalPortDirection.INPUT;
+    }
+}
@@ -0,0 +1,36 @@
+package com.pi4j.io.gpio.digital;
+
+import com.pi4j.provider.Provider;
+
+/**
+ * Provider contract for creating {@link DigitalPort} instances.
+ */
+public interface DigitalPortProvider extends Provider<DigitalPortProvider, DigitalPort, DigitalPortConfig> {
+
+    /**
+     * Creates a digital port from the configuration produced by the given builder.
+     *
+     * @param builder a configured {@link DigitalPortConfigBuilder}
+     * @param <T> the concrete {@link DigitalPort} type returned by this provider
+     * @return the newly created digital port instance
+     */
+    default <T extends DigitalPort> T create(DigitalPortConfigBuilder builder) {
+        return (T) create(builder.build());
+    }
+
+    /**
+     * Creates a digital port over the given BCM pins in the given direction.
+     *
+     * @param direction the direction all lines are requested with
+     * @param bcms the BCM pins; element {@code n} maps to bit {@code n} of the port value
+     * @param <T> the concrete {@link DigitalPort} type returned by this provider
+     * @return the newly created digital port instance
+     */
+    default <T extends DigitalPort> T create(DigitalPortDirection direction, int... bcms) {
+        var config = DigitalPort.newConfigBuilder(context())
+            .direction(direction)
+            .bcms(bcms)
+            .build();
+        return (T) create(config);
+    }
+}
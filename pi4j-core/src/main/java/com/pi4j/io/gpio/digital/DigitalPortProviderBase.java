@@ -0,0 +1,38 @@
+package com.pi4j.io.gpio.digital;
+
+import com.pi4j.provider.ProviderBase;
+
+/**
+ * Base class for {@link DigitalPortProvider} implementations, supplying the common provider identity
+ * handling so concrete platform providers only need to implement port creation.
+ */
+public abstract class DigitalPortProviderBase
+        extends ProviderBase<DigitalPortProvider, DigitalPort, DigitalPortConfig>
+        implements DigitalPortProvider {
+
+    /**
+     * Creates a provider with no preset identifier; the identifier is expected to be supplied later.
+     */
+    public DigitalPortProviderBase(){
+        super();
+    }
+
+    /**
+     * Creates a provider with the given identifier.
+     *
+     * @param id the unique provider identifier
+     */
+    public DigitalPortProviderBase(String id){
+        super(id);
+    }
+
+    /**
+     * Creates a provider with the given identifier and name.
+     *
+     * @param id   the unique provider identifier
+     * @param name the human-readable provider name
+     */
+    public DigitalPortProviderBase(String id, String name){
+        super(id, name);
+    }
+}
@@ -0,0 +1,72 @@
+package com.pi4j.io.gpio.digital;
+
+/**
+ * Read-only view of the state changes a {@link DigitalInput} detected in one wakeup, delivered to
+ * {@link DigitalStateChangeBatchListener}s. The changes are exposed as parallel primitive arrays of which
+ * the first {@link #size()} entries are valid, oldest first, so consumers can process them without a
+ * {@link DigitalStateChangeEvent} per change.
+ * <p>
+ * The arrays are owned by the input and overwritten for the next batch; they are only valid during the
+ * listener callback and must not be modified.
+ */
+public interface DigitalStateChangeBatch {
+
+    /**
+     * Returns the digital input which detected the state changes.
+     *
+     * @return the source input
+     */
+    DigitalInput source();
+
+    /**
+     * Returns the number of valid entries in {@link #timestamps()} and {@link #states()}.
+     *
+     * @return the number of state changes in this batch
+     */
+    int size();
+
+    /**
+     * Returns the timestamps of the state changes in nanoseconds. Inputs backed by the kernel GPIO
+     * character device report the kernel edge timestamp ({@code CLOCK_MONOTONIC} by default); other
+     * inputs report {@link System#nanoTime()} at detection.
+     *
+     * @return the timestamp array, valid up to {@link #size()}
+     */
+    long[] timestamps();
+
+    /**
+     * Returns the new states as their {@link DigitalState#value()} ({@code 1} HIGH, {@code 0} LOW,
+     * {@code -1} UNKNOWN).
+     *
+     * @return the state array, valid up to {@link #size()}
+     */
+    byte[] states();
+
+    /**
+     * Returns the number of state changes the underlying driver dropped before or within this batch,
+     * e.g. because its event queue overflowed.
+     *
+     * @return the dropped change count, {@code 0} if unknown or none
+     */
+    long droppedEvents();
+
+    /**
+     * Returns the timestamp of one state change.
+     *
+     * @param index entry index, from {@code 0} to {@code size() - 1}
+     * @return the timestamp in nanoseconds
+     */
+    default long timestamp(int index) {
+        return timestamps()[index];
+    }
+
+    /**
+     * Returns the new state of one state change.
+     *
+     * @param index entry index, from {@code 0} to {@code size() - 1}
+     * @return the new {@link DigitalState}
+     */
+    default DigitalState state(int index) {
+        return DigitalState.getState(states()[index]);
+    }
+}
@@ -0,0 +1,19 @@
+package com.pi4j.io.gpio.digital;
+
+import com.pi4j.event.Listener;
+
+/**
+ * Listener that is notified once per group of state changes detected together on a {@link DigitalInput},
+ * instead of once per change. Register an implementation via
+ * {@link DigitalInput#addBatchListener(DigitalStateChangeBatchListener...)} to receive
+ * {@link DigitalStateChangeBatch}es.
+ */
+public interface DigitalStateChangeBatchListener extends Listener {
+    /**
+     * Invoked with the state changes of the observed digital input detected since the previous call.
+     * The batch is reused by the input for the next call, so it must not be retained or modified.
+     *
+     * @param batch the state changes, oldest first
+     */
+    void onDigitalStateChanges(DigitalStateChangeBatch batch);
+}
@@ -5,6 +5,10 @@ package com.pi4j.io.gpio.digital;
 /**
  * Event fired when the {@link DigitalState} of a digital I/O instance changes, delivered to registered
  * {@link DigitalStateChangeListener}s. It carries the I/O source that changed and the new state.
+ * <p>
+ * Providers that receive edges from the kernel additionally fill in the hardware timestamp and the
+ * kernel sequence numbers of the edge (see {@link #hasTimestamp()}), so listeners can measure pulse
+ * widths and order events across pins without sampling a clock themselves.
  *
  * @param <DIGITAL_TYPE> the type of the {@link Digital} I/O source that produced the event
  */
@@ -15,6 +19,13 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
 
     protected DIGITAL_TYPE source;
 
+    // kernel edge details, only meaningful when hasTimestamp is set
+    protected boolean hasTimestamp;
+    protected long timestampNanos;
+    protected long sequenceNumber;
+    protected long lineSequenceNumber;
+    protected long droppedEvents;
+
     /**
      * Creates a new state-change event.
      *
@@ -26,6 +37,27 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         this.source = source; // cache digital I/O source
     }
 
+    /**
+     * Creates a new state-change event for an edge reported by the kernel.
+     *
+     * @param source             the digital I/O instance whose state changed
+     * @param state              the new digital state after the change
+     * @param timestampNanos     kernel timestamp of the edge in nanoseconds
+     * @param sequenceNumber     sequence number of the edge among all lines of the same line request
+     * @param lineSequenceNumber sequence number of the edge on this line
+     * @param droppedEvents      number of edges the kernel discarded on this line right before this one
+     */
+    public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state, long timestampNanos,
+                                   long sequenceNumber, long lineSequenceNumber, long droppedEvents){
+        this.state = state;
+        this.source = source;
+        this.hasTimestamp = true;
+        this.timestampNanos = timestampNanos;
+        this.sequenceNumber = sequenceNumber;
+        this.lineSequenceNumber = lineSequenceNumber;
+        this.droppedEvents = droppedEvents;
+    }
+
     /**
      * Returns the new state recorded by this event.
      *
@@ -40,6 +72,55 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         return this.source;
     }
 
+    /**
+     * Indicates whether the event carries the kernel timestamp and sequence numbers of the edge.
+     *
+     * @return {@code true} if {@link #timestampNanos()}, {@link #sequenceNumber()},
+     *         {@link #lineSequenceNumber()} and {@link #droppedEvents()} hold kernel values
+     */
+    public boolean hasTimestamp() {
+        return this.hasTimestamp;
+    }
+
+    /**
+     * Returns the time the kernel detected the edge. On Linux GPIO character devices this is
+     * {@code CLOCK_MONOTONIC} unless the line was requested with another event clock, so it can be
+     * compared with {@link System#nanoTime()} on the same machine.
+     *
+     * @return the edge timestamp in nanoseconds, or {@code 0} if {@link #hasTimestamp()} is {@code false}
+     */
+    public long timestampNanos() {
+        return this.timestampNanos;
+    }
+
+    /**
+     * Returns the sequence number of the edge among all lines of the kernel line request.
+     *
+     * @return the request-wide sequence number, or {@code 0} if {@link #hasTimestamp()} is {@code false}
+     */
+    public long sequenceNumber() {
+        return this.sequenceNumber;
+    }
+
+    /**
+     * Returns the sequence number of the edge on this line.
+     *
+     * @return the per-line sequence number, or {@code 0} if {@link #hasTimestamp()} is {@code false}
+     */
+    public long lineSequenceNumber() {
+        return this.lineSequenceNumber;
+    }
+
+    /**
+     * Returns how many edges on this line the kernel discarded right before this one, because its
+     * event queue overflowed. Derived from a gap in {@link #lineSequenceNumber()}.
+     *
+     * @return the number of lost edges, {@code 0} if none were lost or no kernel data is available
+     */
+    public long droppedEvents() {
+        return this.droppedEvents;
+    }
+
 
     @Override
     public String toString(){
@@ -51,6 +132,18 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         result.append(" -> ");
         result.append(this.state());
         result.append("]");
+        if (this.hasTimestamp) {
+            result.append(" TIMESTAMP: [");
+            result.append(this.timestampNanos);
+            result.append("ns] SEQUENCE: [");
+            result.append(this.lineSequenceNumber);
+            result.append("]");
+            if (this.droppedEvents > 0) {
+                result.append(" DROPPED: [");
+                result.append(this.droppedEvents);
+                result.append("]");
+            }
+        }
         return result.toString();
     }
 }
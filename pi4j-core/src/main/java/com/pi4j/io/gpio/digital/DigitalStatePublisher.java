@@ -0,0 +1,246 @@
+package com.pi4j.io.gpio.digital;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link Flow.Publisher} view of the state changes of a {@link DigitalInput}. Every subscriber gets its own
+ * bounded {@link DigitalEventRingBuffer}: the thread detecting the changes only appends to the buffers,
+ * while the changes are delivered to the subscribers on the given {@link Executor} as far as they
+ * requested them. A slow subscriber therefore does not delay the detection of further changes; when its
+ * buffer is full the {@link DigitalEventOverflowPolicy} decides which changes are lost, or, with
+ * {@link DigitalEventOverflowPolicy#BLOCK}, blocks the detecting thread until the subscriber made room.
+ * <p>
+ * Each subscription registers a {@link DigitalStateChangeListener} on the input until it is cancelled or
+ * the publisher is {@link #close() closed}, which completes all subscribers.
+ */
+public class DigitalStatePublisher implements Flow.Publisher<DigitalStateChangeEvent>, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(DigitalStatePublisher.class);
+
+    // park interval of a producer blocked by DigitalEventOverflowPolicy.BLOCK
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final DigitalInput input;
+    private final int capacity;
+    private final DigitalEventOverflowPolicy policy;
+    private final Executor executor;
+    private final Set<StateSubscription> subscriptions = new CopyOnWriteArraySet<>();
+    private final LongAdder droppedEvents = new LongAdder();
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a publisher for the given input.
+     *
+     * @param input    the input whose state changes are published
+     * @param capacity number of changes buffered per subscriber, at least 1
+     * @param policy   what to do with a change when the buffer of a subscriber is full
+     * @param executor executor delivering the changes to the subscribers
+     */
+    public DigitalStatePublisher(DigitalInput input, int capacity, DigitalEventOverflowPolicy policy,
+                                 Executor executor) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Publisher capacity must be at least 1, got " + capacity);
+        }
+        this.input = Objects.requireNonNull(input, "input");
+        this.capacity = capacity;
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super DigitalStateChangeEvent> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        var subscription = new StateSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        if (subscription.cancelled) {
+            return;
+        }
+        subscriptions.add(subscription);
+        input.addListener(subscription);
+        // close() may have run before the subscription was added
+        if (closed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Returns the number of changes discarded so far because a subscriber buffer was full, summed over
+     * all subscribers.
+     *
+     * @return the dropped change count
+     */
+    public long droppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Returns the overflow policy of this publisher.
+     *
+     * @return the {@link DigitalEventOverflowPolicy}
+     */
+    public DigitalEventOverflowPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Detaches all subscribers from the input and completes them once their buffered changes are delivered.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (var subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    private final class StateSubscription implements Flow.Subscription, DigitalStateChangeListener, Runnable {
+        private final Flow.Subscriber<? super DigitalStateChangeEvent> subscriber;
+        private final DigitalEventRingBuffer<DigitalStateChangeEvent> buffer =
+            new DigitalEventRingBuffer<>(capacity);
+        private final AtomicLong requested = new AtomicLong();
+        // drain-loop guard: only the caller moving it from 0 schedules a drain
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile boolean done = false;
+        private volatile Throwable error = null;
+
+        private StateSubscription(Flow.Subscriber<? super DigitalStateChangeEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        // called by the thread detecting the state changes
+        @Override
+        public void onDigitalStateChange(DigitalStateChangeEvent event) {
+            if (cancelled || done) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                switch (policy) {
+                    case DROP_NEWEST -> {
+                        droppedEvents.increment();
+                        return;
+                    }
+                    case DROP_OLDEST -> {
+                        while (!buffer.offer(event)) {
+                            if (buffer.discardOldest()) {
+                                droppedEvents.increment();
+                            }
+                        }
+                    }
+                    case LATEST -> {
+                        while (!buffer.offer(event)) {
+                            droppedEvents.add(buffer.discardAll());
+                        }
+                    }
+                    case BLOCK -> {
+                        while (!buffer.offer(event)) {
+                            if (cancelled || done) {
+                                return;
+                            }
+                            signal();
+                            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                        }
+                    }
+                }
+            }
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Subscriber requested " + n + " elements; must be positive (§3.9)");
+                detach();
+            } else {
+                requested.getAndAccumulate(n, (current, add) -> {
+                    var sum = current + add;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            detach();
+        }
+
+        private void complete() {
+            done = true;
+            detach();
+            signal();
+        }
+
+        private void detach() {
+            subscriptions.remove(this);
+            input.removeListener(this);
+        }
+
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RuntimeException e) {
+                    logger.error("Unable to schedule delivery of digital state changes: {}", e.getMessage(), e);
+                    wip.set(0);
+                }
+            }
+        }
+
+        // drain loop, run on the executor
+        @Override
+        public void run() {
+            var missed = 1;
+            do {
+                var emitted = 0L;
+                var limit = requested.get();
+                while (!cancelled) {
+                    if (error != null) {
+                        cancelled = true;
+                        subscriber.onError(error);
+                        return;
+                    }
+                    if (emitted == limit) {
+                        break;
+                    }
+                    var event = buffer.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    try {
+                        subscriber.onNext(event);
+                    } catch (Throwable t) {
+                        logger.error("Subscriber failed to process digital state change: {}", t.getMessage(), t);
+                        cancel();
+                        return;
+                    }
+                    emitted++;
+                }
+                if (cancelled) {
+                    return;
+                }
+                if (done && buffer.isEmpty()) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                if (emitted > 0 && limit != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
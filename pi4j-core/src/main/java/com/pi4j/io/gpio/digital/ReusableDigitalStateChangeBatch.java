@@ -0,0 +1,92 @@
+package com.pi4j.io.gpio.digital;
+
+import java.util.Arrays;
+
+/**
+ * Reusable {@link DigitalStateChangeBatch} filled by a {@link DigitalInput} implementation: the input
+ * calls {@link #clear()}, {@link #add(long, DigitalState)} for every detected change and then hands the
+ * batch to its listeners. The arrays grow as needed and are kept for the next batch, so a steady event
+ * rate causes no allocation. Not thread-safe; meant to be filled and dispatched by a single thread.
+ */
+public class ReusableDigitalStateChangeBatch implements DigitalStateChangeBatch {
+    private final DigitalInput source;
+    private long[] timestamps;
+    private byte[] states;
+    private int size = 0;
+    private long droppedEvents = 0;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param source   the input the batch is dispatched for
+     * @param capacity initial number of entries, grown on demand
+     */
+    public ReusableDigitalStateChangeBatch(DigitalInput source, int capacity) {
+        this.source = source;
+        this.timestamps = new long[Math.max(1, capacity)];
+        this.states = new byte[timestamps.length];
+    }
+
+    /**
+     * Removes all entries and resets the dropped event count, keeping the arrays.
+     */
+    public void clear() {
+        size = 0;
+        droppedEvents = 0;
+    }
+
+    /**
+     * Appends a state change.
+     *
+     * @param timestampNanos timestamp of the change in nanoseconds
+     * @param state          the new state
+     */
+    public void add(long timestampNanos, DigitalState state) {
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            states = Arrays.copyOf(states, size * 2);
+        }
+        timestamps[size] = timestampNanos;
+        states[size] = state.value().byteValue();
+        size++;
+    }
+
+    /**
+     * Adds to the number of changes the driver dropped before or within this batch.
+     *
+     * @param dropped number of dropped changes
+     */
+    public void addDroppedEvents(long dropped) {
+        droppedEvents += dropped;
+    }
+
+    @Override
+    public DigitalInput source() {
+        return source;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long[] timestamps() {
+        return timestamps;
+    }
+
+    @Override
+    public byte[] states() {
+        return states;
+    }
+
+    @Override
+    public long droppedEvents() {
+        return droppedEvents;
+    }
+
+    @Override
+    public String toString() {
+        return "<<DIGITAL STATE CHANGE BATCH>> [size=" + size + ", dropped=" + droppedEvents + "]";
+    }
+}
@@ -0,0 +1,124 @@
+package com.pi4j.io.gpio.digital.decoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoder of the NEC infrared remote control protocol from a demodulating IR receiver. A frame is a 9 ms
+ * burst, a 4.5 ms space and 32 bits sent LSB first (address, inverted address, command, inverted command),
+ * where every bit is a 562.5 µs burst followed by a 562.5 µs (0) or 1687.5 µs (1) space. Holding a key
+ * sends repeat frames of a 9 ms burst and a 2.25 ms space.
+ * <p>
+ * The decoder measures the time between the starts of consecutive bursts, which is robust against the
+ * burst width distortion of IR receivers. Receivers pull their output LOW during a burst, so bursts start
+ * with a falling edge unless the decoder is created as active-high. Frames whose command fails its inverted
+ * copy are discarded; an address whose second byte is not its inverse is reported as a 16-bit extended
+ * NEC address.
+ */
+public class NecDecoder extends PulseDecoderBase<NecDecoder.Code> {
+
+    /**
+     * A decoded key press.
+     *
+     * @param address the 8-bit address, or the 16-bit address of extended NEC
+     * @param command the 8-bit command
+     * @param repeat  {@code true} for a repeat frame of a held key, carrying the previous address and command
+     */
+    public record Code(int address, int command, boolean repeat) {
+    }
+
+    // burst start to burst start intervals, with about 20% tolerance for receiver and oscillator drift
+    private static final long LEADER_MIN = TimeUnit.MICROSECONDS.toNanos(12_000);
+    private static final long LEADER_MAX = TimeUnit.MICROSECONDS.toNanos(15_000);
+    private static final long REPEAT_MIN = TimeUnit.MICROSECONDS.toNanos(10_000);
+    private static final long REPEAT_MAX = TimeUnit.MICROSECONDS.toNanos(12_500);
+    private static final long ZERO_MIN = TimeUnit.MICROSECONDS.toNanos(800);
+    private static final long ZERO_MAX = TimeUnit.MICROSECONDS.toNanos(1_500);
+    private static final long ONE_MIN = TimeUnit.MICROSECONDS.toNanos(1_800);
+    private static final long ONE_MAX = TimeUnit.MICROSECONDS.toNanos(2_800);
+    // repeat frames follow every 108 ms; a longer pause means the key was released
+    private static final long REPEAT_WINDOW = TimeUnit.MILLISECONDS.toNanos(150);
+
+    private final boolean activeLow;
+
+    private long lastBurstNanos = 0;
+    // number of bits received in the current frame, -1 while waiting for a leader
+    private int bitCount = -1;
+    private long bits = 0;
+    private Code lastCode = null;
+    private long lastFrameNanos = 0;
+
+    /**
+     * Creates a decoder for a receiver which pulls its output LOW during a burst.
+     */
+    public NecDecoder() {
+        this(true);
+    }
+
+    /**
+     * Creates a decoder.
+     *
+     * @param activeLow {@code true} if the receiver output is LOW during a burst
+     */
+    public NecDecoder(boolean activeLow) {
+        super(1);
+        this.activeLow = activeLow;
+    }
+
+    @Override
+    protected void decode(int channel, long timestampNanos, boolean high) {
+        if (high == activeLow) {
+            // end of a burst; only burst starts are timed
+            return;
+        }
+        var interval = lastBurstNanos == 0 ? 0 : timestampNanos - lastBurstNanos;
+        lastBurstNanos = timestampNanos;
+        if (interval >= LEADER_MIN && interval <= LEADER_MAX) {
+            bitCount = 0;
+            bits = 0;
+        } else if (interval >= REPEAT_MIN && interval <= REPEAT_MAX) {
+            bitCount = -1;
+            if (lastCode != null && timestampNanos - lastFrameNanos <= REPEAT_WINDOW) {
+                lastFrameNanos = timestampNanos;
+                emit(new Code(lastCode.address(), lastCode.command(), true));
+            }
+        } else if (bitCount >= 0 && interval >= ZERO_MIN && interval <= ZERO_MAX) {
+            bitCount++;
+        } else if (bitCount >= 0 && interval >= ONE_MIN && interval <= ONE_MAX) {
+            bits |= 1L << bitCount;
+            bitCount++;
+        } else {
+            // the start of a burst which does not fit; it may be the first burst of a leader
+            bitCount = -1;
+        }
+        if (bitCount == 32) {
+            bitCount = -1;
+            frame(timestampNanos);
+        }
+    }
+
+    private void frame(long timestampNanos) {
+        var address = (int) (bits & 0xFF);
+        var addressInverse = (int) ((bits >>> 8) & 0xFF);
+        var command = (int) ((bits >>> 16) & 0xFF);
+        var commandInverse = (int) ((bits >>> 24) & 0xFF);
+        if ((command ^ commandInverse) != 0xFF) {
+            lastCode = null;
+            return;
+        }
+        if ((address ^ addressInverse) != 0xFF) {
+            address = (int) (bits & 0xFFFF);
+        }
+        lastCode = new Code(address, command, false);
+        lastFrameNanos = timestampNanos;
+        emit(lastCode);
+    }
+
+    @Override
+    protected void resetDecoder() {
+        lastBurstNanos = 0;
+        bitCount = -1;
+        bits = 0;
+        lastCode = null;
+        lastFrameNanos = 0;
+    }
+}
@@ -0,0 +1,81 @@
+package com.pi4j.io.gpio.digital.decoder;
+
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+
+/**
+ * Decodes a pulse-train protocol from the edges of one or more {@link DigitalInput}s where the edges are
+ * detected, so that only decoded values (positions, codes, frames) reach the application instead of one
+ * event per edge. Each input is bound to one channel of the decoder with
+ * {@link DigitalInput#addDecoder(PulseDecoder, int)}.
+ * <p>
+ * The inputs call {@link #onEdge(int, long, DigitalState)} for every edge and {@link #onFlush(long)} after
+ * every group of edges and, while idle, once the timeout reported by {@link #pendingTimeoutNanos(long)}
+ * elapsed. Both may be called from several threads when the
+ * decoder spans inputs watched by different threads, so implementations must be thread-safe;
+ * {@link PulseDecoderBase} takes care of that.
+ *
+ * @param <T> the type of the decoded values
+ */
+public interface PulseDecoder<T> {
+
+    /**
+     * Returns the number of input channels of the protocol, e.g. {@code 2} for the A and B lines of a
+     * quadrature encoder.
+     *
+     * @return the channel count, at least 1
+     */
+    int channels();
+
+    /**
+     * Handles one edge of a bound input.
+     *
+     * @param channel        the channel the input is bound to
+     * @param timestampNanos timestamp of the edge in nanoseconds on the {@link System#nanoTime()} time base
+     * @param state          the level after the edge
+     */
+    void onEdge(int channel, long timestampNanos, DigitalState state);
+
+    /**
+     * Called after a group of edges was handed to {@link #onEdge(int, long, DigitalState)} and, while the
+     * inputs are idle, once {@link #pendingTimeoutNanos(long)} elapsed, to process the buffered edges and to
+     * end frames by timeout. Inputs may call it more often.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     */
+    void onFlush(long nowNanos);
+
+    /**
+     * Returns how long the inputs may stay idle before {@link #onFlush(long)} has to be called, e.g. to end
+     * a frame by timeout. Inputs which can wake up without an edge use it to schedule that flush. The
+     * default reports no timeout.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the nanoseconds until a flush is due, {@code 0} if it is due now, or {@code -1} if none is
+     *         pending
+     */
+    default long pendingTimeoutNanos(long nowNanos) {
+        return -1;
+    }
+
+    /**
+     * Registers listeners for the decoded values.
+     *
+     * @param listener one or more listeners
+     * @return this decoder
+     */
+    PulseDecoder<T> addListener(PulseDecoderListener<T>... listener);
+
+    /**
+     * Unregisters previously added listeners.
+     *
+     * @param listener one or more listeners
+     * @return this decoder
+     */
+    PulseDecoder<T> removeListener(PulseDecoderListener<T>... listener);
+
+    /**
+     * Discards any partially decoded value.
+     */
+    void reset();
+}
@@ -0,0 +1,145 @@
+package com.pi4j.io.gpio.digital.decoder;
+
+import com.pi4j.event.EventDelegate;
+import com.pi4j.event.EventManager;
+import com.pi4j.io.gpio.digital.DigitalState;
+
+import java.util.Arrays;
+
+/**
+ * Base class of {@link PulseDecoder}s. Buffers the edges of all channels until {@link #onFlush(long)}, then
+ * hands them to {@link #decode(int, long, boolean)} ordered by timestamp, so edges of inputs read one after
+ * the other in the same wakeup are decoded in the order they happened on the wire. Calls are serialized,
+ * subclasses need no synchronization of their own.
+ *
+ * @param <T> the type of the decoded values
+ */
+public abstract class PulseDecoderBase<T> implements PulseDecoder<T> {
+    private final int channels;
+    private final EventManager<PulseDecoder<T>, PulseDecoderListener<T>, T> listeners;
+
+    // edges buffered since the last flush, grown on demand
+    private long[] timestamps = new long[32];
+    private byte[] edgeChannels = new byte[32];
+    private boolean[] levels = new boolean[32];
+    private int size = 0;
+
+    /**
+     * Creates a decoder for the given number of channels.
+     *
+     * @param channels number of input channels of the protocol, at least 1
+     */
+    protected PulseDecoderBase(int channels) {
+        if (channels < 1 || channels > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid decoder channel count: " + channels);
+        }
+        this.channels = channels;
+        this.listeners = new EventManager<>(this,
+            (EventDelegate<PulseDecoderListener<T>, T>) (listener, value) -> listener.onDecoded(this, value));
+    }
+
+    @Override
+    public int channels() {
+        return channels;
+    }
+
+    @Override
+    public synchronized void onEdge(int channel, long timestampNanos, DigitalState state) {
+        if (channel < 0 || channel >= channels || (state != DigitalState.HIGH && state != DigitalState.LOW)) {
+            return;
+        }
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            edgeChannels = Arrays.copyOf(edgeChannels, size * 2);
+            levels = Arrays.copyOf(levels, size * 2);
+        }
+        // insertion keeps the buffer ordered; edges mostly arrive in order, so this rarely moves anything
+        var i = size;
+        while (i > 0 && timestamps[i - 1] > timestampNanos) {
+            timestamps[i] = timestamps[i - 1];
+            edgeChannels[i] = edgeChannels[i - 1];
+            levels[i] = levels[i - 1];
+            i--;
+        }
+        timestamps[i] = timestampNanos;
+        edgeChannels[i] = (byte) channel;
+        levels[i] = state == DigitalState.HIGH;
+        size++;
+    }
+
+    @Override
+    public synchronized void onFlush(long nowNanos) {
+        for (int i = 0; i < size; i++) {
+            decode(edgeChannels[i], timestamps[i], levels[i]);
+        }
+        size = 0;
+        idle(nowNanos);
+    }
+
+    @Override
+    public synchronized long pendingTimeoutNanos(long nowNanos) {
+        return size > 0 ? 0 : idleTimeoutNanos(nowNanos);
+    }
+
+    @Override
+    public synchronized void reset() {
+        size = 0;
+        resetDecoder();
+    }
+
+    @Override
+    @SafeVarargs
+    public final PulseDecoder<T> addListener(PulseDecoderListener<T>... listener) {
+        return listeners.add(listener);
+    }
+
+    @Override
+    @SafeVarargs
+    public final PulseDecoder<T> removeListener(PulseDecoderListener<T>... listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Decodes one edge. Called in timestamp order while flushing.
+     *
+     * @param channel        the channel of the edge
+     * @param timestampNanos timestamp of the edge in nanoseconds
+     * @param high           {@code true} for a rising edge, {@code false} for a falling edge
+     */
+    protected abstract void decode(int channel, long timestampNanos, boolean high);
+
+    /**
+     * Called at the end of every flush, e.g. to end a frame after a gap. Does nothing by default.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     */
+    protected void idle(long nowNanos) {
+    }
+
+    /**
+     * Returns how long the inputs may stay idle before {@link #idle(long)} has work to do, see
+     * {@link #pendingTimeoutNanos(long)}. Called only while no edges are buffered. Reports no timeout by
+     * default.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the nanoseconds until a flush is due, {@code 0} if it is due now, or {@code -1} if none is
+     *         pending
+     */
+    protected long idleTimeoutNanos(long nowNanos) {
+        return -1;
+    }
+
+    /**
+     * Discards the decoder state of a partially decoded value.
+     */
+    protected abstract void resetDecoder();
+
+    /**
+     * Hands a decoded value to the listeners.
+     *
+     * @param value the decoded value
+     */
+    protected void emit(T value) {
+        listeners.dispatch(value);
+    }
+}
@@ -0,0 +1,20 @@
+package com.pi4j.io.gpio.digital.decoder;
+
+import com.pi4j.event.Listener;
+
+/**
+ * Listener notified by a {@link PulseDecoder} whenever it decoded a value. It is called on the thread
+ * detecting the edges, so it must return quickly.
+ *
+ * @param <T> the type of the decoded values
+ */
+@FunctionalInterface
+public interface PulseDecoderListener<T> extends Listener {
+    /**
+     * Invoked with a decoded value.
+     *
+     * @param decoder the decoder which decoded the value
+     * @param value   the decoded value
+     */
+    void onDecoded(PulseDecoder<T> decoder, T value);
+}
@@ -0,0 +1,99 @@
+package com.pi4j.io.gpio.digital.decoder;
+
+import com.pi4j.io.gpio.digital.DigitalState;
+
+/**
+ * Full-step (x4) decoder of incremental quadrature encoders. The A and B lines are bound to
+ * {@link #CHANNEL_A} and {@link #CHANNEL_B}; every edge moves the position by one step, forward when A
+ * leads B. The position is emitted once per flush when it changed, not per edge.
+ * <p>
+ * The decoder assumes both lines are LOW when created or reset; use {@link #sync(DigitalState, DigitalState)}
+ * with the current levels if the encoder may rest elsewhere. An edge reporting a level the line already had
+ * means an edge was lost; it is counted in {@link #errors()} and the line level is resynchronized.
+ */
+public class QuadratureDecoder extends PulseDecoderBase<Long> {
+    /** Channel of the A line. */
+    public static final int CHANNEL_A = 0;
+    /** Channel of the B line. */
+    public static final int CHANNEL_B = 1;
+
+    // step per transition, indexed by (previous AB << 2) | next AB; forward sequence 00 -> 10 -> 11 -> 01 -> 00
+    private static final int[] STEPS = {
+        //        next: 00  01  10  11
+        /* prev 00 */    0, -1, +1,  0,
+        /* prev 01 */   +1,  0,  0, -1,
+        /* prev 10 */   -1,  0,  0, +1,
+        /* prev 11 */    0, +1, -1,  0,
+    };
+
+    private int state = 0;
+    private long position = 0;
+    private long emittedPosition = 0;
+    private volatile long publishedPosition = 0;
+    private volatile long errors = 0;
+
+    /**
+     * Creates a quadrature decoder at position 0.
+     */
+    public QuadratureDecoder() {
+        super(2);
+    }
+
+    /**
+     * Sets the current levels of the A and B lines, e.g. read from the inputs before edge detection starts.
+     *
+     * @param a level of the A line
+     * @param b level of the B line
+     */
+    public synchronized void sync(DigitalState a, DigitalState b) {
+        state = (a == DigitalState.HIGH ? 2 : 0) | (b == DigitalState.HIGH ? 1 : 0);
+    }
+
+    /**
+     * Returns the position after the last flush.
+     *
+     * @return the position in steps
+     */
+    public long position() {
+        return publishedPosition;
+    }
+
+    /**
+     * Returns the number of lost edges detected so far.
+     *
+     * @return the error count
+     */
+    public long errors() {
+        return errors;
+    }
+
+    @Override
+    protected void decode(int channel, long timestampNanos, boolean high) {
+        var bit = channel == CHANNEL_A ? 2 : 1;
+        var next = high ? state | bit : state & ~bit;
+        if (next == state) {
+            errors++;
+            return;
+        }
+        position += STEPS[(state << 2) | next];
+        state = next;
+    }
+
+    @Override
+    protected void idle(long nowNanos) {
+        if (position != emittedPosition) {
+            emittedPosition = position;
+            publishedPosition = position;
+            emit(position);
+        }
+    }
+
+    @Override
+    protected void resetDecoder() {
+        state = 0;
+        position = 0;
+        emittedPosition = 0;
+        publishedPosition = 0;
+        errors = 0;
+    }
+}
@@ -0,0 +1,135 @@
+package com.pi4j.io.gpio.digital.decoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoder of the Wiegand interface of access control readers. The DATA0 and DATA1 lines are bound to
+ * {@link #CHANNEL_DATA0} and {@link #CHANNEL_DATA1}; both idle HIGH and the reader pulls DATA0 LOW to
+ * send a 0 bit and DATA1 LOW to send a 1 bit, MSB first. A frame ends when no bit arrived for the frame
+ * gap, by default 25 ms. Frames of up to 64 bits are supported.
+ * <p>
+ * Since the end of a frame is only noticed by timeout, frames are emitted on the first flush after the
+ * gap. The decoder reports that deadline through {@link #pendingTimeoutNanos(long)}, so inputs which wake
+ * up for it emit a frame about one gap after its last bit.
+ */
+public class WiegandDecoder extends PulseDecoderBase<WiegandDecoder.Frame> {
+    /** Channel of the DATA0 line. */
+    public static final int CHANNEL_DATA0 = 0;
+    /** Channel of the DATA1 line. */
+    public static final int CHANNEL_DATA1 = 1;
+
+    /** Default silence after the last bit which ends a frame. */
+    public static final long DEFAULT_FRAME_GAP_NANOS = TimeUnit.MILLISECONDS.toNanos(25);
+
+    private static final int MAX_BITS = 64;
+
+    /**
+     * A received frame.
+     *
+     * @param bitCount number of bits, e.g. 26 or 34
+     * @param data     the bits, the last received bit in bit 0
+     */
+    public record Frame(int bitCount, long data) {
+
+        /**
+         * Checks the parity bits of the common formats: the first bit is the even parity of the first half
+         * of the payload and the last bit the odd parity of the second half, as in the 26-bit (H10301) and
+         * 34-bit formats.
+         *
+         * @return {@code true} if both parity bits match
+         */
+        public boolean parityValid() {
+            if (bitCount < 4 || bitCount % 2 != 0) {
+                return false;
+            }
+            var half = bitCount / 2;
+            // leading parity bit plus the first half of the payload: even number of ones
+            var leading = (data >>> half) & ((1L << half) - 1);
+            // second half of the payload plus the trailing parity bit: odd number of ones
+            var trailing = data & ((1L << half) - 1);
+            return Long.bitCount(leading) % 2 == 0 && Long.bitCount(trailing) % 2 == 1;
+        }
+
+        /**
+         * Returns the payload without the leading and trailing parity bits.
+         *
+         * @return the payload bits
+         */
+        public long payload() {
+            return (data >>> 1) & ((1L << (bitCount - 2)) - 1);
+        }
+    }
+
+    private final long frameGapNanos;
+
+    private int bitCount = 0;
+    private long data = 0;
+    private long lastBitNanos = 0;
+
+    /**
+     * Creates a decoder with the {@link #DEFAULT_FRAME_GAP_NANOS default frame gap}.
+     */
+    public WiegandDecoder() {
+        this(DEFAULT_FRAME_GAP_NANOS);
+    }
+
+    /**
+     * Creates a decoder.
+     *
+     * @param frameGapNanos silence after the last bit which ends a frame, in nanoseconds
+     */
+    public WiegandDecoder(long frameGapNanos) {
+        super(2);
+        if (frameGapNanos <= 0) {
+            throw new IllegalArgumentException("Frame gap must be positive, got " + frameGapNanos);
+        }
+        this.frameGapNanos = frameGapNanos;
+    }
+
+    @Override
+    protected void decode(int channel, long timestampNanos, boolean high) {
+        if (high) {
+            // end of a data pulse
+            return;
+        }
+        if (bitCount > 0 && timestampNanos - lastBitNanos > frameGapNanos) {
+            endFrame();
+        }
+        if (bitCount < MAX_BITS) {
+            data = (data << 1) | (channel == CHANNEL_DATA1 ? 1 : 0);
+        }
+        bitCount++;
+        lastBitNanos = timestampNanos;
+    }
+
+    @Override
+    protected void idle(long nowNanos) {
+        if (bitCount > 0 && nowNanos - lastBitNanos > frameGapNanos) {
+            endFrame();
+        }
+    }
+
+    @Override
+    protected long idleTimeoutNanos(long nowNanos) {
+        if (bitCount == 0) {
+            return -1;
+        }
+        // idle() ends the frame once more than the gap has passed
+        return Math.max(0, lastBitNanos + frameGapNanos + 1 - nowNanos);
+    }
+
+    private void endFrame() {
+        if (bitCount <= MAX_BITS) {
+            emit(new Frame(bitCount, data));
+        }
+        bitCount = 0;
+        data = 0;
+    }
+
+    @Override
+    protected void resetDecoder() {
+        bitCount = 0;
+        data = 0;
+        lastBitNanos = 0;
+    }
+}
@@ -24,6 +24,8 @@ public class DefaultDigitalInputConfig
     protected Integer bus = 0;
     protected PullResistance pullResistance = PullResistance.OFF;
     protected Long debounce = DigitalInput.DEFAULT_DEBOUNCE;
+    protected Integer eventBufferSize = null;
+    protected Boolean cacheState = false;
     protected DigitalState onState = DigitalState.HIGH;
 
     /**
@@ -51,6 +53,16 @@ public class DefaultDigitalInputConfig
             this.debounce = Long.parseLong(properties.get(DEBOUNCE_RESISTANCE_KEY));
         }
 
+        // load optional edge-event buffer size from properties
+        if (properties.containsKey(EVENT_BUFFER_SIZE_KEY)) {
+            this.eventBufferSize = Integer.parseInt(properties.get(EVENT_BUFFER_SIZE_KEY));
+        }
+
+        // load optional state cache flag from properties
+        if (properties.containsKey(CACHE_STATE_KEY)) {
+            this.cacheState = Boolean.parseBoolean(properties.get(CACHE_STATE_KEY));
+        }
+
         // load on-state value property
         if (properties.containsKey(ON_STATE_KEY)) {
             this.onState = DigitalState.parse(properties.get(ON_STATE_KEY));
@@ -93,6 +105,16 @@ public class DefaultDigitalInputConfig
         return this.debounce;
     }
 
+    @Override
+    public Integer eventBufferSize() {
+        return this.eventBufferSize;
+    }
+
+    @Override
+    public Boolean cacheState() {
+        return this.cacheState;
+    }
+
     @Override
     public DigitalState onState() {
         return this.onState;
@@ -72,4 +72,20 @@ public class DefaultDigitalInputConfigBuilder
     public DigitalInputConfigBuilder debounce(Long interval, TimeUnit units) {
         return debounce(units.toMicros(interval));
     }
+
+    @Override
+    public DigitalInputConfigBuilder eventBufferSize(Integer events) {
+        if (events != null) {
+            this.properties.put(DigitalInputConfig.EVENT_BUFFER_SIZE_KEY, events.toString());
+        }
+        return this;
+    }
+
+    @Override
+    public DigitalInputConfigBuilder cacheState(Boolean cacheState) {
+        if (cacheState != null) {
+            this.properties.put(DigitalInputConfig.CACHE_STATE_KEY, cacheState.toString());
+        }
+        return this;
+    }
 }
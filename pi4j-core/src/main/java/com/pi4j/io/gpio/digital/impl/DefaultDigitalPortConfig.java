@@ -0,0 +1,129 @@
+package com.pi4j.io.gpio.digital.impl;
+
+import com.pi4j.config.exception.ConfigException;
+import com.pi4j.config.exception.ConfigMissingRequiredKeyException;
+import com.pi4j.io.gpio.digital.DigitalPort;
+import com.pi4j.io.gpio.digital.DigitalPortConfig;
+import com.pi4j.io.gpio.digital.DigitalPortDirection;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.io.impl.IOConfigBase;
+import com.pi4j.util.StringUtil;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class DefaultDigitalPortConfig
+    extends IOConfigBase<DigitalPortConfig>
+    implements DigitalPortConfig {
+
+    // private configuration properties
+    protected Integer bus = null;
+    protected int[] bcms = new int[0];
+    protected DigitalPortDirection direction = DigitalPortDirection.INPUT;
+    protected PullResistance pullResistance = PullResistance.OFF;
+    protected Long initial = null;
+
+    /**
+     * PRIVATE CONSTRUCTOR
+     */
+    private DefaultDigitalPortConfig() {
+        super();
+    }
+
+    /**
+     * PRIVATE CONSTRUCTOR
+     */
+    protected DefaultDigitalPortConfig(Map<String, String> properties) {
+        super(properties);
+
+        // load the list of BCM pins forming the port
+        if (properties.containsKey(BCMS_KEY)) {
+            this.bcms = Arrays.stream(properties.get(BCMS_KEY).split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        }
+
+        // define default property values if any are missing (based on the required bcm values)
+        var label = "DPORT-" + Arrays.stream(this.bcms).mapToObj(String::valueOf).collect(Collectors.joining("-"));
+        this.id = StringUtil.setIfNullOrEmpty(this.id, label, true);
+        this.name = StringUtil.setIfNullOrEmpty(this.name, label, true);
+        this.description = StringUtil.setIfNullOrEmpty(this.description, label, true);
+
+        if (properties.containsKey(BUS_KEY)) {
+            this.bus = Integer.parseInt(properties.get(BUS_KEY));
+        } else {
+            // this is essential for FFM Plugin if using pi4j autoContext
+            this.bus = 0;
+        }
+
+        // load direction property
+        if (properties.containsKey(DIRECTION_KEY)) {
+            this.direction = DigitalPortDirection.parse(properties.get(DIRECTION_KEY));
+        }
+
+        // load pull resistance property
+        if (properties.containsKey(PULL_RESISTANCE_KEY)) {
+            this.pullResistance = PullResistance.parse(properties.get(PULL_RESISTANCE_KEY));
+        }
+
+        // load initial value property
+        if (properties.containsKey(INITIAL_VALUE_KEY)) {
+            this.initial = Long.decode(properties.get(INITIAL_VALUE_KEY));
+        }
+    }
+
+    @Override
+    public Integer bus() {
+        return this.bus;
+    }
+
+    @Override
+    public int[] bcms() {
+        return this.bcms.clone();
+    }
+
+    @Override
+    public DigitalPortDirection direction() {
+        return this.direction;
+    }
+
+    @Override
+    public PullResistance pull() {
+        return this.pullResistance;
+    }
+
+    @Override
+    public Long initial() {
+        return this.initial;
+    }
+
+    @Override
+    public void validate() {
+        super.validate();
+        if (this.bcms.length == 0) {
+            throw new ConfigMissingRequiredKeyException(BCMS_KEY);
+        }
+        if (this.bcms.length > DigitalPort.MAX_WIDTH) {
+            throw new ConfigException("A digital port cannot span more than " + DigitalPort.MAX_WIDTH
+                + " lines, got " + this.bcms.length);
+        }
+        if (Arrays.stream(this.bcms).distinct().count() != this.bcms.length) {
+            throw new ConfigException("A digital port cannot contain the same BCM pin twice: "
+                + Arrays.toString(this.bcms));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A port is identified by its first BCM pin; the kernel refuses to hand the same line to two requests,
+     * so two live ports can never share it.
+     */
+    @Override
+    public int getUniqueIdentifier() {
+        return this.bcms.length == 0 ? 0 : this.bcms[0];
+    }
+}
@@ -0,0 +1,62 @@
+package com.pi4j.io.gpio.digital.impl;
+
+import com.pi4j.io.gpio.digital.DigitalPortConfig;
+import com.pi4j.io.gpio.digital.DigitalPortConfigBuilder;
+import com.pi4j.io.gpio.digital.DigitalPortDirection;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.io.impl.IOConfigBuilderBase;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class DefaultDigitalPortConfigBuilder
+    extends IOConfigBuilderBase<DigitalPortConfigBuilder, DigitalPortConfig>
+    implements DigitalPortConfigBuilder {
+
+    /**
+     * PRIVATE CONSTRUCTOR
+     */
+    protected DefaultDigitalPortConfigBuilder() {
+    }
+
+    public static DigitalPortConfigBuilder newInstance() {
+        return new DefaultDigitalPortConfigBuilder();
+    }
+
+    @Override
+    public DigitalPortConfigBuilder bus(Integer bus) {
+        this.properties.put(DigitalPortConfig.BUS_KEY, String.valueOf(bus));
+        return this;
+    }
+
+    @Override
+    public DigitalPortConfigBuilder bcms(int... bcms) {
+        this.properties.put(DigitalPortConfig.BCMS_KEY,
+            Arrays.stream(bcms).mapToObj(String::valueOf).collect(Collectors.joining(",")));
+        return this;
+    }
+
+    @Override
+    public DigitalPortConfigBuilder direction(DigitalPortDirection direction) {
+        this.properties.put(DigitalPortConfig.DIRECTION_KEY, direction.getName());
+        return this;
+    }
+
+    @Override
+    public DigitalPortConfigBuilder pull(PullResistance value) {
+        this.properties.put(DigitalPortConfig.PULL_RESISTANCE_KEY, value.toString());
+        return this;
+    }
+
+    @Override
+    public DigitalPortConfigBuilder initial(long bits) {
+        this.properties.put(DigitalPortConfig.INITIAL_VALUE_KEY, String.valueOf(bits));
+        return this;
+    }
+
+    @Override
+    public DigitalPortConfig build() {
+        DigitalPortConfig config = new DefaultDigitalPortConfig(getResolvedProperties());
+        return config;
+    }
+}
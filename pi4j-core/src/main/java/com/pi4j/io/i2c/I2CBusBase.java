@@ -1,6 +1,9 @@
 package com.pi4j.io.i2c;
 
 import com.pi4j.exception.Pi4JException;
+import com.pi4j.jfr.I2CBusLockEvent;
+import com.pi4j.jfr.I2CTransferEvent;
+import com.pi4j.util.NativeCallStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,11 +27,16 @@ public abstract class I2CBusBase implements I2CBus {
     /** Time unit for {@link #DEFAULT_LOCK_ACQUIRE_TIMEOUT}. */
     public static final TimeUnit DEFAULT_LOCK_ACQUIRE_TIMEOUT_UNITS = TimeUnit.MILLISECONDS;
 
+    // errno value recorded for lock timeouts
+    private static final int ETIMEDOUT = 110;
+
     protected final int bus;
 
     protected final long lockAquireTimeout;
     protected final TimeUnit lockAquireTimeoutUnit;
     private final ReentrantLock lock = new ReentrantLock(true);
+    // name of this bus in the native call statistics
+    private final String statisticsPath;
 
     /**
      * Creates the bus base from the given device configuration, capturing the bus number and applying the default
@@ -42,17 +50,34 @@ public abstract class I2CBusBase implements I2CBus {
             throw new IllegalArgumentException("I2C bus must be specified");
 
         this.bus = config.getBus();
+        this.statisticsPath = "/dev/i2c-" + this.bus;
 
         this.lockAquireTimeout = DEFAULT_LOCK_ACQUIRE_TIMEOUT;
         this.lockAquireTimeoutUnit = DEFAULT_LOCK_ACQUIRE_TIMEOUT_UNITS;
     }
 
+    /**
+     * Runs the given action while holding this bus's exclusive lock, see {@link #_execute(I2C, int, Callable)}.
+     * The action is reported without a byte count.
+     *
+     * @param i2c    the device on whose behalf the action is performed; used for diagnostics
+     * @param action the work to perform while the bus is locked
+     * @param <R>    the result type produced by the action
+     * @return the value returned by the action
+     */
+    protected <R> R _execute(I2C i2c, Callable<R> action) {
+        return _execute(i2c, 0, action);
+    }
+
     /**
      * Runs the given action while holding this bus's exclusive lock, providing thread-safe access to the shared
      * bus. The lock is acquired immediately if free, otherwise the call waits up to the configured timeout before
-     * failing.
+     * failing. When {@link NativeCallStatistics} are enabled, the wait is recorded as call {@code "lock"} on the bus
+     * device path, a timeout counting as {@code ETIMEDOUT}. The wait and the action are also reported as
+     * {@link I2CBusLockEvent} and {@link I2CTransferEvent} to an active JFR recording.
      *
      * @param i2c    the device on whose behalf the action is performed; used for diagnostics
+     * @param bytes  number of bytes the action transfers, reported in the {@link I2CTransferEvent}
      * @param action the work to perform while the bus is locked
      * @param <R>    the result type produced by the action
      * @return the value returned by the action
@@ -60,17 +85,38 @@ public abstract class I2CBusBase implements I2CBus {
      * @throws Pi4JException        if the lock cannot be acquired within the timeout, or if the action throws
      * @throws RuntimeException     if the calling thread is interrupted while waiting for the lock
      */
-    protected <R> R _execute(I2C i2c, Callable<R> action) {
+    protected <R> R _execute(I2C i2c, int bytes, Callable<R> action) {
         if (i2c == null)
             throw new NullPointerException("Parameter 'i2c' is mandatory!");
         if (action == null)
             throw new NullPointerException("Parameter 'action' is mandatory!");
         try {
-            if (this.lock.tryLock() || this.lock.tryLock(this.lockAquireTimeout, this.lockAquireTimeoutUnit)) {
+            var start = NativeCallStatistics.start();
+            var lockEvent = new I2CBusLockEvent();
+            lockEvent.begin();
+            var locked = this.lock.tryLock() || this.lock.tryLock(this.lockAquireTimeout, this.lockAquireTimeoutUnit);
+            if (start != 0) {
+                NativeCallStatistics.record(statisticsPath, "lock", 0, start, locked ? 0 : ETIMEDOUT);
+            }
+            if (lockEvent.shouldCommit()) {
+                lockEvent.bus = this.bus;
+                lockEvent.device = i2c.device();
+                lockEvent.timedOut = !locked;
+                lockEvent.commit();
+            }
+            if (locked) {
+                var transferEvent = new I2CTransferEvent();
+                transferEvent.begin();
                 try {
                     return action.call();
                 } finally {
                     this.lock.unlock();
+                    if (transferEvent.shouldCommit()) {
+                        transferEvent.bus = this.bus;
+                        transferEvent.device = i2c.device();
+                        transferEvent.bytes = bytes;
+                        transferEvent.commit();
+                    }
                 }
             } else {
                 throw new Pi4JException(
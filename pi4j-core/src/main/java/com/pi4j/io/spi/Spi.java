@@ -7,7 +7,10 @@ import com.pi4j.io.IODataReader;
 import com.pi4j.io.IODataWriter;
 import com.pi4j.io.SerialCircuitIO;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * Represents an open SPI (Serial Peripheral Interface) device on a configured bus and channel,
@@ -45,6 +48,14 @@ public interface Spi extends IO<Spi, SpiConfig, SpiProvider>, AutoCloseable, IOD
      * Default bit order for read operations; {@code 0} shifts the LSB first.
      */
     int DEFAULT_READ_LSB_FIRST = 0;
+    /**
+     * Default word size in bits; 8-bit words map one-to-one onto bytes.
+     */
+    int DEFAULT_BITS_PER_WORD = 8;
+    /**
+     * Default number of data lines per direction ({@link SpiLanes#SINGLE}), i.e. standard SPI.
+     */
+    SpiLanes DEFAULT_LANES = SpiLanes.SINGLE;
 
     /**
      * Creates a new {@link SpiConfigBuilder} for assembling an {@link SpiConfig}.
@@ -219,6 +230,10 @@ public interface Spi extends IO<Spi, SpiConfig, SpiProvider>, AutoCloseable, IOD
      * then the specified length will be ignored and
      * this function will only read the number of
      * bytes up to the buffers' available space.
+     * <p>
+     * When both buffers are direct, the transfer is delegated to
+     * {@link #transfer(MemorySegment, MemorySegment)}. Either way the 'read' buffer is left positioned
+     * after the data read.
      *
      * @param write         the ByteBuffer to write to the SPI device
      * @param writeOffset   the starting offset position in the provided 'write' buffer to
@@ -236,6 +251,17 @@ public interface Spi extends IO<Spi, SpiConfig, SpiProvider>, AutoCloseable, IOD
             numberOfBytes = write.capacity() - writeOffset;
         }
 
+        // direct buffers are handed to the provider as native memory, without intermediate arrays
+        if (write.isDirect() && read.isDirect()) {
+            var actualLength = transfer(MemorySegment.ofBuffer(write.slice(writeOffset, numberOfBytes)),
+                MemorySegment.ofBuffer(read.slice(readOffset, numberOfBytes)));
+            // leave the read buffer positioned after the data like the array path below does
+            if (actualLength >= 0) {
+                read.position(readOffset + actualLength);
+            }
+            return actualLength;
+        }
+
         // create a temporary byte array to read in the length of data bytes
         byte[] temp = new byte[numberOfBytes];
         int actualLength = transfer(write.array(), 0, temp, 0, numberOfBytes);
@@ -352,6 +378,107 @@ public interface Spi extends IO<Spi, SpiConfig, SpiProvider>, AutoCloseable, IOD
         return length;
     }
 
+    // ------------------------------------------------------------------------------------
+    // XFER :: NATIVE MEMORY
+    // ------------------------------------------------------------------------------------
+
+    /**
+     * Transfers (writes and reads simultaneously) {@code write.byteSize()} bytes with this SPI device,
+     * storing the bytes read back at the start of {@code read}. Both segments may be the same segment
+     * for an in-place exchange.
+     * <p>
+     * Providers with native access pass native segments (e.g. from an {@link java.lang.foreign.Arena} or
+     * a direct {@link ByteBuffer}) straight to the driver, so the data is not copied on the Java side.
+     * The default implementation copies through byte arrays.
+     *
+     * @param write the bytes to write to the SPI device
+     * @param read  the segment receiving the bytes read back, at least as large as {@code write}
+     * @return the number of bytes read back, or a negative provider-specific error code on failure
+     * @throws IndexOutOfBoundsException if {@code read} is smaller than {@code write}
+     */
+    default int transfer(MemorySegment write, MemorySegment read) {
+        var length = Math.toIntExact(write.byteSize());
+        Objects.checkFromIndexSize(0, length, read.byteSize());
+        var temp = write.toArray(ValueLayout.JAVA_BYTE);
+        var actualLength = transfer(temp, 0, temp, 0, length);
+        if (actualLength > 0) {
+            MemorySegment.copy(temp, 0, read, ValueLayout.JAVA_BYTE, 0, actualLength);
+        }
+        return actualLength;
+    }
+
+    /**
+     * Transfers (writes and reads simultaneously) the whole segment with this SPI device, replacing its
+     * contents with the bytes read back.
+     *
+     * @param buffer the bytes to write to the SPI device, overwritten with the bytes read back
+     * @return the number of bytes read back, or a negative provider-specific error code on failure
+     * @see #transfer(MemorySegment, MemorySegment)
+     */
+    default int transfer(MemorySegment buffer) {
+        return transfer(buffer, buffer);
+    }
+
+    /**
+     * Writes the whole segment to this SPI device, discarding the bytes clocked in. Like
+     * {@link #transfer(MemorySegment, MemorySegment)}, native segments are not copied by providers with
+     * native access.
+     *
+     * @param data the bytes to write to the SPI device
+     * @return the number of bytes written
+     */
+    default int write(MemorySegment data) {
+        return write(data.toArray(ValueLayout.JAVA_BYTE));
+    }
+
+    /**
+     * Reads {@code buffer.byteSize()} bytes from this SPI device into the segment, clocking out zeros.
+     * Like {@link #transfer(MemorySegment, MemorySegment)}, native segments are not copied by providers
+     * with native access.
+     *
+     * @param buffer the segment receiving the bytes read
+     * @return the number of bytes read, or a negative provider-specific error code on failure
+     */
+    default int read(MemorySegment buffer) {
+        var temp = new byte[Math.toIntExact(buffer.byteSize())];
+        var actualLength = read(temp, 0, temp.length);
+        if (actualLength > 0) {
+            MemorySegment.copy(temp, 0, buffer, ValueLayout.JAVA_BYTE, 0, actualLength);
+        }
+        return actualLength;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Direct buffers are delegated to {@link #write(MemorySegment)}.
+     */
+    @Override
+    default int write(ByteBuffer buffer, int offset, int length) {
+        if (buffer.isDirect()) {
+            return write(MemorySegment.ofBuffer(buffer.slice(offset, Math.min(length, buffer.capacity() - offset))));
+        }
+        return IODataWriter.super.write(buffer, offset, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Direct buffers are delegated to {@link #read(MemorySegment)}, leaving the buffer positioned after the
+     * data read like heap buffers.
+     */
+    @Override
+    default int read(ByteBuffer buffer, int offset, int length) {
+        if (buffer.isDirect()) {
+            var actualLength = read(MemorySegment.ofBuffer(buffer.slice(offset, Math.min(length, buffer.capacity() - offset))));
+            if (actualLength >= 0) {
+                buffer.position(offset + actualLength);
+            }
+            return actualLength;
+        }
+        return IODataReader.super.read(buffer, offset, length);
+    }
+
     // --------------------
     // Disambiguation
     // ---------------------
@@ -376,6 +503,95 @@ public interface Spi extends IO<Spi, SpiConfig, SpiProvider>, AutoCloseable, IOD
         return SerialCircuitIO.super.write(data, offset, length);
     }
 
+    // ------------------------------------------------------------------------------------
+    // XFER :: WORDS
+    // ------------------------------------------------------------------------------------
+
+    /**
+     * Transfers (writes and reads simultaneously) all words of {@code write} with this SPI device, for a
+     * configured {@link SpiConfig#bitsPerWord() word size} of 9 to 16 bits. The values are right-aligned
+     * in each {@code short}.
+     *
+     * @param write the words to write to the SPI device
+     * @param read  the array receiving the words read back, at least as long as {@code write}
+     * @return the number of words transferred
+     * @throws IllegalStateException if the configured word size is not 9 to 16 bits
+     */
+    default int transfer(short[] write, short[] read) {
+        return transfer(write, 0, read, 0, write.length);
+    }
+
+    /**
+     * Transfers (writes and reads simultaneously) 16-bit words with this SPI device, for a configured
+     * {@link SpiConfig#bitsPerWord() word size} of 9 to 16 bits. The arrays are viewed as memory in native
+     * byte order, which is the word layout spidev expects, so the words are neither packed nor swapped in
+     * Java and the controller frames them in hardware.
+     *
+     * @param write         the words to write to the SPI device
+     * @param writeOffset   the index in {@code write} of the first word to send
+     * @param read          the array receiving the words read back
+     * @param readOffset    the index in {@code read} at which to store the first word received
+     * @param numberOfWords the number of words to transfer
+     * @return the number of words transferred
+     * @throws IllegalStateException if the configured word size is not 9 to 16 bits
+     */
+    default int transfer(short[] write, int writeOffset, short[] read, int readOffset, int numberOfWords) {
+        checkWordSize(9, 16, "short");
+        Objects.checkFromIndexSize(writeOffset, numberOfWords, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfWords, read.length);
+        var size = numberOfWords * ValueLayout.JAVA_SHORT.byteSize();
+        transfer(MemorySegment.ofArray(write).asSlice(writeOffset * ValueLayout.JAVA_SHORT.byteSize(), size),
+            MemorySegment.ofArray(read).asSlice(readOffset * ValueLayout.JAVA_SHORT.byteSize(), size));
+        return numberOfWords;
+    }
+
+    /**
+     * Transfers (writes and reads simultaneously) all words of {@code write} with this SPI device, for a
+     * configured {@link SpiConfig#bitsPerWord() word size} of 17 to 32 bits. The values are right-aligned
+     * in each {@code int}.
+     *
+     * @param write the words to write to the SPI device
+     * @param read  the array receiving the words read back, at least as long as {@code write}
+     * @return the number of words transferred
+     * @throws IllegalStateException if the configured word size is not 17 to 32 bits
+     */
+    default int transfer(int[] write, int[] read) {
+        return transfer(write, 0, read, 0, write.length);
+    }
+
+    /**
+     * Transfers (writes and reads simultaneously) 32-bit words with this SPI device, for a configured
+     * {@link SpiConfig#bitsPerWord() word size} of 17 to 32 bits. Like the {@code short[]} variant, the
+     * arrays are handed over in native byte order without per-word conversion.
+     *
+     * @param write         the words to write to the SPI device
+     * @param writeOffset   the index in {@code write} of the first word to send
+     * @param read          the array receiving the words read back
+     * @param readOffset    the index in {@code read} at which to store the first word received
+     * @param numberOfWords the number of words to transfer
+     * @return the number of words transferred
+     * @throws IllegalStateException if the configured word size is not 17 to 32 bits
+     */
+    default int transfer(int[] write, int writeOffset, int[] read, int readOffset, int numberOfWords) {
+        checkWordSize(17, 32, "int");
+        Objects.checkFromIndexSize(writeOffset, numberOfWords, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfWords, read.length);
+        var size = numberOfWords * ValueLayout.JAVA_INT.byteSize();
+        transfer(MemorySegment.ofArray(write).asSlice(writeOffset * ValueLayout.JAVA_INT.byteSize(), size),
+            MemorySegment.ofArray(read).asSlice(readOffset * ValueLayout.JAVA_INT.byteSize(), size));
+        return numberOfWords;
+    }
+
+    // the driver expects one short per word of 9 to 16 bits and one int per word of 17 to 32 bits, so any
+    // other word size would make it read the arrays with the wrong stride
+    private void checkWordSize(int minBits, int maxBits, String type) {
+        var bitsPerWord = config().bitsPerWord();
+        if (bitsPerWord == null || bitsPerWord < minBits || bitsPerWord > maxBits) {
+            throw new IllegalStateException(type + "[] transfers need a word size of " + minBits + " to " + maxBits
+                + " bits, " + id() + " is configured for " + bitsPerWord);
+        }
+    }
+
     // ------------------------------------------------------------------------------------
     //  writeThenRead
     // ------------------------------------------------------------------------------------
@@ -426,4 +642,32 @@ public interface Spi extends IO<Spi, SpiConfig, SpiProvider>, AutoCloseable, IOD
     default void writeThenRead(byte[] write, int writeOffset, int writeLength, int readDelayNanos, byte[] read, int readOffset, int readLength) {
         throw new IllegalStateException("writeThenRead Not supported in this provider. \n See https://www.pi4j.com/documentation/providers/");
     }
+
+    // ------------------------------------------------------------------------------------
+    //  TRANSACTIONS
+    // ------------------------------------------------------------------------------------
+
+    /**
+     * Creates an empty multi-segment transaction for this SPI device.
+     *
+     * @return a new transaction, see {@link SpiTransaction}
+     */
+    default SpiTransaction transaction() {
+        return new SpiTransaction(this);
+    }
+
+    /**
+     * Submits all segments of a transaction as one SPI message, keeping the device selected between
+     * segments unless a segment requests a chip-select change. Providers may split a transaction that
+     * exceeds the driver's transfer buffer into several messages.
+     * <p>
+     * Not all providers support this operation; the default implementation always throws.
+     *
+     * @param transaction the segments to transfer
+     * @return the total number of bytes exchanged
+     * @throws IllegalStateException if the active provider does not support transactions
+     */
+    default int transfer(SpiTransaction transaction) {
+        throw new IllegalStateException("SPI transactions Not supported in this provider. \n See https://www.pi4j.com/documentation/providers/");
+    }
 }
@@ -29,6 +29,12 @@ public interface SpiConfig extends ChannelConfig<SpiConfig>, IOConfig<SpiConfig>
     String WRITE_LSB_KEY = "write_lsb";
     /** Configuration property key for the read bit-order (LSB-first) setting. */
     String READ_LSB_KEY = "read_lsb";
+    /** Configuration property key for the word size in bits. */
+    String BITS_PER_WORD_KEY = "bits_per_word";
+    /** Configuration property key for the number of transmit data lines. */
+    String TX_LANES_KEY = "tx_lanes";
+    /** Configuration property key for the number of receive data lines. */
+    String RX_LANES_KEY = "rx_lanes";
 
     /**
      * Creates a new {@link SpiConfigBuilder}.
@@ -117,6 +123,58 @@ public interface SpiConfig extends ChannelConfig<SpiConfig>, IOConfig<SpiConfig>
         return writeLsbFirst();
     }
 
+    /**
+     * Returns the word size in bits. Words of 9 to 16 bits are exchanged as 16-bit values and words of
+     * 17 to 32 bits as 32-bit values, in native byte order, see {@link Spi#transfer(short[], short[])} and
+     * {@link Spi#transfer(int[], int[])}.
+     *
+     * @return the word size, from 1 to 32 bits
+     */
+    Integer bitsPerWord();
+
+    /**
+     * Returns the word size in bits.
+     *
+     * @return the word size, from 1 to 32 bits
+     */
+    default Integer getBitsPerWord() {
+        return bitsPerWord();
+    }
+
+    /**
+     * Returns the number of data lines used for writing. Providers enable the matching mode of the
+     * controller and use it for every transfer unless a {@link SpiTransaction} segment overrides it.
+     *
+     * @return the transmit lanes, {@link SpiLanes#SINGLE} for standard SPI
+     */
+    SpiLanes txLanes();
+
+    /**
+     * Returns the number of data lines used for writing.
+     *
+     * @return the transmit lanes, {@link SpiLanes#SINGLE} for standard SPI
+     */
+    default SpiLanes getTxLanes() {
+        return txLanes();
+    }
+
+    /**
+     * Returns the number of data lines used for reading. Providers enable the matching mode of the
+     * controller and use it for every transfer unless a {@link SpiTransaction} segment overrides it.
+     *
+     * @return the receive lanes, {@link SpiLanes#SINGLE} for standard SPI
+     */
+    SpiLanes rxLanes();
+
+    /**
+     * Returns the number of data lines used for reading.
+     *
+     * @return the receive lanes, {@link SpiLanes#SINGLE} for standard SPI
+     */
+    default SpiLanes getRxLanes() {
+        return rxLanes();
+    }
+
     /**
      * Returns the configured SPI bus this device communicates over.
      *
@@ -48,6 +48,34 @@ public interface SpiConfigBuilder extends
      */
     SpiConfigBuilder writeLsbFirst(Integer shift);
 
+    /**
+     * Sets the word size, e.g. 16 for 16-bit DACs or 12 for 12-bit ADCs. The controller frames each word
+     * in hardware if it supports the size.
+     *
+     * @param bitsPerWord the word size in bits, from 1 to 32
+     * @return this builder instance for method chaining
+     * @throws IllegalArgumentException if the word size is out of range
+     */
+    SpiConfigBuilder bitsPerWord(Integer bitsPerWord);
+
+    /**
+     * Sets the number of data lines used for writing, e.g. {@link SpiLanes#QUAD} for quad SPI flash.
+     * Initialization fails if the controller does not support it.
+     *
+     * @param lanes the transmit lanes
+     * @return this builder instance for method chaining
+     */
+    SpiConfigBuilder txLanes(SpiLanes lanes);
+
+    /**
+     * Sets the number of data lines used for reading, e.g. {@link SpiLanes#QUAD} for quad SPI flash.
+     * Initialization fails if the controller does not support it.
+     *
+     * @param lanes the receive lanes
+     * @return this builder instance for method chaining
+     */
+    SpiConfigBuilder rxLanes(SpiLanes lanes);
+
 
     /**
      * Sets the SPI clock (baud) rate.
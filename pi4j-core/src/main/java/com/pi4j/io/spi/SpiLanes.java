@@ -0,0 +1,63 @@
+package com.pi4j.io.spi;
+
+/**
+ * Defines the number of data lines used in one direction of an SPI transfer. Standard SPI shifts one bit
+ * per clock on MOSI or MISO; dual, quad and octal SPI use 2, 4 or 8 lines, as supported by many flash
+ * memories and displays. Multi-lane transfers are half-duplex: a transfer either writes or reads.
+ */
+public enum SpiLanes {
+    /** One data line per direction (standard SPI). */
+    SINGLE(1),
+    /** Two data lines. */
+    DUAL(2),
+    /** Four data lines. */
+    QUAD(4),
+    /** Eight data lines. */
+    OCTAL(8);
+
+    private final int lanes;
+
+    private SpiLanes(int lanes) {
+        this.lanes = lanes;
+    }
+
+    /**
+     * Returns the number of data lines represented by this constant, as used by the {@code tx_nbits} and
+     * {@code rx_nbits} fields of a Linux {@code spi_ioc_transfer}.
+     *
+     * @return the number of data lines (1, 2, 4 or 8)
+     */
+    public int getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Returns the {@code SpiLanes} constant matching the given number of data lines.
+     *
+     * @param lanes the number of data lines to look up
+     * @return the matching {@code SpiLanes}, or {@code null} if no constant has that number
+     */
+    public static SpiLanes getByNumber(int lanes) {
+        for (var item : SpiLanes.values()) {
+            if (item.getLanes() == lanes) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a textual number of data lines or a constant name into the corresponding {@code SpiLanes}.
+     *
+     * @param lanes the number of data lines ("1", "2", "4" or "8") or the name, e.g. "quad"
+     * @return the matching {@code SpiLanes}, or {@link Spi#DEFAULT_LANES} if the value is not recognized
+     */
+    public static SpiLanes parse(String lanes) {
+        for (var item : SpiLanes.values()) {
+            if (item.name().equalsIgnoreCase(lanes) || Integer.toString(item.getLanes()).equals(lanes)) {
+                return item;
+            }
+        }
+        return Spi.DEFAULT_LANES;
+    }
+}
@@ -0,0 +1,304 @@
+package com.pi4j.io.spi;
+
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sequence of SPI transfer segments submitted to the device as one message, e.g. command, pause, data,
+ * chip-select toggle, next command. Each segment has its own transmit and receive buffers and mirrors one
+ * {@code struct spi_ioc_transfer} of the Linux spidev driver: the settings methods ({@link #delayUsecs(int)},
+ * {@link #csChange()}, {@link #speedHz(int)}, {@link #bitsPerWord(int)}, {@link #wordDelayUsecs(int)},
+ * {@link #txLanes(SpiLanes)} and {@link #rxLanes(SpiLanes)}) apply to the most recently added segment.
+ * <pre>{@code
+ * var transaction = spi.transaction()
+ *     .write(command).delayUsecs(10)
+ *     .read(status).csChange()
+ *     .write(nextCommand);
+ * transaction.execute();
+ * }</pre>
+ * The buffers are referenced, not copied, so a transaction can be built once and executed again after
+ * refilling them, e.g. once per display frame. Native segments (from an {@link java.lang.foreign.Arena}
+ * or a direct buffer) are handed to the driver without copying by providers with native access.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @see Spi#transfer(SpiTransaction)
+ */
+public final class SpiTransaction {
+
+    private final Spi spi;
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Creates an empty transaction for the given SPI device.
+     *
+     * @param spi the device the transaction is executed on
+     */
+    public SpiTransaction(Spi spi) {
+        this.spi = Objects.requireNonNull(spi, "spi");
+    }
+
+    /**
+     * Adds a segment clocking out the whole array and discarding the bytes clocked in.
+     *
+     * @param data the bytes to write
+     * @return this transaction
+     */
+    public SpiTransaction write(byte[] data) {
+        return write(data, 0, data.length);
+    }
+
+    /**
+     * Adds a segment clocking out part of an array and discarding the bytes clocked in.
+     *
+     * @param data   the bytes to write
+     * @param offset the index of the first byte to write
+     * @param length the number of bytes to write
+     * @return this transaction
+     */
+    public SpiTransaction write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        return add(MemorySegment.ofArray(data).asSlice(offset, length), null, length);
+    }
+
+    /**
+     * Adds a segment clocking out the whole segment and discarding the bytes clocked in.
+     *
+     * @param data the bytes to write
+     * @return this transaction
+     */
+    public SpiTransaction write(MemorySegment data) {
+        return add(data, null, Math.toIntExact(data.byteSize()));
+    }
+
+    /**
+     * Adds a segment filling the whole array with the bytes clocked in, clocking out zeros.
+     *
+     * @param buffer the array receiving the bytes read
+     * @return this transaction
+     */
+    public SpiTransaction read(byte[] buffer) {
+        return read(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Adds a segment filling part of an array with the bytes clocked in, clocking out zeros.
+     *
+     * @param buffer the array receiving the bytes read
+     * @param offset the index at which to store the first byte read
+     * @param length the number of bytes to read
+     * @return this transaction
+     */
+    public SpiTransaction read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        return add(null, MemorySegment.ofArray(buffer).asSlice(offset, length), length);
+    }
+
+    /**
+     * Adds a segment filling the whole segment with the bytes clocked in, clocking out zeros.
+     *
+     * @param buffer the segment receiving the bytes read
+     * @return this transaction
+     */
+    public SpiTransaction read(MemorySegment buffer) {
+        return add(null, buffer, Math.toIntExact(buffer.byteSize()));
+    }
+
+    /**
+     * Adds a full-duplex segment clocking out {@code write} while storing the bytes clocked in at the
+     * start of {@code read}.
+     *
+     * @param write the bytes to write
+     * @param read  the array receiving the bytes read, at least as long as {@code write}
+     * @return this transaction
+     */
+    public SpiTransaction transfer(byte[] write, byte[] read) {
+        Objects.checkFromIndexSize(0, write.length, read.length);
+        return add(MemorySegment.ofArray(write), MemorySegment.ofArray(read).asSlice(0, write.length), write.length);
+    }
+
+    /**
+     * Adds a full-duplex segment clocking out {@code write} while storing the bytes clocked in at the
+     * start of {@code read}. Both may be the same segment for an in-place exchange.
+     *
+     * @param write the bytes to write
+     * @param read  the segment receiving the bytes read, at least as large as {@code write}
+     * @return this transaction
+     */
+    public SpiTransaction transfer(MemorySegment write, MemorySegment read) {
+        Objects.checkFromIndexSize(0, write.byteSize(), read.byteSize());
+        return add(write, read.asSlice(0, write.byteSize()), Math.toIntExact(write.byteSize()));
+    }
+
+    /**
+     * Sets the delay after the last added segment, before the next segment starts or, if
+     * {@link #csChange()} is set, before the device is deselected ({@code delay_usecs}).
+     *
+     * @param delayUsecs the delay in microseconds, from 0 to 65535
+     * @return this transaction
+     * @throws IllegalArgumentException if the delay is out of range
+     */
+    public SpiTransaction delayUsecs(int delayUsecs) {
+        checkRange("delayUsecs", delayUsecs, 0xFFFF);
+        var last = last();
+        return replaceLast(new Segment(last.write(), last.read(), last.length(), last.speedHz(), delayUsecs,
+            last.bitsPerWord(), last.csChange(), last.wordDelayUsecs(), last.txNbits(), last.rxNbits()));
+    }
+
+    /**
+     * Deselects the device after the last added segment, before the next one starts ({@code cs_change}).
+     * On the final segment of a transaction the kernel does the opposite and keeps the device selected
+     * after the message, which some devices use to chain transactions.
+     *
+     * @return this transaction
+     */
+    public SpiTransaction csChange() {
+        var last = last();
+        return replaceLast(new Segment(last.write(), last.read(), last.length(), last.speedHz(), last.delayUsecs(),
+            last.bitsPerWord(), true, last.wordDelayUsecs(), last.txNbits(), last.rxNbits()));
+    }
+
+    /**
+     * Overrides the clock speed of the last added segment ({@code speed_hz}).
+     *
+     * @param speedHz the clock speed in Hz, {@code 0} for the configured baud rate
+     * @return this transaction
+     * @throws IllegalArgumentException if the speed is negative
+     */
+    public SpiTransaction speedHz(int speedHz) {
+        checkRange("speedHz", speedHz, Integer.MAX_VALUE);
+        var last = last();
+        return replaceLast(new Segment(last.write(), last.read(), last.length(), speedHz, last.delayUsecs(),
+            last.bitsPerWord(), last.csChange(), last.wordDelayUsecs(), last.txNbits(), last.rxNbits()));
+    }
+
+    /**
+     * Overrides the word size of the last added segment ({@code bits_per_word}).
+     *
+     * @param bitsPerWord the word size in bits, {@code 0} for the configured word size
+     * @return this transaction
+     * @throws IllegalArgumentException if the word size is out of range
+     */
+    public SpiTransaction bitsPerWord(int bitsPerWord) {
+        checkRange("bitsPerWord", bitsPerWord, 32);
+        var last = last();
+        return replaceLast(new Segment(last.write(), last.read(), last.length(), last.speedHz(), last.delayUsecs(),
+            bitsPerWord, last.csChange(), last.wordDelayUsecs(), last.txNbits(), last.rxNbits()));
+    }
+
+    /**
+     * Sets the delay between the words of the last added segment ({@code word_delay_usecs}).
+     *
+     * @param wordDelayUsecs the delay in microseconds, from 0 to 255
+     * @return this transaction
+     * @throws IllegalArgumentException if the delay is out of range
+     */
+    public SpiTransaction wordDelayUsecs(int wordDelayUsecs) {
+        checkRange("wordDelayUsecs", wordDelayUsecs, 0xFF);
+        var last = last();
+        return replaceLast(new Segment(last.write(), last.read(), last.length(), last.speedHz(), last.delayUsecs(),
+            last.bitsPerWord(), last.csChange(), wordDelayUsecs, last.txNbits(), last.rxNbits()));
+    }
+
+    /**
+     * Overrides the number of data lines the last added segment is written with ({@code tx_nbits}), e.g.
+     * {@link SpiLanes#SINGLE} for the command and address of a quad SPI flash configured for
+     * {@link SpiLanes#QUAD}. The controller must support the lanes.
+     *
+     * @param lanes the transmit lanes
+     * @return this transaction
+     */
+    public SpiTransaction txLanes(SpiLanes lanes) {
+        var last = last();
+        return replaceLast(new Segment(last.write(), last.read(), last.length(), last.speedHz(), last.delayUsecs(),
+            last.bitsPerWord(), last.csChange(), last.wordDelayUsecs(), lanes.getLanes(), last.rxNbits()));
+    }
+
+    /**
+     * Overrides the number of data lines the last added segment is read with ({@code rx_nbits}). The
+     * controller must support the lanes.
+     *
+     * @param lanes the receive lanes
+     * @return this transaction
+     */
+    public SpiTransaction rxLanes(SpiLanes lanes) {
+        var last = last();
+        return replaceLast(new Segment(last.write(), last.read(), last.length(), last.speedHz(), last.delayUsecs(),
+            last.bitsPerWord(), last.csChange(), last.wordDelayUsecs(), last.txNbits(), lanes.getLanes()));
+    }
+
+    /**
+     * Returns the segments added so far, in execution order.
+     *
+     * @return an unmodifiable view of the segments
+     */
+    public List<Segment> segments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Returns the total number of bytes exchanged by the transaction.
+     *
+     * @return the sum of the segment lengths
+     */
+    public int length() {
+        var length = 0;
+        for (var segment : segments) {
+            length += segment.length();
+        }
+        return length;
+    }
+
+    /**
+     * Submits the transaction to the device, see {@link Spi#transfer(SpiTransaction)}.
+     *
+     * @return the total number of bytes exchanged
+     */
+    public int execute() {
+        return spi.transfer(this);
+    }
+
+    private SpiTransaction add(MemorySegment write, MemorySegment read, int length) {
+        segments.add(new Segment(write, read, length, 0, 0, 0, false, 0, 0, 0));
+        return this;
+    }
+
+    private Segment last() {
+        if (segments.isEmpty()) {
+            throw new IllegalStateException("Add a segment before configuring it");
+        }
+        return segments.getLast();
+    }
+
+    private SpiTransaction replaceLast(Segment segment) {
+        segments.set(segments.size() - 1, segment);
+        return this;
+    }
+
+    private static void checkRange(String name, int value, int max) {
+        if (value < 0 || value > max) {
+            throw new IllegalArgumentException(name + " must be between 0 and " + max + ", was " + value);
+        }
+    }
+
+    /**
+     * One transfer of a transaction, the equivalent of a {@code struct spi_ioc_transfer}.
+     *
+     * @param write          the bytes to clock out, or {@code null} to clock out zeros
+     * @param read           the memory receiving the bytes clocked in, or {@code null} to discard them
+     * @param length         the number of bytes exchanged
+     * @param speedHz        the clock speed in Hz, {@code 0} for the configured baud rate
+     * @param delayUsecs     the delay in microseconds after the segment
+     * @param bitsPerWord    the word size in bits, {@code 0} for the configured word size
+     * @param csChange       {@code true} to deselect the device after the segment
+     * @param wordDelayUsecs the delay in microseconds between words
+     * @param txNbits        the number of transmit data lines, {@code 0} for the configured lanes
+     * @param rxNbits        the number of receive data lines, {@code 0} for the configured lanes
+     */
+    public record Segment(MemorySegment write, MemorySegment read, int length, int speedHz, int delayUsecs,
+                          int bitsPerWord, boolean csChange, int wordDelayUsecs, int txNbits, int rxNbits) {
+    }
+}
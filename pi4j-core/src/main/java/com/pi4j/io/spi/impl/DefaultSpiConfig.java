@@ -1,5 +1,6 @@
 package com.pi4j.io.spi.impl;
 
+import com.pi4j.config.exception.ConfigException;
 import com.pi4j.io.impl.IOConfigBase;
 import com.pi4j.io.spi.*;
 import com.pi4j.util.StringUtil;
@@ -20,6 +21,9 @@ public class DefaultSpiConfig
     protected final Long flags;
     protected final int readLsbFirst;
     protected final int writeLsbFirst;
+    protected final Integer bitsPerWord;
+    protected final SpiLanes txLanes;
+    protected final SpiLanes rxLanes;
     protected boolean readLsbFirstUserProvided;
     protected boolean writeLsbFirstUserProvided;
 
@@ -66,6 +70,28 @@ public class DefaultSpiConfig
             this.readLsbFirst = 0;
             this.readLsbFirstUserProvided = false;
         }
+        // load optional word size from properties
+        if (properties.containsKey(BITS_PER_WORD_KEY)) {
+            this.bitsPerWord = StringUtil.parseInteger(properties.get(BITS_PER_WORD_KEY), Spi.DEFAULT_BITS_PER_WORD);
+            if (this.bitsPerWord < 1 || this.bitsPerWord > 32) {
+                throw new ConfigException("SPI word size must be between 1 and 32 bits, got " + this.bitsPerWord);
+            }
+        } else {
+            this.bitsPerWord = Spi.DEFAULT_BITS_PER_WORD;
+        }
+
+        // load optional data lines from properties
+        if (properties.containsKey(TX_LANES_KEY)) {
+            this.txLanes = SpiLanes.parse(properties.get(TX_LANES_KEY));
+        } else {
+            this.txLanes = Spi.DEFAULT_LANES;
+        }
+        if (properties.containsKey(RX_LANES_KEY)) {
+            this.rxLanes = SpiLanes.parse(properties.get(RX_LANES_KEY));
+        } else {
+            this.rxLanes = Spi.DEFAULT_LANES;
+        }
+
         // load optional MODE from properties
         if (properties.containsKey(MODE_KEY)) {
             this.mode = SpiMode.parse(properties.get(MODE_KEY));
@@ -113,6 +139,21 @@ public class DefaultSpiConfig
         return this.writeLsbFirst;
     }
 
+    @Override
+    public Integer bitsPerWord() {
+        return this.bitsPerWord;
+    }
+
+    @Override
+    public SpiLanes txLanes() {
+        return this.txLanes;
+    }
+
+    @Override
+    public SpiLanes rxLanes() {
+        return this.rxLanes;
+    }
+
     @Override
     public boolean busUserProvided() {
         return this.busUserProvided;
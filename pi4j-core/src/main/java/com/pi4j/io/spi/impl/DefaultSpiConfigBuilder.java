@@ -39,6 +39,27 @@ public class DefaultSpiConfigBuilder
         return this;
     }
 
+    @Override
+    public SpiConfigBuilder bitsPerWord(Integer bitsPerWord) {
+        if (bitsPerWord < 1 || bitsPerWord > 32) {
+            throw new IllegalArgumentException("bitsPerWord must be between 1 and 32, was " + bitsPerWord);
+        }
+        this.properties.put(SpiConfig.BITS_PER_WORD_KEY, bitsPerWord.toString());
+        return this;
+    }
+
+    @Override
+    public SpiConfigBuilder txLanes(SpiLanes lanes) {
+        this.properties.put(SpiConfig.TX_LANES_KEY, Integer.toString(lanes.getLanes()));
+        return this;
+    }
+
+    @Override
+    public SpiConfigBuilder rxLanes(SpiLanes lanes) {
+        this.properties.put(SpiConfig.RX_LANES_KEY, Integer.toString(lanes.getLanes()));
+        return this;
+    }
+
     /**
      * @deprecated use {@link #bus(Integer)} instead.
      * <p>
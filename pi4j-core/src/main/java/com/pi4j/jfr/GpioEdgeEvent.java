@@ -0,0 +1,46 @@
+package com.pi4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one GPIO edge handed from the kernel to the listeners of a digital input. The event
+ * duration covers the dispatch to the listeners; {@link #captureLatency} is the time between the kernel
+ * timestamp of the edge and the start of that dispatch.
+ * <p>
+ * Like all events in this package it is disabled by default. Providers create it, call {@code begin()}
+ * and only fill in its fields once {@code shouldCommit()} returns {@code true}, so a disabled event costs
+ * neither an allocation nor a timestamp once the JIT has removed the unused object.
+ */
+@Name("com.pi4j.GpioEdge")
+@Label("GPIO Edge")
+@Category({"Pi4J", "GPIO"})
+@Description("GPIO edge read from the kernel and dispatched to listeners")
+@StackTrace(false)
+public final class GpioEdgeEvent extends jdk.jfr.Event {
+
+    /** Id of the digital input. */
+    @Label("Device")
+    public String device;
+
+    /** GPIO line offset (BCM number). */
+    @Label("Line")
+    public int line;
+
+    /** {@code true} for a rising edge, {@code false} for a falling edge. */
+    @Label("Rising")
+    public boolean rising;
+
+    /** Delay between the kernel edge timestamp and the start of the dispatch. */
+    @Label("Capture Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    public long captureLatency;
+
+    /** Edges the kernel discarded on this line right before this one. */
+    @Label("Dropped Edges")
+    public long droppedEvents;
+}
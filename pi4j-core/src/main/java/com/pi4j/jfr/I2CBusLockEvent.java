@@ -0,0 +1,29 @@
+package com.pi4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the wait of a thread on the lock that serializes access to an I2C bus. Long waits point
+ * at devices of several threads competing for one bus.
+ */
+@Name("com.pi4j.I2CBusLock")
+@Label("I2C Bus Lock Wait")
+@Category({"Pi4J", "I2C"})
+@Description("Time spent waiting for the I2C bus lock")
+public final class I2CBusLockEvent extends jdk.jfr.Event {
+
+    /** I2C bus number. */
+    @Label("Bus")
+    public int bus;
+
+    /** 7-bit address of the device the lock was requested for. */
+    @Label("Device Address")
+    public int device;
+
+    /** {@code true} if the lock could not be acquired before the timeout. */
+    @Label("Timed Out")
+    public boolean timedOut;
+}
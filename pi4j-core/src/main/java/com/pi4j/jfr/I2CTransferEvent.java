@@ -0,0 +1,33 @@
+package com.pi4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one I2C operation while the bus lock is held. The wait for the lock itself is reported
+ * separately by {@link I2CBusLockEvent}.
+ */
+@Name("com.pi4j.I2CTransfer")
+@Label("I2C Transfer")
+@Category({"Pi4J", "I2C"})
+@Description("I2C operation executed while holding the bus lock")
+@StackTrace(false)
+public final class I2CTransferEvent extends jdk.jfr.Event {
+
+    /** I2C bus number. */
+    @Label("Bus")
+    public int bus;
+
+    /** 7-bit device address. */
+    @Label("Device Address")
+    public int device;
+
+    /** Payload bytes transferred, register bytes included; {@code 0} if the provider did not report it. */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
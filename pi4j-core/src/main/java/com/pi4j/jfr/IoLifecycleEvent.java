@@ -0,0 +1,33 @@
+package com.pi4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for registering an I/O instance with a context (which initializes it) or shutting it down.
+ * The event duration is the time the provider took for the step.
+ */
+@Name("com.pi4j.IoLifecycle")
+@Label("I/O Lifecycle")
+@Category({"Pi4J", "I/O"})
+@Description("I/O instance initialized and registered, or shut down")
+public final class IoLifecycleEvent extends jdk.jfr.Event {
+
+    /** Action name: {@code "register"} or {@code "shutdown"}. */
+    @Label("Action")
+    public String action;
+
+    /** Id of the I/O instance. */
+    @Label("Id")
+    public String id;
+
+    /** I/O type, e.g. {@code DIGITAL_INPUT}. */
+    @Label("Type")
+    public String type;
+
+    /** {@code true} if the step failed with an exception. */
+    @Label("Failed")
+    public boolean failed;
+}
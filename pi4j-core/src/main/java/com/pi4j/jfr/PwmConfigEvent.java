@@ -0,0 +1,37 @@
+package com.pi4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Frequency;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+
+/**
+ * JFR event for applying a PWM configuration to the hardware, e.g. when a PWM is switched on with a new
+ * frequency and duty cycle or switched off.
+ */
+@Name("com.pi4j.PwmConfig")
+@Label("PWM Reconfiguration")
+@Category({"Pi4J", "PWM"})
+@Description("PWM frequency, duty cycle or enable state written to the hardware")
+public final class PwmConfigEvent extends jdk.jfr.Event {
+
+    /** Id of the PWM instance. */
+    @Label("Device")
+    public String device;
+
+    /** Frequency in Hz. */
+    @Label("Frequency")
+    @Frequency
+    public double frequency;
+
+    /** Duty cycle, from {@code 0.0} to {@code 1.0}. */
+    @Label("Duty Cycle")
+    @Percentage
+    public double dutyCycle;
+
+    /** {@code true} if the PWM output is enabled after the change. */
+    @Label("Enabled")
+    public boolean enabled;
+}
@@ -0,0 +1,34 @@
+package com.pi4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one SPI transfer, from the first byte handed to the driver until the last byte read
+ * back, including any split into {@code bufsiz}-sized chunks.
+ */
+@Name("com.pi4j.SpiTransfer")
+@Label("SPI Transfer")
+@Category({"Pi4J", "SPI"})
+@Description("Data exchanged with an SPI device")
+@StackTrace(false)
+public final class SpiTransferEvent extends jdk.jfr.Event {
+
+    /** Device path, e.g. {@code /dev/spidev0.0}. */
+    @Label("Device")
+    public String device;
+
+    /** Bytes clocked out to the device. */
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+
+    /** Bytes clocked in from the device. */
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytesRead;
+}
@@ -5,6 +5,7 @@ import com.pi4j.common.Descriptor;
 import com.pi4j.io.IOType;
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalPortProvider;
 import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.io.pwm.PwmProvider;
 import com.pi4j.io.spi.SpiProvider;
@@ -20,7 +21,7 @@ import java.util.Map;
  * Registry of all {@link Provider} instances known to a Pi4J {@link com.pi4j.context.Context}.
  * It provides lookup of providers by id, by provider class, and by {@link IOType}, together with
  * type-scoped convenience views via {@link ProviderGroup} for each supported I/O category
- * (digital input/output, PWM, SPI and I2C).
+ * (digital input/output/port, PWM, SPI and I2C).
  *
  * @see <a href="http://www.pi4j.com/">http://www.pi4j.com/</a>
  */
@@ -40,6 +41,13 @@ public interface Providers extends Describable {
      */
     ProviderGroup<DigitalOutputProvider> digitalOutput();
 
+    /**
+     * Returns the group of registered digital-port providers.
+     *
+     * @return a type-scoped view of the {@link DigitalPortProvider} instances
+     */
+    ProviderGroup<DigitalPortProvider> digitalPort();
+
     /**
      * Returns the group of registered PWM providers.
      *
@@ -271,6 +279,16 @@ public interface Providers extends Describable {
         return digitalOutput();
     }
 
+    /**
+     * Returns the group of registered digital-port providers.
+     *
+     * @return a type-scoped view of the {@link DigitalPortProvider} instances
+     * @see #digitalPort()
+     */
+    default ProviderGroup<DigitalPortProvider> getDigitalPortProviders() {
+        return digitalPort();
+    }
+
     /**
      * Returns the group of registered PWM providers.
      *
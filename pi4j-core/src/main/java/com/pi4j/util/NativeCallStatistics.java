@@ -0,0 +1,266 @@
+package com.pi4j.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters and latency histograms of the native calls made by providers (such as
+ * {@code ioctl}, {@code read} or {@code poll}), keyed by device path, call name and request code. It
+ * shows whether the time of a missed deadline went into the kernel, into bus lock waits or into
+ * application code.
+ * <p>
+ * Recording is disabled by default and switched on through
+ * {@link com.pi4j.context.ContextBuilder#enableNativeCallStatistics()}. While disabled, instrumented call
+ * sites only read one flag: {@link #start()} returns {@code 0} and they skip {@link #record} entirely, so
+ * there is no allocation and no timestamp. Device paths are learned from {@link #opened(int, String)}, so
+ * descriptors opened before recording was enabled are reported as {@code fd:<number>}.
+ * <p>
+ * Latencies are kept in {@link #HISTOGRAM_BUCKETS} power-of-two buckets: bucket {@code i} counts calls
+ * that took {@code [2^i, 2^(i+1))} nanoseconds.
+ *
+ * @see com.pi4j.context.Context#nativeCallStatistics()
+ */
+public final class NativeCallStatistics {
+
+    /** Number of power-of-two latency buckets, the last one also holds every longer call. */
+    public static final int HISTOGRAM_BUCKETS = 40;
+
+    private static final NativeCallStatistics INSTANCE = new NativeCallStatistics();
+
+    private static volatile boolean enabled = false;
+
+    private final Map<Integer, String> paths = new ConcurrentHashMap<>();
+    private final Map<Key, Recorder> recorders = new ConcurrentHashMap<>();
+
+    private NativeCallStatistics() {
+        // singleton, native calls are process-wide
+    }
+
+    /**
+     * Returns the process-wide statistics.
+     *
+     * @return the native call statistics
+     */
+    public static NativeCallStatistics instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Indicates whether native calls are being recorded.
+     *
+     * @return {@code true} if recording is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing a native call. Call sites pass the result to {@link #record} only when it is not
+     * {@code 0}.
+     *
+     * @return the current {@link System#nanoTime()}, or {@code 0} if recording is disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Remembers the device path of a newly opened file descriptor, so its calls are reported by path.
+     * Does nothing while recording is disabled.
+     *
+     * @param fd   the file descriptor returned by {@code open}
+     * @param path the path it was opened from
+     */
+    public static void opened(int fd, String path) {
+        if (enabled && fd >= 0) {
+            INSTANCE.paths.put(fd, path);
+        }
+    }
+
+    /**
+     * Forgets the device path of a closed file descriptor. Does nothing while recording is disabled.
+     *
+     * @param fd the closed file descriptor
+     */
+    public static void closed(int fd) {
+        if (enabled) {
+            INSTANCE.paths.remove(fd);
+        }
+    }
+
+    /**
+     * Records one native call on a file descriptor.
+     *
+     * @param fd         the file descriptor the call targeted, or a negative value if none
+     * @param call       native function name, e.g. {@code "ioctl"}
+     * @param request    request or command code, {@code 0} if the call has none
+     * @param startNanos the value returned by {@link #start()} before the call
+     * @param errno      the {@code errno} of a failed call, {@code 0} on success
+     */
+    public static void record(int fd, String call, long request, long startNanos, int errno) {
+        var path = fd < 0 ? "" : INSTANCE.paths.get(fd);
+        record(path != null ? path : "fd:" + fd, call, request, startNanos, errno);
+    }
+
+    /**
+     * Records one native call, or a wait such as a bus lock acquisition, on a device path.
+     *
+     * @param path       device path, or another stable name of the resource
+     * @param call       native function or operation name
+     * @param request    request or command code, {@code 0} if the call has none
+     * @param startNanos the value returned by {@link #start()} before the call
+     * @param errno      the {@code errno} of a failed call, {@code 0} on success
+     */
+    public static void record(String path, String call, long request, long startNanos, int errno) {
+        var elapsed = System.nanoTime() - startNanos;
+        INSTANCE.recorders.computeIfAbsent(new Key(path, call, request), _ -> new Recorder()).add(elapsed, errno);
+    }
+
+    /**
+     * Starts recording native calls.
+     */
+    public void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops recording native calls. Already recorded statistics are kept until {@link #reset()}.
+     */
+    public void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Discards all recorded statistics. Known descriptor paths are kept.
+     */
+    public void reset() {
+        recorders.clear();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of every recorded call, sorted by device path, call name and
+     * request code.
+     *
+     * @return the recorded calls, empty if nothing was recorded
+     */
+    public List<CallStats> calls() {
+        var result = new ArrayList<CallStats>(recorders.size());
+        recorders.forEach((key, recorder) -> result.add(recorder.snapshot(key)));
+        result.sort((a, b) -> {
+            var byPath = a.path().compareTo(b.path());
+            if (byPath != 0) {
+                return byPath;
+            }
+            var byCall = a.call().compareTo(b.call());
+            return byCall != 0 ? byCall : Long.compare(a.request(), b.request());
+        });
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of one call.
+     *
+     * @param path    device path the call targeted
+     * @param call    native function name
+     * @param request request or command code, {@code 0} if the call has none
+     * @return the statistics, or an empty optional if no such call was recorded
+     */
+    public Optional<CallStats> call(String path, String call, long request) {
+        var key = new Key(path, call, request);
+        return Optional.ofNullable(recorders.get(key)).map(recorder -> recorder.snapshot(key));
+    }
+
+    /**
+     * Immutable statistics of one native call kind.
+     *
+     * @param path       device path the call targeted
+     * @param call       native function name
+     * @param request    request or command code, {@code 0} if the call has none
+     * @param count      number of calls
+     * @param totalNanos sum of the call durations in nanoseconds
+     * @param maxNanos   longest call duration in nanoseconds
+     * @param errors     number of failed calls by {@code errno}
+     * @param histogram  number of calls per power-of-two latency bucket
+     */
+    public record CallStats(String path, String call, long request, long count, long totalNanos, long maxNanos,
+                            Map<Integer, Long> errors, long[] histogram) {
+
+        /**
+         * Returns the number of failed calls.
+         *
+         * @return the number of calls that reported an {@code errno}
+         */
+        public long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * Returns the mean call duration.
+         *
+         * @return the mean duration in nanoseconds, {@code 0} if there were no calls
+         */
+        public long meanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * Returns an upper bound of the call duration below which the given share of calls completed,
+         * at the resolution of the histogram buckets.
+         *
+         * @param quantile share of calls, from {@code 0.0} to {@code 1.0}
+         * @return the upper bound of the matching bucket in nanoseconds, at most {@link #maxNanos()}
+         */
+        public long percentileNanos(double quantile) {
+            var target = (long) Math.ceil(quantile * count);
+            var seen = 0L;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= target && seen > 0) {
+                    return Math.min(maxNanos, (1L << (i + 1)) - 1);
+                }
+            }
+            return maxNanos;
+        }
+    }
+
+    private record Key(String path, String call, long request) {
+    }
+
+    private static final class Recorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+        private final Map<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+
+        private void add(long elapsedNanos, int errno) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            var bucket = 63 - Long.numberOfLeadingZeros(Math.max(1, elapsedNanos));
+            histogram.incrementAndGet(Math.min(bucket, HISTOGRAM_BUCKETS - 1));
+            if (errno != 0) {
+                errors.computeIfAbsent(errno, _ -> new LongAdder()).increment();
+            }
+        }
+
+        private CallStats snapshot(Key key) {
+            var buckets = new long[HISTOGRAM_BUCKETS];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            var errorCounts = new HashMap<Integer, Long>();
+            errors.forEach((errno, adder) -> errorCounts.put(errno, adder.sum()));
+            return new CallStats(key.path(), key.call(), key.request(), count.sum(), totalNanos.sum(),
+                maxNanos.get(), Collections.unmodifiableMap(errorCounts), buckets);
+        }
+    }
+}
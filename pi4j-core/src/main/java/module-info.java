@@ -8,6 +8,11 @@ module com.pi4j {
     // depends on SLF4J
     requires org.slf4j;
 
+    // depends on JFR for the flight recorder events; not transitive, so applications that only use the
+    // I/O API do not read jdk.jfr. Providers that commit the com.pi4j.jfr events and code reading
+    // recordings require jdk.jfr themselves.
+    requires jdk.jfr;
+
     // exposed interfaces/classes
     exports com.pi4j;
     exports com.pi4j.boardinfo.definition;
@@ -24,10 +29,12 @@ module com.pi4j {
     exports com.pi4j.io;
     exports com.pi4j.io.gpio;
     exports com.pi4j.io.gpio.digital;
+    exports com.pi4j.io.gpio.digital.decoder;
     exports com.pi4j.io.exception;
     exports com.pi4j.io.i2c;
     exports com.pi4j.io.pwm;
     exports com.pi4j.io.spi;
+    exports com.pi4j.jfr;
     exports com.pi4j.provider;
     exports com.pi4j.provider.exception;
     exports com.pi4j.registry;
@@ -0,0 +1,179 @@
+package com.pi4j.io.gpio.digital.decoder;
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PulseDecoderTest {
+
+    private static final long US = TimeUnit.MICROSECONDS.toNanos(1);
+
+    @Test
+    void quadratureCountsForwardAndBackward() {
+        var decoder = new QuadratureDecoder();
+        var positions = new ArrayList<Long>();
+        decoder.addListener((_, position) -> positions.add(position));
+
+        // one forward cycle: A rises, B rises, A falls, B falls
+        decoder.onEdge(QuadratureDecoder.CHANNEL_A, 10, DigitalState.HIGH);
+        decoder.onEdge(QuadratureDecoder.CHANNEL_B, 20, DigitalState.HIGH);
+        decoder.onEdge(QuadratureDecoder.CHANNEL_A, 30, DigitalState.LOW);
+        decoder.onEdge(QuadratureDecoder.CHANNEL_B, 40, DigitalState.LOW);
+        decoder.onFlush(50);
+        assertEquals(4, decoder.position());
+
+        // two steps back: B rises, A rises
+        decoder.onEdge(QuadratureDecoder.CHANNEL_B, 60, DigitalState.HIGH);
+        decoder.onEdge(QuadratureDecoder.CHANNEL_A, 70, DigitalState.HIGH);
+        decoder.onFlush(80);
+        assertEquals(2, decoder.position());
+
+        // no change, nothing emitted
+        decoder.onFlush(90);
+        assertEquals(List.of(4L, 2L), positions);
+        assertEquals(0, decoder.errors());
+    }
+
+    @Test
+    void quadratureOrdersEdgesOfBothLinesByTimestamp() {
+        var decoder = new QuadratureDecoder();
+        // the B line was read after the A line, but its edge happened in between
+        decoder.onEdge(QuadratureDecoder.CHANNEL_A, 10, DigitalState.HIGH);
+        decoder.onEdge(QuadratureDecoder.CHANNEL_A, 30, DigitalState.LOW);
+        decoder.onEdge(QuadratureDecoder.CHANNEL_B, 20, DigitalState.HIGH);
+        decoder.onFlush(40);
+        assertEquals(3, decoder.position());
+        assertEquals(0, decoder.errors());
+    }
+
+    @Test
+    void quadratureCountsLostEdges() {
+        var decoder = new QuadratureDecoder();
+        decoder.onEdge(QuadratureDecoder.CHANNEL_A, 10, DigitalState.HIGH);
+        decoder.onEdge(QuadratureDecoder.CHANNEL_A, 20, DigitalState.HIGH);
+        decoder.onFlush(30);
+        assertEquals(1, decoder.position());
+        assertEquals(1, decoder.errors());
+    }
+
+    @Test
+    void necDecodesFrameAndRepeat() {
+        var decoder = new NecDecoder();
+        var codes = new ArrayList<NecDecoder.Code>();
+        decoder.addListener((_, code) -> codes.add(code));
+
+        // address 0x04, command 0x08
+        var time = sendNecFrame(decoder, 1_000 * US, 0x04, 0x08);
+        decoder.onFlush(time);
+        assertEquals(List.of(new NecDecoder.Code(0x04, 0x08, false)), codes);
+
+        // repeat frame 108 ms after the start of the frame
+        time = 1_000 * US + 108_000 * US;
+        burst(decoder, time);
+        burst(decoder, time + 11_250 * US);
+        decoder.onFlush(time + 12_000 * US);
+        assertEquals(new NecDecoder.Code(0x04, 0x08, true), codes.get(1));
+    }
+
+    @Test
+    void necDiscardsCorruptCommand() {
+        var decoder = new NecDecoder();
+        var codes = new ArrayList<NecDecoder.Code>();
+        decoder.addListener((_, code) -> codes.add(code));
+
+        var time = 1_000 * US;
+        burst(decoder, time);
+        time += 13_500 * US;
+        // command and its inverse do not match
+        var bits = 0x04L | (0xFBL << 8) | (0x08L << 16) | (0x08L << 24);
+        time = sendBits(decoder, time, bits);
+        decoder.onFlush(time);
+        assertTrue(codes.isEmpty());
+    }
+
+    @Test
+    void wiegandEndsFrameAfterGap() {
+        var decoder = new WiegandDecoder();
+        var frames = new ArrayList<WiegandDecoder.Frame>();
+        decoder.addListener((_, frame) -> frames.add(frame));
+
+        // 26-bit H10301: even parity, facility 0x12, card 0x3456, odd parity
+        var payload = (0x12L << 16) | 0x3456L;
+        var first = Long.bitCount(payload >>> 12) % 2;
+        var last = 1 - Long.bitCount(payload & 0xFFF) % 2;
+        var data = ((long) first << 25) | (payload << 1) | last;
+        var time = 1_000 * US;
+        for (int bit = 25; bit >= 0; bit--) {
+            var channel = ((data >>> bit) & 1) == 1 ? WiegandDecoder.CHANNEL_DATA1 : WiegandDecoder.CHANNEL_DATA0;
+            decoder.onEdge(channel, time, DigitalState.LOW);
+            decoder.onEdge(channel, time + 50 * US, DigitalState.HIGH);
+            time += 2_000 * US;
+        }
+        decoder.onFlush(time);
+        assertTrue(frames.isEmpty(), "frame must not end before the gap");
+
+        decoder.onFlush(time + WiegandDecoder.DEFAULT_FRAME_GAP_NANOS);
+        assertEquals(1, frames.size());
+        var frame = frames.get(0);
+        assertEquals(26, frame.bitCount());
+        assertEquals(data, frame.data());
+        assertEquals(payload, frame.payload());
+        assertTrue(frame.parityValid());
+        assertFalse(new WiegandDecoder.Frame(26, data ^ 1).parityValid());
+    }
+
+    @Test
+    void wiegandReportsFrameTimeout() {
+        var decoder = new WiegandDecoder();
+        var frames = new ArrayList<WiegandDecoder.Frame>();
+        decoder.addListener((_, frame) -> frames.add(frame));
+        var time = 1_000 * US;
+        assertEquals(-1, decoder.pendingTimeoutNanos(time), "no timeout without a frame");
+
+        decoder.onEdge(WiegandDecoder.CHANNEL_DATA1, time, DigitalState.LOW);
+        assertEquals(0, decoder.pendingTimeoutNanos(time), "buffered edges need a flush at once");
+        decoder.onFlush(time);
+        var timeout = decoder.pendingTimeoutNanos(time + 5_000 * US);
+        assertTrue(timeout > WiegandDecoder.DEFAULT_FRAME_GAP_NANOS - 5_000 * US, "timeout " + timeout);
+        assertTrue(timeout <= WiegandDecoder.DEFAULT_FRAME_GAP_NANOS - 5_000 * US + 1, "timeout " + timeout);
+
+        // flushing at the reported deadline ends the frame
+        var deadline = time + 5_000 * US + timeout;
+        assertEquals(0, decoder.pendingTimeoutNanos(deadline));
+        decoder.onFlush(deadline);
+        assertEquals(List.of(new WiegandDecoder.Frame(1, 1)), frames);
+        assertEquals(-1, decoder.pendingTimeoutNanos(deadline));
+    }
+
+    // sends a leader, 32 bits and the stop burst; returns the time after the stop burst
+    private static long sendNecFrame(NecDecoder decoder, long time, int address, int command) {
+        burst(decoder, time);
+        time += 13_500 * US;
+        var bits = (address & 0xFFL) | ((~address & 0xFFL) << 8) | ((command & 0xFFL) << 16)
+            | ((~command & 0xFFL) << 24);
+        return sendBits(decoder, time, bits);
+    }
+
+    private static long sendBits(NecDecoder decoder, long time, long bits) {
+        for (int i = 0; i < 32; i++) {
+            burst(decoder, time);
+            time += ((bits >>> i) & 1) == 1 ? 2_250 * US : 1_125 * US;
+        }
+        // stop burst
+        burst(decoder, time);
+        return time + 563 * US;
+    }
+
+    // an active-low receiver output: LOW during the 562.5 µs burst
+    private static void burst(NecDecoder decoder, long start) {
+        decoder.onEdge(0, start, DigitalState.LOW);
+        decoder.onEdge(0, start + 562 * US, DigitalState.HIGH);
+    }
+}
@@ -0,0 +1,59 @@
+package com.pi4j.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeCallStatisticsTest {
+
+    private final NativeCallStatistics statistics = NativeCallStatistics.instance();
+
+    @AfterEach
+    void tearDown() {
+        statistics.disable();
+        statistics.reset();
+    }
+
+    @Test
+    void testDisabledRecordsNothing() {
+        statistics.disable();
+        assertFalse(NativeCallStatistics.isEnabled());
+        assertEquals(0, NativeCallStatistics.start(), "Disabled statistics must not take a timestamp");
+        NativeCallStatistics.opened(3, "/dev/test");
+        statistics.enable();
+        NativeCallStatistics.record(3, "ioctl", 0x10, System.nanoTime(), 0);
+        assertTrue(statistics.call("fd:3", "ioctl", 0x10).isPresent(), "Paths are only learned while enabled");
+    }
+
+    @Test
+    void testCountsErrorsAndHistogram() {
+        statistics.enable();
+        NativeCallStatistics.opened(7, "/dev/gpiochip0");
+        var now = System.nanoTime();
+        NativeCallStatistics.record(7, "ioctl", 0xC0, now - 1_500, 0);
+        NativeCallStatistics.record(7, "ioctl", 0xC0, now - 1_500, 0);
+        NativeCallStatistics.record(7, "ioctl", 0xC0, now - 1_500, 16);
+        NativeCallStatistics.record(7, "read", 0, now - 10, 0);
+        NativeCallStatistics.closed(7);
+
+        var calls = statistics.calls();
+        assertEquals(2, calls.size());
+        var ioctl = statistics.call("/dev/gpiochip0", "ioctl", 0xC0).orElseThrow();
+        assertEquals(3, ioctl.count());
+        assertEquals(1, ioctl.errorCount());
+        assertEquals(Map.of(16, 1L), ioctl.errors());
+        assertEquals(3, Arrays.stream(ioctl.histogram()).sum());
+        assertTrue(ioctl.maxNanos() >= 1_500);
+        assertTrue(ioctl.percentileNanos(0.5) >= 1_024);
+        assertEquals("read", calls.get(1).call());
+
+        statistics.reset();
+        assertTrue(statistics.calls().isEmpty());
+    }
+}
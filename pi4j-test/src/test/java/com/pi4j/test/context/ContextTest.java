@@ -1,11 +1,14 @@
 package com.pi4j.test.context;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.pi4j.Pi4J;
 import com.pi4j.context.Context;
 import com.pi4j.exception.Pi4JException;
 import com.pi4j.test.Slf4jStreamBridge;
+import com.pi4j.util.NativeCallStatistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -46,4 +49,21 @@ public class ContextTest {
         var ps = Slf4jStreamBridge.createPrintStream(logger);
         pi4j.describe().print(ps);
     }
+
+    @Test
+    public void testNativeCallStatisticsStopWithContext() throws Pi4JException {
+        assertFalse(NativeCallStatistics.isEnabled());
+        var recording = Pi4J.newContextBuilder().enableNativeCallStatistics().build();
+        assertTrue(NativeCallStatistics.isEnabled());
+        recording.shutdown();
+        assertFalse(NativeCallStatistics.isEnabled(), "Shutdown must restore the recording state");
+
+        NativeCallStatistics.instance().enable();
+        try {
+            Pi4J.newContextBuilder().enableNativeCallStatistics().build().shutdown();
+            assertTrue(NativeCallStatistics.isEnabled(), "Recording enabled before the context must stay on");
+        } finally {
+            NativeCallStatistics.instance().disable();
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package com.pi4j.test.io.gpio.digital;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalEventOverflowPolicy;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalStatePublisherTest {
+
+    private Context pi4j;
+    private MockDigitalInput input;
+    // runs the delivery tasks only when the test asks for it
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor executor = tasks::add;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+        var config = DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .bcm(1)
+            .build();
+        input = (MockDigitalInput) pi4j.din().create(config);
+        tasks.clear();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testDeliversOnlyRequestedChanges() {
+        var publisher = input.publisher(8, DigitalEventOverflowPolicy.DROP_NEWEST, executor);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        toggle(3);
+        runTasks();
+        assertTrue(subscriber.states.isEmpty());
+
+        subscriber.subscription.request(2);
+        runTasks();
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW), subscriber.states);
+
+        subscriber.subscription.request(1);
+        runTasks();
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW, DigitalState.HIGH), subscriber.states);
+        assertEquals(0, publisher.droppedEvents());
+    }
+
+    @Test
+    public void testDropOldest() {
+        var publisher = input.publisher(2, DigitalEventOverflowPolicy.DROP_OLDEST, executor);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        toggle(4);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        runTasks();
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW), subscriber.states);
+        assertEquals(2, publisher.droppedEvents());
+    }
+
+    @Test
+    public void testDropNewest() {
+        var publisher = input.publisher(2, DigitalEventOverflowPolicy.DROP_NEWEST, executor);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        toggle(4);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        runTasks();
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW), subscriber.states);
+        assertEquals(2, publisher.droppedEvents());
+    }
+
+    @Test
+    public void testLatest() {
+        var publisher = input.publisher(2, DigitalEventOverflowPolicy.LATEST, executor);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        toggle(5);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        runTasks();
+        // the buffer is emptied on the first overflow after HIGH, LOW, and again after HIGH, LOW
+        assertEquals(List.of(DigitalState.HIGH), subscriber.states);
+        assertEquals(4, publisher.droppedEvents());
+    }
+
+    @Test
+    public void testCancelRemovesListener() {
+        var publisher = input.publisher(2, DigitalEventOverflowPolicy.DROP_OLDEST, executor);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertTrue(input.hasListenersOrBindings());
+
+        subscriber.subscription.cancel();
+        assertFalse(input.hasListenersOrBindings());
+    }
+
+    @Test
+    public void testCloseCompletesAfterBufferedChanges() {
+        var publisher = input.publisher(4, DigitalEventOverflowPolicy.DROP_OLDEST, executor);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        toggle(2);
+        publisher.close();
+        assertFalse(input.hasListenersOrBindings());
+        runTasks();
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        runTasks();
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW), subscriber.states);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testNonPositiveRequestSignalsError() {
+        var publisher = input.publisher(2, DigitalEventOverflowPolicy.DROP_OLDEST, executor);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        runTasks();
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertFalse(input.hasListenersOrBindings());
+    }
+
+    // the mock input starts LOW, so the changes alternate HIGH, LOW, HIGH, ...
+    private void toggle(int changes) {
+        for (int i = 0; i < changes; i++) {
+            input.mockState(i % 2 == 0 ? DigitalState.HIGH : DigitalState.LOW);
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<DigitalStateChangeEvent> {
+        private final List<DigitalState> states = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed = false;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(DigitalStateChangeEvent item) {
+            states.add(item.state());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.pi4j.extension.Plugin;
 import com.pi4j.extension.PluginService;
 import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalInputProviderImpl;
 import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalOutputProviderImpl;
+import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalPortProviderImpl;
 import com.pi4j.plugin.ffm.providers.i2c.FFMI2CProviderImpl;
 import com.pi4j.plugin.ffm.providers.pwm.FFMPwmProviderImpl;
 import com.pi4j.plugin.ffm.providers.spi.FFMSpiProviderImpl;
@@ -17,9 +18,9 @@ import java.util.Arrays;
  * Pi4J {@link Plugin} entry point for the FFM (Foreign Function &amp; Memory) native I/O backend.
  * <p>
  * On initialization it instantiates and registers the FFM providers that talk to the Linux kernel
- * directly via the Java Foreign Function &amp; Memory API: {@link FFMDigitalInputProviderImpl} and
- * {@link FFMDigitalOutputProviderImpl} for GPIO, {@link FFMI2CProviderImpl} for I2C,
- * {@link FFMSpiProviderImpl} for SPI, and {@link FFMPwmProviderImpl} for PWM. These providers
+ * directly via the Java Foreign Function &amp; Memory API: {@link FFMDigitalInputProviderImpl},
+ * {@link FFMDigitalOutputProviderImpl} and {@link FFMDigitalPortProviderImpl} for GPIO,
+ * {@link FFMI2CProviderImpl} for I2C, {@link FFMSpiProviderImpl} for SPI, and {@link FFMPwmProviderImpl} for PWM. These providers
  * supply the runtime implementations of the corresponding pi4j-core contracts.
  */
 public class FFMPlugin implements Plugin {
@@ -30,6 +31,7 @@ public class FFMPlugin implements Plugin {
         this.providers = new Provider[]{
             new FFMDigitalInputProviderImpl(),
             new FFMDigitalOutputProviderImpl(),
+            new FFMDigitalPortProviderImpl(),
             new FFMI2CProviderImpl(),
             new FFMSpiProviderImpl(),
             new FFMPwmProviderImpl()
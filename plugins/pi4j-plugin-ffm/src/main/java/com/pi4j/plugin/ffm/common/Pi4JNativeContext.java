@@ -1,6 +1,7 @@
 package com.pi4j.plugin.ffm.common;
 
 import com.pi4j.exception.Pi4JException;
+import com.pi4j.util.NativeCallStatistics;
 
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
@@ -15,6 +16,11 @@ import java.util.Arrays;
  * short-lived {@link Arena#ofConfined()} created with try-with-resources inside each native
  * method call.  Using the global {@link #ARENA} for per-call allocations would cause all
  * segments to accumulate until JVM exit, resulting in an OutOfMemoryError.
+ * <p>
+ * The allocation-free call variants used on hot paths (such as the GPIO event loop) operate on
+ * caller-owned segments instead and capture {@code errno} into {@link #threadCapturedState()}.
+ * Calls that only need a small, bounded payload buffer (a scalar ioctl argument, an SMBus block,
+ * a short read or write) borrow it from {@link #threadScratch(long)} rather than opening an arena.
  */
 public class Pi4JNativeContext implements SegmentAllocator {
     /**
@@ -33,6 +39,18 @@ public class Pi4JNativeContext implements SegmentAllocator {
     private static final VarHandle ERRNO_HANDLE = CAPTURED_STATE_LAYOUT.varHandle(
         MemoryLayout.PathElement.groupElement("errno"));
 
+    // Reusable errno capture segment per thread, for the allocation-free call variants.
+    private static final ThreadLocal<MemorySegment> THREAD_CAPTURED_STATE =
+        ThreadLocal.withInitial(() -> Arena.ofAuto().allocate(CAPTURED_STATE_LAYOUT));
+
+    // Initial size of the per-thread scratch buffer, enough for any scalar or SMBus block payload.
+    private static final long THREAD_SCRATCH_INITIAL_SIZE = 256;
+    // Largest payload served from the per-thread scratch buffer; bigger requests get a dedicated segment.
+    private static final long THREAD_SCRATCH_MAX_SIZE = 64 * 1024;
+    // Reusable payload buffer per thread, grown on demand up to THREAD_SCRATCH_MAX_SIZE.
+    private static final ThreadLocal<MemorySegment[]> THREAD_SCRATCH =
+        ThreadLocal.withInitial(() -> new MemorySegment[]{Arena.ofAuto().allocate(THREAD_SCRATCH_INITIAL_SIZE, 8)});
+
     // 1024 is enough for any error received from errno.
     private static final AddressLayout POINTER = ValueLayout.ADDRESS.withTargetLayout(
         MemoryLayout.sequenceLayout(1024, ValueLayout.JAVA_BYTE));
@@ -47,6 +65,9 @@ public class Pi4JNativeContext implements SegmentAllocator {
      * from the captured-state segment, resolves the matching message via the native {@code strerror}
      * function, and raises a {@link Pi4JException}. A non-negative {@code callResult} is treated as
      * success and the method returns without action.
+     * <p>
+     * Hot call sites should only invoke this method once {@code callResult} is known to be negative, so
+     * the {@code args} array holding the diagnostic details is only built on the failure path.
      *
      * @param callResult    the value returned by the native call; a negative value signals an error
      * @param capturedState segment laid out as {@link #CAPTURED_STATE_LAYOUT} holding the captured
@@ -67,6 +88,81 @@ public class Pi4JNativeContext implements SegmentAllocator {
         }
     }
 
+    /**
+     * Records a finished native call on a file descriptor in {@link NativeCallStatistics}. Call sites
+     * only invoke it when {@link NativeCallStatistics#start()} returned a non-zero value, so disabled
+     * statistics cost neither a timestamp nor an allocation.
+     *
+     * @param start         the value returned by {@link NativeCallStatistics#start()} before the call
+     * @param fd            the file descriptor the call targeted
+     * @param call          the name of the native function
+     * @param request       the request or command code, {@code 0} if the call has none
+     * @param callResult    the value returned by the native call; a negative value signals an error
+     * @param capturedState segment holding the {@code errno} captured by the call
+     */
+    public static void recordCall(long start, int fd, String call, long request, long callResult, MemorySegment capturedState) {
+        NativeCallStatistics.record(fd, call, request, start, callResult < 0 ? errno(capturedState) : 0);
+    }
+
+    /**
+     * Records a finished native call on a device path in {@link NativeCallStatistics}, for calls made
+     * before a file descriptor exists (such as {@code open}).
+     *
+     * @param start         the value returned by {@link NativeCallStatistics#start()} before the call
+     * @param path          the device path the call targeted
+     * @param call          the name of the native function
+     * @param request       the request or command code, {@code 0} if the call has none
+     * @param callResult    the value returned by the native call; a negative value signals an error
+     * @param capturedState segment holding the {@code errno} captured by the call
+     */
+    public static void recordCall(long start, String path, String call, long request, long callResult, MemorySegment capturedState) {
+        NativeCallStatistics.record(path, call, request, start, callResult < 0 ? errno(capturedState) : 0);
+    }
+
+    /**
+     * Reads the {@code errno} value captured by the last call that was passed {@code capturedState}, for
+     * callers that treat some error codes (such as {@code EAGAIN}) as regular outcomes.
+     *
+     * @param capturedState segment laid out as {@link #CAPTURED_STATE_LAYOUT}
+     * @return the captured {@code errno}
+     */
+    public static int errno(MemorySegment capturedState) {
+        return (int) ERRNO_HANDLE.get(capturedState, 0L);
+    }
+
+    /**
+     * Returns the errno capture segment owned by the calling thread. Allocation-free call variants
+     * pass it to their downcall instead of allocating a new one per call; it must only be read by the
+     * same thread, right after the call it was passed to.
+     *
+     * @return segment laid out as {@link #CAPTURED_STATE_LAYOUT}, reused for every call on this thread
+     */
+    public static MemorySegment threadCapturedState() {
+        return THREAD_CAPTURED_STATE.get();
+    }
+
+    /**
+     * Returns a native payload buffer of {@code byteSize} bytes owned by the calling thread. The buffer is
+     * reused by every scratch request on the same thread, so it is only valid until the next call to this
+     * method, and its contents are <em>not</em> cleared: callers must write every byte they hand to the
+     * kernel. Requests larger than the scratch limit are served from a fresh, GC-managed segment.
+     *
+     * @param byteSize number of bytes needed
+     * @return segment of exactly {@code byteSize} bytes, aligned to 8 bytes
+     */
+    public static MemorySegment threadScratch(long byteSize) {
+        if (byteSize > THREAD_SCRATCH_MAX_SIZE) {
+            return Arena.ofAuto().allocate(byteSize, 8);
+        }
+        var holder = THREAD_SCRATCH.get();
+        var scratch = holder[0];
+        if (scratch.byteSize() < byteSize) {
+            scratch = Arena.ofAuto().allocate(Long.highestOneBit(byteSize - 1) << 1, 8);
+            holder[0] = scratch;
+        }
+        return scratch.asSlice(0, byteSize);
+    }
+
     @Override
     public MemorySegment allocate(long byteSize, long byteAlignment) {
         return ARENA.allocate(byteSize, byteAlignment);
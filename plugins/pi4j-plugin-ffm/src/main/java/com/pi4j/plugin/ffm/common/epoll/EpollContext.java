@@ -0,0 +1,34 @@
+package com.pi4j.plugin.ffm.common.epoll;
+
+import com.pi4j.plugin.ffm.common.Pi4JNativeContext;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Binds the libc {@code epoll_create1(2)}, {@code epoll_ctl(2)} and {@code epoll_wait(2)} syscalls as
+ * {@link MethodHandle}s with {@code errno} capture, used to multiplex many file descriptors (such as
+ * requested GPIO lines) on a single thread. The handles are invoked by {@link EpollNative}.
+ */
+class EpollContext extends Pi4JNativeContext {
+
+    // Native glibc 'epoll_create1' method
+    static final MethodHandle EPOLL_CREATE1 = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("epoll_create1").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT),
+        Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'epoll_ctl' method
+    static final MethodHandle EPOLL_CTL = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("epoll_ctl").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.ADDRESS),
+        Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'epoll_wait' method
+    static final MethodHandle EPOLL_WAIT = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("epoll_wait").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT),
+        Linker.Option.captureCallState("errno"));
+}
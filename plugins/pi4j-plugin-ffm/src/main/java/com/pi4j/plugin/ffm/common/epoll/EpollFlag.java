@@ -0,0 +1,33 @@
+package com.pi4j.plugin.ffm.common.epoll;
+
+/**
+ * Event-mask bits, control operations and creation flags for the Linux {@code epoll(7)} API, mirroring
+ * the kernel {@code <uapi/linux/eventpoll.h>} {@code #define}s. The event bits share their values with
+ * the matching {@code POLL*} flags.
+ *
+ * @see <a href="https://elixir.bootlin.com/linux/latest/source/include/uapi/linux/eventpoll.h">linux sources</a>
+ */
+public final class EpollFlag {
+
+    /** {@code EPOLLIN}: data is available to read without blocking. */
+    public static final int EPOLLIN = 0x0001;
+    /** {@code EPOLLPRI}: urgent/priority data (e.g. a GPIO line edge event) is available to read. */
+    public static final int EPOLLPRI = 0x0002;
+    /** {@code EPOLLERR}: an error condition occurred on the descriptor (always reported). */
+    public static final int EPOLLERR = 0x0008;
+    /** {@code EPOLLHUP}: the device or peer hung up (always reported). */
+    public static final int EPOLLHUP = 0x0010;
+
+    /** {@code EPOLL_CTL_ADD}: register a file descriptor in the interest list. */
+    public static final int EPOLL_CTL_ADD = 1;
+    /** {@code EPOLL_CTL_DEL}: remove a file descriptor from the interest list. */
+    public static final int EPOLL_CTL_DEL = 2;
+    /** {@code EPOLL_CTL_MOD}: change the events or user data of a registered file descriptor. */
+    public static final int EPOLL_CTL_MOD = 3;
+
+    /** {@code EPOLL_CLOEXEC}: set the close-on-exec flag on the new epoll file descriptor. */
+    public static final int EPOLL_CLOEXEC = 0x80000;
+
+    /** {@code EINTR}: the wait was interrupted by a signal handler before any event arrived. */
+    static final int EINTR = 4;
+}
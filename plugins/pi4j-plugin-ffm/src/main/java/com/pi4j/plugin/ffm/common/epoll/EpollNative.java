@@ -0,0 +1,125 @@
+package com.pi4j.plugin.ffm.common.epoll;
+
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.plugin.ffm.common.epoll.structs.EpollEvent;
+import com.pi4j.util.NativeCallStatistics;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.CAPTURED_STATE_LAYOUT;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.errno;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.processError;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.recordCall;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadCapturedState;
+
+/**
+ * Java front end to the Linux {@code epoll(7)} syscalls bound by {@link EpollContext}, used to wait for
+ * events on many file descriptors from a single thread:
+ * <ul>
+ *   <li>{@link #create(int)} opens a new epoll instance;</li>
+ *   <li>{@link #ctl(int, int, int, int, long)} adds, modifies or removes a watched descriptor;</li>
+ *   <li>{@link #waitEvents(int, MemorySegment, int, int)} blocks until events are ready and writes them into a
+ *   caller-owned {@code struct epoll_event} array, allocating nothing per call.</li>
+ * </ul>
+ * Failures are translated into a {@link Pi4JException} via {@code processError}. The epoll descriptor
+ * itself is released with {@link com.pi4j.plugin.ffm.common.file.FileDescriptorNative#close(int)}.
+ * <p>
+ * All calls are recorded in {@link NativeCallStatistics} while it is enabled; the time of
+ * {@code epoll_wait} includes the time spent blocked.
+ */
+public class EpollNative {
+    // name the epoll descriptors are reported under in the native call statistics, as in /proc/self/fd
+    private static final String EPOLL_PATH = "anon_inode:[eventpoll]";
+
+    // Keep the context field to trigger EpollContext class loading (and thus MethodHandle init).
+    @SuppressWarnings("unused")
+    private final EpollContext context = new EpollContext();
+
+    /**
+     * Creates a new epoll instance. Delegate to native 'epoll_create1' glibc method.
+     *
+     * @param flags creation flags, {@code 0} or {@link EpollFlag#EPOLL_CLOEXEC}
+     * @return the file descriptor of the new epoll instance
+     * @throws Pi4JException if the native {@code epoll_create1} call fails
+     */
+    public int create(int flags) {
+        try (var arena = Arena.ofConfined()) {
+            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
+            var start = NativeCallStatistics.start();
+            var callResult = (int) EpollContext.EPOLL_CREATE1.invoke(capturedState, flags);
+            if (start != 0) {
+                NativeCallStatistics.opened(callResult, EPOLL_PATH);
+                recordCall(start, callResult, "epoll_create1", 0, callResult, capturedState);
+            }
+            processError(callResult, capturedState, "epoll_create1", flags);
+            return callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adds, modifies or removes a file descriptor in the interest list of an epoll instance.
+     * Delegate to native 'epoll_ctl' glibc method.
+     *
+     * @param epfd   file descriptor of the epoll instance
+     * @param op     one of {@link EpollFlag#EPOLL_CTL_ADD}, {@link EpollFlag#EPOLL_CTL_MOD} or
+     *               {@link EpollFlag#EPOLL_CTL_DEL}
+     * @param fd     the watched file descriptor
+     * @param events bitmask of requested events (ignored for {@link EpollFlag#EPOLL_CTL_DEL})
+     * @param data   opaque value reported back by {@link #waitEvents(int, MemorySegment, int, int)} for this descriptor
+     * @throws Pi4JException if the native {@code epoll_ctl} call fails
+     */
+    public void ctl(int epfd, int op, int fd, int events, long data) {
+        try (var arena = Arena.ofConfined()) {
+            var epollEvent = new EpollEvent(events, data);
+            var epollEventMemorySegment = arena.allocate(EpollEvent.LAYOUT);
+            epollEvent.to(epollEventMemorySegment);
+            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
+            var start = NativeCallStatistics.start();
+            var callResult = (int) EpollContext.EPOLL_CTL.invoke(capturedState, epfd, op, fd, epollEventMemorySegment);
+            if (start != 0) {
+                recordCall(start, epfd, "epoll_ctl", op, callResult, capturedState);
+            }
+            processError(callResult, capturedState, "epoll_ctl", epfd, op, fd, epollEvent);
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Waits for events on an epoll instance. Delegate to native 'epoll_wait' glibc method.
+     * <p>
+     * The ready events are written into {@code events}, which the caller allocates once and reuses. A wait
+     * interrupted by a signal handler ({@code EINTR}) is not an error: it returns {@code 0} like a timeout,
+     * since the kernel never restarts {@code epoll_wait}.
+     *
+     * @param epfd      file descriptor of the epoll instance
+     * @param events    segment holding at least {@code maxEvents} consecutive {@link EpollEvent#LAYOUT} entries
+     * @param maxEvents maximum number of events to return
+     * @param timeout   maximum time to block in milliseconds; a negative value blocks indefinitely
+     * @return the number of ready entries written to {@code events}, or {@code 0} if the call timed out or
+     *         was interrupted
+     * @throws Pi4JException if the native {@code epoll_wait} call fails
+     */
+    public int waitEvents(int epfd, MemorySegment events, int maxEvents, int timeout) {
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) EpollContext.EPOLL_WAIT.invokeExact(capturedState, epfd, events, maxEvents, timeout);
+            if (start != 0) {
+                recordCall(start, epfd, "epoll_wait", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                if (errno(capturedState) == EpollFlag.EINTR) {
+                    return 0;
+                }
+                processError(callResult, capturedState, "epoll_wait", epfd, events, maxEvents, timeout);
+            }
+            return callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+}
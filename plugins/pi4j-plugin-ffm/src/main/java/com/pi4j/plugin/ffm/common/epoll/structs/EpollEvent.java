@@ -0,0 +1,93 @@
+package com.pi4j.plugin.ffm.common.epoll.structs;
+
+import com.pi4j.plugin.ffm.common.Pi4JLayout;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * {@link MemorySegment}-backed mapping of the Linux {@code struct epoll_event}
+ * (include/uapi/linux/eventpoll.h) used by {@code epoll_ctl(2)} and {@code epoll_wait(2)}.
+ * The kernel declares the struct {@code packed} on x86-64 only (12 bytes); every other architecture,
+ * including the ARM boards Pi4J targets, pads {@code data} to 8-byte alignment (16 bytes).
+ * Implements the {@link Pi4JLayout} marshalling contract.
+ *
+ * @param events bitmask of requested or reported events (e.g. {@code EPOLLIN}, {@code EPOLLPRI})
+ * @param data   opaque user data handed back by the kernel with every reported event
+ */
+public record EpollEvent(int events, long data) implements Pi4JLayout {
+    public static final MemoryLayout LAYOUT = isPacked()
+        ? MemoryLayout.structLayout(
+            ValueLayout.JAVA_INT.withByteAlignment(4).withName("events"),
+            ValueLayout.JAVA_LONG.withByteAlignment(4).withName("data"))
+        : MemoryLayout.structLayout(
+            ValueLayout.JAVA_INT.withName("events"),
+            MemoryLayout.paddingLayout(4),
+            ValueLayout.JAVA_LONG.withName("data"));
+
+    private static final VarHandle VH_EVENTS = LAYOUT.varHandle(groupElement("events"));
+
+    private static final VarHandle VH_DATA = LAYOUT.varHandle(groupElement("data"));
+
+    private static boolean isPacked() {
+        var arch = System.getProperty("os.arch");
+        return "amd64".equals(arch) || "x86_64".equals(arch);
+    }
+
+    /**
+     * Decodes a {@code struct epoll_event} from native memory into a new {@code EpollEvent}.
+     * A {@link MemorySegment#NULL} segment yields an empty instance with all fields zeroed.
+     *
+     * @param memorySegment native memory holding a {@code struct epoll_event}, or {@link MemorySegment#NULL}
+     * @return an {@code EpollEvent} populated from the segment, or an empty instance for a NULL segment
+     * @throws Throwable if reading the fields from native memory fails
+     */
+    public static EpollEvent create(MemorySegment memorySegment) throws Throwable {
+        var epollEventInstance = EpollEvent.createEmpty();
+        if (!memorySegment.equals(MemorySegment.NULL)) {
+            epollEventInstance = epollEventInstance.from(memorySegment);
+        }
+        return epollEventInstance;
+    }
+
+    /**
+     * Creates an {@code EpollEvent} with all fields zeroed, suitable as a target buffer
+     * to be filled from native memory.
+     *
+     * @return an empty {@code EpollEvent} with {@code events} and {@code data} set to zero
+     */
+    public static EpollEvent createEmpty() {
+        return new EpollEvent(0, 0L);
+    }
+
+    @Override
+    public MemoryLayout getMemoryLayout() {
+        return LAYOUT;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EpollEvent from(MemorySegment buffer) throws Throwable {
+        return new EpollEvent(
+            (int) VH_EVENTS.get(buffer, 0L),
+            (long) VH_DATA.get(buffer, 0L));
+    }
+
+    @Override
+    public void to(MemorySegment buffer) throws Throwable {
+        VH_EVENTS.set(buffer, 0L, events);
+        VH_DATA.set(buffer, 0L, data);
+    }
+
+    @Override
+    public String toString() {
+        return "EpollEvent{" +
+            "events=" + events +
+            ", data=" + data +
+            '}';
+    }
+}
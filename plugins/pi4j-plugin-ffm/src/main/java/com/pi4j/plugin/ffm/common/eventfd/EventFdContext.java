@@ -0,0 +1,35 @@
+package com.pi4j.plugin.ffm.common.eventfd;
+
+import com.pi4j.plugin.ffm.common.Pi4JNativeContext;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Binds the glibc {@code eventfd(2)}, {@code eventfd_read(3)} and {@code eventfd_write(3)} functions as
+ * {@link MethodHandle}s with {@code errno} capture. An event file descriptor is a kernel-side counter
+ * that can be added to a {@code poll}/{@code epoll} set to wake a blocked thread. The handles are
+ * invoked by {@link EventFdNative}.
+ */
+class EventFdContext extends Pi4JNativeContext {
+
+    // Native glibc 'eventfd' method
+    static final MethodHandle EVENTFD = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("eventfd").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT),
+        Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'eventfd_read' method (int eventfd_read(int fd, eventfd_t *value))
+    static final MethodHandle EVENTFD_READ = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("eventfd_read").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.ADDRESS),
+        Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'eventfd_write' method (int eventfd_write(int fd, eventfd_t value))
+    static final MethodHandle EVENTFD_WRITE = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("eventfd_write").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG),
+        Linker.Option.captureCallState("errno"));
+}
@@ -0,0 +1,18 @@
+package com.pi4j.plugin.ffm.common.eventfd;
+
+/**
+ * Creation flags for {@code eventfd(2)}, mirroring the kernel {@code <uapi/linux/eventfd.h>}
+ * {@code #define}s, and the error code a non-blocking read of an unsignalled descriptor returns.
+ *
+ * @see <a href="https://elixir.bootlin.com/linux/latest/source/include/uapi/linux/eventfd.h">linux sources</a>
+ */
+public final class EventFdFlag {
+
+    /** {@code EFD_NONBLOCK}: reading an unsignalled descriptor fails with {@code EAGAIN} instead of blocking. */
+    public static final int EFD_NONBLOCK = 0x800;
+    /** {@code EFD_CLOEXEC}: set the close-on-exec flag on the new descriptor. */
+    public static final int EFD_CLOEXEC = 0x80000;
+
+    /** {@code EAGAIN}: the counter is zero and the descriptor is non-blocking. */
+    static final int EAGAIN = 11;
+}
@@ -0,0 +1,110 @@
+package com.pi4j.plugin.ffm.common.eventfd;
+
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.util.NativeCallStatistics;
+
+import java.lang.foreign.ValueLayout;
+
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.errno;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.processError;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.recordCall;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadCapturedState;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadScratch;
+
+/**
+ * Java front end to the {@code eventfd(2)} functions bound by {@link EventFdContext}, used to wake a
+ * thread blocked in {@code poll}/{@code epoll_wait} from another thread:
+ * <ul>
+ *   <li>{@link #create(int)} opens a new event descriptor with a zero counter;</li>
+ *   <li>{@link #signal(int)} increments the counter, making the descriptor readable;</li>
+ *   <li>{@link #drain(int)} resets the counter so the descriptor stops being readable.</li>
+ * </ul>
+ * The descriptor itself is released with {@link com.pi4j.plugin.ffm.common.file.FileDescriptorNative#close(int)}.
+ * All calls are recorded in {@link NativeCallStatistics} while it is enabled.
+ */
+public class EventFdNative {
+    // name the event descriptors are reported under in the native call statistics, as in /proc/self/fd
+    private static final String EVENTFD_PATH = "anon_inode:[eventfd]";
+
+    // Keep the context field to trigger EventFdContext class loading (and thus MethodHandle init).
+    @SuppressWarnings("unused")
+    private final EventFdContext context = new EventFdContext();
+
+    /**
+     * Creates a new event descriptor. Delegate to native 'eventfd' glibc method.
+     *
+     * @param flags creation flags, a combination of {@link EventFdFlag#EFD_NONBLOCK} and {@link EventFdFlag#EFD_CLOEXEC}
+     * @return the new event file descriptor
+     * @throws Pi4JException if the native {@code eventfd} call fails
+     */
+    public int create(int flags) {
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) EventFdContext.EVENTFD.invokeExact(capturedState, 0, flags);
+            if (start != 0) {
+                NativeCallStatistics.opened(callResult, EVENTFD_PATH);
+                recordCall(start, callResult, "eventfd", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "eventfd", flags);
+            }
+            return callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Increments the counter of an event descriptor, waking any thread polling it. Delegate to native
+     * 'eventfd_write' glibc method. Safe to call from any thread.
+     *
+     * @param fd the event file descriptor
+     * @throws Pi4JException if the native {@code eventfd_write} call fails
+     */
+    public void signal(int fd) {
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) EventFdContext.EVENTFD_WRITE.invokeExact(capturedState, fd, 1L);
+            if (start != 0) {
+                recordCall(start, fd, "eventfd_write", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "eventfd_write", fd);
+            }
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads and resets the counter of a non-blocking event descriptor. Delegate to native 'eventfd_read'
+     * glibc method.
+     *
+     * @param fd the event file descriptor, created with {@link EventFdFlag#EFD_NONBLOCK}
+     * @return the number of signals since the last drain, {@code 0} if there were none
+     * @throws Pi4JException if the native {@code eventfd_read} call fails for another reason than an
+     *                       unsignalled descriptor
+     */
+    public long drain(int fd) {
+        try {
+            var value = threadScratch(ValueLayout.JAVA_LONG.byteSize());
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) EventFdContext.EVENTFD_READ.invokeExact(capturedState, fd, value);
+            if (start != 0) {
+                recordCall(start, fd, "eventfd_read", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                if (errno(capturedState) == EventFdFlag.EAGAIN) {
+                    return 0;
+                }
+                processError(callResult, capturedState, "eventfd_read", fd);
+            }
+            return value.get(ValueLayout.JAVA_LONG, 0);
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+}
@@ -9,8 +9,8 @@ import java.lang.invoke.MethodHandle;
 
 /**
  * Holds the downcall {@link MethodHandle}s bound to the glibc file-access functions
- * ({@code open64}, {@code close}, {@code read}, {@code write}, {@code lseek64}, {@code flock},
- * {@code access}) used by {@link FileDescriptorNative}. Extends {@link Pi4JNativeContext} to reuse the
+ * ({@code open64}, {@code close}, {@code read}, {@code write}, {@code readv}, {@code writev},
+ * {@code lseek64}, {@code flock}, {@code access}) used by {@link FileDescriptorNative}. Extends {@link Pi4JNativeContext} to reuse the
  * shared native linker setup and {@code errno} capture infrastructure.
  */
 class FileDescriptorContext extends Pi4JNativeContext {
@@ -27,6 +27,13 @@ class FileDescriptorContext extends Pi4JNativeContext {
         FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT),
         Linker.Option.captureCallState("errno"));
 
+    // Critical variant of LSEEK64, for rewinding sysfs attribute files
+    // (see com.pi4j.plugin.ffm.config.NativeCallMode#CRITICAL)
+    static final MethodHandle LSEEK64_CRITICAL = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("lseek64").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT),
+        Linker.Option.captureCallState("errno"), Linker.Option.critical(false));
+
     // Native glibc 'close' method
 	static final MethodHandle CLOSE = Linker.nativeLinker().downcallHandle(
 			LIBC_LIB.find("close").orElseThrow(), FunctionDescriptor.ofVoid(ValueLayout.JAVA_INT),
@@ -44,6 +51,18 @@ class FileDescriptorContext extends Pi4JNativeContext {
 			FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT),
 			Linker.Option.captureCallState("errno"));
 
+    // Native glibc 'readv' method (ssize_t readv(int fd, const struct iovec *iov, int iovcnt))
+    static final MethodHandle READV = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("readv").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT),
+        Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'writev' method (ssize_t writev(int fd, const struct iovec *iov, int iovcnt))
+    static final MethodHandle WRITEV = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("writev").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT),
+        Linker.Option.captureCallState("errno"));
+
     // Native glibc 'flock' method
     static final MethodHandle FLOCK = Linker.nativeLinker().downcallHandle(
         LIBC_LIB.find("flock").orElseThrow(),
@@ -1,20 +1,26 @@
 package com.pi4j.plugin.ffm.common.file;
 
 import com.pi4j.exception.Pi4JException;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
+import com.pi4j.util.NativeCallStatistics;
 
 import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
 
-import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.CAPTURED_STATE_LAYOUT;
 import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.processError;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.recordCall;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadCapturedState;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadScratch;
 
 /**
  * High-level wrapper around the glibc file syscalls exposed by {@link FileDescriptorContext},
- * providing the {@code open}/{@code close}/{@code read}/{@code write}/{@code flock}/{@code access}
- * operations the FFM backend uses to talk to character device nodes (gpiochip, i2c, spidev, pwm).
+ * providing the {@code open}/{@code close}/{@code read}/{@code write}/{@code readv}/{@code writev}/
+ * {@code flock}/{@code access} operations the FFM backend uses to talk to character device nodes (gpiochip, i2c, spidev, pwm).
  * The logic behind the class is follows:
- * - allocate the needed buffers from a per-call {@link Arena#ofConfined()} arena
- * - optionally add 'errno' context to caller
+ * - borrow the payload buffer from the calling thread's scratch segment, or allocate it from a
+ *   per-call {@link Arena#ofConfined()} arena when it does not fit there
+ * - optionally add the thread's 'errno' context to caller
  * - call native function with 'invoke'
  * - process errors if any captured by 'errno'
  * - return call result if needed
@@ -24,6 +30,26 @@ public class FileDescriptorNative {
     @SuppressWarnings("unused")
     private final FileDescriptorContext context = new FileDescriptorContext();
 
+    // link short non-blocking calls (lseek) as critical downcalls
+    private final boolean critical;
+
+    /**
+     * Creates a wrapper using {@link NativeCallMode#STANDARD} downcalls.
+     */
+    public FileDescriptorNative() {
+        this(NativeCallMode.STANDARD);
+    }
+
+    /**
+     * Creates a wrapper linking its short non-blocking calls according to {@code callMode}; blocking calls
+     * such as {@code read} always use the standard downcall.
+     *
+     * @param callMode how {@link #lseek(int, long, int)} is linked
+     */
+    public FileDescriptorNative(NativeCallMode callMode) {
+        this.critical = callMode == NativeCallMode.CRITICAL;
+    }
+
     /**
      * Opens file. Delegate to native 'open64' glibc method.
      *
@@ -35,9 +61,16 @@ public class FileDescriptorNative {
     public int open(String path, int openFlag) {
         try (var arena = Arena.ofConfined()) {
             var pathMemorySegment = arena.allocateFrom(path);
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) FileDescriptorContext.OPEN64.invoke(capturedState, pathMemorySegment, openFlag);
-            processError(callResult, capturedState, "open", path, openFlag);
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) FileDescriptorContext.OPEN64.invokeExact(capturedState, pathMemorySegment, openFlag);
+            if (start != 0) {
+                NativeCallStatistics.opened(callResult, path);
+                recordCall(start, path, "open", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "open", path, openFlag);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -51,10 +84,17 @@ public class FileDescriptorNative {
      * @throws Pi4JException if the native {@code close} call fails, carrying the {@code errno} detail
      */
     public void close(int fd) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
             var callResult = (int) FileDescriptorContext.CLOSE.invoke(capturedState, fd);
-            processError(callResult, capturedState, "close", fd);
+            if (start != 0) {
+                recordCall(start, fd, "close", 0, callResult, capturedState);
+                NativeCallStatistics.closed(fd);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "close", fd);
+            }
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
         }
@@ -70,17 +110,53 @@ public class FileDescriptorNative {
      * @throws Pi4JException if the native {@code read} call fails, carrying the {@code errno} detail
      */
     public byte[] read(int fd, byte[] buffer, int size) {
-        try (var arena = Arena.ofConfined()) {
-            var bufferMemorySegment = arena.allocateFrom(ValueLayout.JAVA_BYTE, buffer);
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) FileDescriptorContext.READ.invoke(capturedState, fd, bufferMemorySegment, size);
-            processError(callResult, capturedState, "read", fd, buffer, size);
+        try {
+            var bufferMemorySegment = threadScratch(buffer.length);
+            MemorySegment.copy(buffer, 0, bufferMemorySegment, ValueLayout.JAVA_BYTE, 0, buffer.length);
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) FileDescriptorContext.READ.invokeExact(capturedState, fd, bufferMemorySegment, size);
+            if (start != 0) {
+                recordCall(start, fd, "read", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "read", fd, buffer, size);
+            }
             return bufferMemorySegment.toArray(ValueLayout.JAVA_BYTE);
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
         }
     }
 
+    /**
+     * Reads file into a caller-owned native buffer. Delegate to native 'read' glibc method.
+     * <p>
+     * Allocation-free variant of {@link #read(int, byte[], int)} for loops that read the same
+     * descriptor repeatedly: nothing is copied to the heap, the caller decodes the data in place.
+     *
+     * @param fd     file descriptor of the file to read
+     * @param buffer native segment receiving the data; must be at least {@code size} bytes long
+     * @param size   number of bytes to request from the read call
+     * @return the number of bytes actually read
+     * @throws Pi4JException if the native {@code read} call fails, carrying the {@code errno} detail
+     */
+    public int read(int fd, MemorySegment buffer, int size) {
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) FileDescriptorContext.READ.invokeExact(capturedState, fd, buffer, size);
+            if (start != 0) {
+                recordCall(start, fd, "read", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "read", fd, buffer, size);
+            }
+            return callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
     /**
      * Writes to file. Delegate to native 'write' glibc method.
      *
@@ -90,17 +166,155 @@ public class FileDescriptorNative {
      * @throws Pi4JException if the native {@code write} call fails, carrying the {@code errno} detail
      */
     public int write(int fd, byte[] data) {
-        try (var arena = Arena.ofConfined()) {
-            var dataMemorySegment = arena.allocateFrom(ValueLayout.JAVA_BYTE, data);
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) FileDescriptorContext.WRITE.invoke(capturedState, fd, dataMemorySegment, data.length);
-            processError(callResult, capturedState, "write", fd, data);
+        try {
+            var dataMemorySegment = threadScratch(data.length);
+            MemorySegment.copy(data, 0, dataMemorySegment, ValueLayout.JAVA_BYTE, 0, data.length);
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) FileDescriptorContext.WRITE.invokeExact(capturedState, fd, dataMemorySegment, data.length);
+            if (start != 0) {
+                recordCall(start, fd, "write", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "write", fd, data);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
         }
     }
 
+    /**
+     * Writes to file from a caller-owned native buffer. Delegate to native 'write' glibc method.
+     * <p>
+     * Allocation-free variant of {@link #write(int, byte[])} for callers that assemble the outgoing
+     * bytes in native memory themselves, e.g. a register address followed by its payload.
+     *
+     * @param fd   file descriptor of the file to write
+     * @param data native segment holding the data; must be at least {@code size} bytes long
+     * @param size number of bytes to write
+     * @return the number of bytes actually written
+     * @throws Pi4JException if the native {@code write} call fails, carrying the {@code errno} detail
+     */
+    public int write(int fd, MemorySegment data, int size) {
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) FileDescriptorContext.WRITE.invokeExact(capturedState, fd, data, size);
+            if (start != 0) {
+                recordCall(start, fd, "write", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "write", fd, data, size);
+            }
+            return callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scatter read: fills {@code buffers} in order from a single read. Delegate to native 'readv' glibc
+     * method.
+     * <p>
+     * The {@code iovec} array is built in the calling thread's scratch segment, so the buffers must not
+     * be slices of that segment. Direct {@link java.nio.ByteBuffer}s can be passed through
+     * {@link MemorySegment#ofBuffer}.
+     * <p>
+     * Only drivers implementing {@code read_iter} (regular files, pipes, sysfs) treat the vector as one
+     * transfer; for character devices without it (e.g. {@code i2c-dev}, {@code spidev}) the kernel issues
+     * one {@code read} per buffer.
+     *
+     * @param fd      file descriptor of the file to read
+     * @param buffers native segments receiving the data, filled in order
+     * @return the total number of bytes read
+     * @throws Pi4JException if the native {@code readv} call fails, carrying the {@code errno} detail
+     * @throws IllegalArgumentException if any buffer is a heap segment
+     */
+    public long readv(int fd, MemorySegment... buffers) {
+        var iov = vector(buffers);
+        return readv(fd, iov, buffers.length);
+    }
+
+    /**
+     * Scatter read through a prepared {@code iovec} array. Delegate to native 'readv' glibc method.
+     *
+     * @param fd    file descriptor of the file to read
+     * @param iov   the {@code iovec} array describing the target buffers
+     * @param count number of leading entries of {@code iov} to use
+     * @return the total number of bytes read
+     * @throws Pi4JException if the native {@code readv} call fails, carrying the {@code errno} detail
+     */
+    public long readv(int fd, IoVec iov, int count) {
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (long) FileDescriptorContext.READV.invokeExact(capturedState, fd, iov.segment(), count);
+            if (start != 0) {
+                recordCall(start, fd, "readv", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(-1, capturedState, "readv", fd, iov, count);
+            }
+            return callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gather write: sends {@code buffers} in order with a single write, without concatenating them
+     * first. Delegate to native 'writev' glibc method.
+     * <p>
+     * The same restrictions as for {@link #readv(int, MemorySegment...)} apply: buffers must be native and
+     * not taken from the calling thread's scratch segment, and only drivers implementing
+     * {@code write_iter} receive the vector as one transfer.
+     *
+     * @param fd      file descriptor of the file to write
+     * @param buffers native segments holding the data, sent in order
+     * @return the total number of bytes written
+     * @throws Pi4JException if the native {@code writev} call fails, carrying the {@code errno} detail
+     * @throws IllegalArgumentException if any buffer is a heap segment
+     */
+    public long writev(int fd, MemorySegment... buffers) {
+        var iov = vector(buffers);
+        return writev(fd, iov, buffers.length);
+    }
+
+    /**
+     * Gather write through a prepared {@code iovec} array. Delegate to native 'writev' glibc method.
+     *
+     * @param fd    file descriptor of the file to write
+     * @param iov   the {@code iovec} array describing the source buffers
+     * @param count number of leading entries of {@code iov} to use
+     * @return the total number of bytes written
+     * @throws Pi4JException if the native {@code writev} call fails, carrying the {@code errno} detail
+     */
+    public long writev(int fd, IoVec iov, int count) {
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (long) FileDescriptorContext.WRITEV.invokeExact(capturedState, fd, iov.segment(), count);
+            if (start != 0) {
+                recordCall(start, fd, "writev", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(-1, capturedState, "writev", fd, iov, count);
+            }
+            return callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    private static IoVec vector(MemorySegment[] buffers) {
+        var iov = new IoVec(threadScratch(IoVec.BYTE_SIZE * buffers.length));
+        for (int i = 0; i < buffers.length; i++) {
+            iov.set(i, buffers[i]);
+        }
+        return iov;
+    }
+
     /**
      * Repositions the file offset of an open descriptor. Delegate to native 'lseek64' glibc method.
      * <p>
@@ -114,9 +328,15 @@ public class FileDescriptorNative {
      * @throws Pi4JException if the native {@code lseek64} call fails, carrying the {@code errno} detail
      */
     public long lseek(int fd, long offset, int whence) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (long) FileDescriptorContext.LSEEK64.invoke(capturedState, fd, offset, whence);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = critical
+                ? (long) FileDescriptorContext.LSEEK64_CRITICAL.invokeExact(capturedState, fd, offset, whence)
+                : (long) FileDescriptorContext.LSEEK64.invokeExact(capturedState, fd, offset, whence);
+            if (start != 0) {
+                recordCall(start, fd, "lseek", 0, callResult, capturedState);
+            }
             if (callResult < 0) {
                 processError(-1, capturedState, "lseek", fd, offset, whence);
             }
@@ -135,10 +355,16 @@ public class FileDescriptorNative {
      * @throws Pi4JException if the native {@code flock} call fails, carrying the {@code errno} detail
      */
     public int flock(int fd, int lockFlag) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) FileDescriptorContext.FLOCK.invoke(capturedState, fd, lockFlag);
-            processError(callResult, capturedState, "flock", fd, lockFlag);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) FileDescriptorContext.FLOCK.invokeExact(capturedState, fd, lockFlag);
+            if (start != 0) {
+                recordCall(start, fd, "flock", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "flock", fd, lockFlag);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -0,0 +1,107 @@
+package com.pi4j.plugin.ffm.common.file;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Mutable flyweight over a native array of {@code struct iovec}, the scatter/gather descriptor taken by
+ * {@code readv} and {@code writev}. Each entry points at a caller-owned native buffer, so a header and a
+ * payload held in separate segments (or in direct {@link java.nio.ByteBuffer}s wrapped with
+ * {@link MemorySegment#ofBuffer}) reach the kernel in one syscall without being concatenated first.
+ * <p>
+ * Heap segments cannot be referenced from native memory: {@link #set(int, MemorySegment)} rejects them.
+ */
+public final class IoVec {
+    static final StructLayout LAYOUT = MemoryLayout.structLayout(
+        ValueLayout.ADDRESS.withName("iov_base"),
+        ValueLayout.JAVA_LONG.withName("iov_len")
+    );
+    /** Size in bytes of one {@code struct iovec}. */
+    public static final long BYTE_SIZE = LAYOUT.byteSize();
+
+    private static final VarHandle VH_BASE = LAYOUT.varHandle(groupElement("iov_base"));
+    private static final VarHandle VH_LEN = LAYOUT.varHandle(groupElement("iov_len"));
+
+    private final MemorySegment segment;
+    private final int capacity;
+
+    /**
+     * Wraps an existing native {@code struct iovec} array.
+     *
+     * @param segment native memory holding at least one {@code struct iovec}
+     */
+    public IoVec(MemorySegment segment) {
+        this.segment = segment;
+        this.capacity = (int) (segment.byteSize() / BYTE_SIZE);
+    }
+
+    /**
+     * Allocates a zeroed {@code struct iovec} array.
+     *
+     * @param allocator allocator owning the array memory
+     * @param count     number of entries
+     * @return a view over the newly allocated array
+     */
+    public static IoVec allocate(SegmentAllocator allocator, int count) {
+        return new IoVec(allocator.allocate(BYTE_SIZE * count, LAYOUT.byteAlignment()));
+    }
+
+    /**
+     * Returns the native array, to be passed to {@code readv} / {@code writev}.
+     *
+     * @return the backing segment
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Returns the number of entries the array can hold.
+     *
+     * @return the entry capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Points entry {@code index} at the whole of {@code buffer}.
+     *
+     * @param index  zero-based entry index
+     * @param buffer native buffer the entry describes
+     * @return this view
+     * @throws IllegalArgumentException if {@code buffer} is a heap segment
+     */
+    public IoVec set(int index, MemorySegment buffer) {
+        if (!buffer.isNative()) {
+            throw new IllegalArgumentException("Heap segments cannot be used for vectored I/O: " + buffer);
+        }
+        var base = index * BYTE_SIZE;
+        VH_BASE.set(segment, base, buffer);
+        VH_LEN.set(segment, base, buffer.byteSize());
+        return this;
+    }
+
+    /**
+     * Returns the {@code iov_len} field of entry {@code index}.
+     *
+     * @param index zero-based entry index
+     * @return the number of bytes the entry describes
+     */
+    public long length(int index) {
+        return (long) VH_LEN.get(segment, index * BYTE_SIZE);
+    }
+
+    @Override
+    public String toString() {
+        return "IoVec{" +
+            "capacity=" + capacity +
+            '}';
+    }
+}
@@ -5,9 +5,14 @@ package com.pi4j.plugin.ffm.common.gpio;
  * {@code /dev/gpiochipN} line-request file descriptor (mapping the kernel {@code struct gpio_v2_line_event}).
  * Instances are delivered to a {@link PinEventProcessing} callback.
  *
- * @param timestampInNanos kernel-supplied event timestamp in nanoseconds (best-effort estimate, from the realtime or HTE clock)
- * @param pinEvent         the detected edge type, {@link PinEvent#RISING} or {@link PinEvent#FALLING}
- * @param sequenceNumber   monotonically increasing event counter for the line since edge detection was enabled
+ * @param timestampInNanos      kernel-supplied event timestamp in nanoseconds (best-effort estimate, from the
+ *                              monotonic, realtime or HTE clock)
+ * @param pinEvent              the detected edge type, {@link PinEvent#RISING} or {@link PinEvent#FALLING}
+ * @param sequenceNumber        monotonically increasing event counter for the line since edge detection was enabled
+ * @param requestSequenceNumber monotonically increasing event counter across all lines of the line request
+ * @param droppedEvents         number of events the kernel discarded on the line right before this one, derived
+ *                              from a gap in {@code sequenceNumber}
  */
-public record DetectedEvent(long timestampInNanos, PinEvent pinEvent, int sequenceNumber) {
+public record DetectedEvent(long timestampInNanos, PinEvent pinEvent, int sequenceNumber,
+                            int requestSequenceNumber, long droppedEvents) {
 }
@@ -1,7 +1,7 @@
 package com.pi4j.plugin.ffm.common.gpio;
 
 
-import java.util.Arrays;
+import java.util.NoSuchElementException;
 
 /**
  * GPIO line edge event types that can be subscribed to and reported back on a pin state change. The integer values
@@ -24,6 +24,8 @@ public enum PinEvent {
      */
     BOTH((1) | (1 << 1));
 
+    private static final PinEvent[] VALUES = values();
+
     private final int value;
 
     /**
@@ -52,6 +54,12 @@ public enum PinEvent {
      * @throws java.util.NoSuchElementException if no constant has the given value
      */
     public static PinEvent getByValue(int value) {
-        return Arrays.stream(values()).filter(v -> v.getValue() == value).findFirst().orElseThrow();
+        // plain loop over a cached array: called for every received edge, so it must not allocate
+        for (var pinEvent : VALUES) {
+            if (pinEvent.value == value) {
+                return pinEvent;
+            }
+        }
+        throw new NoSuchElementException("No PinEvent with value " + value);
     }
 }
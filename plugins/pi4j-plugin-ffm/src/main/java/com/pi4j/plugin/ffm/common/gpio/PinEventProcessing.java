@@ -4,7 +4,7 @@ import java.util.List;
 
 /**
  * Functional callback invoked by the native GPIO event loop whenever edge events are read from a watched line.
- * Implementations receive the {@link DetectedEvent}s decoded after a {@code poll}/{@code read} cycle on a
+ * Implementations receive the {@link DetectedEvent}s decoded after an {@code epoll_wait}/{@code read} cycle on a
  * {@code /dev/gpiochipN} line file descriptor.
  */
 @FunctionalInterface
@@ -12,10 +12,31 @@ public interface PinEventProcessing {
     /**
      * Handles a batch of edge events detected on a GPIO line.
      * <p>
-     * WARNING: this callback runs on the thread driving the glibc {@code poll} loop, so it must return quickly;
+     * WARNING: this callback runs on the thread driving the {@code epoll} event loop, so it must return quickly;
      * offload any heavy work to a separate thread to avoid stalling further event detection.
      *
      * @param eventList the edge events detected in the most recent read, in the order reported by the kernel
      */
     void process(List<DetectedEvent> eventList);
+
+    /**
+     * Called on every wakeup of the event loop after the ready lines were processed, including wakeups
+     * without events on this line, e.g. to end protocol frames by timeout. Does nothing by default.
+     *
+     * @param nowNs current {@link System#nanoTime()} value
+     */
+    default void idle(long nowNs) {
+    }
+
+    /**
+     * Returns how long the event loop may block before {@link #idle(long)} has work to do, e.g. the frame
+     * timeout of a protocol decoder. Reports no timeout by default.
+     *
+     * @param nowNs current {@link System#nanoTime()} value
+     * @return the nanoseconds until {@link #idle(long)} is due, {@code 0} if it is due now, or {@code -1} if
+     *         nothing is pending
+     */
+    default long pendingTimeoutNs(long nowNs) {
+        return -1;
+    }
 }
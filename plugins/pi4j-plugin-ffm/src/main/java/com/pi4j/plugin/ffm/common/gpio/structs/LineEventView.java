@@ -0,0 +1,121 @@
+package com.pi4j.plugin.ffm.common.gpio.structs;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.VarHandle;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Mutable flyweight over an array of native {@code struct gpio_v2_line_event} records, the hot-path
+ * counterpart of the {@link LineEvent} record. The view is positioned on one record with {@link #at(int)}
+ * and its fields are read in place through static {@link VarHandle}s, so an event loop can decode a whole
+ * read buffer without allocating a record per event.
+ */
+public final class LineEventView {
+    /** Size in bytes of one viewed struct. */
+    public static final long BYTE_SIZE = LineEvent.LAYOUT.byteSize();
+
+    private static final VarHandle VH_TIMESTAMP_NS = LineEvent.LAYOUT.varHandle(groupElement("timestamp_ns"));
+    private static final VarHandle VH_ID = LineEvent.LAYOUT.varHandle(groupElement("id"));
+    private static final VarHandle VH_OFFSET = LineEvent.LAYOUT.varHandle(groupElement("offset"));
+    private static final VarHandle VH_SEQNO = LineEvent.LAYOUT.varHandle(groupElement("seqno"));
+    private static final VarHandle VH_LINE_SEQNO = LineEvent.LAYOUT.varHandle(groupElement("line_seqno"));
+
+    private final MemorySegment segment;
+    private long base = 0;
+
+    /**
+     * Creates a view over a segment holding consecutive {@code gpio_v2_line_event} records, positioned on
+     * the first one.
+     *
+     * @param segment native memory holding the records
+     */
+    public LineEventView(MemorySegment segment) {
+        this.segment = segment;
+    }
+
+    /**
+     * Returns the number of whole records held by the viewed segment.
+     *
+     * @return the record capacity of the segment
+     */
+    public int capacity() {
+        return (int) (segment.byteSize() / BYTE_SIZE);
+    }
+
+    /**
+     * Positions the view on the record with the given index.
+     *
+     * @param index zero-based record index
+     * @return this view
+     */
+    public LineEventView at(int index) {
+        this.base = index * BYTE_SIZE;
+        return this;
+    }
+
+    /**
+     * Returns the {@code timestamp_ns} field of the current record.
+     *
+     * @return event timestamp in nanoseconds
+     */
+    public long timestampNs() {
+        return (long) VH_TIMESTAMP_NS.get(segment, base);
+    }
+
+    /**
+     * Returns the {@code id} field of the current record.
+     *
+     * @return event identifier (rising or falling edge)
+     */
+    public int id() {
+        return (int) VH_ID.get(segment, base);
+    }
+
+    /**
+     * Returns the {@code offset} field of the current record.
+     *
+     * @return offset of the line that triggered the event
+     */
+    public int offset() {
+        return (int) VH_OFFSET.get(segment, base);
+    }
+
+    /**
+     * Returns the {@code seqno} field of the current record.
+     *
+     * @return sequence number across all lines of the request
+     */
+    public int seqno() {
+        return (int) VH_SEQNO.get(segment, base);
+    }
+
+    /**
+     * Returns the {@code line_seqno} field of the current record.
+     *
+     * @return sequence number among the events of this line
+     */
+    public int lineSeqno() {
+        return (int) VH_LINE_SEQNO.get(segment, base);
+    }
+
+    /**
+     * Copies the current record into an immutable {@link LineEvent}, for cold paths and logging.
+     *
+     * @return a record holding the current field values
+     */
+    public LineEvent toRecord() {
+        return new LineEvent(timestampNs(), id(), offset(), seqno(), lineSeqno());
+    }
+
+    @Override
+    public String toString() {
+        return "LineEventView{" +
+            "timestampNs=" + timestampNs() +
+            ", id=" + id() +
+            ", offset=" + offset() +
+            ", seqno=" + seqno() +
+            ", lineSeqno=" + lineSeqno() +
+            '}';
+    }
+}
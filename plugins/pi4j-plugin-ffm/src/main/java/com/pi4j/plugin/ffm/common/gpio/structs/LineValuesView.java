@@ -0,0 +1,108 @@
+package com.pi4j.plugin.ffm.common.gpio.structs;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.invoke.VarHandle;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Mutable flyweight over a native {@code struct gpio_v2_line_values}, the hot-path counterpart of the
+ * {@link LineValues} record. Fields are read and written in place through static {@link VarHandle}s, so
+ * a caller can fill the segment, pass it to {@code GPIO_V2_LINE_GET_VALUES_IOCTL} or
+ * {@code GPIO_V2_LINE_SET_VALUES_IOCTL}, and read the result back without copying it into a record.
+ */
+public final class LineValuesView {
+    /** Size in bytes of the viewed struct. */
+    public static final long BYTE_SIZE = LineValues.LAYOUT.byteSize();
+
+    private static final VarHandle VH_BITS = LineValues.LAYOUT.varHandle(groupElement("bits"));
+    private static final VarHandle VH_MASK = LineValues.LAYOUT.varHandle(groupElement("mask"));
+
+    private final MemorySegment segment;
+
+    /**
+     * Creates a view over an existing segment holding a {@code gpio_v2_line_values} struct.
+     *
+     * @param segment native memory of at least {@link #BYTE_SIZE} bytes
+     */
+    public LineValuesView(MemorySegment segment) {
+        this.segment = segment;
+    }
+
+    /**
+     * Allocates a zeroed struct from {@code allocator} and returns a view over it.
+     *
+     * @param allocator allocator owning the struct memory
+     * @return a view over the newly allocated struct
+     */
+    public static LineValuesView allocate(SegmentAllocator allocator) {
+        return new LineValuesView(allocator.allocate(LineValues.LAYOUT));
+    }
+
+    /**
+     * Returns the viewed native memory, to be passed to the ioctl call.
+     *
+     * @return the struct segment
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Returns the {@code bits} field.
+     *
+     * @return bitmap of line values
+     */
+    public long bits() {
+        return (long) VH_BITS.get(segment, 0L);
+    }
+
+    /**
+     * Sets the {@code bits} field.
+     *
+     * @param bits bitmap of line values
+     * @return this view
+     */
+    public LineValuesView bits(long bits) {
+        VH_BITS.set(segment, 0L, bits);
+        return this;
+    }
+
+    /**
+     * Returns the {@code mask} field.
+     *
+     * @return bitmap selecting the affected lines
+     */
+    public long mask() {
+        return (long) VH_MASK.get(segment, 0L);
+    }
+
+    /**
+     * Sets the {@code mask} field.
+     *
+     * @param mask bitmap selecting the affected lines
+     * @return this view
+     */
+    public LineValuesView mask(long mask) {
+        VH_MASK.set(segment, 0L, mask);
+        return this;
+    }
+
+    /**
+     * Copies the viewed struct into an immutable {@link LineValues} record, for cold paths and logging.
+     *
+     * @return a record holding the current field values
+     */
+    public LineValues toRecord() {
+        return new LineValues(bits(), mask());
+    }
+
+    @Override
+    public String toString() {
+        return "LineValuesView{" +
+            "bits=" + bits() +
+            ", mask=" + mask() +
+            '}';
+    }
+}
@@ -1,14 +1,17 @@
 package com.pi4j.plugin.ffm.common.i2c;
 
 import com.pi4j.exception.Pi4JException;
+import com.pi4j.util.NativeCallStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
 
-import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.CAPTURED_STATE_LAYOUT;
 import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.processError;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.recordCall;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadCapturedState;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadScratch;
 import static com.pi4j.plugin.ffm.common.i2c.SMBusContext.*;
 
 /**
@@ -18,16 +21,19 @@ import static com.pi4j.plugin.ffm.common.i2c.SMBusContext.*;
  * <p>
  * Each call follows the same pattern:
  * <ul>
- *   <li>allocate the needed buffers from a per-call {@link Arena#ofConfined()} arena</li>
- *   <li>add the {@code errno} capture state buffer</li>
+ *   <li>borrow the block buffer, if any, from the calling thread's scratch segment</li>
+ *   <li>add the thread's {@code errno} capture state buffer</li>
  *   <li>invoke the native function</li>
- *   <li>translate a captured {@code errno} into a {@link Pi4JException}</li>
+ *   <li>on failure only, translate the captured {@code errno} into a {@link Pi4JException}</li>
  *   <li>return the call result</li>
  * </ul>
  */
 public class SMBusNative implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger(SMBusNative.class);
 
+    // I2C_SMBUS_BLOCK_MAX: libi2c copies up to this many bytes into the block buffer, whatever was requested.
+    private static final int BLOCK_MAX = 32;
+
     // Keep the context field to trigger SMBusContext class loading (loads libi2c library).
     @SuppressWarnings("unused")
     private final SMBusContext context = new SMBusContext();
@@ -41,10 +47,16 @@ public class SMBusNative implements AutoCloseable {
      * @throws Pi4JException if the native call fails (a non-zero {@code errno} was captured)
      */
     public int writeByte(int fd, byte data) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) WRITE_BYTE.invoke(capturedState, fd, data);
-            processError(callResult, capturedState, "writeByte", fd, data);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) WRITE_BYTE.invokeExact(capturedState, fd, data);
+            if (start != 0) {
+                recordCall(start, fd, "writeByte", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "writeByte", fd, data);
+            }
             return callResult;
         } catch (Throwable e) {
             logger.error(e.getMessage(), e);
@@ -60,10 +72,16 @@ public class SMBusNative implements AutoCloseable {
      * @throws Pi4JException if the native call fails (a non-zero {@code errno} was captured)
      */
     public int readByte(int fd) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) READ_BYTE.invoke(capturedState, fd);
-            processError(callResult, capturedState, "readByte", fd);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) READ_BYTE.invokeExact(capturedState, fd);
+            if (start != 0) {
+                recordCall(start, fd, "readByte", 0, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "readByte", fd);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -80,10 +98,16 @@ public class SMBusNative implements AutoCloseable {
      * @throws Pi4JException if the native call fails (a non-zero {@code errno} was captured)
      */
     public int writeByteData(int fd, byte register, byte data) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) WRITE_BYTE_DATA.invoke(capturedState, fd, register, data);
-            processError(callResult, capturedState, "writeByteData", fd, register, data);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) WRITE_BYTE_DATA.invokeExact(capturedState, fd, register, data);
+            if (start != 0) {
+                recordCall(start, fd, "writeByteData", 0xFF & register, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "writeByteData", fd, register, data);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -99,10 +123,14 @@ public class SMBusNative implements AutoCloseable {
      * @throws Pi4JException if the native call fails (a non-zero {@code errno} was captured)
      */
     public byte readByteData(int fd, byte register) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (byte) READ_BYTE_DATA.invoke(capturedState, fd, register);
-            processError(Byte.toUnsignedInt(callResult), capturedState, "readByteData", fd, register);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            // The handle returns a byte, so a failure cannot be told apart from a 0xFF data value here.
+            var callResult = (byte) READ_BYTE_DATA.invokeExact(capturedState, fd, register);
+            if (start != 0) {
+                recordCall(start, fd, "readByteData", 0xFF & register, 0, capturedState);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -119,11 +147,18 @@ public class SMBusNative implements AutoCloseable {
      * @throws Pi4JException if the native call fails (a non-zero {@code errno} was captured)
      */
     public int writeBlockData(int fd, byte register, byte[] data) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var memoryBuffer = arena.allocateFrom(ValueLayout.JAVA_BYTE, data);
-            var callResult = (int) WRITE_BLOCK_DATA.invoke(capturedState, fd, register, data.length, memoryBuffer);
-            processError(callResult, capturedState, "writeBlockData", fd, register, data.length, data);
+        try {
+            var capturedState = threadCapturedState();
+            var memoryBuffer = threadScratch(data.length);
+            MemorySegment.copy(data, 0, memoryBuffer, ValueLayout.JAVA_BYTE, 0, data.length);
+            var start = NativeCallStatistics.start();
+            var callResult = (int) WRITE_BLOCK_DATA.invokeExact(capturedState, fd, register, data.length, memoryBuffer);
+            if (start != 0) {
+                recordCall(start, fd, "writeBlockData", 0xFF & register, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "writeBlockData", fd, register, data.length, data);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -140,12 +175,19 @@ public class SMBusNative implements AutoCloseable {
      * @throws Pi4JException if the native call fails (a non-zero {@code errno} was captured)
      */
     public byte[] readBlockData(int fd, byte register, byte[] data) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var memoryBuffer = arena.allocateFrom(ValueLayout.JAVA_BYTE, data);
-            var callResult = (int) READ_BLOCK_DATA.invoke(capturedState, fd, register, memoryBuffer);
-            processError(callResult, capturedState, "readBlockData", fd, register, data);
-            return memoryBuffer.toArray(ValueLayout.JAVA_BYTE);
+        try {
+            var capturedState = threadCapturedState();
+            var memoryBuffer = threadScratch(Math.max(data.length, BLOCK_MAX));
+            MemorySegment.copy(data, 0, memoryBuffer, ValueLayout.JAVA_BYTE, 0, data.length);
+            var start = NativeCallStatistics.start();
+            var callResult = (int) READ_BLOCK_DATA.invokeExact(capturedState, fd, register, memoryBuffer);
+            if (start != 0) {
+                recordCall(start, fd, "readBlockData", 0xFF & register, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "readBlockData", fd, register, data);
+            }
+            return memoryBuffer.asSlice(0, data.length).toArray(ValueLayout.JAVA_BYTE);
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
         }
@@ -161,10 +203,16 @@ public class SMBusNative implements AutoCloseable {
      * @throws Pi4JException if the native call fails (a non-zero {@code errno} was captured)
      */
     public int writeWordData(int fd, byte register, int data) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) WRITE_WORD_DATA.invoke(capturedState, fd, register, data);
-            processError(callResult, capturedState, "writeWordData", fd, register, data);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) WRITE_WORD_DATA.invokeExact(capturedState, fd, register, data);
+            if (start != 0) {
+                recordCall(start, fd, "writeWordData", 0xFF & register, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "writeWordData", fd, register, data);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -180,10 +228,16 @@ public class SMBusNative implements AutoCloseable {
      * @throws Pi4JException if the native call fails (a non-zero {@code errno} was captured)
      */
     public int readWordData(int fd, byte register) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) READ_WORD_DATA.invoke(capturedState, fd, register);
-            processError(callResult, capturedState, "readWordData", fd, register);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) READ_WORD_DATA.invokeExact(capturedState, fd, register);
+            if (start != 0) {
+                recordCall(start, fd, "readWordData", 0xFF & register, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "readWordData", fd, register);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
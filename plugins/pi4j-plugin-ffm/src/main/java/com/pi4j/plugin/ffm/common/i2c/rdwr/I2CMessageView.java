@@ -0,0 +1,124 @@
+package com.pi4j.plugin.ffm.common.i2c.rdwr;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.invoke.VarHandle;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Mutable flyweight over a native {@code struct i2c_rdwr_ioctl_data} followed by its array of
+ * {@code struct i2c_msg}, the hot-path counterpart of the {@link RDWRData} and {@link I2CMessage} records.
+ * The header points at the message array once at allocation time; the view is then positioned on one
+ * message with {@link #at(int)} and its fields are written in place through static {@link VarHandle}s.
+ * Message payloads live in caller-owned native buffers, so a repeated transaction copies no struct.
+ */
+public final class I2CMessageView {
+    // header size rounded up so the message array that follows it is pointer-aligned
+    private static final long HEADER_SIZE = (RDWRData.LAYOUT.byteSize() + I2CMessage.LAYOUT.byteAlignment() - 1)
+        & -I2CMessage.LAYOUT.byteAlignment();
+    private static final long MESSAGE_SIZE = I2CMessage.LAYOUT.byteSize();
+
+    private static final VarHandle VH_MSGS = RDWRData.LAYOUT.varHandle(groupElement("msgs"));
+    private static final VarHandle VH_NMSGS = RDWRData.LAYOUT.varHandle(groupElement("nmsgs"));
+    private static final VarHandle VH_ADDRESS = I2CMessage.LAYOUT.varHandle(groupElement("address"));
+    private static final VarHandle VH_FLAGS = I2CMessage.LAYOUT.varHandle(groupElement("flags"));
+    private static final VarHandle VH_LEN = I2CMessage.LAYOUT.varHandle(groupElement("len"));
+    private static final VarHandle VH_BUFFER = I2CMessage.LAYOUT.varHandle(groupElement("buf"));
+
+    private final MemorySegment segment;
+    private final MemorySegment messages;
+    private long base = 0;
+
+    private I2CMessageView(MemorySegment segment, int count) {
+        this.segment = segment;
+        this.messages = segment.asSlice(HEADER_SIZE, MESSAGE_SIZE * count);
+        VH_MSGS.set(segment, 0L, messages);
+        VH_NMSGS.set(segment, 0L, count);
+    }
+
+    /**
+     * Allocates a zeroed {@code i2c_rdwr_ioctl_data} header with room for {@code count} messages and
+     * returns a view positioned on the first message.
+     *
+     * @param allocator allocator owning the struct memory
+     * @param count     number of messages in the transaction
+     * @return a view over the newly allocated structs
+     */
+    public static I2CMessageView allocate(SegmentAllocator allocator, int count) {
+        return new I2CMessageView(
+            allocator.allocate(HEADER_SIZE + MESSAGE_SIZE * count, RDWRData.LAYOUT.byteAlignment()), count);
+    }
+
+    /**
+     * Returns the {@code i2c_rdwr_ioctl_data} header, to be passed to the {@code I2C_RDWR} ioctl.
+     *
+     * @return the header segment, followed by the message array
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Positions the view on the message with the given index.
+     *
+     * @param index zero-based message index
+     * @return this view
+     */
+    public I2CMessageView at(int index) {
+        this.base = index * MESSAGE_SIZE;
+        return this;
+    }
+
+    /**
+     * Sets the {@code addr} and {@code flags} fields of the current message.
+     *
+     * @param address the 7 or 10 bit slave address
+     * @param flags   the message flags bitmask, e.g. {@code I2C_M_RD}
+     * @return this view
+     */
+    public I2CMessageView header(int address, int flags) {
+        VH_ADDRESS.set(messages, base, (short) address);
+        VH_FLAGS.set(messages, base, (short) flags);
+        return this;
+    }
+
+    /**
+     * Returns the {@code len} field of the current message.
+     *
+     * @return number of data bytes
+     */
+    public int len() {
+        return Short.toUnsignedInt((short) VH_LEN.get(messages, base));
+    }
+
+    /**
+     * Sets the {@code len} field of the current message.
+     *
+     * @param len number of data bytes to transfer
+     * @return this view
+     */
+    public I2CMessageView len(int len) {
+        VH_LEN.set(messages, base, (short) len);
+        return this;
+    }
+
+    /**
+     * Sets the {@code buf} pointer of the current message.
+     *
+     * @param buffer native data buffer, at least {@link #len()} bytes long
+     * @return this view
+     */
+    public I2CMessageView buf(MemorySegment buffer) {
+        VH_BUFFER.set(messages, base, buffer);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "I2CMessageView{" +
+            "base=" + base +
+            ", len=" + len() +
+            '}';
+    }
+}
@@ -33,4 +33,16 @@ class IoctlContext extends Pi4JNativeContext {
 			LIBC_LIB.find("ioctl").orElseThrow(),
 			FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.ADDRESS),
 			Linker.Option.captureCallState("errno"));
+
+    // Critical variants of IOCTL and IOCTL_1, for short requests that never block
+    // (see com.pi4j.plugin.ffm.config.NativeCallMode#CRITICAL)
+    static final MethodHandle IOCTL_CRITICAL = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("ioctl").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG),
+        Linker.Option.captureCallState("errno"), Linker.Option.critical(false));
+
+    static final MethodHandle IOCTL_1_CRITICAL = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("ioctl").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.ADDRESS),
+        Linker.Option.captureCallState("errno"), Linker.Option.critical(false));
 }
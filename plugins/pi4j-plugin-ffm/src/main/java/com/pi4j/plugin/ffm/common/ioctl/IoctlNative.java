@@ -2,19 +2,26 @@ package com.pi4j.plugin.ffm.common.ioctl;
 
 import com.pi4j.exception.Pi4JException;
 import com.pi4j.plugin.ffm.common.Pi4JLayout;
+import com.pi4j.plugin.ffm.common.Pi4JNativeContext;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
+import com.pi4j.util.NativeCallStatistics;
 
 import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
 
-import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.CAPTURED_STATE_LAYOUT;
 import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.processError;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.recordCall;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadCapturedState;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadScratch;
 
 /**
  * Thin Java wrapper around the Linux {@code ioctl(2)} syscall, reached through the Foreign Function
  * &amp; Memory API. Each call follows the same pattern:
  * <ul>
- *   <li>allocate the needed buffers from a per-call {@link Arena#ofConfined()} arena;</li>
- *   <li>attach an {@code errno} capture state so failures can be reported;</li>
+ *   <li>borrow a scalar argument buffer from {@link Pi4JNativeContext#threadScratch(long)}, or allocate
+ *       struct buffers from a per-call {@link Arena#ofConfined()} arena;</li>
+ *   <li>attach the thread's {@code errno} capture state so failures can be reported;</li>
  *   <li>invoke the native {@code ioctl} handle held by {@link IoctlContext};</li>
  *   <li>translate a negative return into a {@link Pi4JException} via {@code processError};</li>
  *   <li>return the result, reading back any value the kernel wrote into the argument buffer.</li>
@@ -26,6 +33,28 @@ public class IoctlNative {
     @SuppressWarnings("unused")
     private final IoctlContext context = new IoctlContext();
 
+    // link the scalar and in-place struct calls as critical downcalls
+    private final boolean critical;
+
+    /**
+     * Creates a wrapper using {@link NativeCallMode#STANDARD} downcalls.
+     */
+    public IoctlNative() {
+        this(NativeCallMode.STANDARD);
+    }
+
+    /**
+     * Creates a wrapper linking {@link #callByValue}, {@link #call(int, long, int)} and
+     * {@link #call(int, long, MemorySegment)} according to {@code callMode}. Only pass
+     * {@link NativeCallMode#CRITICAL} for a wrapper whose requests never block; bus transfers that may
+     * sleep must use a standard wrapper.
+     *
+     * @param callMode how the short calls of this wrapper are linked
+     */
+    public IoctlNative(NativeCallMode callMode) {
+        this.critical = callMode == NativeCallMode.CRITICAL;
+    }
+
     /**
      * Invokes {@code ioctl(fd, command, data)} passing {@code data} directly by value, for requests
      * whose argument is an integer rather than a pointer to a buffer.
@@ -37,10 +66,18 @@ public class IoctlNative {
      * @throws Pi4JException if the syscall fails (negative return); wraps the captured {@code errno}
      */
     public int callByValue(int fd, long command, long data) {
-        try (var arena = Arena.ofConfined()) {
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) IoctlContext.IOCTL.invoke(capturedState, fd, command, data);
-            processError(callResult, capturedState, "callByValue", fd, command, data);
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = critical
+                ? (int) IoctlContext.IOCTL_CRITICAL.invokeExact(capturedState, fd, command, data)
+                : (int) IoctlContext.IOCTL.invokeExact(capturedState, fd, command, data);
+            if (start != 0) {
+                recordCall(start, fd, "ioctl", command, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "callByValue", fd, command, data);
+            }
             return callResult;
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -58,12 +95,18 @@ public class IoctlNative {
      * @throws Pi4JException if the syscall fails (negative return); wraps the captured {@code errno}
      */
     public long call(int fd, long command, long data) {
-        try (var arena = Arena.ofConfined()) {
-            var dataMemorySegment = arena.allocate(ValueLayout.JAVA_LONG);
+        try {
+            var dataMemorySegment = threadScratch(ValueLayout.JAVA_LONG.byteSize());
             dataMemorySegment.set(ValueLayout.JAVA_LONG, 0, data);
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) IoctlContext.IOCTL_0.invoke(capturedState, fd, command, dataMemorySegment);
-            processError(callResult, capturedState, "call", fd, command, data);
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (long) IoctlContext.IOCTL_0.invokeExact(capturedState, fd, command, dataMemorySegment);
+            if (start != 0) {
+                recordCall(start, fd, "ioctl", command, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError((int) callResult, capturedState, "call", fd, command, data);
+            }
             return dataMemorySegment.get(ValueLayout.JAVA_LONG, 0);
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -81,12 +124,20 @@ public class IoctlNative {
      * @throws Pi4JException if the syscall fails (negative return); wraps the captured {@code errno}
      */
     public int call(int fd, long command, int data) {
-        try (var arena = Arena.ofConfined()) {
-            var dataMemorySegment = arena.allocate(ValueLayout.JAVA_INT);
+        try {
+            var dataMemorySegment = threadScratch(ValueLayout.JAVA_INT.byteSize());
             dataMemorySegment.set(ValueLayout.JAVA_INT, 0, data);
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) IoctlContext.IOCTL_1.invoke(capturedState, fd, command, dataMemorySegment);
-            processError(callResult, capturedState, "call", fd, command, data);
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = critical
+                ? (int) IoctlContext.IOCTL_1_CRITICAL.invokeExact(capturedState, fd, command, dataMemorySegment)
+                : (int) IoctlContext.IOCTL_1.invokeExact(capturedState, fd, command, dataMemorySegment);
+            if (start != 0) {
+                recordCall(start, fd, "ioctl", command, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "call", fd, command, data);
+            }
             return dataMemorySegment.get(ValueLayout.JAVA_INT, 0);
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
@@ -110,12 +161,49 @@ public class IoctlNative {
         try (var arena = Arena.ofConfined()) {
             var dataMemorySegment = arena.allocate(data.getMemoryLayout());
             data.to(dataMemorySegment, arena);
-            var capturedState = arena.allocate(CAPTURED_STATE_LAYOUT);
-            var callResult = (int) IoctlContext.IOCTL_1.invoke(capturedState, fd, command, dataMemorySegment);
-            processError(callResult, capturedState, "call", fd, command, data);
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = (int) IoctlContext.IOCTL_1.invokeExact(capturedState, fd, command, dataMemorySegment);
+            if (start != 0) {
+                recordCall(start, fd, "ioctl", command, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "call", fd, command, data);
+            }
             return data.from(dataMemorySegment, arena);
         } catch (Throwable e) {
             throw new Pi4JException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Invokes {@code ioctl(fd, command, data)} on a caller-owned struct segment, typically one held by a
+     * flyweight view such as {@link com.pi4j.plugin.ffm.common.gpio.structs.LineValuesView}. Allocation-free
+     * variant of {@link #call(int, long, Pi4JLayout)}: the kernel reads and writes the struct in place and
+     * the caller reads back only the fields it needs.
+     *
+     * @param fd      open file descriptor of the device the request targets
+     * @param command encoded ioctl request code (see {@link Command} / {@link IoctlMagic})
+     * @param data    native memory holding the struct argument
+     * @return the raw value returned by {@code ioctl}, typically {@code 0} on success
+     * @throws Pi4JException if the syscall fails (negative return); wraps the captured {@code errno}
+     */
+    public int call(int fd, long command, MemorySegment data) {
+        try {
+            var capturedState = threadCapturedState();
+            var start = NativeCallStatistics.start();
+            var callResult = critical
+                ? (int) IoctlContext.IOCTL_1_CRITICAL.invokeExact(capturedState, fd, command, data)
+                : (int) IoctlContext.IOCTL_1.invokeExact(capturedState, fd, command, data);
+            if (start != 0) {
+                recordCall(start, fd, "ioctl", command, callResult, capturedState);
+            }
+            if (callResult < 0) {
+                processError(callResult, capturedState, "call", fd, command, data);
+            }
+            return callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
 }
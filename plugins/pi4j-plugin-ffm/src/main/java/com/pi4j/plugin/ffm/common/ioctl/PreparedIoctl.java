@@ -0,0 +1,84 @@
+package com.pi4j.plugin.ffm.common.ioctl;
+
+import com.pi4j.exception.Pi4JException;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * An {@code ioctl(fd, command, payload)} call bound once to its file descriptor, request code and a
+ * long-lived payload segment, for steady-state loops that issue the same request over and over (GPIO
+ * output toggling, register polling, fixed-size SPI frames). The request code is resolved once, and the
+ * payload struct is filled once. The caller then updates only the fields that changed through a flyweight
+ * view over {@link #payload()} and calls {@link #invoke()}, which allocates nothing.
+ * <p>
+ * The payload is shared state: a prepared call must not be invoked concurrently from several threads,
+ * so callers that can be reached from more than one thread serialize access to it.
+ */
+public final class PreparedIoctl {
+    private final IoctlNative ioctl;
+    private final int fd;
+    private final long command;
+    private final MemorySegment payload;
+
+    /**
+     * Binds an ioctl call.
+     *
+     * @param ioctl   the native ioctl wrapper issuing the call
+     * @param fd      open file descriptor of the device the request targets
+     * @param command encoded ioctl request code (see {@link Command} / {@link IoctlMagic})
+     * @param payload native memory holding the struct argument; must outlive this prepared call
+     */
+    public PreparedIoctl(IoctlNative ioctl, int fd, long command, MemorySegment payload) {
+        this.ioctl = ioctl;
+        this.fd = fd;
+        this.command = command;
+        this.payload = payload;
+    }
+
+    /**
+     * Returns the file descriptor the call is bound to.
+     *
+     * @return the bound file descriptor
+     */
+    public int fd() {
+        return fd;
+    }
+
+    /**
+     * Returns the request code the call is bound to.
+     *
+     * @return the bound ioctl request code
+     */
+    public long command() {
+        return command;
+    }
+
+    /**
+     * Returns the payload segment passed to every call, for in-place updates and read-back.
+     *
+     * @return the bound payload segment
+     */
+    public MemorySegment payload() {
+        return payload;
+    }
+
+    /**
+     * Issues the bound {@code ioctl} with the current payload contents. Fields written by the kernel are
+     * updated in place in {@link #payload()}.
+     *
+     * @return the raw value returned by {@code ioctl}, typically {@code 0} on success
+     * @throws Pi4JException if the syscall fails (negative return); wraps the captured {@code errno}
+     */
+    public int invoke() {
+        return ioctl.call(fd, command, payload);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedIoctl{" +
+            "fd=" + fd +
+            ", command=" + command +
+            ", payloadSize=" + payload.byteSize() +
+            '}';
+    }
+}
@@ -0,0 +1,34 @@
+package com.pi4j.plugin.ffm.common.sched;
+
+import com.pi4j.plugin.ffm.common.Pi4JNativeContext;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Binds the glibc {@code sched_setaffinity(2)}, {@code sched_setscheduler(2)} and {@code mlockall(2)}
+ * functions as {@link MethodHandle}s with {@code errno} capture, used to run latency-sensitive I/O threads
+ * with real-time scheduling. The handles are invoked by {@link SchedNative}.
+ */
+class SchedContext extends Pi4JNativeContext {
+
+    // Native glibc 'sched_setaffinity' method (int sched_setaffinity(pid_t pid, size_t cpusetsize, const cpu_set_t *mask))
+    static final MethodHandle SCHED_SETAFFINITY = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("sched_setaffinity").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.ADDRESS),
+        Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'sched_setscheduler' method (int sched_setscheduler(pid_t pid, int policy, const struct sched_param *param))
+    static final MethodHandle SCHED_SETSCHEDULER = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("sched_setscheduler").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.ADDRESS),
+        Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'mlockall' method
+    static final MethodHandle MLOCKALL = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("mlockall").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT),
+        Linker.Option.captureCallState("errno"));
+}
@@ -0,0 +1,25 @@
+package com.pi4j.plugin.ffm.common.sched;
+
+/**
+ * Scheduling policies and memory locking flags for {@code sched_setscheduler(2)} and {@code mlockall(2)},
+ * mirroring the kernel {@code <uapi/linux/sched.h>} and {@code <asm-generic/mman-common.h>} {@code #define}s.
+ *
+ * @see <a href="https://elixir.bootlin.com/linux/latest/source/include/uapi/linux/sched.h#L114">linux sources</a>
+ */
+public final class SchedFlag {
+
+    /** {@code SCHED_OTHER}: the default time-shared policy. */
+    public static final int SCHED_OTHER = 0;
+    /** {@code SCHED_FIFO}: first-in first-out real-time policy, runs until it blocks or yields. */
+    public static final int SCHED_FIFO = 1;
+    /** {@code SCHED_RR}: round-robin real-time policy. */
+    public static final int SCHED_RR = 2;
+
+    /** {@code MCL_CURRENT}: lock all pages currently mapped into the process. */
+    public static final int MCL_CURRENT = 1;
+    /** {@code MCL_FUTURE}: lock all pages mapped into the process in the future. */
+    public static final int MCL_FUTURE = 2;
+
+    /** Size of the glibc {@code cpu_set_t} mask in bytes (1024 CPUs). */
+    public static final int CPU_SET_SIZE = 128;
+}
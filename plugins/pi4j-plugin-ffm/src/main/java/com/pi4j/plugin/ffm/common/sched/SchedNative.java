@@ -0,0 +1,87 @@
+package com.pi4j.plugin.ffm.common.sched;
+
+import com.pi4j.exception.Pi4JException;
+
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.processError;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadCapturedState;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadScratch;
+
+/**
+ * Java front end to the scheduling functions bound by {@link SchedContext}. Affinity and scheduling
+ * changes apply to the calling thread only (Linux treats pid {@code 0} as the calling thread).
+ */
+public class SchedNative {
+    // Keep the context field to trigger SchedContext class loading (and thus MethodHandle init).
+    @SuppressWarnings("unused")
+    private final SchedContext context = new SchedContext();
+
+    /**
+     * Restricts the calling thread to the given CPU cores. Delegate to native 'sched_setaffinity' glibc method.
+     *
+     * @param cpus CPU core numbers, each below {@code 8 * }{@link SchedFlag#CPU_SET_SIZE}
+     * @throws IllegalArgumentException if a core number does not fit in a {@code cpu_set_t}
+     * @throws Pi4JException            if the native {@code sched_setaffinity} call fails
+     */
+    public void setAffinity(int... cpus) {
+        var mask = threadScratch(SchedFlag.CPU_SET_SIZE).fill((byte) 0);
+        for (var cpu : cpus) {
+            if (cpu < 0 || cpu >= SchedFlag.CPU_SET_SIZE * 8) {
+                throw new IllegalArgumentException("CPU core number out of range: " + cpu);
+            }
+            var index = cpu / 8;
+            mask.set(ValueLayout.JAVA_BYTE, index, (byte) (mask.get(ValueLayout.JAVA_BYTE, index) | (1 << (cpu % 8))));
+        }
+        try {
+            var capturedState = threadCapturedState();
+            var callResult = (int) SchedContext.SCHED_SETAFFINITY.invokeExact(capturedState, 0, (long) SchedFlag.CPU_SET_SIZE, mask);
+            if (callResult < 0) {
+                processError(callResult, capturedState, "sched_setaffinity", Arrays.toString(cpus));
+            }
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sets the scheduling policy and priority of the calling thread. Delegate to native 'sched_setscheduler'
+     * glibc method.
+     *
+     * @param policy   scheduling policy, see {@link SchedFlag}
+     * @param priority static priority, 1 to 99 for the real-time policies and 0 for {@link SchedFlag#SCHED_OTHER}
+     * @throws Pi4JException if the native {@code sched_setscheduler} call fails
+     */
+    public void setScheduler(int policy, int priority) {
+        var param = threadScratch(ValueLayout.JAVA_INT.byteSize());
+        param.set(ValueLayout.JAVA_INT, 0, priority);
+        try {
+            var capturedState = threadCapturedState();
+            var callResult = (int) SchedContext.SCHED_SETSCHEDULER.invokeExact(capturedState, 0, policy, param);
+            if (callResult < 0) {
+                processError(callResult, capturedState, "sched_setscheduler", policy, priority);
+            }
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Locks the process memory into RAM. Delegate to native 'mlockall' glibc method.
+     *
+     * @param flags combination of {@link SchedFlag#MCL_CURRENT} and {@link SchedFlag#MCL_FUTURE}
+     * @throws Pi4JException if the native {@code mlockall} call fails
+     */
+    public void lockAll(int flags) {
+        try {
+            var capturedState = threadCapturedState();
+            var callResult = (int) SchedContext.MLOCKALL.invokeExact(capturedState, flags);
+            if (callResult < 0) {
+                processError(callResult, capturedState, "mlockall", flags);
+            }
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.pi4j.plugin.ffm.common.spi;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.invoke.VarHandle;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Mutable flyweight over an array of native {@code struct spi_ioc_transfer} descriptors, the hot-path
+ * counterpart of {@link SpiTransferBuffer}. The view is positioned on one descriptor with {@link #at(int)}
+ * and its fields are written in place through static {@link VarHandle}s. Unlike the record, the
+ * {@code tx_buf}/{@code rx_buf} pointers refer to caller-owned native buffers that are filled and
+ * drained directly, so a steady-state transfer copies no descriptor and allocates nothing.
+ */
+public final class SpiIocTransferView {
+    /** Size in bytes of one viewed struct. */
+    public static final long BYTE_SIZE = SpiIocTransfer.LAYOUT.byteSize();
+
+    private static final VarHandle VH_TX_BUF = SpiIocTransfer.LAYOUT.varHandle(groupElement("tx_buf"));
+    private static final VarHandle VH_RX_BUF = SpiIocTransfer.LAYOUT.varHandle(groupElement("rx_buf"));
+    private static final VarHandle VH_LEN = SpiIocTransfer.LAYOUT.varHandle(groupElement("len"));
+    private static final VarHandle VH_SPEED_HZ = SpiIocTransfer.LAYOUT.varHandle(groupElement("speed_hz"));
+    private static final VarHandle VH_DELAY_USECS = SpiIocTransfer.LAYOUT.varHandle(groupElement("delay_usecs"));
+    private static final VarHandle VH_BITS_PER_WORD = SpiIocTransfer.LAYOUT.varHandle(groupElement("bits_per_word"));
+    private static final VarHandle VH_CS_CHANGE = SpiIocTransfer.LAYOUT.varHandle(groupElement("cs_change"));
+    private static final VarHandle VH_WORD_DELAY_USECS = SpiIocTransfer.LAYOUT.varHandle(groupElement("word_delay_usecs"));
+    private static final VarHandle VH_TX_NBITS = SpiIocTransfer.LAYOUT.varHandle(groupElement("tx_nbits"));
+    private static final VarHandle VH_RX_NBITS = SpiIocTransfer.LAYOUT.varHandle(groupElement("rx_nbits"));
+
+    private final MemorySegment segment;
+    private long base = 0;
+
+    /**
+     * Creates a view over a segment holding consecutive {@code spi_ioc_transfer} descriptors, positioned
+     * on the first one.
+     *
+     * @param segment native memory holding the descriptors
+     */
+    public SpiIocTransferView(MemorySegment segment) {
+        this.segment = segment;
+    }
+
+    /**
+     * Allocates {@code count} zeroed descriptors from {@code allocator} and returns a view over them.
+     *
+     * @param allocator allocator owning the descriptor memory
+     * @param count     number of descriptors, i.e. the {@code N} of {@code SPI_IOC_MESSAGE(N)}
+     * @return a view positioned on the first descriptor
+     */
+    public static SpiIocTransferView allocate(SegmentAllocator allocator, int count) {
+        return new SpiIocTransferView(allocator.allocate(BYTE_SIZE * count, SpiIocTransfer.LAYOUT.byteAlignment()));
+    }
+
+    /**
+     * Returns the viewed native memory, to be passed to the {@code SPI_IOC_MESSAGE} ioctl.
+     *
+     * @return the descriptor array segment
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Returns the number of descriptors held by the viewed segment.
+     *
+     * @return the descriptor capacity of the segment
+     */
+    public int capacity() {
+        return (int) (segment.byteSize() / BYTE_SIZE);
+    }
+
+    /**
+     * Positions the view on the descriptor with the given index.
+     *
+     * @param index zero-based descriptor index
+     * @return this view
+     */
+    public SpiIocTransferView at(int index) {
+        this.base = index * BYTE_SIZE;
+        return this;
+    }
+
+    /**
+     * Sets the {@code tx_buf} pointer of the current descriptor.
+     *
+     * @param txBuf native transmit buffer, or {@link MemorySegment#NULL} to clock out zeros
+     * @return this view
+     */
+    public SpiIocTransferView txBuf(MemorySegment txBuf) {
+        VH_TX_BUF.set(segment, base, txBuf.address());
+        return this;
+    }
+
+    /**
+     * Sets the {@code tx_buf} pointer of the current descriptor to a raw address, e.g. an offset into a
+     * caller-owned native segment, without creating a slice for it.
+     *
+     * @param address native address of the transmit data, or {@code 0} to clock out zeros
+     * @return this view
+     */
+    public SpiIocTransferView txBuf(long address) {
+        VH_TX_BUF.set(segment, base, address);
+        return this;
+    }
+
+    /**
+     * Sets the {@code rx_buf} pointer of the current descriptor.
+     *
+     * @param rxBuf native receive buffer, or {@link MemorySegment#NULL} to discard the received bytes
+     * @return this view
+     */
+    public SpiIocTransferView rxBuf(MemorySegment rxBuf) {
+        VH_RX_BUF.set(segment, base, rxBuf.address());
+        return this;
+    }
+
+    /**
+     * Sets the {@code rx_buf} pointer of the current descriptor to a raw address, e.g. an offset into a
+     * caller-owned native segment, without creating a slice for it.
+     *
+     * @param address native address receiving the data, or {@code 0} to discard the received bytes
+     * @return this view
+     */
+    public SpiIocTransferView rxBuf(long address) {
+        VH_RX_BUF.set(segment, base, address);
+        return this;
+    }
+
+    /**
+     * Returns the {@code len} field of the current descriptor.
+     *
+     * @return number of bytes to transfer
+     */
+    public int len() {
+        return (int) VH_LEN.get(segment, base);
+    }
+
+    /**
+     * Sets the {@code len} field of the current descriptor.
+     *
+     * @param len number of bytes to transfer
+     * @return this view
+     */
+    public SpiIocTransferView len(int len) {
+        VH_LEN.set(segment, base, len);
+        return this;
+    }
+
+    /**
+     * Sets the {@code speed_hz} field of the current descriptor.
+     *
+     * @param speedHz clock speed in Hertz; {@code 0} uses the device default
+     * @return this view
+     */
+    public SpiIocTransferView speedHz(int speedHz) {
+        VH_SPEED_HZ.set(segment, base, speedHz);
+        return this;
+    }
+
+    /**
+     * Sets the {@code delay_usecs} field of the current descriptor.
+     *
+     * @param delayUsecs delay in microseconds after the transfer
+     * @return this view
+     */
+    public SpiIocTransferView delayUsecs(int delayUsecs) {
+        VH_DELAY_USECS.set(segment, base, (short) delayUsecs);
+        return this;
+    }
+
+    /**
+     * Sets the {@code bits_per_word} field of the current descriptor.
+     *
+     * @param bitsPerWord word size in bits; {@code 0} uses the device default
+     * @return this view
+     */
+    public SpiIocTransferView bitsPerWord(int bitsPerWord) {
+        VH_BITS_PER_WORD.set(segment, base, (byte) bitsPerWord);
+        return this;
+    }
+
+    /**
+     * Sets the {@code cs_change} field of the current descriptor.
+     *
+     * @param csChange {@code true} to deselect the device after this transfer
+     * @return this view
+     */
+    public SpiIocTransferView csChange(boolean csChange) {
+        VH_CS_CHANGE.set(segment, base, (byte) (csChange ? 1 : 0));
+        return this;
+    }
+
+    /**
+     * Sets the {@code word_delay_usecs} field of the current descriptor.
+     *
+     * @param wordDelayUsecs delay in microseconds between the words of the transfer
+     * @return this view
+     */
+    public SpiIocTransferView wordDelayUsecs(int wordDelayUsecs) {
+        VH_WORD_DELAY_USECS.set(segment, base, (byte) wordDelayUsecs);
+        return this;
+    }
+
+    /**
+     * Sets the {@code tx_nbits} and {@code rx_nbits} fields of the current descriptor.
+     *
+     * @param txNbits number of transmit lanes; {@code 0} selects single-lane SPI
+     * @param rxNbits number of receive lanes; {@code 0} selects single-lane SPI
+     * @return this view
+     */
+    public SpiIocTransferView nbits(int txNbits, int rxNbits) {
+        VH_TX_NBITS.set(segment, base, (byte) txNbits);
+        VH_RX_NBITS.set(segment, base, (byte) rxNbits);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "SpiIocTransferView{" +
+            "capacity=" + capacity() +
+            ", base=" + base +
+            ", len=" + len() +
+            '}';
+    }
+}
@@ -168,6 +168,69 @@ public final class SpiTransferBuffer implements Pi4JLayout {
         return spiIocTransfer.rxBuf();
     }
 
+    /**
+     * Returns the clock speed override of the underlying transfer.
+     *
+     * @return the clock speed in Hertz; 0 uses the device default
+     */
+    public int getSpeedHz() {
+        return spiIocTransfer.speedHz();
+    }
+
+    /**
+     * Returns the delay applied after the underlying transfer.
+     *
+     * @return the delay in microseconds
+     */
+    public int getDelayUsecs() {
+        return spiIocTransfer.delayUsecs();
+    }
+
+    /**
+     * Returns the word size override of the underlying transfer.
+     *
+     * @return the word size in bits; 0 uses the device default
+     */
+    public int getBitsPerWord() {
+        return spiIocTransfer.bitsPerWord();
+    }
+
+    /**
+     * Indicates whether the device is deselected after the underlying transfer.
+     *
+     * @return {@code true} if {@code cs_change} is set
+     */
+    public boolean isCsChange() {
+        return spiIocTransfer.csChange() != 0;
+    }
+
+    /**
+     * Returns the delay between the words of the underlying transfer.
+     *
+     * @return the delay in microseconds
+     */
+    public int getWordDelayUsecs() {
+        return Byte.toUnsignedInt(spiIocTransfer.wordDelayUsecs());
+    }
+
+    /**
+     * Returns the number of transmit data lines of the underlying transfer.
+     *
+     * @return the {@code tx_nbits} value; 0 selects single-lane SPI
+     */
+    public int getTxNbits() {
+        return spiIocTransfer.txNbits();
+    }
+
+    /**
+     * Returns the number of receive data lines of the underlying transfer.
+     *
+     * @return the {@code rx_nbits} value; 0 selects single-lane SPI
+     */
+    public int getRxNbits() {
+        return spiIocTransfer.rxNbits();
+    }
+
     @Override
     public String toString() {
         return "SpiTransferBuffer{" +
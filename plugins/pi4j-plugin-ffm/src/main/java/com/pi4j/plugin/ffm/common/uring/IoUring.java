@@ -0,0 +1,429 @@
+package com.pi4j.plugin.ffm.common.uring;
+
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.plugin.ffm.common.eventfd.EventFdFlag;
+import com.pi4j.plugin.ffm.common.eventfd.EventFdNative;
+import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * A minimal {@code io_uring(7)} instance: the submission and completion rings are memory-mapped once,
+ * operations are queued by writing submission entries straight into the shared ring, and a whole batch
+ * is handed to the kernel with a single {@code io_uring_enter(2)}. Completions are reaped from the
+ * completion ring without any syscall.
+ * <p>
+ * Typical use queues several operations, optionally {@linkplain #link() linked} so they run in order,
+ * calls {@link #submitAndWait(int)} and then drains the results with {@link #complete(CompletionHandler)}.
+ * Buffers passed to {@code prepare*} must stay valid until the matching completion has been reaped.
+ * <p>
+ * A ring is not thread-safe; each instance must be confined to one thread at a time. io_uring may be
+ * missing (kernels before 5.1), lack the read and write opcodes (kernels before 5.6) or be disabled (the
+ * {@code kernel.io_uring_disabled} sysctl, container seccomp profiles), so callers check
+ * {@link #isSupported()} and keep their synchronous path as a fallback.
+ */
+public final class IoUring implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(IoUring.class);
+
+    private static final StructLayout SQ_OFFSETS_LAYOUT = MemoryLayout.structLayout(
+        ValueLayout.JAVA_INT.withName("head"),
+        ValueLayout.JAVA_INT.withName("tail"),
+        ValueLayout.JAVA_INT.withName("ring_mask"),
+        ValueLayout.JAVA_INT.withName("ring_entries"),
+        ValueLayout.JAVA_INT.withName("flags"),
+        ValueLayout.JAVA_INT.withName("dropped"),
+        ValueLayout.JAVA_INT.withName("array"),
+        ValueLayout.JAVA_INT.withName("resv1"),
+        ValueLayout.JAVA_LONG.withName("user_addr")
+    );
+    private static final StructLayout CQ_OFFSETS_LAYOUT = MemoryLayout.structLayout(
+        ValueLayout.JAVA_INT.withName("head"),
+        ValueLayout.JAVA_INT.withName("tail"),
+        ValueLayout.JAVA_INT.withName("ring_mask"),
+        ValueLayout.JAVA_INT.withName("ring_entries"),
+        ValueLayout.JAVA_INT.withName("overflow"),
+        ValueLayout.JAVA_INT.withName("cqes"),
+        ValueLayout.JAVA_INT.withName("flags"),
+        ValueLayout.JAVA_INT.withName("resv1"),
+        ValueLayout.JAVA_LONG.withName("user_addr")
+    );
+    // struct io_uring_params
+    private static final StructLayout PARAMS_LAYOUT = MemoryLayout.structLayout(
+        ValueLayout.JAVA_INT.withName("sq_entries"),
+        ValueLayout.JAVA_INT.withName("cq_entries"),
+        ValueLayout.JAVA_INT.withName("flags"),
+        ValueLayout.JAVA_INT.withName("sq_thread_cpu"),
+        ValueLayout.JAVA_INT.withName("sq_thread_idle"),
+        ValueLayout.JAVA_INT.withName("features"),
+        ValueLayout.JAVA_INT.withName("wq_fd"),
+        MemoryLayout.sequenceLayout(3, ValueLayout.JAVA_INT).withName("resv"),
+        SQ_OFFSETS_LAYOUT.withName("sq_off"),
+        CQ_OFFSETS_LAYOUT.withName("cq_off")
+    );
+
+    // struct io_uring_sqe, only the fields used by the supported opcodes
+    private static final long SQE_SIZE = 64;
+    private static final long SQE_OPCODE = 0;
+    private static final long SQE_FLAGS = 1;
+    private static final long SQE_FD = 4;
+    private static final long SQE_OFF = 8;
+    private static final long SQE_ADDR = 16;
+    private static final long SQE_LEN = 24;
+    private static final long SQE_OP_FLAGS = 28;
+    private static final long SQE_USER_DATA = 32;
+
+    // struct io_uring_cqe
+    private static final long CQE_SIZE = 16;
+    private static final long CQE_USER_DATA = 0;
+    private static final long CQE_RES = 8;
+
+    // plain accessors for the shared head/tail counters, used with acquire/release ordering
+    private static final VarHandle INT = ValueLayout.JAVA_INT.varHandle();
+
+    // counter value written to and read back from the eventfd by probe()
+    private static final long PROBE_VALUE = 1;
+
+    private static volatile Boolean supported;
+
+    private final UringNative uring = new UringNative();
+    private final FileDescriptorNative file = new FileDescriptorNative();
+
+    private final int fd;
+    private final MemorySegment sqRing;
+    private final MemorySegment cqRing;
+    private final MemorySegment sqes;
+
+    private final long sqHead;
+    private final long sqTail;
+    private final long sqArray;
+    private final int sqMask;
+    private final int sqEntries;
+    private final long cqHead;
+    private final long cqTail;
+    private final long cqes;
+    private final int cqMask;
+
+    // locally queued submission tail, published to the kernel by submit
+    private int queuedTail;
+    // offset of the most recently queued entry in sqes, for link()
+    private long lastSqe = -1;
+    private boolean closed;
+
+    private IoUring(int entries) {
+        try (var arena = Arena.ofConfined()) {
+            var params = arena.allocate(PARAMS_LAYOUT);
+            this.fd = uring.setup(entries, params);
+            try {
+                var sqEntries = intField(params, groupElement("sq_entries"));
+                var cqEntries = intField(params, groupElement("cq_entries"));
+                var features = intField(params, groupElement("features"));
+                var sqOff = groupElement("sq_off");
+                var cqOff = groupElement("cq_off");
+
+                var sqSize = intField(params, sqOff, groupElement("array")) + sqEntries * 4L;
+                var cqSize = intField(params, cqOff, groupElement("cqes")) + cqEntries * CQE_SIZE;
+                if ((features & UringFlag.IORING_FEAT_SINGLE_MMAP) != 0) {
+                    this.sqRing = uring.mmap(fd, Math.max(sqSize, cqSize), UringFlag.IORING_OFF_SQ_RING);
+                    this.cqRing = sqRing;
+                } else {
+                    this.sqRing = uring.mmap(fd, sqSize, UringFlag.IORING_OFF_SQ_RING);
+                    this.cqRing = uring.mmap(fd, cqSize, UringFlag.IORING_OFF_CQ_RING);
+                }
+                this.sqes = uring.mmap(fd, sqEntries * SQE_SIZE, UringFlag.IORING_OFF_SQES);
+
+                this.sqHead = intField(params, sqOff, groupElement("head"));
+                this.sqTail = intField(params, sqOff, groupElement("tail"));
+                this.sqArray = intField(params, sqOff, groupElement("array"));
+                this.sqMask = sqRing.get(ValueLayout.JAVA_INT, intField(params, sqOff, groupElement("ring_mask")));
+                this.sqEntries = sqEntries;
+                this.cqHead = intField(params, cqOff, groupElement("head"));
+                this.cqTail = intField(params, cqOff, groupElement("tail"));
+                this.cqes = intField(params, cqOff, groupElement("cqes"));
+                this.cqMask = cqRing.get(ValueLayout.JAVA_INT, intField(params, cqOff, groupElement("ring_mask")));
+                this.queuedTail = (int) INT.getAcquire(sqRing, sqTail);
+            } catch (RuntimeException e) {
+                file.close(fd);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Creates a ring with room for at least {@code entries} queued operations.
+     *
+     * @param entries number of submission queue entries; rounded up to a power of two by the kernel
+     * @return the new ring
+     * @throws Pi4JException if io_uring is unavailable or the rings cannot be mapped
+     */
+    public static IoUring open(int entries) {
+        return new IoUring(entries);
+    }
+
+    /**
+     * Reports whether io_uring can be used by this process. The first call creates a small ring and runs
+     * a linked write and read of an eventfd through it, the operations callers rely on; the answer is
+     * cached for the life of the JVM.
+     *
+     * @return {@code true} if rings can be created and complete {@code IORING_OP_WRITE} and
+     * {@code IORING_OP_READ} operations
+     */
+    public static boolean isSupported() {
+        var result = supported;
+        if (result == null) {
+            synchronized (IoUring.class) {
+                result = supported;
+                if (result == null) {
+                    result = probe();
+                    supported = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean probe() {
+        var eventFd = new EventFdNative();
+        var file = new FileDescriptorNative();
+        var fd = -1;
+        try (var offheap = Arena.ofConfined(); var ring = IoUring.open(2)) {
+            fd = eventFd.create(EventFdFlag.EFD_CLOEXEC | EventFdFlag.EFD_NONBLOCK);
+            // kernels before 5.6 complete the unknown READ/WRITE opcodes with -EINVAL
+            var written = offheap.allocateFrom(ValueLayout.JAVA_LONG, PROBE_VALUE);
+            var read = offheap.allocate(ValueLayout.JAVA_LONG);
+            ring.prepareWrite(fd, written, Long.BYTES, 0, 0).link()
+                .prepareRead(fd, read, Long.BYTES, 0, 1);
+            ring.submitAndWait(2);
+            var results = new int[2];
+            ring.complete((index, result) -> results[(int) index] = result);
+            var available = results[0] == Long.BYTES && results[1] == Long.BYTES
+                && read.get(ValueLayout.JAVA_LONG, 0) == PROBE_VALUE;
+            if (available) {
+                logger.debug("io_uring is available");
+            } else {
+                logger.debug("io_uring read/write is not available: write result {}, read result {}",
+                    results[0], results[1]);
+            }
+            return available;
+        } catch (Throwable e) {
+            logger.debug("io_uring is not available: {}", e.getMessage());
+            return false;
+        } finally {
+            if (fd >= 0) {
+                file.close(fd);
+            }
+        }
+    }
+
+    private static int intField(MemorySegment segment, MemoryLayout.PathElement... path) {
+        return segment.get(ValueLayout.JAVA_INT, PARAMS_LAYOUT.byteOffset(path));
+    }
+
+    /**
+     * Returns the number of operations that can be queued before the next submit.
+     *
+     * @return the free submission queue capacity
+     */
+    public int available() {
+        return sqEntries - (queuedTail - (int) INT.getAcquire(sqRing, sqHead));
+    }
+
+    /**
+     * Queues a no-op, which completes with result {@code 0}.
+     *
+     * @param userData value reported back with the completion
+     * @return this ring
+     * @throws IllegalStateException if the submission queue is full
+     */
+    public IoUring prepareNop(long userData) {
+        next(UringFlag.IORING_OP_NOP, -1, MemorySegment.NULL, 0, 0, userData);
+        return this;
+    }
+
+    /**
+     * Queues a read of up to {@code length} bytes at {@code offset} into {@code buffer}, like {@code pread(2)}.
+     * The completion result is the number of bytes read, or {@code -errno}.
+     *
+     * @param fd       file descriptor to read from
+     * @param buffer   native buffer receiving the data, valid until the completion is reaped
+     * @param length   number of bytes to read
+     * @param offset   file offset to read at; {@code -1} reads at the current file position
+     * @param userData value reported back with the completion
+     * @return this ring
+     * @throws IllegalStateException    if the submission queue is full
+     * @throws IllegalArgumentException if {@code buffer} is a heap segment
+     */
+    public IoUring prepareRead(int fd, MemorySegment buffer, int length, long offset, long userData) {
+        next(UringFlag.IORING_OP_READ, fd, buffer, length, offset, userData);
+        return this;
+    }
+
+    /**
+     * Queues a write of {@code length} bytes from {@code buffer} at {@code offset}, like {@code pwrite(2)}.
+     * The completion result is the number of bytes written, or {@code -errno}.
+     *
+     * @param fd       file descriptor to write to
+     * @param buffer   native buffer holding the data, valid until the completion is reaped
+     * @param length   number of bytes to write
+     * @param offset   file offset to write at; {@code -1} writes at the current file position
+     * @param userData value reported back with the completion
+     * @return this ring
+     * @throws IllegalStateException    if the submission queue is full
+     * @throws IllegalArgumentException if {@code buffer} is a heap segment
+     */
+    public IoUring prepareWrite(int fd, MemorySegment buffer, int length, long offset, long userData) {
+        next(UringFlag.IORING_OP_WRITE, fd, buffer, length, offset, userData);
+        return this;
+    }
+
+    /**
+     * Queues a one-shot poll of {@code fd}. The completion result is the mask of ready events, or
+     * {@code -errno}.
+     *
+     * @param fd       file descriptor to poll
+     * @param events   requested {@code POLL*} event mask
+     * @param userData value reported back with the completion
+     * @return this ring
+     * @throws IllegalStateException if the submission queue is full
+     */
+    public IoUring preparePollAdd(int fd, int events, long userData) {
+        var sqe = next(UringFlag.IORING_OP_POLL_ADD, fd, MemorySegment.NULL, 0, 0, userData);
+        sqes.set(ValueLayout.JAVA_INT, sqe + SQE_OP_FLAGS, events);
+        return this;
+    }
+
+    /**
+     * Links the most recently queued operation to the next one: the next operation starts only after
+     * this one completed successfully, and is cancelled with {@code -ECANCELED} otherwise.
+     *
+     * @return this ring
+     * @throws IllegalStateException if no operation is queued
+     */
+    public IoUring link() {
+        if (lastSqe < 0) {
+            throw new IllegalStateException("No queued io_uring operation to link");
+        }
+        var flags = sqes.get(ValueLayout.JAVA_BYTE, lastSqe + SQE_FLAGS);
+        sqes.set(ValueLayout.JAVA_BYTE, lastSqe + SQE_FLAGS, (byte) (flags | UringFlag.IOSQE_IO_LINK));
+        return this;
+    }
+
+    /**
+     * Hands all queued operations to the kernel without waiting for them.
+     *
+     * @return the number of operations submitted
+     * @throws Pi4JException if {@code io_uring_enter} fails
+     */
+    public int submit() {
+        return submitAndWait(0);
+    }
+
+    /**
+     * Hands all queued operations to the kernel and waits until at least {@code waitCount} completions
+     * are available, in one {@code io_uring_enter(2)}.
+     *
+     * @param waitCount number of completions to wait for, {@code 0} to return immediately
+     * @return the number of operations submitted
+     * @throws Pi4JException if {@code io_uring_enter} fails
+     */
+    public int submitAndWait(int waitCount) {
+        var toSubmit = queuedTail - (int) INT.get(sqRing, sqTail);
+        INT.setRelease(sqRing, sqTail, queuedTail);
+        lastSqe = -1;
+        if (toSubmit == 0 && waitCount == 0) {
+            return 0;
+        }
+        return uring.enter(fd, toSubmit, waitCount, waitCount > 0 ? UringFlag.IORING_ENTER_GETEVENTS : 0);
+    }
+
+    /**
+     * Reaps every completion currently available, without a syscall.
+     *
+     * @param handler receives the user data and result of each completion, in completion order
+     * @return the number of completions reaped
+     */
+    public int complete(CompletionHandler handler) {
+        var head = (int) INT.get(cqRing, cqHead);
+        var tail = (int) INT.getAcquire(cqRing, cqTail);
+        var count = 0;
+        while (head != tail) {
+            var cqe = cqes + (head & cqMask) * CQE_SIZE;
+            handler.completed(cqRing.get(ValueLayout.JAVA_LONG, cqe + CQE_USER_DATA),
+                cqRing.get(ValueLayout.JAVA_INT, cqe + CQE_RES));
+            head++;
+            count++;
+        }
+        INT.setRelease(cqRing, cqHead, head);
+        return count;
+    }
+
+    private long next(byte opcode, int fd, MemorySegment buffer, int length, long offset, long userData) {
+        if (!buffer.isNative()) {
+            throw new IllegalArgumentException("Heap segments cannot be used for io_uring operations: " + buffer);
+        }
+        if (available() <= 0) {
+            throw new IllegalStateException("io_uring submission queue is full (" + sqEntries + " entries)");
+        }
+        var index = queuedTail & sqMask;
+        var sqe = index * SQE_SIZE;
+        sqes.asSlice(sqe, SQE_SIZE).fill((byte) 0);
+        sqes.set(ValueLayout.JAVA_BYTE, sqe + SQE_OPCODE, opcode);
+        sqes.set(ValueLayout.JAVA_INT, sqe + SQE_FD, fd);
+        sqes.set(ValueLayout.JAVA_LONG, sqe + SQE_OFF, offset);
+        sqes.set(ValueLayout.JAVA_LONG, sqe + SQE_ADDR, buffer.address());
+        sqes.set(ValueLayout.JAVA_INT, sqe + SQE_LEN, length);
+        sqes.set(ValueLayout.JAVA_LONG, sqe + SQE_USER_DATA, userData);
+        sqRing.set(ValueLayout.JAVA_INT, sqArray + index * 4L, index);
+        queuedTail++;
+        lastSqe = sqe;
+        return sqe;
+    }
+
+    /**
+     * Unmaps the rings and closes the ring file descriptor. Operations still in flight are cancelled by
+     * the kernel. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        uring.munmap(sqes);
+        if (cqRing != sqRing) {
+            uring.munmap(cqRing);
+        }
+        uring.munmap(sqRing);
+        file.close(fd);
+    }
+
+    @Override
+    public String toString() {
+        return "IoUring{" +
+            "fd=" + fd +
+            ", entries=" + sqEntries +
+            '}';
+    }
+
+    /**
+     * Receives reaped completions, see {@link #complete(CompletionHandler)}.
+     */
+    @FunctionalInterface
+    public interface CompletionHandler {
+        /**
+         * Called for one completion.
+         *
+         * @param userData the value given when the operation was queued
+         * @param result   the operation result; negative values are {@code -errno}
+         */
+        void completed(long userData, int result);
+    }
+}
@@ -0,0 +1,43 @@
+package com.pi4j.plugin.ffm.common.uring;
+
+import com.pi4j.plugin.ffm.common.Pi4JNativeContext;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Binds the {@code io_uring_setup(2)} and {@code io_uring_enter(2)} syscalls, which glibc does not wrap,
+ * through the variadic libc {@code syscall(2)} entry point, together with the {@code mmap(2)} /
+ * {@code munmap(2)} calls that map the rings. The handles are invoked by {@link UringNative}.
+ */
+class UringContext extends Pi4JNativeContext {
+
+    // Native glibc 'syscall' method, as long syscall(long number, unsigned entries, struct io_uring_params *p)
+    static final MethodHandle IO_URING_SETUP = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("syscall").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT, ValueLayout.ADDRESS),
+        Linker.Option.firstVariadicArg(1), Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'syscall' method, as long syscall(long number, int fd, unsigned to_submit,
+    // unsigned min_complete, unsigned flags, sigset_t *sig, size_t sigsz)
+    static final MethodHandle IO_URING_ENTER = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("syscall").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT,
+            ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG),
+        Linker.Option.firstVariadicArg(1), Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'mmap' method
+    static final MethodHandle MMAP = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("mmap").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT,
+            ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG),
+        Linker.Option.captureCallState("errno"));
+
+    // Native glibc 'munmap' method
+    static final MethodHandle MUNMAP = Linker.nativeLinker().downcallHandle(
+        LIBC_LIB.find("munmap").orElseThrow(),
+        FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG),
+        Linker.Option.captureCallState("errno"));
+}
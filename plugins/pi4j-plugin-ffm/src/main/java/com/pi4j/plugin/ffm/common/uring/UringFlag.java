@@ -0,0 +1,46 @@
+package com.pi4j.plugin.ffm.common.uring;
+
+/**
+ * Syscall numbers, opcodes, submission flags and mmap offsets of the Linux {@code io_uring(7)} API,
+ * mirroring the kernel {@code <uapi/linux/io_uring.h>} {@code #define}s. The syscall numbers belong to the
+ * range shared by all architectures since Linux 5.1, so they are the same on 32 and 64-bit ARM and x86.
+ *
+ * @see <a href="https://elixir.bootlin.com/linux/latest/source/include/uapi/linux/io_uring.h">linux sources</a>
+ */
+public final class UringFlag {
+
+    /** {@code __NR_io_uring_setup}. */
+    public static final long SYS_IO_URING_SETUP = 425;
+    /** {@code __NR_io_uring_enter}. */
+    public static final long SYS_IO_URING_ENTER = 426;
+
+    /** {@code IORING_OP_NOP}: completes immediately with result {@code 0}. */
+    public static final byte IORING_OP_NOP = 0;
+    /** {@code IORING_OP_POLL_ADD}: one-shot poll of a file descriptor. */
+    public static final byte IORING_OP_POLL_ADD = 6;
+    /** {@code IORING_OP_READ}: {@code pread(2)} into a single buffer. */
+    public static final byte IORING_OP_READ = 22;
+    /** {@code IORING_OP_WRITE}: {@code pwrite(2)} from a single buffer. */
+    public static final byte IORING_OP_WRITE = 23;
+
+    /** {@code IOSQE_IO_LINK}: the next submission starts only after this one completed successfully. */
+    public static final byte IOSQE_IO_LINK = 1 << 2;
+
+    /** {@code IORING_ENTER_GETEVENTS}: wait for {@code min_complete} completions before returning. */
+    public static final int IORING_ENTER_GETEVENTS = 1;
+
+    /** {@code IORING_FEAT_SINGLE_MMAP}: submission and completion rings share one mapping. */
+    public static final int IORING_FEAT_SINGLE_MMAP = 1;
+
+    /** {@code IORING_OFF_SQ_RING}: mmap offset of the submission ring. */
+    public static final long IORING_OFF_SQ_RING = 0L;
+    /** {@code IORING_OFF_CQ_RING}: mmap offset of the completion ring. */
+    public static final long IORING_OFF_CQ_RING = 0x8000000L;
+    /** {@code IORING_OFF_SQES}: mmap offset of the submission queue entry array. */
+    public static final long IORING_OFF_SQES = 0x10000000L;
+
+    /** {@code PROT_READ | PROT_WRITE} for the ring mappings. */
+    static final int PROT_READ_WRITE = 0x1 | 0x2;
+    /** {@code MAP_SHARED | MAP_POPULATE} for the ring mappings. */
+    static final int MAP_SHARED_POPULATE = 0x01 | 0x8000;
+}
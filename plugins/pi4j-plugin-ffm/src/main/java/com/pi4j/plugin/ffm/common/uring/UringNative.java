@@ -0,0 +1,112 @@
+package com.pi4j.plugin.ffm.common.uring;
+
+import com.pi4j.exception.Pi4JException;
+
+import java.lang.foreign.MemorySegment;
+
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.processError;
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadCapturedState;
+
+/**
+ * Java front end to the raw {@code io_uring(7)} syscalls bound by {@link UringContext}:
+ * <ul>
+ *   <li>{@link #setup(int, MemorySegment)} creates a ring and fills in its {@code struct io_uring_params};</li>
+ *   <li>{@link #mmap(int, long, long)} / {@link #munmap(MemorySegment)} map and unmap the shared rings;</li>
+ *   <li>{@link #enter(int, int, int, int)} submits queued entries and optionally waits for completions.</li>
+ * </ul>
+ * Ring management on top of these calls lives in {@link IoUring}. Failures are translated into a
+ * {@link Pi4JException} via {@code processError}.
+ */
+public class UringNative {
+    // Keep the context field to trigger UringContext class loading (and thus MethodHandle init).
+    @SuppressWarnings("unused")
+    private final UringContext context = new UringContext();
+
+    /**
+     * Creates a new io_uring instance. Delegate to the 'io_uring_setup' syscall.
+     *
+     * @param entries requested number of submission queue entries, a power of two
+     * @param params  zeroed {@code struct io_uring_params}, filled in by the kernel with the ring geometry
+     * @return the file descriptor of the new ring
+     * @throws Pi4JException if the syscall fails, e.g. with {@code ENOSYS} on kernels without io_uring or
+     *                       {@code EPERM} when io_uring is disabled by sysctl or seccomp
+     */
+    public int setup(int entries, MemorySegment params) {
+        try {
+            var capturedState = threadCapturedState();
+            var callResult = (long) UringContext.IO_URING_SETUP.invokeExact(capturedState,
+                UringFlag.SYS_IO_URING_SETUP, entries, params);
+            if (callResult < 0) {
+                processError(-1, capturedState, "io_uring_setup", entries);
+            }
+            return (int) callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Submits and/or waits for entries of a ring. Delegate to the 'io_uring_enter' syscall.
+     *
+     * @param fd          file descriptor of the ring
+     * @param toSubmit    number of queued submission entries to consume
+     * @param minComplete number of completions to wait for when {@link UringFlag#IORING_ENTER_GETEVENTS} is set
+     * @param flags       enter flags, {@code 0} or {@link UringFlag#IORING_ENTER_GETEVENTS}
+     * @return the number of submission entries consumed
+     * @throws Pi4JException if the syscall fails
+     */
+    public int enter(int fd, int toSubmit, int minComplete, int flags) {
+        try {
+            var capturedState = threadCapturedState();
+            var callResult = (long) UringContext.IO_URING_ENTER.invokeExact(capturedState,
+                UringFlag.SYS_IO_URING_ENTER, fd, toSubmit, minComplete, flags, MemorySegment.NULL, 0L);
+            if (callResult < 0) {
+                processError(-1, capturedState, "io_uring_enter", fd, toSubmit, minComplete, flags);
+            }
+            return (int) callResult;
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maps one of the ring regions shared with the kernel. Delegate to native 'mmap' glibc method.
+     *
+     * @param fd     file descriptor of the ring
+     * @param size   number of bytes to map
+     * @param offset region to map, one of the {@code IORING_OFF_*} constants of {@link UringFlag}
+     * @return segment of {@code size} bytes over the mapped region
+     * @throws Pi4JException if the native {@code mmap} call fails
+     */
+    public MemorySegment mmap(int fd, long size, long offset) {
+        try {
+            var capturedState = threadCapturedState();
+            var address = (MemorySegment) UringContext.MMAP.invokeExact(capturedState, MemorySegment.NULL, size,
+                UringFlag.PROT_READ_WRITE, UringFlag.MAP_SHARED_POPULATE, fd, offset);
+            if (address.address() == -1L) {
+                processError(-1, capturedState, "mmap", fd, size, offset);
+            }
+            return address.reinterpret(size);
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Unmaps a ring region. Delegate to native 'munmap' glibc method.
+     *
+     * @param region segment returned by {@link #mmap(int, long, long)}
+     * @throws Pi4JException if the native {@code munmap} call fails
+     */
+    public void munmap(MemorySegment region) {
+        try {
+            var capturedState = threadCapturedState();
+            var callResult = (int) UringContext.MUNMAP.invokeExact(capturedState, region, region.byteSize());
+            if (callResult < 0) {
+                processError(callResult, capturedState, "munmap", region);
+            }
+        } catch (Throwable e) {
+            throw new Pi4JException(e.getMessage(), e);
+        }
+    }
+}
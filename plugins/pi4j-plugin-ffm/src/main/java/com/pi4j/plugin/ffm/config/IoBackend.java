@@ -0,0 +1,29 @@
+package com.pi4j.plugin.ffm.config;
+
+import com.pi4j.plugin.ffm.common.uring.IoUring;
+
+/**
+ * Selects how providers issue their file-descriptor reads and writes.
+ */
+public enum IoBackend {
+    /**
+     * One blocking syscall per operation on the calling thread.
+     */
+    SYNCHRONOUS,
+    /**
+     * Operations are queued on an {@code io_uring(7)} ring and submitted in batches, with one
+     * {@code io_uring_enter(2)} per batch. Falls back to {@link #SYNCHRONOUS} when io_uring is not
+     * available on the running kernel.
+     */
+    IO_URING;
+
+    /**
+     * Resolves the backend actually usable on this machine.
+     *
+     * @return {@link #IO_URING} only if it was requested and the kernel supports io_uring reads and writes,
+     * {@link #SYNCHRONOUS} otherwise
+     */
+    public IoBackend resolve() {
+        return this == IO_URING && IoUring.isSupported() ? IO_URING : SYNCHRONOUS;
+    }
+}
@@ -0,0 +1,28 @@
+package com.pi4j.plugin.ffm.config;
+
+import java.lang.foreign.Linker;
+
+/**
+ * Selects how short, non-blocking syscalls (GPIO get/set values, {@code I2C_SLAVE}, {@code lseek} on sysfs
+ * attributes, ...) are linked. Blocking calls such as {@code poll}, {@code epoll_wait} and {@code read} on
+ * event descriptors, and bus transfers that can sleep, always use the standard downcall regardless of the
+ * selected mode.
+ */
+public enum NativeCallMode {
+    /**
+     * Regular downcall, with a full Java-to-native thread state transition around the call.
+     */
+    STANDARD,
+    /**
+     * Downcall linked with {@link Linker.Option#critical(boolean)}, which skips the thread state
+     * transition. The calling thread cannot reach a safepoint while the call runs, so this is only
+     * applied to syscalls that return promptly.
+     * <p>
+     * Whether a call returns promptly depends on the driver behind the descriptor. GPIO value ioctls
+     * return promptly on memory-mapped SoC controllers (the {@code gpiochip} of the BCM283x/BCM2711 or
+     * RP1), but sleep on chips behind a bus: I2C/SPI GPIO expanders and the firmware-backed
+     * {@code expgpio} lines of the Pi 3/4 wait for a transfer or a mailbox reply, stalling every
+     * safepoint of the JVM meanwhile. Use {@link #STANDARD} for those chips.
+     */
+    CRITICAL
+}
@@ -0,0 +1,94 @@
+package com.pi4j.plugin.ffm.config;
+
+import com.pi4j.context.ContextConfig;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.plugin.ffm.common.sched.SchedFlag;
+import com.pi4j.plugin.ffm.common.sched.SchedNative;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Static helper that applies the real-time execution settings of a {@link ContextConfig}
+ * ({@link ContextConfig#realtimePriority()}, {@link ContextConfig#realtimeCpus()} and
+ * {@link ContextConfig#lockMemory()}) through {@link SchedNative}. FFM providers call it for the I/O
+ * threads they start; applications can call {@link #applyToCurrentThread(ContextConfig)} for their own
+ * latency-sensitive threads, e.g. bit-banging loops.
+ * <p>
+ * Missing privileges are not fatal: each failing setting is logged once as a warning and the thread
+ * keeps running with the default scheduling.
+ */
+public class RealtimeHelper {
+    private static final Logger logger = LoggerFactory.getLogger(RealtimeHelper.class);
+
+    private static final SchedNative SCHED_NATIVE = new SchedNative();
+
+    private static final AtomicBoolean AFFINITY_WARNED = new AtomicBoolean(false);
+    private static final AtomicBoolean SCHEDULER_WARNED = new AtomicBoolean(false);
+
+    // guarded by the class monitor
+    private static boolean memoryLockAttempted = false;
+    private static boolean memoryLocked = false;
+
+    /**
+     * Pins the calling thread to the configured CPU cores and switches it to {@code SCHED_FIFO} with the
+     * configured priority. Settings that are not configured are left untouched.
+     *
+     * @param config context configuration holding the real-time settings
+     * @return {@code true} if every configured setting was applied, {@code false} if one was skipped
+     */
+    public static boolean applyToCurrentThread(ContextConfig config) {
+        var applied = true;
+        var cpus = config.realtimeCpus();
+        if (cpus.length > 0) {
+            try {
+                SCHED_NATIVE.setAffinity(cpus);
+                logger.debug("{} - Pinned to CPU(s) {}", Thread.currentThread().getName(), Arrays.toString(cpus));
+            } catch (Pi4JException e) {
+                applied = false;
+                if (!AFFINITY_WARNED.getAndSet(true)) {
+                    logger.warn("Unable to pin Pi4J I/O threads to CPU(s) {}, they may run on any core: {}",
+                        Arrays.toString(cpus), e.getMessage());
+                }
+            }
+        }
+        var priority = config.realtimePriority();
+        if (priority > 0) {
+            try {
+                SCHED_NATIVE.setScheduler(SchedFlag.SCHED_FIFO, priority);
+                logger.debug("{} - Running with SCHED_FIFO priority {}", Thread.currentThread().getName(), priority);
+            } catch (Pi4JException e) {
+                applied = false;
+                if (!SCHEDULER_WARNED.getAndSet(true)) {
+                    logger.warn("Unable to run Pi4J I/O threads with SCHED_FIFO priority {}, keeping default scheduling. " +
+                        "Grant CAP_SYS_NICE or raise RLIMIT_RTPRIO: {}", priority, e.getMessage());
+                }
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Locks current and future process memory into RAM if the configuration requests it. Only the first
+     * call per process that requests it attempts the lock.
+     *
+     * @param config context configuration holding the real-time settings
+     * @return {@code true} if memory is locked, {@code false} if not requested or not permitted
+     */
+    public static synchronized boolean lockMemory(ContextConfig config) {
+        if (config.lockMemory() && !memoryLockAttempted) {
+            memoryLockAttempted = true;
+            try {
+                SCHED_NATIVE.lockAll(SchedFlag.MCL_CURRENT | SchedFlag.MCL_FUTURE);
+                memoryLocked = true;
+                logger.info("Locked process memory into RAM");
+            } catch (Pi4JException e) {
+                logger.warn("Unable to lock process memory into RAM, page faults may delay Pi4J I/O threads. " +
+                    "Grant CAP_IPC_LOCK or raise RLIMIT_MEMLOCK: {}", e.getMessage());
+            }
+        }
+        return memoryLocked;
+    }
+}
@@ -0,0 +1,36 @@
+package com.pi4j.plugin.ffm.providers.gpio;
+
+/**
+ * Edge-event counters of one input. Written only by the {@link GpioEventReactor} thread that serves the
+ * input and read by any thread through {@link #snapshot()}.
+ */
+final class EventCounters {
+    private final int bufferSize;
+
+    private volatile long eventsReceived;
+    private volatile long eventsDropped;
+    private volatile int maxBatchSize;
+
+    EventCounters(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    // single writer, so plain read-modify-write of the volatile fields is safe
+    void record(int batchSize, long dropped) {
+        eventsReceived += batchSize;
+        if (dropped > 0) {
+            eventsDropped += dropped;
+        }
+        if (batchSize > maxBatchSize) {
+            maxBatchSize = batchSize;
+        }
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+
+    GpioEventStatistics snapshot() {
+        return new GpioEventStatistics(eventsReceived, eventsDropped, maxBatchSize, bufferSize);
+    }
+}
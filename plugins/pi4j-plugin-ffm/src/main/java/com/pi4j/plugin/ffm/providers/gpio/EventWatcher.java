@@ -1,168 +1,252 @@
 package com.pi4j.plugin.ffm.providers.gpio;
 
-import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
 import com.pi4j.plugin.ffm.common.gpio.DetectedEvent;
 import com.pi4j.plugin.ffm.common.gpio.PinEvent;
 import com.pi4j.plugin.ffm.common.gpio.PinEventProcessing;
 import com.pi4j.plugin.ffm.common.gpio.structs.LineEvent;
-import com.pi4j.plugin.ffm.common.poll.PollFlag;
-import com.pi4j.plugin.ffm.common.poll.PollNative;
-import com.pi4j.plugin.ffm.common.poll.structs.PollingData;
+import com.pi4j.plugin.ffm.common.gpio.structs.LineEventView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.foreign.Arena;
-import java.time.Instant;
+import java.lang.foreign.MemorySegment;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Runnable that blocks in a native {@code poll()} on the requested GPIO line file descriptor,
- * reads {@code struct gpio_v2_line_event} records as they arrive, applies optional software
- * debounce, and hands the resulting {@link DetectedEvent} list to a {@link PinEventProcessing}
- * callback. It runs until {@link #stopWatching()} is called.
+ * Edge-event handler of one requested GPIO line file descriptor. A {@link GpioEventReactor} thread
+ * multiplexes many watchers in a single {@code epoll} set and calls {@link #onReadable()} when the line
+ * has {@code struct gpio_v2_line_event} records queued; the watcher drains them into its own native
+ * buffer, sized to the kernel event queue, decodes them in place, updates its {@link EventCounters} and
+ * {@link LineStateCache}, applies optional software debounce, and hands the resulting
+ * {@link DetectedEvent} list to a {@link PinEventProcessing} callback. It stays registered until
+ * {@link #stopWatching()} is called.
  */
-class EventWatcher implements Runnable {
+class EventWatcher {
     private static final Logger logger = LoggerFactory.getLogger(EventWatcher.class);
 
-    private final PollNative poll = new PollNative();
-
-    // Graceful period for event watcher to shut down.
-    // NOTE: used for poll() inside watcher thread — always keep at half of the total timeout.
+    // Graceful period for event watcher to shut down; the reactor threads are woken through an eventfd
+    // and normally stop well before it elapses.
     static final int EVENT_WATCHER_SHUTDOWN_TIMEOUT_MS = 200;
 
+    // default minimum buffer size is 16 line events
+    // see https://elixir.bootlin.com/linux/latest/source/include/uapi/linux/gpio.h#L185
+    static final int EVENT_BATCH_SIZE = 16;
+    // the kernel caps the event buffer of a line request at GPIO_V2_LINES_MAX * 16 events
+    static final int MAX_EVENT_BUFFER_SIZE = 64 * 16;
+
+    private static final int EVENT_SIZE = (int) LineEventView.BYTE_SIZE;
+
     private final int fd;
     private final int offset;
     private final FileDescriptorNative file;
     private final PinEvent pinEvent;
     private final PinEventProcessing eventProcessor;
     private final long debounceNs;
+    private final EventCounters counters;
+    private final LineStateCache stateCache;
+    // read buffer sized to the kernel event queue, so one read drains it completely
+    private final MemorySegment eventBuffer;
+    private final int eventBufferBytes;
+    // flyweight decoding the records of eventBuffer in place
+    private final LineEventView event;
+
+    // debounce and batching state, only touched by the reactor thread
+    private final List<DetectedEvent> eventList = new ArrayList<>(EVENT_BATCH_SIZE);
+    private DetectedEvent lastDebouncedEvent = null;
+    private PinEvent lastDebouncedState = null;
+    private long lastEventReceivedTimeNs = 0;
+    // line_seqno of the last record read, 0 before the first one (the kernel starts counting at 1)
+    private int lastLineSeqno = 0;
 
     private volatile boolean stopWatching = false;
 
-    EventWatcher(int fd, int offset, long debounce, FileDescriptorNative file, PinEvent pinEvent, PinEventProcessing eventProcessor) {
+    /**
+     * Returns the number of edge events the kernel queues for a line request with the given
+     * {@code event_buffer_size}: the kernel default for {@code 0}, otherwise the size rounded up to the
+     * power of two its kfifo allocates.
+     *
+     * @param requested the requested buffer size, from 0 to {@link #MAX_EVENT_BUFFER_SIZE}
+     * @return the effective buffer size in events
+     */
+    static int kernelBufferSize(int requested) {
+        if (requested <= 0 || requested > MAX_EVENT_BUFFER_SIZE) {
+            return EVENT_BATCH_SIZE;
+        }
+        return Math.max(1, Integer.highestOneBit(requested - 1) << 1);
+    }
+
+    EventWatcher(int fd, int offset, long debounce, FileDescriptorNative file, PinEvent pinEvent,
+                 EventCounters counters, LineStateCache stateCache, PinEventProcessing eventProcessor) {
         this.fd = fd;
         this.offset = offset;
         this.file = file;
         this.pinEvent = pinEvent;
+        this.counters = counters;
+        this.stateCache = stateCache;
         this.eventProcessor = eventProcessor;
         // convert microseconds to nanoseconds for software debounce
         this.debounceNs = debounce * 1000L;
+        this.eventBufferBytes = EVENT_SIZE * counters.bufferSize();
+        this.eventBuffer = Arena.ofAuto().allocate(eventBufferBytes, LineEvent.LAYOUT.byteAlignment());
+        this.event = new LineEventView(eventBuffer);
     }
 
-    @Override
-    public void run() {
-        var eventSize = (int) LineEvent.LAYOUT.byteSize();
-        var timestamp = Instant.now();
-        List<DetectedEvent> eventList = new ArrayList<>();
-        DetectedEvent lastDebouncedEvent = null;
-        PinEvent lastDebouncedState = null;
-        long lastEventReceivedTimeNs = 0;
-        logger.trace("{} - Start polling GPIO data on offset {} at {}",
-            Thread.currentThread().getName(), offset, timestamp);
-        while (!stopWatching) {
-            try {
-                // PollingData must be recreated each time — poll does not erase revents between calls
-                var pollData = new PollingData(fd, (short) (PollFlag.POLLIN | PollFlag.POLLPRI), (short) 0);
-                pollData = poll.poll(pollData, 1, EVENT_WATCHER_SHUTDOWN_TIMEOUT_MS / 2);
-                if (pollData == null) {
-                    var duration = timestamp.until(Instant.now()).toMillis();
-                    logger.trace("{} - No events detected on offset {}: polling timeout at {} (took {}ms)",
-                        Thread.currentThread().getName(), offset, timestamp, duration);
-                    if (lastDebouncedEvent != null && debounceNs > 0 && lastEventReceivedTimeNs > 0) {
-                        long currentTimeNs = System.nanoTime();
-                        long timeSinceLastEventNs = currentTimeNs - lastEventReceivedTimeNs;
-                        if (timeSinceLastEventNs >= debounceNs) {
+    /**
+     * Reads and processes the pending {@code struct gpio_v2_line_event} records of the line. Called by
+     * the {@link GpioEventReactor} thread when {@code epoll} reports the line file descriptor readable.
+     */
+    void onReadable() {
+        var bytesRead = file.read(fd, eventBuffer, eventBufferBytes);
+        var batchSize = 0;
+        var batchDropped = 0L;
+        var lastId = 0;
+        var eventCount = bytesRead / EVENT_SIZE;
+        for (int i = 0; i < eventCount; i++) {
+            event.at(i);
+            // Skip empty records; compare the whole 64-bit timestamp_ns, since a valid
+            // timestamp divisible by 256 ns has a zero least significant byte.
+            var timestampNs = event.timestampNs();
+            if (timestampNs == 0) {
+                continue;
+            }
+            // line_seqno counts every edge the kernel detected on the line, so a jump of more than one
+            // means the kernel event queue overflowed; u32 difference keeps this correct across wraparound
+            var lineSeqno = event.lineSeqno();
+            var gap = lineSeqno - lastLineSeqno;
+            var droppedEvents = (lastLineSeqno != 0 && gap > 1) ? gap - 1L : 0L;
+            lastLineSeqno = lineSeqno;
+            batchSize++;
+            batchDropped += droppedEvents;
+            if (droppedEvents > 0) {
+                logger.warn("{} - Kernel dropped {} event(s) on offset {} before line sequence number {}",
+                    Thread.currentThread().getName(), droppedEvents, offset, Integer.toUnsignedLong(lineSeqno));
+            }
+            var id = event.id();
+            lastId = id;
+            if ((id & this.pinEvent.getValue()) == 0) {
+                continue;
+            }
+            var pinEventType = PinEvent.getByValue(id);
+            if (logger.isTraceEnabled()) {
+                logger.trace("{} - Processing event on offset {}: {} at {}ns",
+                    Thread.currentThread().getName(), offset, pinEventType, timestampNs);
+            }
+            DetectedEvent detectedEvent = new DetectedEvent(timestampNs, pinEventType, lineSeqno,
+                event.seqno(), droppedEvents);
+            if (debounceNs > 0) {
+                if (lastDebouncedEvent == null) {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("{} - Starting debounce period on offset {} for {}",
+                            Thread.currentThread().getName(), offset, pinEventType);
+                    }
+                } else {
+                    long timeSinceLastEventNs =
+                        detectedEvent.timestampInNanos() - lastDebouncedEvent.timestampInNanos();
+                    if (timeSinceLastEventNs < debounceNs) {
+                        if (logger.isTraceEnabled()) {
                             logger.trace(
-                                "{} - Dispatching pending debounced event on offset {} after timeout ({}ns >= {}ns)",
-                                Thread.currentThread().getName(), offset, timeSinceLastEventNs, debounceNs);
-                            eventList.add(lastDebouncedEvent);
-                            eventProcessor.process(eventList);
-                            eventList.clear();
-                            lastDebouncedEvent = null;
-                            lastEventReceivedTimeNs = 0;
+                                "{} - Event on offset {} within debounce period ({}ns < {}ns), updating to latest",
+                                Thread.currentThread().getName(), offset,
+                                timeSinceLastEventNs, debounceNs);
                         }
-                    }
-                    timestamp = Instant.now();
-                    continue;
-                }
-                if ((pollData.revents() & (PollFlag.POLLERR | PollFlag.POLLHUP | PollFlag.POLLNVAL)) != 0) {
-                    logger.error("{} - Internal error during polling on offset {}. Last polling data: {}",
-                        Thread.currentThread().getName(), offset, pollData);
-                    stopWatching();
-                    continue;
-                }
-                if ((pollData.revents() & (PollFlag.POLLIN | PollFlag.POLLPRI)) != 0) {
-                    // default minimum buffer size is 16 line events
-                    // see https://elixir.bootlin.com/linux/latest/source/include/uapi/linux/gpio.h#L185
-                    var buf = file.read(fd, new byte[16 * eventSize], 16 * eventSize);
-                    var holder = new byte[eventSize];
-                    for (int i = 0; i < 16 * LineEvent.LAYOUT.byteSize(); i += eventSize) {
-                        // Check all 8 bytes of timestamp_ns — checking only buf[i] (the LSB) is
-                        // insufficient because a valid timestamp divisible by 256 ns has a zero LSB.
-                        if ((buf[i] | buf[i + 1] | buf[i + 2] | buf[i + 3]
-                            | buf[i + 4] | buf[i + 5] | buf[i + 6] | buf[i + 7]) == 0) {
-                            continue;
+                    } else {
+                        if (logger.isTraceEnabled()) {
+                            logger.trace(
+                                "{} - Debounce period passed on offset {} ({}ns >= {}ns), dispatching event",
+                                Thread.currentThread().getName(), offset,
+                                timeSinceLastEventNs, debounceNs);
                         }
-                        System.arraycopy(buf, i, holder, 0, eventSize);
-                        var memoryBuffer = Arena.ofAuto().allocate(LineEvent.LAYOUT);
-                        memoryBuffer.asByteBuffer().put(holder);
-                        var event = LineEvent.createEmpty().from(memoryBuffer);
-                        logger.trace("{} - Detected new event on offset {}: {}",
-                            Thread.currentThread().getName(), offset, event);
-                        if ((event.id() & this.pinEvent.getValue()) != 0) {
-                            var pinEventType = PinEvent.getByValue(event.id());
-                            logger.trace("{} - Processing event on offset {}: {}",
-                                Thread.currentThread().getName(), offset, pinEventType);
-                            DetectedEvent detectedEvent =
-                                new DetectedEvent(event.timestampNs(), pinEventType, event.lineSeqno());
-                            if (debounceNs > 0) {
-                                if (lastDebouncedEvent == null) {
-                                    logger.trace("{} - Starting debounce period on offset {} for {}",
-                                        Thread.currentThread().getName(), offset, pinEventType);
-                                } else {
-                                    long timeSinceLastEventNs =
-                                        detectedEvent.timestampInNanos() - lastDebouncedEvent.timestampInNanos();
-                                    if (timeSinceLastEventNs < debounceNs) {
-                                        logger.trace(
-                                            "{} - Event on offset {} within debounce period ({}ns < {}ns), updating to latest",
-                                            Thread.currentThread().getName(), offset,
-                                            timeSinceLastEventNs, debounceNs);
-                                    } else {
-                                        logger.trace(
-                                            "{} - Debounce period passed on offset {} ({}ns >= {}ns), dispatching event",
-                                            Thread.currentThread().getName(), offset,
-                                            timeSinceLastEventNs, debounceNs);
-                                        if (lastDebouncedState != null) {
-                                            eventList.add(lastDebouncedEvent);
-                                        }
-                                    }
-                                }
-                                lastDebouncedEvent = detectedEvent;
-                                lastDebouncedState = pinEventType;
-                                lastEventReceivedTimeNs = System.nanoTime();
-                            } else {
-                                eventList.add(detectedEvent);
-                            }
+                        if (lastDebouncedState != null) {
+                            eventList.add(lastDebouncedEvent);
                         }
                     }
-                    logger.trace("{} - Total events on offset {}: {}",
-                        Thread.currentThread().getName(), offset, eventList.size());
-                    if (!eventList.isEmpty()) {
-                        eventProcessor.process(eventList);
-                        eventList.clear();
-                    }
-                    logger.trace("{} - Total processing on offset {} took {}ms",
-                        Thread.currentThread().getName(), offset, timestamp.until(Instant.now()).toMillis());
-                    timestamp = Instant.now();
                 }
-            } catch (Throwable e) {
-                logger.error("{} - Error while polling pin on offset {}",
-                    Thread.currentThread().getName(), offset, e);
-                throw new Pi4JException(e);
+                lastDebouncedEvent = detectedEvent;
+                lastDebouncedState = pinEventType;
+                lastEventReceivedTimeNs = System.nanoTime();
+            } else {
+                eventList.add(detectedEvent);
             }
         }
+        counters.record(batchSize, batchDropped);
+        // the level follows the last edge read, before software debounce; a gap or a full queue means
+        // edges may be missing, possibly the latest one, so the level has to be read from the line again
+        if (batchDropped > 0 || batchSize >= counters.bufferSize()) {
+            stateCache.invalidate();
+        } else if (lastId != 0) {
+            stateCache.update(lastId == PinEvent.RISING.getValue() ? DigitalState.HIGH : DigitalState.LOW);
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("{} - Total events on offset {}: {}",
+                Thread.currentThread().getName(), offset, eventList.size());
+        }
+        if (!eventList.isEmpty()) {
+            eventProcessor.process(eventList);
+            eventList.clear();
+        }
+    }
+
+    /**
+     * Dispatches the event held back by software debounce once the line has been quiet for the whole
+     * debounce period, then lets the {@link PinEventProcessing} callback handle the wakeup. Called by the
+     * {@link GpioEventReactor} thread after every wakeup.
+     *
+     * @param nowNs current {@link System#nanoTime()} value
+     */
+    void onIdle(long nowNs) {
+        dispatchDebounced(nowNs);
+        eventProcessor.idle(nowNs);
+    }
+
+    private void dispatchDebounced(long nowNs) {
+        if (lastDebouncedEvent != null && debounceNs > 0 && lastEventReceivedTimeNs > 0) {
+            long timeSinceLastEventNs = nowNs - lastEventReceivedTimeNs;
+            if (timeSinceLastEventNs >= debounceNs) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace(
+                        "{} - Dispatching pending debounced event on offset {} after timeout ({}ns >= {}ns)",
+                        Thread.currentThread().getName(), offset, timeSinceLastEventNs, debounceNs);
+                }
+                eventList.add(lastDebouncedEvent);
+                eventProcessor.process(eventList);
+                eventList.clear();
+                lastDebouncedEvent = null;
+                lastEventReceivedTimeNs = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns how long the reactor may block before {@link #onIdle(long)} has a debounced event to
+     * dispatch or the {@link PinEventProcessing} callback has a timeout to handle, e.g. the end of a
+     * decoder frame.
+     *
+     * @param nowNs current {@link System#nanoTime()} value
+     * @return remaining milliseconds (at least 1), or {@code -1} if nothing is pending
+     */
+    int pendingTimeoutMs(long nowNs) {
+        var remainingNs = eventProcessor.pendingTimeoutNs(nowNs);
+        if (lastDebouncedEvent != null && debounceNs > 0 && lastEventReceivedTimeNs > 0) {
+            var debounceRemainingNs = Math.max(0, debounceNs - (nowNs - lastEventReceivedTimeNs));
+            remainingNs = remainingNs < 0 ? debounceRemainingNs : Math.min(remainingNs, debounceRemainingNs);
+        }
+        if (remainingNs < 0) {
+            return -1;
+        }
+        var remainingMs = TimeUnit.NANOSECONDS.toMillis(remainingNs + 999_999);
+        return (int) Math.clamp(remainingMs, 1, Integer.MAX_VALUE);
+    }
+
+    int fd() {
+        return fd;
+    }
+
+    int offset() {
+        return offset;
     }
 
     public void stopWatching() {
@@ -172,4 +256,4 @@ class EventWatcher implements Runnable {
     public boolean isRunning() {
         return !this.stopWatching;
     }
-}
\ No newline at end of file
+}
@@ -5,22 +5,22 @@ import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.Pi4JException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.gpio.digital.*;
+import com.pi4j.io.gpio.digital.decoder.PulseDecoder;
+import com.pi4j.jfr.GpioEdgeEvent;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
 import com.pi4j.plugin.ffm.common.gpio.DetectedEvent;
 import com.pi4j.plugin.ffm.common.gpio.PinEvent;
+import com.pi4j.plugin.ffm.common.gpio.PinEventProcessing;
 import com.pi4j.plugin.ffm.common.gpio.PinFlag;
 import com.pi4j.plugin.ffm.common.gpio.enums.LineAttributeId;
 import com.pi4j.plugin.ffm.common.gpio.structs.LineAttribute;
 import com.pi4j.plugin.ffm.common.gpio.structs.LineConfigAttribute;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Native {@link DigitalInput} implementation for the FFM backend. Requests a single GPIO line from a
@@ -28,23 +28,30 @@ import java.util.concurrent.TimeUnit;
  * ({@code GPIO_V2_GET_LINE_IOCTL}), reads its level with {@code GPIO_V2_LINE_GET_VALUES_IOCTL}, and
  * watches for edge events by polling the resulting line file descriptor. Configured bias (pull
  * up/down) and optional debounce are applied through GPIO v2 line attributes.
+ * <p>
+ * Edge events are watched by the {@link GpioEventReactor} of the creating
+ * {@link FFMDigitalInputProviderImpl}, which multiplexes the line file descriptors of all inputs of a
+ * context on a shared {@code epoll} event loop.
  */
 public class FFMDigitalInput extends DigitalInputBase implements DigitalInput {
     private static final Logger logger = LoggerFactory.getLogger(FFMDigitalInput.class);
 
-
-
-    // Maximum graceful-await cycles before giving up on a stuck watcher thread.
-    private static final int EVENT_WATCHER_SHUTDOWN_MAX_ATTEMPTS = 5;
-
     private final FFMGpioLine line;
 
     private final long debounce;
     private final PullResistance pull;
+    // 0 leaves the kernel default of EventWatcher.EVENT_BATCH_SIZE events
+    private final int eventBufferSize;
+    private final EventCounters counters;
+    // level tracked from the edge events; only used if enabled and while the watcher is registered
+    private final boolean cacheState;
+    private final LineStateCache stateCache = new LineStateCache();
+    // reused for every batch dispatch, only touched by the reactor thread
+    private final ReusableDigitalStateChangeBatch batch;
 
-    private ExecutorService eventTaskProcessor;
-    private final List<EventWatcher> watchers = new ArrayList<>();
-    private ThreadFactory threadFactory;
+    // registered with the provider's shared reactor while at least one listener exists
+    private volatile EventWatcher watcher;
+    private GpioEventReactor reactor;
 
     /**
      * Creates a digital input bound to a GPIO line. Resolves the target device path
@@ -59,9 +66,14 @@ public class FFMDigitalInput extends DigitalInputBase implements DigitalInput {
      */
     public FFMDigitalInput(DigitalInputProvider provider, DigitalInputConfig config) {
         super(provider, config);
-        this.line = new FFMGpioLine(config.bcm(), config.bus());
+        this.line = new FFMGpioLine(new int[]{config.bcm()}, config.bus(), callMode(provider));
         this.debounce = (config.debounce() != null && config.debounce() >= 0) ? config.debounce() : 0;
         this.pull = config.pull();
+        this.eventBufferSize = config.eventBufferSize() != null ? config.eventBufferSize() : 0;
+        // sized like the kernel queue, so a full read means the queue may have overflowed
+        this.counters = new EventCounters(EventWatcher.kernelBufferSize(eventBufferSize));
+        this.batch = new ReusableDigitalStateChangeBatch(this, counters.bufferSize());
+        this.cacheState = Boolean.TRUE.equals(config.cacheState());
         FFMPermissionHelper.checkDevicePermissions(line.deviceName, config);
     }
 
@@ -75,12 +87,17 @@ public class FFMDigitalInput extends DigitalInputBase implements DigitalInput {
      * {@code GPIO_V2_LINE_ATTR_ID_DEBOUNCE} line attribute.
      *
      * @throws InitializeException if the device cannot be accessed, the line is already in use, the
-     *                             debounce value overflows the kernel's nanosecond field, or a native
+     *                             debounce value overflows the kernel's nanosecond field, the event
+     *                             buffer size exceeds the kernel limit, or a native
      *                             {@code ioctl}/open call fails
      */
     @Override
     public DigitalInput initialize(Context context) throws InitializeException {
         super.initialize(context);
+        if (eventBufferSize < 0 || eventBufferSize > EventWatcher.MAX_EVENT_BUFFER_SIZE) {
+            throw new InitializeException("Event buffer size of " + eventBufferSize + " is outside of 0.."
+                + EventWatcher.MAX_EVENT_BUFFER_SIZE + " (0 selects the kernel default)");
+        }
         var flags = PinFlag.INPUT.getValue() | PinFlag.EDGE_RISING.getValue() | PinFlag.EDGE_FALLING.getValue();
         var attributes = getLineConfigAttributes();
         flags |= switch (pull) {
@@ -89,7 +106,7 @@ public class FFMDigitalInput extends DigitalInputBase implements DigitalInput {
             case PULL_UP -> PinFlag.BIAS_PULL_UP.getValue();
         };
         try {
-            line.openAndRequest(flags, attributes, getClass().getSimpleName());
+            line.openAndRequest(flags, attributes, getClass().getSimpleName(), eventBufferSize);
         } catch (InitializeException e) {
             logger.error("{}-{} - DigitalInput offset Initialization error: {}", line.deviceName, line.offset, e.getMessage());
             throw e;
@@ -114,36 +131,17 @@ public class FFMDigitalInput extends DigitalInputBase implements DigitalInput {
     /**
      * {@inheritDoc}
      * <p>
-     * Starts a dedicated daemon {@link EventWatcher} thread that blocks in a native {@code poll()} on
-     * the requested line file descriptor and dispatches a {@link DigitalStateChangeEvent} for every
-     * detected rising (HIGH) or falling (LOW) edge. The first call lazily creates the watcher thread
-     * factory and executor; each call adds a new watcher.
+     * The first listener registers the requested line file descriptor with the provider's shared
+     * {@link GpioEventReactor}, which dispatches a {@link DigitalStateChangeEvent} for every detected
+     * rising (HIGH) or falling (LOW) edge, carrying the kernel timestamp, the sequence numbers and the
+     * number of edges the kernel dropped before it. Further listeners share that registration.
      */
     @Override
     public DigitalInput addListener(DigitalStateChangeListener... listener) {
         logger.trace("{}-{} - Adding new listener", line.deviceName, line.offset);
-        if (threadFactory == null) {
-            this.threadFactory = Thread.ofPlatform()
-                .name(line.deviceName + "-event-detection-pin-", line.offset)
-                .daemon(true)
-                .uncaughtExceptionHandler((_, e) -> logger.error(e.getMessage(), e))
-                .factory();
-            this.eventTaskProcessor = Executors.newCachedThreadPool(threadFactory);
-        }
-        var watcher = new EventWatcher(line.chipFileDescriptor, line.offset, debounce, line.file, PinEvent.BOTH, events -> {
-            for (DetectedEvent detectedEvent : events) {
-                var state = switch (detectedEvent.pinEvent()) {
-                    case RISING -> DigitalState.HIGH;
-                    case FALLING -> DigitalState.LOW;
-                    default -> DigitalState.UNKNOWN;
-                };
-                this.dispatch(new DigitalStateChangeEvent<DigitalInput>(this, state));
-            }
-        });
-        watchers.add(watcher);
         // add listener first to avoid race with event dispatch
         super.addListener(listener);
-        eventTaskProcessor.submit(watcher);
+        startWatching();
         logger.trace("{}-{} - New listener added", line.deviceName, line.offset);
         return this;
     }
@@ -151,61 +149,233 @@ public class FFMDigitalInput extends DigitalInputBase implements DigitalInput {
     /**
      * {@inheritDoc}
      * <p>
-     * Signals all running {@link EventWatcher} threads to stop and discards them before delegating
-     * removal of the listeners to the superclass.
+     * Shares the {@link GpioEventReactor} registration with the per-event listeners. Each batch holds
+     * the edges of one read of the line's kernel event queue, so its size is bounded by the configured
+     * event buffer size.
+     */
+    @Override
+    public DigitalInput addBatchListener(DigitalStateChangeBatchListener... listener) {
+        logger.trace("{}-{} - Adding new batch listener", line.deviceName, line.offset);
+        super.addBatchListener(listener);
+        startWatching();
+        logger.trace("{}-{} - New batch listener added", line.deviceName, line.offset);
+        return this;
+    }
+
+    // Called by the reactor thread after all lines ready in a wakeup were read, so a decoder spanning
+    // several lines decodes their edges of this wakeup in timestamp order.
+    private void flushDecoders(long nowNs) {
+        for (var binding : decoders) {
+            binding.decoder().onFlush(nowNs);
+        }
+    }
+
+    // Nearest flush deadline of the bound decoders, so the reactor wakes up to end frames by timeout
+    // even when no further edge arrives.
+    private long decoderTimeoutNs(long nowNs) {
+        var timeout = -1L;
+        for (var binding : decoders) {
+            var pending = binding.decoder().pendingTimeoutNanos(nowNs);
+            if (pending >= 0 && (timeout < 0 || pending < timeout)) {
+                timeout = pending;
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Registers the line with the shared {@link GpioEventReactor} like a listener would. The decoder gets
+     * the kernel edge timestamps on the reactor thread and is flushed after every reactor wakeup, including
+     * the wakeups the reactor schedules for {@link PulseDecoder#pendingTimeoutNanos(long)}; bind all
+     * lines of a multi-line decoder to inputs of the same provider, and keep the debounce period at zero
+     * unless the protocol tolerates it.
+     */
+    @Override
+    public DigitalInput addDecoder(PulseDecoder<?> decoder, int channel) {
+        super.addDecoder(decoder, channel);
+        startWatching();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Without listeners, the line is removed from the shared {@link GpioEventReactor}.
+     */
+    @Override
+    public DigitalInput removeDecoder(PulseDecoder<?> decoder) {
+        super.removeDecoder(decoder);
+        if (!hasListenersOrBindings()) {
+            stopWatching();
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Registers the line with the shared {@link GpioEventReactor} like a listener would. The statistics
+     * are updated on the reactor thread from the kernel edge timestamps, after software debounce.
+     */
+    @Override
+    public DigitalInput startMeasurement() {
+        super.startMeasurement();
+        startWatching();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Without listeners, the line is removed from the shared {@link GpioEventReactor}.
+     */
+    @Override
+    public DigitalInput stopMeasurement() {
+        super.stopMeasurement();
+        if (!hasListenersOrBindings()) {
+            stopWatching();
+        }
+        return this;
+    }
+
+    private void startWatching() {
+        EventWatcher started = null;
+        synchronized (this) {
+            if (watcher == null) {
+                stateCache.invalidate();
+                this.reactor = eventReactor();
+                this.watcher = started = new EventWatcher(line.chipFileDescriptor, line.offset, debounce,
+                    line.file, PinEvent.BOTH, counters, stateCache, new PinEventProcessing() {
+                        @Override
+                        public void process(List<DetectedEvent> eventList) {
+                            dispatchEvents(eventList);
+                        }
+
+                        @Override
+                        public void idle(long nowNs) {
+                            flushDecoders(nowNs);
+                        }
+
+                        @Override
+                        public long pendingTimeoutNs(long nowNs) {
+                            return decoderTimeoutNs(nowNs);
+                        }
+                    });
+            }
+        }
+        // call the reactor outside the lock: listeners run on its threads and may take the lock, while
+        // unregister() waits for them
+        if (started != null) {
+            try {
+                reactor.register(started);
+            } catch (Pi4JException e) {
+                synchronized (this) {
+                    if (watcher == started) {
+                        watcher = null;
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    // Called by the reactor thread with the edges of one read. Events are only created for per-event
+    // listeners; batch listeners get all edges at once through the reused batch, and a running
+    // measurement and bound decoders take them without any callback.
+    private void dispatchEvents(List<DetectedEvent> events) {
+        var perEvent = stateChangeEventManager.hasListeners();
+        var batched = batchEventManager.hasListeners();
+        var statistics = measuring ? edgeStatistics : null;
+        var bound = decoders;
+        if (batched) {
+            batch.clear();
+        }
+        for (DetectedEvent detectedEvent : events) {
+            var edgeEvent = new GpioEdgeEvent();
+            // the kernel stamps edges with CLOCK_MONOTONIC, the clock behind System.nanoTime() on Linux
+            var dispatchStart = edgeEvent.isEnabled() ? System.nanoTime() : 0L;
+            edgeEvent.begin();
+            var state = switch (detectedEvent.pinEvent()) {
+                case RISING -> DigitalState.HIGH;
+                case FALLING -> DigitalState.LOW;
+                default -> DigitalState.UNKNOWN;
+            };
+            if (perEvent) {
+                stateChangeEventManager.dispatch(new DigitalStateChangeEvent<DigitalInput>(this, state,
+                    detectedEvent.timestampInNanos(),
+                    Integer.toUnsignedLong(detectedEvent.requestSequenceNumber()),
+                    Integer.toUnsignedLong(detectedEvent.sequenceNumber()),
+                    detectedEvent.droppedEvents()));
+            }
+            if (statistics != null) {
+                statistics.record(detectedEvent.timestampInNanos(), state);
+            }
+            for (var binding : bound) {
+                binding.decoder().onEdge(binding.channel(), detectedEvent.timestampInNanos(), state);
+            }
+            if (batched) {
+                batch.add(detectedEvent.timestampInNanos(), state);
+                batch.addDroppedEvents(detectedEvent.droppedEvents());
+            }
+            if (edgeEvent.shouldCommit()) {
+                edgeEvent.device = id;
+                edgeEvent.line = config.bcm();
+                edgeEvent.rising = state == DigitalState.HIGH;
+                edgeEvent.captureLatency = dispatchStart - detectedEvent.timestampInNanos();
+                edgeEvent.droppedEvents = detectedEvent.droppedEvents();
+                edgeEvent.commit();
+            }
+        }
+        if (batched && batch.size() > 0) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Once the last listener is gone, the line is removed from the shared {@link GpioEventReactor}.
      */
     @Override
     public DigitalInput removeListener(DigitalStateChangeListener... listeners) {
-        for (EventWatcher watcher : watchers) {
-            watcher.stopWatching();
+        super.removeListener(listeners);
+        if (!hasListenersOrBindings()) {
+            stopWatching();
         }
-        watchers.clear();
-        return super.removeListener(listeners);
+        return this;
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Stops all event watchers, waits for their threads to finish their current native {@code poll()}
-     * cycle, then delegates to {@link FFMGpioLine#close()} to release the GPIO line.
+     * Once the last listener is gone, the line is removed from the shared {@link GpioEventReactor}.
+     */
+    @Override
+    public DigitalInput removeBatchListener(DigitalStateChangeBatchListener... listeners) {
+        super.removeBatchListener(listeners);
+        if (!hasListenersOrBindings()) {
+            stopWatching();
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes the line from the shared {@link GpioEventReactor}, which waits for an ongoing event
+     * dispatch to finish, then delegates to {@link FFMGpioLine#close()} to release the GPIO line.
      *
-     * @throws ShutdownException if waiting for the watcher threads or closing native resources fails
+     * @throws ShutdownException if removing the line from the reactor or closing native resources fails
      */
     @Override
     public DigitalInput shutdownInternal(Context context) throws ShutdownException {
         super.shutdownInternal(context);
         logger.info("{}-{} - closing GPIO offset.", line.deviceName, line.offset);
         try {
-            logger.trace("{}-{} - Stopping event watchers", line.deviceName, line.offset);
-            for (EventWatcher watcher : watchers) {
-                watcher.stopWatching();
-            }
-            watchers.clear();
-            // Await the executor whenever it was ever created. removeListener() stops its watcher
-            // and clears the list without waiting for the thread to leave its native poll(); that
-            // thread still holds the line fd. Closing the fd without waiting would leave the GPIO
-            // line flagged USED on the next create attempt.
-            if (eventTaskProcessor != null) {
-                logger.trace("{}-{} - Gracefully shutting down event processor", line.deviceName, line.offset);
-                eventTaskProcessor.shutdown();
-                var terminated = false;
-                for (int attempt = 0;
-                     attempt < EVENT_WATCHER_SHUTDOWN_MAX_ATTEMPTS && !terminated; attempt++) {
-                    terminated = eventTaskProcessor.awaitTermination(
-                        EventWatcher.EVENT_WATCHER_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-                    if (!terminated) {
-                        logger.trace("{}-{} - Event processor still running, waiting for watcher threads",
-                            line.deviceName, line.offset);
-                    }
-                }
-                if (!terminated) {
-                    logger.error(
-                        "{}-{} - Event watcher threads did not terminate within {}ms; forcing shutdown",
-                        line.deviceName, line.offset,
-                        (long) EventWatcher.EVENT_WATCHER_SHUTDOWN_TIMEOUT_MS * EVENT_WATCHER_SHUTDOWN_MAX_ATTEMPTS);
-                    eventTaskProcessor.shutdownNow();
-                }
-            }
+            logger.trace("{}-{} - Stopping event watcher", line.deviceName, line.offset);
+            stopWatching();
         } catch (Exception e) {
             line.closed = true;
             throw new ShutdownException(e);
@@ -216,16 +386,69 @@ public class FFMDigitalInput extends DigitalInputBase implements DigitalInput {
         return this;
     }
 
+    private void stopWatching() {
+        EventWatcher stopped;
+        synchronized (this) {
+            stopped = watcher;
+            watcher = null;
+        }
+        stateCache.invalidate();
+        // see startWatching() for why the reactor is called outside the lock
+        if (stopped != null) {
+            stopped.stopWatching();
+            reactor.unregister(stopped);
+        }
+    }
+
+    /**
+     * Returns the edge-event counters of this input: events received from the kernel, events the
+     * kernel dropped because its queue overflowed, and the largest batch returned by a single read.
+     * The counters accumulate over the whole lifetime of the input, across listener changes.
+     *
+     * @return a snapshot of the current counter values
+     */
+    public GpioEventStatistics eventStatistics() {
+        return counters.snapshot();
+    }
+
+    private GpioEventReactor eventReactor() {
+        if (provider() instanceof FFMDigitalInputProviderImpl ffmProvider) {
+            return ffmProvider.eventReactor();
+        }
+        throw new Pi4JException("Edge events of " + getClass().getSimpleName()
+            + " require the " + FFMDigitalInputProviderImpl.class.getSimpleName() + " provider");
+    }
+
     /**
      * {@inheritDoc}
      * <p>
      * Reads the current level of the requested line via {@code GPIO_V2_LINE_GET_VALUES_IOCTL} and maps
      * the returned bit to a {@link DigitalState}.
+     * <p>
+     * With {@link DigitalInputConfig#cacheState()} enabled and listeners registered, the level tracked
+     * from the kernel edge events is returned instead. The line is only read while that level is unknown:
+     * after edge detection started, or when the kernel event queue overflowed and edges may be missing.
      *
      * @throws Pi4JException if the line is closed or the native value-read {@code ioctl} fails
      */
     @Override
     public DigitalState state() {
-        return line.readState();
+        if (!cacheState || watcher == null) {
+            return line.readState();
+        }
+        var cached = stateCache.get();
+        if (cached != null) {
+            return cached;
+        }
+        var stamp = stateCache.stamp();
+        var state = line.readState();
+        stateCache.seed(stamp, state);
+        return state;
+    }
+
+    private static NativeCallMode callMode(DigitalInputProvider provider) {
+        return provider instanceof FFMDigitalInputProviderImpl ffmProvider
+            ? ffmProvider.callMode()
+            : NativeCallMode.STANDARD;
     }
 }
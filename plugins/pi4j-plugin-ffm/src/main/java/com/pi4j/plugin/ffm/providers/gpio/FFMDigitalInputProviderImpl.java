@@ -8,6 +8,8 @@ import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
+import com.pi4j.plugin.ffm.config.RealtimeHelper;
 
 /**
  * FFM backend {@link DigitalInputProvider}. Creates {@link FFMDigitalInput} instances that drive GPIO
@@ -16,13 +18,47 @@ import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
  */
 public class FFMDigitalInputProviderImpl extends DigitalInputProviderBase implements DigitalInputProvider {
 
+    private final int eventThreads;
+    private final NativeCallMode callMode;
+    private GpioEventReactor eventReactor;
+
     /**
      * Creates the provider, assigning its id and name and checking that the current user is permitted
-     * to access the GPIO character devices used by this backend.
+     * to access the GPIO character devices used by this backend. Edge events of all inputs are handled
+     * by a single event loop thread.
      */
     public FFMDigitalInputProviderImpl() {
+        this(1);
+    }
+
+    /**
+     * Creates the provider with the given number of GPIO event loop threads. Every thread multiplexes
+     * the edge events of its share of the inputs with {@code epoll}; more than one is only useful when
+     * listeners do heavy work on many inputs.
+     *
+     * @param eventThreads number of event loop threads shared by all inputs of this provider, at least one
+     */
+    public FFMDigitalInputProviderImpl(int eventThreads) {
+        this(eventThreads, NativeCallMode.STANDARD);
+    }
+
+    /**
+     * Creates the provider with the given number of GPIO event loop threads and the given downcall mode
+     * for the short, non-blocking {@code GPIO_V2_LINE_GET_VALUES_IOCTL} reads. Those only stay short on
+     * memory-mapped SoC GPIO chips, see {@link NativeCallMode#CRITICAL}. Edge-event waits and reads
+     * always use standard downcalls, since they may block.
+     *
+     * @param eventThreads number of event loop threads shared by all inputs of this provider, at least one
+     * @param callMode     how the line ioctls of the created inputs are linked
+     */
+    public FFMDigitalInputProviderImpl(int eventThreads, NativeCallMode callMode) {
+        if (eventThreads < 1) {
+            throw new IllegalArgumentException("At least one GPIO event thread is required, got " + eventThreads);
+        }
         this.id = "ffm-digital-input";
         this.name = "FFM API Provider Digital Input";
+        this.eventThreads = eventThreads;
+        this.callMode = callMode;
         FFMPermissionHelper.checkUserPermissions(this);
     }
 
@@ -40,18 +76,57 @@ public class FFMDigitalInputProviderImpl extends DigitalInputProviderBase implem
         return digitalInput;
     }
 
+    /**
+     * Returns the downcall mode used for the short, non-blocking native calls of the created instances.
+     *
+     * @return the configured native call mode
+     */
+    public NativeCallMode callMode() {
+        return callMode;
+    }
+
     @Override
     public int getPriority() {
         return 200;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Locks the process memory into RAM when the context configuration requests it
+     * ({@link com.pi4j.context.ContextConfig#lockMemory()}).
+     */
     @Override
     public DigitalInputProvider initialize(Context context) throws InitializeException {
+        RealtimeHelper.lockMemory(context.config());
         return super.initialize(context);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stops the shared GPIO event loop threads, if any input ever had a listener.
+     */
     @Override
     public DigitalInputProvider shutdownInternal(Context context) throws ShutdownException {
+        synchronized (this) {
+            if (eventReactor != null) {
+                eventReactor.close();
+                eventReactor = null;
+            }
+        }
         return super.shutdownInternal(context);
     }
+
+    /**
+     * Returns the GPIO event reactor shared by all inputs of this provider, starting it on first use.
+     *
+     * @return the event reactor of this provider
+     */
+    synchronized GpioEventReactor eventReactor() {
+        if (eventReactor == null) {
+            eventReactor = new GpioEventReactor(id + "-events", eventThreads, context.config());
+        }
+        return eventReactor;
+    }
 }
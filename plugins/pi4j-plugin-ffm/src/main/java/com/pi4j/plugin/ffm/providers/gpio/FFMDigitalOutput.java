@@ -9,6 +9,7 @@ import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
 import com.pi4j.plugin.ffm.common.gpio.PinFlag;
 import com.pi4j.plugin.ffm.common.gpio.enums.LineAttributeId;
 import com.pi4j.plugin.ffm.common.gpio.structs.*;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +37,7 @@ public class FFMDigitalOutput extends DigitalOutputBase implements DigitalOutput
      */
     public FFMDigitalOutput(DigitalOutputProvider provider, DigitalOutputConfig config) {
         super(provider, config);
-        this.line = new FFMGpioLine(config.bcm(), config.bus());
+        this.line = new FFMGpioLine(new int[]{config.bcm()}, config.bus(), callMode(provider));
         FFMPermissionHelper.checkDevicePermissions(line.deviceName, config);
     }
 
@@ -111,4 +112,10 @@ public class FFMDigitalOutput extends DigitalOutputBase implements DigitalOutput
         line.writeState(state);
         return super.state(state);
     }
+
+    private static NativeCallMode callMode(DigitalOutputProvider provider) {
+        return provider instanceof FFMDigitalOutputProviderImpl ffmProvider
+            ? ffmProvider.callMode()
+            : NativeCallMode.STANDARD;
+    }
 }
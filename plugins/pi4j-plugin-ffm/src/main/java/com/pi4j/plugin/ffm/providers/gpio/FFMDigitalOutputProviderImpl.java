@@ -8,6 +8,8 @@ import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
+import com.pi4j.plugin.ffm.config.RealtimeHelper;
 
 /**
  * FFM backend {@link DigitalOutputProvider}. Creates {@link FFMDigitalOutput} instances that drive
@@ -16,11 +18,27 @@ import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
  */
 public class FFMDigitalOutputProviderImpl extends DigitalOutputProviderBase implements DigitalOutputProvider {
 
+    private final NativeCallMode callMode;
+
     /**
      * Creates the provider, assigning its id and name and checking that the current user is permitted
      * to access the GPIO character devices used by this backend.
      */
     public FFMDigitalOutputProviderImpl() {
+        this(NativeCallMode.STANDARD);
+    }
+
+    /**
+     * Creates the provider with the given downcall mode for the short, non-blocking line ioctls
+     * ({@code GPIO_V2_LINE_GET_VALUES_IOCTL} / {@code GPIO_V2_LINE_SET_VALUES_IOCTL}).
+     * {@link NativeCallMode#CRITICAL} removes the thread-state transition from every read and write of
+     * the created instances; use it only for memory-mapped SoC GPIO chips, see
+     * {@link NativeCallMode#CRITICAL}.
+     *
+     * @param callMode how the line ioctls of the created instances are linked
+     */
+    public FFMDigitalOutputProviderImpl(NativeCallMode callMode) {
+        this.callMode = callMode;
         this.id = "ffm-digital-output";
         this.name = "FFM API Provider Digital Output";
         FFMPermissionHelper.checkUserPermissions(this);
@@ -41,13 +59,29 @@ public class FFMDigitalOutputProviderImpl extends DigitalOutputProviderBase impl
         return digitalOutput;
     }
 
+    /**
+     * Returns the downcall mode used for the short, non-blocking native calls of the created instances.
+     *
+     * @return the configured native call mode
+     */
+    public NativeCallMode callMode() {
+        return callMode;
+    }
+
     @Override
     public int getPriority() {
         return 200;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Locks the process memory into RAM when the context configuration requests it
+     * ({@link com.pi4j.context.ContextConfig#lockMemory()}).
+     */
     @Override
     public DigitalOutputProvider initialize(Context context) throws InitializeException {
+        RealtimeHelper.lockMemory(context.config());
         return super.initialize(context);
     }
 
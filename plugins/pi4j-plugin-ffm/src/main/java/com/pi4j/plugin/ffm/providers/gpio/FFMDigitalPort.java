@@ -0,0 +1,147 @@
+package com.pi4j.plugin.ffm.providers.gpio;
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.*;
+import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
+import com.pi4j.plugin.ffm.common.gpio.PinFlag;
+import com.pi4j.plugin.ffm.common.gpio.enums.LineAttributeId;
+import com.pi4j.plugin.ffm.common.gpio.structs.LineAttribute;
+import com.pi4j.plugin.ffm.common.gpio.structs.LineConfigAttribute;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Native {@link DigitalPort} implementation for the FFM backend. Requests all configured GPIO lines of a
+ * {@code /dev/gpiochipN} character device in a single GPIO v2 line request ({@code GPIO_V2_GET_LINE_IOCTL}
+ * with {@code num_lines > 1}), so the whole port is sampled with one {@code GPIO_V2_LINE_GET_VALUES_IOCTL}
+ * and driven with one {@code GPIO_V2_LINE_SET_VALUES_IOCTL}, using the {@code mask} field of
+ * {@code gpio_v2_line_values} to select the lines affected.
+ */
+public class FFMDigitalPort extends DigitalPortBase implements DigitalPort {
+    private static final Logger logger = LoggerFactory.getLogger(FFMDigitalPort.class);
+
+    private final FFMGpioLine line;
+
+    /**
+     * Creates a digital port bound to a group of GPIO lines. Resolves the target device path
+     * ({@code /dev/gpiochip} + the configured bus number), captures the BCM line offsets from the
+     * configuration, and verifies that the current user has the required permissions on the device
+     * file. The lines themselves are not requested until {@link #initialize(Context)} is called.
+     *
+     * @param provider the {@link DigitalPortProvider} that created this instance
+     * @param config   the {@link DigitalPortConfig} supplying the BCM line offsets, bus number and direction
+     */
+    public FFMDigitalPort(DigitalPortProvider provider, DigitalPortConfig config) {
+        super(provider, config);
+        this.line = new FFMGpioLine(config.bcms(), config.bus(), callMode(provider));
+        FFMPermissionHelper.checkDevicePermissions(line.deviceName, config);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Opens the GPIO chip device, reads the line info of every BCM line to ensure none is already in use,
+     * then requests them all in one {@code GPIO_V2_GET_LINE_IOCTL}. Input ports apply the configured pull
+     * resistance as a {@code GPIO_V2_LINE_FLAG_BIAS_*} flag; output ports supply the configured initial value
+     * as a {@code GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES} attribute so the lines are driven to it the moment they
+     * are requested.
+     *
+     * @throws InitializeException if the device cannot be accessed, any line is already in use, or a
+     *                             native {@code ioctl}/open call fails
+     */
+    @Override
+    public DigitalPort initialize(Context context) throws InitializeException {
+        var flags = 0L;
+        var attributes = new ArrayList<LineConfigAttribute>();
+        if (direction() == DigitalPortDirection.OUTPUT) {
+            flags = PinFlag.OUTPUT.getValue();
+            var initial = config().initial();
+            if (initial != null) {
+                var outputValues = new LineAttribute(
+                    LineAttributeId.GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES.getValue(), 0, initial & mask(), 0);
+                attributes.add(new LineConfigAttribute(outputValues, mask()));
+                logger.trace("{}-{} - DigitalPort initial value: {}", line.deviceName,
+                    Arrays.toString(line.offsets), Long.toBinaryString(initial & mask()));
+            }
+        } else {
+            flags = PinFlag.INPUT.getValue();
+            flags |= switch (config().pull()) {
+                case OFF -> 0;
+                case PULL_DOWN -> PinFlag.BIAS_PULL_DOWN.getValue();
+                case PULL_UP -> PinFlag.BIAS_PULL_UP.getValue();
+            };
+        }
+        try {
+            line.openAndRequest(flags, attributes, getClass().getSimpleName());
+        } catch (InitializeException e) {
+            logger.error("{}-{} - DigitalPort Initialization error: {}", line.deviceName,
+                Arrays.toString(line.offsets), e.getMessage());
+            throw e;
+        }
+        logger.info("{}-{} - DigitalPort configured as {}.", line.deviceName,
+            Arrays.toString(line.offsets), direction());
+        return super.initialize(context);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Closes the requested line file descriptor, releasing all GPIO lines of the port back to the kernel.
+     *
+     * @throws ShutdownException if closing the native line file descriptor fails
+     */
+    @Override
+    public DigitalPort shutdownInternal(Context context) throws ShutdownException {
+        super.shutdownInternal(context);
+        logger.info("{}-{} - closing GPIO port.", line.deviceName, Arrays.toString(line.offsets));
+        try {
+            line.close();
+        } catch (Exception e) {
+            throw new ShutdownException(e);
+        }
+        logger.info("{}-{} - GPIO port is closed.", line.deviceName, Arrays.toString(line.offsets));
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Samples every line of the port with a single {@code GPIO_V2_LINE_GET_VALUES_IOCTL}.
+     *
+     * @throws com.pi4j.exception.Pi4JException if the port is closed or the ioctl call fails
+     */
+    @Override
+    public long read() throws IOException {
+        return line.readValues(mask());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Drives the selected lines with a single {@code GPIO_V2_LINE_SET_VALUES_IOCTL}; bits of {@code mask}
+     * beyond the port width are ignored.
+     *
+     * @throws com.pi4j.exception.Pi4JException if the port is closed or the ioctl call fails
+     */
+    @Override
+    public DigitalPort write(long bits, long mask) throws IOException {
+        if (direction() != DigitalPortDirection.OUTPUT) {
+            throw new IOException("Digital port '" + id() + "' is not an output");
+        }
+        line.writeValues(bits, mask & mask());
+        return this;
+    }
+
+    private static NativeCallMode callMode(DigitalPortProvider provider) {
+        return provider instanceof FFMDigitalPortProviderImpl ffmProvider
+            ? ffmProvider.callMode()
+            : NativeCallMode.STANDARD;
+    }
+}
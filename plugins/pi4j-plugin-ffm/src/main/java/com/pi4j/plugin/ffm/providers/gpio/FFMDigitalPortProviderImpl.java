@@ -0,0 +1,89 @@
+package com.pi4j.plugin.ffm.providers.gpio;
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalPort;
+import com.pi4j.io.gpio.digital.DigitalPortConfig;
+import com.pi4j.io.gpio.digital.DigitalPortProvider;
+import com.pi4j.io.gpio.digital.DigitalPortProviderBase;
+import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
+import com.pi4j.plugin.ffm.config.RealtimeHelper;
+
+/**
+ * FFM backend {@link DigitalPortProvider}. Creates {@link FFMDigitalPort} instances that read and drive
+ * groups of GPIO lines through a single Linux GPIO v2 character-device line request, and verifies that
+ * the current user has the permissions required to access the GPIO devices.
+ */
+public class FFMDigitalPortProviderImpl extends DigitalPortProviderBase implements DigitalPortProvider {
+
+    private final NativeCallMode callMode;
+
+    /**
+     * Creates the provider, assigning its id and name and checking that the current user is permitted
+     * to access the GPIO character devices used by this backend.
+     */
+    public FFMDigitalPortProviderImpl() {
+        this(NativeCallMode.STANDARD);
+    }
+
+    /**
+     * Creates the provider with the given downcall mode for the short, non-blocking line ioctls
+     * ({@code GPIO_V2_LINE_GET_VALUES_IOCTL} / {@code GPIO_V2_LINE_SET_VALUES_IOCTL}).
+     * {@link NativeCallMode#CRITICAL} removes the thread-state transition from every read and write of
+     * the created instances; use it only for memory-mapped SoC GPIO chips, see
+     * {@link NativeCallMode#CRITICAL}.
+     *
+     * @param callMode how the line ioctls of the created instances are linked
+     */
+    public FFMDigitalPortProviderImpl(NativeCallMode callMode) {
+        this.callMode = callMode;
+        this.id = "ffm-digital-port";
+        this.name = "FFM API Provider Digital Port";
+        FFMPermissionHelper.checkUserPermissions(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Constructs an {@link FFMDigitalPort} for the requested lines and registers it with the context.
+     */
+    @Override
+    public DigitalPort create(DigitalPortConfig config) {
+        var digitalPort = new FFMDigitalPort(this, config);
+        this.context.register(digitalPort);
+        return digitalPort;
+    }
+
+    /**
+     * Returns the downcall mode used for the short, non-blocking native calls of the created instances.
+     *
+     * @return the configured native call mode
+     */
+    public NativeCallMode callMode() {
+        return callMode;
+    }
+
+    @Override
+    public int getPriority() {
+        return 200;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Locks the process memory into RAM when the context configuration requests it
+     * ({@link com.pi4j.context.ContextConfig#lockMemory()}).
+     */
+    @Override
+    public DigitalPortProvider initialize(Context context) throws InitializeException {
+        RealtimeHelper.lockMemory(context.config());
+        return super.initialize(context);
+    }
+
+    @Override
+    public DigitalPortProvider shutdownInternal(Context context) throws ShutdownException {
+        return super.shutdownInternal(context);
+    }
+}
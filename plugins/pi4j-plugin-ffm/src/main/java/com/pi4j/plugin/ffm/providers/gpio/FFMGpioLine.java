@@ -9,9 +9,12 @@ import com.pi4j.plugin.ffm.common.gpio.PinFlag;
 import com.pi4j.plugin.ffm.common.gpio.structs.*;
 import com.pi4j.plugin.ffm.common.ioctl.Command;
 import com.pi4j.plugin.ffm.common.ioctl.IoctlNative;
+import com.pi4j.plugin.ffm.common.ioctl.PreparedIoctl;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.foreign.Arena;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFileAttributes;
@@ -19,41 +22,91 @@ import java.nio.file.attribute.PosixFilePermissions;
 import java.util.List;
 
 /**
- * Low-level wrapper around a single Linux GPIO v2 character-device line. Shared by
- * {@link FFMDigitalInput} and {@link FFMDigitalOutput} to eliminate duplicated native code.
+ * Low-level wrapper around a Linux GPIO v2 character-device line request. Shared by
+ * {@link FFMDigitalInput}, {@link FFMDigitalOutput} and {@link FFMDigitalPort} to eliminate duplicated
+ * native code.
  * <p>
- * A line is opened via {@link #openAndRequest} (which issues the {@code GPIO_V2_GET_LINE_IOCTL}
- * and retains the resulting per-request file descriptor), read via {@link #readState}, written
- * via {@link #writeState}, and released via {@link #close}.
+ * One or more lines of the same chip are opened via {@link #openAndRequest} (which issues a single
+ * {@code GPIO_V2_GET_LINE_IOCTL} and retains the resulting per-request file descriptor), read via
+ * {@link #readState} or {@link #readValues}, written via {@link #writeState} or {@link #writeValues},
+ * and released via {@link #close}. Reads and writes go through {@link PreparedIoctl}s bound to the
+ * request fd at open time, so a steady-state toggle or poll only updates the changed struct fields.
+ * Bit {@code n} of the multi-line values corresponds to {@code offsets[n]}, matching the kernel's
+ * {@code gpio_v2_line_values} semantics.
  */
 class FFMGpioLine {
     private static final Logger logger = LoggerFactory.getLogger(FFMGpioLine.class);
 
-    final IoctlNative ioctl = new IoctlNative();
+    final IoctlNative ioctl;
     final FileDescriptorNative file = new FileDescriptorNative();
 
     final String deviceName;
+    final int[] offsets;
+    // first requested offset, used to label log messages and watcher threads
     final int offset;
 
     int chipFileDescriptor;
     boolean closed = false;
 
+    // get/set values ioctls bound to the line request fd, each guarded by its own monitor
+    private PreparedIoctl getValues;
+    private LineValuesView getValuesView;
+    private PreparedIoctl setValues;
+    private LineValuesView setValuesView;
+
     FFMGpioLine(int offset, int bus) {
-        this.offset = offset;
+        this(new int[]{offset}, bus, NativeCallMode.STANDARD);
+    }
+
+    FFMGpioLine(int[] offsets, int bus) {
+        this(offsets, bus, NativeCallMode.STANDARD);
+    }
+
+    /**
+     * @param callMode how the line ioctls are linked. {@link NativeCallMode#CRITICAL} only suits chips
+     *                 whose line values are memory-mapped SoC registers, such as the BCM283x/BCM2711
+     *                 and RP1 GPIO controllers: on sleeping chips (I2C/SPI GPIO expanders, the firmware
+     *                 {@code expgpio} of the Pi 3/4) the ioctls wait for a bus transfer or mailbox
+     *                 reply. Edge-event waits and reads go through the event reactor and always use
+     *                 standard downcalls.
+     */
+    FFMGpioLine(int[] offsets, int bus, NativeCallMode callMode) {
+        this.ioctl = new IoctlNative(callMode);
+        this.offsets = offsets.clone();
+        this.offset = offsets[0];
         this.deviceName = "/dev/gpiochip" + bus;
     }
 
     /**
-     * Opens the GPIO chip device, verifies that the target BCM line is not already in use,
-     * requests it with the supplied flags and attributes, and retains the per-request line fd.
+     * Opens the GPIO chip device, verifies that none of the target BCM lines is already in use,
+     * requests all of them in one line request with the supplied flags and attributes, and retains
+     * the per-request line fd.
      *
      * @param flags      OR-combination of {@link PinFlag} values (direction, edge detection, bias)
      * @param attributes optional line-config attributes (debounce period, initial output value, etc.)
      * @param consumer   label embedded in the kernel line-request (appears in {@code gpioinfo})
-     * @throws InitializeException if the device is inaccessible, the line is in use, or an
+     * @throws InitializeException if the device is inaccessible, any line is in use, or an
      *                             ioctl / file-open call fails
      */
     void openAndRequest(long flags, List<LineConfigAttribute> attributes, String consumer)
+        throws InitializeException {
+        openAndRequest(flags, attributes, consumer, 0);
+    }
+
+    /**
+     * Same as {@link #openAndRequest(long, List, String)}, additionally sizing the kernel edge-event
+     * queue of the request.
+     *
+     * @param flags           OR-combination of {@link PinFlag} values (direction, edge detection, bias)
+     * @param attributes      optional line-config attributes (debounce period, initial output value, etc.)
+     * @param consumer        label embedded in the kernel line-request (appears in {@code gpioinfo})
+     * @param eventBufferSize number of edge events the kernel queues for the request before dropping,
+     *                        rounded up to a power of two by the kernel; {@code 0} selects the kernel
+     *                        default of 16 per line
+     * @throws InitializeException if the device is inaccessible, any line is in use, or an
+     *                             ioctl / file-open call fails
+     */
+    void openAndRequest(long flags, List<LineConfigAttribute> attributes, String consumer, int eventBufferSize)
         throws InitializeException {
         if (!canAccessDevice()) {
             try {
@@ -75,19 +128,22 @@ class FFMGpioLine {
         // The chip fd is only needed to read line info and issue the request.
         // Close it in a finally so any early-exit cannot leak it.
         try {
-            var lineInfo = new LineInfo(new byte[]{}, new byte[]{}, offset, 0, 0, new LineAttribute[]{});
-            logger.trace("{}-{} - getting line info.", deviceName, offset);
-            lineInfo = ioctl.call(fd, Command.getGpioV2GetLineInfoIoctl(), lineInfo);
-            if ((lineInfo.flags() & PinFlag.USED.getValue()) > 0) {
-                throw new InitializeException("Offset " + offset + " is in use");
+            for (int lineOffset : offsets) {
+                var lineInfo = new LineInfo(new byte[]{}, new byte[]{}, lineOffset, 0, 0, new LineAttribute[]{});
+                logger.trace("{}-{} - getting line info.", deviceName, lineOffset);
+                lineInfo = ioctl.call(fd, Command.getGpioV2GetLineInfoIoctl(), lineInfo);
+                if ((lineInfo.flags() & PinFlag.USED.getValue()) > 0) {
+                    throw new InitializeException("Offset " + lineOffset + " is in use");
+                }
+                logger.trace("{}-{} - GPIO line info: {}", deviceName, lineOffset, lineInfo);
             }
-            logger.trace("{}-{} - GPIO line info: {}", deviceName, offset, lineInfo);
             var lineConfig = new LineConfig(flags, attributes.size(),
                 attributes.toArray(new LineConfigAttribute[0]));
             var lineRequest = new LineRequest(
-                new int[]{offset}, ("pi4j." + consumer).getBytes(), lineConfig, 1, 0, 0);
+                offsets.clone(), ("pi4j." + consumer).getBytes(), lineConfig, offsets.length, eventBufferSize, 0);
             var result = ioctl.call(fd, Command.getGpioV2GetLineIoctl(), lineRequest);
             this.chipFileDescriptor = result.fd();
+            prepareValueCalls();
             this.closed = false;
             logger.info("{}-{} - GPIO line configured: {}", deviceName, offset, result);
         } finally {
@@ -95,6 +151,16 @@ class FFMGpioLine {
         }
     }
 
+    private void prepareValueCalls() {
+        var arena = Arena.ofAuto();
+        this.getValuesView = LineValuesView.allocate(arena);
+        this.getValues = new PreparedIoctl(ioctl, chipFileDescriptor, Command.getGpioV2GetValuesIoctl(),
+            getValuesView.segment());
+        this.setValuesView = LineValuesView.allocate(arena);
+        this.setValues = new PreparedIoctl(ioctl, chipFileDescriptor, Command.getGpioV2SetValuesIoctl(),
+            setValuesView.segment());
+    }
+
     /**
      * Reads the current logic level of the requested line via {@code GPIO_V2_LINE_GET_VALUES_IOCTL}.
      *
@@ -104,12 +170,29 @@ class FFMGpioLine {
     DigitalState readState() {
         checkClosed();
         logger.trace("{}-{} - reading GPIO offset.", deviceName, offset);
-        var lineValues = new LineValues(0, 1);
+        var state = DigitalState.getState(readValues(1L) & 1L);
+        logger.trace("{}-{} - GPIO offset state is {}.", deviceName, offset, state);
+        return state;
+    }
+
+    /**
+     * Reads the levels of the requested lines selected by {@code mask} in a single
+     * {@code GPIO_V2_LINE_GET_VALUES_IOCTL} call.
+     *
+     * @param mask bit field selecting which of the requested lines to sample
+     * @return bit field of line levels; bit {@code n} is the level of {@code offsets[n]}
+     * @throws Pi4JException if the line is closed or the ioctl call fails
+     */
+    long readValues(long mask) {
+        checkClosed();
         try {
-            var result = ioctl.call(chipFileDescriptor, Command.getGpioV2GetValuesIoctl(), lineValues);
-            var state = DigitalState.getState(result.bits());
-            logger.trace("{}-{} - GPIO offset state is {}.", deviceName, offset, state);
-            return state;
+            synchronized (getValues) {
+                if (getValuesView.mask() != mask) {
+                    getValuesView.mask(mask);
+                }
+                getValues.invoke();
+                return getValuesView.bits() & mask;
+            }
         } catch (Exception e) {
             throw new Pi4JException(e);
         }
@@ -124,9 +207,27 @@ class FFMGpioLine {
     void writeState(DigitalState state) {
         checkClosed();
         logger.trace("{}-{} - writing GPIO offset {}.", deviceName, offset, state);
-        var lineValues = new LineValues(state.getValue().intValue(), 1);
+        writeValues(state.getValue().intValue(), 1L);
+    }
+
+    /**
+     * Drives the requested lines selected by {@code mask} in a single
+     * {@code GPIO_V2_LINE_SET_VALUES_IOCTL} call; unselected lines keep their level.
+     *
+     * @param bits bit field of line levels; bit {@code n} is the level of {@code offsets[n]}
+     * @param mask bit field selecting which of the requested lines to drive
+     * @throws Pi4JException if the line is closed or the ioctl call fails
+     */
+    void writeValues(long bits, long mask) {
+        checkClosed();
         try {
-            ioctl.call(chipFileDescriptor, Command.getGpioV2SetValuesIoctl(), lineValues);
+            synchronized (setValues) {
+                if (setValuesView.mask() != mask) {
+                    setValuesView.mask(mask);
+                }
+                setValuesView.bits(bits & mask);
+                setValues.invoke();
+            }
         } catch (Exception e) {
             throw new Pi4JException(e);
         }
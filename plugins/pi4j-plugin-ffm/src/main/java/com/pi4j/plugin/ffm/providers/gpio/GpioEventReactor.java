@@ -0,0 +1,429 @@
+package com.pi4j.plugin.ffm.providers.gpio;
+
+import com.pi4j.context.ContextConfig;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.plugin.ffm.common.epoll.EpollFlag;
+import com.pi4j.plugin.ffm.common.epoll.EpollNative;
+import com.pi4j.plugin.ffm.common.epoll.structs.EpollEvent;
+import com.pi4j.plugin.ffm.common.eventfd.EventFdFlag;
+import com.pi4j.plugin.ffm.common.eventfd.EventFdNative;
+import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
+import com.pi4j.plugin.ffm.config.RealtimeHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Context-scoped GPIO edge-event loop shared by all {@link FFMDigitalInput}s of one
+ * {@link FFMDigitalInputProviderImpl}. Instead of a platform thread per listener, a small fixed number
+ * of daemon threads each own one {@code epoll} instance and multiplex every requested line file
+ * descriptor registered with them, calling the owning {@link EventWatcher} when its line is readable.
+ * <p>
+ * Watchers are spread over the loops by load; each loop reuses a single {@code struct epoll_event}
+ * array for all of its lines. A loop collects the watchers to call under its lock but calls them, and
+ * with them the listeners and decoders of the inputs, without holding it, so listeners may add and remove
+ * inputs on any loop. Once {@link #unregister(EventWatcher)} returns the watcher is never called again
+ * and its line file descriptor can be closed.
+ * <p>
+ * Loops block in {@code epoll_wait()} without a timeout unless a debounced event or a decoder frame
+ * timeout is pending; each epoll set also holds an {@code eventfd} that {@link #close()} signals to wake
+ * its thread at once.
+ * <p>
+ * When the context configuration requests real-time execution, every loop thread pins itself to the
+ * configured CPU cores and switches to {@code SCHED_FIFO} before entering its loop.
+ */
+class GpioEventReactor {
+    private static final Logger logger = LoggerFactory.getLogger(GpioEventReactor.class);
+
+    // Maximum number of ready descriptors handled per epoll_wait() call.
+    static final int MAX_EVENTS = 16;
+
+    private static final int READ_EVENTS = EpollFlag.EPOLLIN | EpollFlag.EPOLLPRI;
+    private static final int ERROR_EVENTS = EpollFlag.EPOLLERR | EpollFlag.EPOLLHUP;
+    private static final long EPOLL_EVENT_SIZE = EpollEvent.LAYOUT.byteSize();
+    private static final long EVENTS_OFFSET = EpollEvent.LAYOUT.byteOffset(groupElement("events"));
+    private static final long DATA_OFFSET = EpollEvent.LAYOUT.byteOffset(groupElement("data"));
+    // epoll_event.data of the wakeup eventfd, never a watcher slot
+    static final long WAKEUP_DATA = -1L;
+    // Pause after a failed epoll_wait() before retrying, so a persistent error does not spin the loop.
+    private static final long WAIT_ERROR_BACKOFF_MS = 100;
+
+    private final Loop[] loops;
+
+    /**
+     * Creates the epoll instances and starts the event loop threads.
+     *
+     * @param name    prefix of the event loop thread names
+     * @param threads number of event loop threads, at least one
+     * @param config  context configuration holding the real-time settings of the loop threads
+     * @throws Pi4JException if an epoll instance cannot be created
+     */
+    GpioEventReactor(String name, int threads, ContextConfig config) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("GPIO event reactor needs at least one thread, got " + threads);
+        }
+        this.loops = new Loop[threads];
+        for (int i = 0; i < threads; i++) {
+            loops[i] = new Loop(config);
+            Thread.ofPlatform()
+                .name(name + "-" + i)
+                .daemon(true)
+                .uncaughtExceptionHandler((_, e) -> logger.error(e.getMessage(), e))
+                .start(loops[i]);
+        }
+        logger.debug("{} - GPIO event reactor started with {} thread(s)", name, threads);
+    }
+
+    /**
+     * Adds the watcher's line file descriptor to the least loaded event loop.
+     *
+     * @param watcher watcher to be called when its line has events queued
+     * @throws Pi4JException if the descriptor cannot be added to the epoll set
+     */
+    void register(EventWatcher watcher) {
+        var target = loops[0];
+        for (var loop : loops) {
+            if (loop.size() < target.size()) {
+                target = loop;
+            }
+        }
+        target.register(watcher);
+    }
+
+    /**
+     * Removes the watcher from its event loop. Waits for a call of the watcher in progress to finish, so
+     * the watcher is not called anymore once this method returns.
+     * <p>
+     * Called from an event loop thread, e.g. by a listener removing another input, it does not wait:
+     * two loops waiting for each other's call would deadlock. The watcher is then only guaranteed not to
+     * be called again once the call in progress on its loop returned.
+     *
+     * @param watcher previously registered watcher; unknown watchers are ignored
+     */
+    void unregister(EventWatcher watcher) {
+        var await = true;
+        for (var loop : loops) {
+            if (loop.thread == Thread.currentThread()) {
+                await = false;
+            }
+        }
+        for (var loop : loops) {
+            if (loop.unregister(watcher, await)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops all event loops, wakes them from {@code epoll_wait()} and waits up to
+     * {@link EventWatcher#EVENT_WATCHER_SHUTDOWN_TIMEOUT_MS} per thread for them to close their epoll
+     * instance.
+     */
+    void close() {
+        for (var loop : loops) {
+            loop.running = false;
+            loop.wakeup();
+        }
+        for (var loop : loops) {
+            loop.awaitTermination();
+        }
+    }
+
+    /**
+     * One event loop thread with its own epoll instance. The {@code epoll_event.data} of a registered
+     * descriptor is the index of its watcher in {@link #watchers}, or {@link #WAKEUP_DATA} for the
+     * loop's wakeup eventfd.
+     * <p>
+     * The monitor guards the watcher table and the watcher being called; it is never held while a
+     * watcher runs.
+     */
+    private static final class Loop implements Runnable {
+        private final EpollNative epoll = new EpollNative();
+        private final EventFdNative eventFd = new EventFdNative();
+        private final FileDescriptorNative file = new FileDescriptorNative();
+        private final int epfd;
+        private final int wakeFd;
+        private final ContextConfig config;
+
+        private EventWatcher[] watchers = new EventWatcher[MAX_EVENTS];
+        private int size = 0;
+        // watcher whose callback runs right now, awaited by unregister()
+        private EventWatcher calling;
+        private volatile boolean running = true;
+        private volatile Thread thread;
+
+        // loop thread only: the watchers to call after a wakeup and their slots, copied under the monitor
+        private final EventWatcher[] readyWatchers = new EventWatcher[MAX_EVENTS];
+        private final int[] readySlots = new int[MAX_EVENTS];
+        private EventWatcher[] snapshot = new EventWatcher[MAX_EVENTS];
+        private int[] snapshotSlots = new int[MAX_EVENTS];
+
+        private Loop(ContextConfig config) {
+            this.config = config;
+            this.epfd = epoll.create(EpollFlag.EPOLL_CLOEXEC);
+            try {
+                this.wakeFd = eventFd.create(EventFdFlag.EFD_CLOEXEC | EventFdFlag.EFD_NONBLOCK);
+                epoll.ctl(epfd, EpollFlag.EPOLL_CTL_ADD, wakeFd, EpollFlag.EPOLLIN, WAKEUP_DATA);
+            } catch (Pi4JException e) {
+                file.close(epfd);
+                throw e;
+            }
+        }
+
+        // Makes the wakeup eventfd readable, so a pending epoll_wait() returns. Callable from any thread.
+        private void wakeup() {
+            try {
+                eventFd.signal(wakeFd);
+            } catch (Pi4JException e) {
+                logger.debug("Unable to wake up GPIO event loop: {}", e.getMessage());
+            }
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized void register(EventWatcher watcher) {
+            var slot = 0;
+            while (slot < watchers.length && watchers[slot] != null) {
+                slot++;
+            }
+            if (slot == watchers.length) {
+                watchers = Arrays.copyOf(watchers, watchers.length * 2);
+            }
+            epoll.ctl(epfd, EpollFlag.EPOLL_CTL_ADD, watcher.fd(), READ_EVENTS, slot);
+            watchers[slot] = watcher;
+            size++;
+        }
+
+        // Returns false if the watcher is not registered with this loop.
+        private synchronized boolean unregister(EventWatcher watcher, boolean await) {
+            var found = false;
+            for (int slot = 0; slot < watchers.length; slot++) {
+                if (watchers[slot] == watcher) {
+                    remove(slot);
+                    found = true;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+            try {
+                while (await && calling == watcher) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+
+        // must hold the monitor
+        private void remove(int slot) {
+            var watcher = watchers[slot];
+            watchers[slot] = null;
+            size--;
+            try {
+                epoll.ctl(epfd, EpollFlag.EPOLL_CTL_DEL, watcher.fd(), 0, slot);
+            } catch (Pi4JException e) {
+                logger.debug("{} - Unable to remove offset {} from epoll set: {}",
+                    Thread.currentThread().getName(), watcher.offset(), e.getMessage());
+            }
+        }
+
+        // Marks the watcher as being called, unless it was unregistered or stopped since it was collected.
+        private synchronized boolean beginCall(int slot, EventWatcher watcher) {
+            if (slot >= watchers.length || watchers[slot] != watcher) {
+                return false;
+            }
+            if (!watcher.isRunning()) {
+                remove(slot);
+                return false;
+            }
+            calling = watcher;
+            return true;
+        }
+
+        private synchronized void endCall() {
+            calling = null;
+            notifyAll();
+        }
+
+        private synchronized void fail(int slot, EventWatcher watcher) {
+            watcher.stopWatching();
+            if (slot < watchers.length && watchers[slot] == watcher) {
+                remove(slot);
+            }
+        }
+
+        // Copies the registered watchers for calls made without the monitor; returns their number.
+        private synchronized int snapshot() {
+            if (snapshot.length < watchers.length) {
+                snapshot = new EventWatcher[watchers.length];
+                snapshotSlots = new int[watchers.length];
+            }
+            var count = 0;
+            for (int slot = 0; slot < watchers.length; slot++) {
+                if (watchers[slot] != null) {
+                    snapshot[count] = watchers[slot];
+                    snapshotSlots[count] = slot;
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void awaitTermination() {
+            var current = thread;
+            if (current == null || current == Thread.currentThread()) {
+                return;
+            }
+            try {
+                current.join(EventWatcher.EVENT_WATCHER_SHUTDOWN_TIMEOUT_MS);
+                if (current.isAlive()) {
+                    logger.error("{} - GPIO event loop did not terminate within {}ms",
+                        current.getName(), EventWatcher.EVENT_WATCHER_SHUTDOWN_TIMEOUT_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Sleeps after a failed wait; false if the thread was interrupted and should stop.
+        private boolean pause() {
+            try {
+                Thread.sleep(WAIT_ERROR_BACKOFF_MS);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        // Blocks until the nearest pending debounce or decoder deadline, or indefinitely (-1) when none is
+        // pending; a stop request wakes the loop through the wakeup eventfd. The deadlines are read without
+        // the monitor, since decoders compute theirs under their own lock.
+        private int nextTimeout() {
+            var timeout = -1;
+            var nowNs = System.nanoTime();
+            var count = snapshot();
+            for (int i = 0; i < count; i++) {
+                var pending = snapshot[i].pendingTimeoutMs(nowNs);
+                snapshot[i] = null;
+                if (pending >= 0 && (timeout < 0 || pending < timeout)) {
+                    timeout = pending;
+                }
+            }
+            return timeout;
+        }
+
+        // Collects the watchers of readable lines and handles the wakeup and error events; returns the
+        // number of watchers collected.
+        private synchronized int collect(MemorySegment readyEvents, int ready) {
+            var count = 0;
+            for (int i = 0; i < ready; i++) {
+                var base = i * EPOLL_EVENT_SIZE;
+                var events = readyEvents.get(ValueLayout.JAVA_INT_UNALIGNED, base + EVENTS_OFFSET);
+                var data = readyEvents.get(ValueLayout.JAVA_LONG_UNALIGNED, base + DATA_OFFSET);
+                if (data == WAKEUP_DATA) {
+                    eventFd.drain(wakeFd);
+                    continue;
+                }
+                var slot = (int) data;
+                var watcher = slot < watchers.length ? watchers[slot] : null;
+                if (watcher == null) {
+                    // unregistered after epoll_wait() returned
+                    continue;
+                }
+                if (!watcher.isRunning()) {
+                    remove(slot);
+                    continue;
+                }
+                if ((events & ERROR_EVENTS) != 0) {
+                    logger.error("{} - Internal error during polling on offset {}. Returned events: {}",
+                        thread.getName(), watcher.offset(), events);
+                    watcher.stopWatching();
+                    remove(slot);
+                    continue;
+                }
+                if ((events & READ_EVENTS) != 0) {
+                    readyWatchers[count] = watcher;
+                    readySlots[count] = slot;
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void run() {
+            this.thread = Thread.currentThread();
+            logger.trace("{} - Start polling GPIO events", thread.getName());
+            if (config.isRealtime()) {
+                RealtimeHelper.applyToCurrentThread(config);
+            }
+            try (var arena = Arena.ofConfined()) {
+                var readyEvents = arena.allocate(EPOLL_EVENT_SIZE * MAX_EVENTS, EpollEvent.LAYOUT.byteAlignment());
+                while (running) {
+                    int ready;
+                    try {
+                        ready = epoll.waitEvents(epfd, readyEvents, MAX_EVENTS, nextTimeout());
+                    } catch (Pi4JException e) {
+                        // keep serving the lines: a single failed wait must not stop event detection
+                        logger.error("{} - Waiting for GPIO events failed, retrying in {}ms: {}",
+                            thread.getName(), WAIT_ERROR_BACKOFF_MS, e.getMessage());
+                        if (!pause()) {
+                            break;
+                        }
+                        continue;
+                    }
+                    var readable = collect(readyEvents, ready);
+                    for (int i = 0; i < readable; i++) {
+                        var watcher = readyWatchers[i];
+                        readyWatchers[i] = null;
+                        if (!beginCall(readySlots[i], watcher)) {
+                            continue;
+                        }
+                        try {
+                            watcher.onReadable();
+                        } catch (Exception e) {
+                            logger.error("{} - Error while processing events on offset {}",
+                                thread.getName(), watcher.offset(), e);
+                            fail(readySlots[i], watcher);
+                        } finally {
+                            endCall();
+                        }
+                    }
+                    var nowNs = System.nanoTime();
+                    var count = snapshot();
+                    for (int i = 0; i < count; i++) {
+                        var watcher = snapshot[i];
+                        snapshot[i] = null;
+                        if (!beginCall(snapshotSlots[i], watcher)) {
+                            continue;
+                        }
+                        try {
+                            watcher.onIdle(nowNs);
+                        } catch (Exception e) {
+                            logger.error("{} - Error while dispatching debounced event on offset {}",
+                                thread.getName(), watcher.offset(), e);
+                            fail(snapshotSlots[i], watcher);
+                        } finally {
+                            endCall();
+                        }
+                    }
+                }
+            } finally {
+                file.close(wakeFd);
+                file.close(epfd);
+                logger.trace("{} - Stopped polling GPIO events", thread.getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.pi4j.plugin.ffm.providers.gpio;
+
+/**
+ * Snapshot of the edge-event counters of an {@link FFMDigitalInput}, accumulated since the input was
+ * created. A growing {@code eventsDropped} means the kernel event queue overflows between reads; raise
+ * the input's event buffer size (see
+ * {@link com.pi4j.io.gpio.digital.DigitalInputConfigBuilder#eventBufferSize(Integer)}) or reduce the
+ * listener cost.
+ *
+ * @param eventsReceived number of edge events read from the kernel
+ * @param eventsDropped  number of edge events the kernel discarded, derived from gaps in the line sequence number
+ * @param maxBatchSize   largest number of edge events returned by a single read
+ * @param bufferSize     number of edge events the kernel and the read buffer hold for the input
+ */
+public record GpioEventStatistics(long eventsReceived, long eventsDropped, int maxBatchSize, int bufferSize) {
+}
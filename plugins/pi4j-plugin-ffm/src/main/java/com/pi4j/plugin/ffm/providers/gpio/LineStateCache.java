@@ -0,0 +1,81 @@
+package com.pi4j.plugin.ffm.providers.gpio;
+
+import com.pi4j.io.gpio.digital.DigitalState;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Level of one input line tracked from its kernel edge events, so the level can be answered without a
+ * {@code GPIO_V2_LINE_GET_VALUES_IOCTL}. The level and a generation counter are packed into one
+ * {@code long}: the {@link GpioEventReactor} thread bumps the generation on every update, so a level read
+ * through the ioctl is only stored by {@link #seed(long, DigitalState)} if no edge arrived meanwhile.
+ */
+final class LineStateCache {
+    private static final long INVALID = 0;
+    private static final long LOW = 1;
+    private static final long HIGH = 2;
+    private static final long LEVEL_MASK = 3;
+    private static final int GENERATION_SHIFT = 2;
+
+    private final AtomicLong value = new AtomicLong(INVALID);
+
+    /**
+     * Returns the tracked level.
+     *
+     * @return the level, or {@code null} if it is unknown and has to be read from the line
+     */
+    DigitalState get() {
+        return switch ((int) (value.get() & LEVEL_MASK)) {
+            case (int) LOW -> DigitalState.LOW;
+            case (int) HIGH -> DigitalState.HIGH;
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns the current stamp to pass to {@link #seed(long, DigitalState)} after reading the line.
+     *
+     * @return an opaque stamp
+     */
+    long stamp() {
+        return value.get();
+    }
+
+    /**
+     * Stores a level read from the line, unless an edge or invalidation happened since {@code stamp}.
+     *
+     * @param stamp stamp taken before the line was read
+     * @param state the level read from the line
+     */
+    void seed(long stamp, DigitalState state) {
+        value.compareAndSet(stamp, (stamp & ~LEVEL_MASK) | encode(state));
+    }
+
+    /**
+     * Stores the level after the most recent edge. Called by the reactor thread.
+     *
+     * @param state the level after the edge
+     */
+    void update(DigitalState state) {
+        set(encode(state));
+    }
+
+    /**
+     * Marks the level unknown, e.g. when edges may have been lost or edge detection stops.
+     */
+    void invalidate() {
+        set(INVALID);
+    }
+
+    private void set(long level) {
+        value.getAndUpdate(current -> (((current >>> GENERATION_SHIFT) + 1) << GENERATION_SHIFT) | level);
+    }
+
+    private static long encode(DigitalState state) {
+        return switch (state) {
+            case LOW -> LOW;
+            case HIGH -> HIGH;
+            default -> INVALID;
+        };
+    }
+}
@@ -11,6 +11,7 @@ import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
 import com.pi4j.plugin.ffm.common.file.FileFlag;
 import com.pi4j.plugin.ffm.common.ioctl.Command;
 import com.pi4j.plugin.ffm.common.ioctl.IoctlNative;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,7 +34,7 @@ import java.util.concurrent.Callable;
  */
 public class FFMI2CBus extends I2CBusBase {
     private static final Logger logger = LoggerFactory.getLogger(FFMI2CBus.class);
-    private final IoctlNative ioctl = new IoctlNative();
+    private final IoctlNative ioctl;
     private final FileDescriptorNative file = new FileDescriptorNative();
     private static final String I2C_BUS = "/dev/i2c-";
 
@@ -55,7 +56,22 @@ public class FFMI2CBus extends I2CBusBase {
      *                             adapter supports none of the required read/write operations
      */
     public FFMI2CBus(I2CConfig config) {
+        this(config, NativeCallMode.STANDARD);
+    }
+
+    /**
+     * Opens and configures the I2C bus device, linking the bus-control ioctls ({@code I2C_SLAVE},
+     * {@code I2C_TENBIT}, {@code I2C_FUNCS}) according to {@code callMode}. These never touch the bus,
+     * so {@link NativeCallMode#CRITICAL} is safe for them.
+     *
+     * @param config   the {@link I2CConfig} supplying the bus number and device address
+     * @param callMode how the bus-control ioctls are linked
+     * @throws InitializeException if the device cannot be accessed, opened, or queried, or if the
+     *                             adapter supports none of the required read/write operations
+     */
+    public FFMI2CBus(I2CConfig config, NativeCallMode callMode) {
         super(config);
+        this.ioctl = new IoctlNative(callMode);
         this.busName = I2C_BUS + bus;
         FFMPermissionHelper.checkDevicePermissions(busName, config);
         try {
@@ -200,7 +216,22 @@ public class FFMI2CBus extends I2CBusBase {
      * @throws Pi4JException if the action throws while executing
      */
     public <R> R execute(I2C i2c, CheckedFunction<Integer, R> action) {
-        return _execute(i2c, () -> {
+        return execute(i2c, 0, action);
+    }
+
+    /**
+     * Runs an action under the bus lock like {@link #execute(I2C, CheckedFunction)}, reporting the given
+     * transfer size in the {@link com.pi4j.jfr.I2CTransferEvent} of the action.
+     *
+     * @param i2c    the {@link I2C} device on whose behalf the action runs, used for error reporting
+     * @param bytes  the number of bytes the action transfers, register bytes included
+     * @param action a function receiving the I2C file descriptor and returning a result
+     * @param <R>    the result type produced by the action
+     * @return the value returned by the action
+     * @throws Pi4JException if the action throws while executing
+     */
+    public <R> R execute(I2C i2c, int bytes, CheckedFunction<Integer, R> action) {
+        return _execute(i2c, bytes, () -> {
             try {
                 return action.apply(this.i2cFileDescriptor);
             } catch (Exception e) {
@@ -2,6 +2,7 @@ package com.pi4j.plugin.ffm.providers.i2c;
 
 import com.pi4j.io.i2c.*;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import com.pi4j.plugin.ffm.providers.i2c.impl.I2CDirect;
 import com.pi4j.plugin.ffm.providers.i2c.impl.I2CFile;
 import com.pi4j.plugin.ffm.providers.i2c.impl.I2CSMBus;
@@ -18,16 +19,39 @@ import org.slf4j.LoggerFactory;
 public class FFMI2CProviderImpl extends I2CProviderBase implements I2CProvider {
     private static final Logger logger = LoggerFactory.getLogger(FFMI2CProviderImpl.class);
 
+    private final NativeCallMode callMode;
+
     /**
      * Creates the provider, assigning its id and name and checking that the current user is permitted
      * to access the I2C character devices used by this backend.
      */
     public FFMI2CProviderImpl() {
+        this(NativeCallMode.STANDARD);
+    }
+
+    /**
+     * Creates the provider with the given downcall mode for the short bus-control ioctls
+     * ({@code I2C_SLAVE}, {@code I2C_TENBIT}, {@code I2C_FUNCS}). Data transfers may sleep on the bus and
+     * always use standard downcalls.
+     *
+     * @param callMode how the bus-control ioctls of the created buses are linked
+     */
+    public FFMI2CProviderImpl(NativeCallMode callMode) {
+        this.callMode = callMode;
         this.id = "ffm-i2c";
         this.name = "FFM API Provider I2C";
         FFMPermissionHelper.checkUserPermissions(this);
     }
 
+    /**
+     * Returns the downcall mode used for the short, non-blocking native calls of the created instances.
+     *
+     * @return the configured native call mode
+     */
+    public NativeCallMode callMode() {
+        return callMode;
+    }
+
     @Override
     public int getPriority() {
         return 200;
@@ -43,7 +67,7 @@ public class FFMI2CProviderImpl extends I2CProviderBase implements I2CProvider {
      */
     @Override
     public I2C create(I2CConfig config) {
-        var bus = new FFMI2CBus(config);
+        var bus = new FFMI2CBus(config, callMode);
 
         if (logger.isDebugEnabled()) {
             var functions = bus.getFunctionalityMap();
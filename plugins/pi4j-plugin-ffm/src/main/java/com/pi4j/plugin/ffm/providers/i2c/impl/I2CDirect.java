@@ -8,10 +8,15 @@ import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.plugin.ffm.common.i2c.I2cConstants;
 import com.pi4j.plugin.ffm.common.i2c.rdwr.I2CMessage;
+import com.pi4j.plugin.ffm.common.i2c.rdwr.I2CMessageView;
 import com.pi4j.plugin.ffm.common.i2c.rdwr.RDWRData;
 import com.pi4j.plugin.ffm.common.ioctl.IoctlNative;
+import com.pi4j.plugin.ffm.common.ioctl.PreparedIoctl;
 import com.pi4j.plugin.ffm.providers.i2c.FFMI2CBus;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.Objects;
 
 /**
@@ -20,10 +25,32 @@ import java.util.Objects;
  * bus file descriptor, which lets register reads combine the register-write and data-read into one
  * atomic transaction with a repeated start. Used when the adapter reports the
  * {@link com.pi4j.plugin.ffm.providers.i2c.I2CFunctionality#I2C_FUNC_I2C} capability.
+ * <p>
+ * Short reads, the common case of register polling, go through {@link PreparedIoctl}s whose message
+ * structs and native buffers are set up once; longer reads fall back to building {@link RDWRData} records.
+ * Writes also use a prepared single-message call: the register address and the payload are copied
+ * straight into one native buffer, grown on demand, without assembling an intermediate array.
  */
 public class I2CDirect extends I2CBase<FFMI2CBus> {
+    // largest register address and read payload served by the prepared read calls
+    private static final int PREPARED_REGISTER_SIZE = 4;
+    private static final int PREPARED_READ_SIZE = 64;
+    private static final byte[] NO_REGISTER = new byte[0];
+
     private final IoctlNative ioctl = new IoctlNative();
 
+    // prepared I2C_RDWR calls, bound lazily to the bus fd and only used under the bus lock
+    private final Arena arena = Arena.ofAuto();
+    private final MemorySegment registerBuffer;
+    private final MemorySegment readBuffer;
+    private final I2CMessageView readMessages;
+    private final I2CMessageView registerReadMessages;
+    private PreparedIoctl readIoctl;
+    private PreparedIoctl registerReadIoctl;
+    private final I2CMessageView writeMessages;
+    private MemorySegment writeBuffer;
+    private PreparedIoctl writeIoctl;
+
     /**
      * Creates a direct-mode I2C device bound to the given bus.
      *
@@ -33,6 +60,16 @@ public class I2CDirect extends I2CBase<FFMI2CBus> {
      */
     public I2CDirect(I2CProvider provider, I2CConfig config, FFMI2CBus i2CBus) {
         super(provider, config, i2CBus);
+        this.registerBuffer = arena.allocate(PREPARED_REGISTER_SIZE);
+        this.readBuffer = arena.allocate(PREPARED_READ_SIZE);
+        this.readMessages = I2CMessageView.allocate(arena, 1);
+        readMessages.at(0).header(config.device(), I2cConstants.I2C_M_RD.getValue()).buf(readBuffer);
+        this.registerReadMessages = I2CMessageView.allocate(arena, 2);
+        registerReadMessages.at(0).header(config.device(), 0).buf(registerBuffer);
+        registerReadMessages.at(1).header(config.device(), I2cConstants.I2C_M_RD.getValue()).buf(readBuffer);
+        this.writeBuffer = arena.allocate(PREPARED_READ_SIZE);
+        this.writeMessages = I2CMessageView.allocate(arena, 1);
+        writeMessages.at(0).header(config.device(), 0).buf(writeBuffer);
     }
 
     @Override
@@ -42,11 +79,23 @@ public class I2CDirect extends I2CBase<FFMI2CBus> {
 
     private byte[] internalRead(byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length <= PREPARED_READ_SIZE) {
+            return i2CBus.execute(this, length, i2cFileDescriptor -> {
+                if (readIoctl == null || readIoctl.fd() != i2cFileDescriptor) {
+                    readIoctl = new PreparedIoctl(ioctl, i2cFileDescriptor, I2cConstants.I2C_RDWR.getValue(),
+                        readMessages.segment());
+                }
+                readMessages.at(0).len(length);
+                readIoctl.invoke();
+                MemorySegment.copy(readBuffer, ValueLayout.JAVA_BYTE, 0, buffer, offset, length);
+                return buffer;
+            });
+        }
         var messages = new I2CMessage[]{
             new I2CMessage(config.device(), I2cConstants.I2C_M_RD.getValue(), length, buffer),
         };
         var packets = new RDWRData(messages, 1);
-        return i2CBus.execute(this, i2cFileDescriptor -> {
+        return i2CBus.execute(this, length, i2cFileDescriptor -> {
             var result = ioctl.call(i2cFileDescriptor, I2cConstants.I2C_RDWR.getValue(), packets);
             var resultBuffer = result.msgs()[0].buf();
             System.arraycopy(resultBuffer, 0, buffer, offset, length);
@@ -56,12 +105,26 @@ public class I2CDirect extends I2CBase<FFMI2CBus> {
 
     private byte[] internalRead(byte[] register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (register.length <= PREPARED_REGISTER_SIZE && length <= PREPARED_READ_SIZE) {
+            return i2CBus.execute(this, register.length + length, i2cFileDescriptor -> {
+                if (registerReadIoctl == null || registerReadIoctl.fd() != i2cFileDescriptor) {
+                    registerReadIoctl = new PreparedIoctl(ioctl, i2cFileDescriptor,
+                        I2cConstants.I2C_RDWR.getValue(), registerReadMessages.segment());
+                }
+                MemorySegment.copy(register, 0, registerBuffer, ValueLayout.JAVA_BYTE, 0, register.length);
+                registerReadMessages.at(0).len(register.length);
+                registerReadMessages.at(1).len(length);
+                registerReadIoctl.invoke();
+                MemorySegment.copy(readBuffer, ValueLayout.JAVA_BYTE, 0, buffer, offset, length);
+                return buffer;
+            });
+        }
         var messages = new I2CMessage[]{
             new I2CMessage(config.device(), 0, register.length, register),
             new I2CMessage(config.device(), I2cConstants.I2C_M_RD.getValue(), length, buffer),
         };
         var packets = new RDWRData(messages, 2);
-        return i2CBus.execute(this, i2cFileDescriptor -> {
+        return i2CBus.execute(this, register.length + length, i2cFileDescriptor -> {
             var result = ioctl.call(i2cFileDescriptor, I2cConstants.I2C_RDWR.getValue(), packets);
             var resultBuffer = result.msgs()[1].buf();
             System.arraycopy(resultBuffer, 0, buffer, offset, length);
@@ -90,10 +153,23 @@ public class I2CDirect extends I2CBase<FFMI2CBus> {
      * @return the number of data bytes successfully written (excluding register bytes)
      */
     private int internalWrite(byte[] register, byte[] data, int offset, int length) {
-        var buffer = new byte[register.length + length];
-        System.arraycopy(register, 0, buffer, 0, register.length);
-        System.arraycopy(data, offset, buffer, register.length, length);
-        return internalWrite(buffer) - register.length;
+        Objects.checkFromIndexSize(offset, length, data.length);
+        var size = register.length + length;
+        return i2CBus.execute(this, size, i2cFileDescriptor -> {
+            if (writeIoctl == null || writeIoctl.fd() != i2cFileDescriptor) {
+                writeIoctl = new PreparedIoctl(ioctl, i2cFileDescriptor,
+                    I2cConstants.I2C_RDWR.getValue(), writeMessages.segment());
+            }
+            if (size > writeBuffer.byteSize()) {
+                writeBuffer = arena.allocate(Integer.highestOneBit(size - 1) << 1);
+                writeMessages.at(0).buf(writeBuffer);
+            }
+            MemorySegment.copy(register, 0, writeBuffer, ValueLayout.JAVA_BYTE, 0, register.length);
+            MemorySegment.copy(data, offset, writeBuffer, ValueLayout.JAVA_BYTE, register.length, length);
+            writeMessages.at(0).len(size);
+            writeIoctl.invoke();
+            return length;
+        });
     }
 
     /**
@@ -103,7 +179,7 @@ public class I2CDirect extends I2CBase<FFMI2CBus> {
      * @return the number of bytes successfully written
      */
     private int internalWrite(byte[] data) {
-        return internalWrite(data, 0, data.length);
+        return internalWrite(NO_REGISTER, data, 0, data.length);
     }
 
     /**
@@ -115,16 +191,7 @@ public class I2CDirect extends I2CBase<FFMI2CBus> {
      * @return the number of bytes successfully written
      */
     private int internalWrite(byte[] data, int offset, int length) {
-        var writeBuffer = new byte[length];
-        System.arraycopy(data, offset, writeBuffer, 0, length);
-        var messages = new I2CMessage[]{
-            new I2CMessage(config.device(), 0, length, writeBuffer)
-        };
-        var packets = new RDWRData(messages, 1);
-        return i2CBus.execute(this, i2cFileDescriptor -> {
-            var result = ioctl.call(i2cFileDescriptor, I2cConstants.I2C_RDWR.getValue(), packets);
-            return result.msgs()[0].len();
-        });
+        return internalWrite(NO_REGISTER, data, offset, length);
     }
 
     /**
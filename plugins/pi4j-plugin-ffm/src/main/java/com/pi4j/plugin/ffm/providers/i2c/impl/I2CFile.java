@@ -11,7 +11,12 @@ import com.pi4j.plugin.ffm.providers.i2c.FFMI2CBus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static com.pi4j.plugin.ffm.common.Pi4JNativeContext.threadScratch;
 
 /**
  * {@link I2C} implementation that communicates with an I2C device through plain {@code read(2)}/{@code write(2)}
@@ -20,6 +25,10 @@ import java.nio.ByteBuffer;
  * The target slave address is selected once during {@link #initialize(Context)} (via {@code I2C_SLAVE}),
  * after which raw byte transfers are issued against the bus file descriptor. This is the most flexible
  * transport and works with multi-byte registers, in contrast to {@link I2CSMBus}.
+ * <p>
+ * Register writes copy the register address and the payload straight into one native buffer and issue
+ * a single {@code write(2)}. A vectored {@code writev(2)} is not an option here: {@code i2c-dev} has no
+ * {@code write_iter}, so the kernel would send every vector entry as a separate I2C transfer.
  *
  * @see com.pi4j.io.i2c.I2C
  * @see FFMI2CBus
@@ -27,6 +36,8 @@ import java.nio.ByteBuffer;
 public class I2CFile extends I2CBase<FFMI2CBus> {
     private static final Logger logger = LoggerFactory.getLogger(I2CFile.class);
 
+    private static final byte[] NO_REGISTER = new byte[0];
+
     private final FileDescriptorNative FILE = new FileDescriptorNative();
 
     /**
@@ -55,67 +66,82 @@ public class I2CFile extends I2CBase<FFMI2CBus> {
     @Override
     public int read() {
         var buffer = new byte[1];
-        return i2CBus.execute(this, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length))[0];
+        return i2CBus.execute(this, buffer.length, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length))[0];
     }
 
     @Override
     public int read(byte[] buffer, int offset, int length) {
-        var data = i2CBus.execute(this, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length));
+        var data = i2CBus.execute(this, buffer.length, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length));
         ByteBuffer.wrap(buffer).put(data);
         return data.length;
     }
 
     @Override
     public int write(byte b) {
-        return i2CBus.execute(this, (i2cFileDescriptor) -> FILE.write(i2cFileDescriptor, new byte[]{b}));
+        return i2CBus.execute(this, 1, (i2cFileDescriptor) -> FILE.write(i2cFileDescriptor, new byte[]{b}));
     }
 
     @Override
     public int write(byte[] data, int offset, int length) {
-        return i2CBus.execute(this, (i2cFileDescriptor) -> FILE.write(i2cFileDescriptor, data));
+        return internalWrite(NO_REGISTER, data, offset, length);
     }
 
     @Override
     public int readRegister(int register) {
         var buffer = new byte[1];
-        var read = i2CBus.execute(this, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length));
+        var read = i2CBus.execute(this, buffer.length, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length));
         ByteBuffer.wrap(buffer).put(read);
         return read.length;
     }
 
     @Override
     public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
-        var read = i2CBus.execute(this, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length));
+        var read = i2CBus.execute(this, buffer.length, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length));
         ByteBuffer.wrap(buffer).put(read);
         return read.length;
     }
 
     @Override
     public int readRegister(int register, byte[] buffer, int offset, int length) {
-        var read = i2CBus.execute(this, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length));
+        var read = i2CBus.execute(this, buffer.length, (i2cFileDescriptor) -> FILE.read(i2cFileDescriptor, buffer, buffer.length));
         ByteBuffer.wrap(buffer).put(read);
         return read.length;
     }
 
     @Override
     public int writeRegister(int register, byte b) {
-        return i2CBus.execute(this, (i2cFileDescriptor) -> FILE.write(i2cFileDescriptor, new byte[]{(byte) register, b})) - 1;
+        return i2CBus.execute(this, 2, (i2cFileDescriptor) -> FILE.write(i2cFileDescriptor, new byte[]{(byte) register, b})) - 1;
     }
 
     @Override
     public int writeRegister(int register, byte[] data, int offset, int length) {
-        var buffer = new byte[data.length + 1];
-        buffer[0] = (byte) register;
-        System.arraycopy(data, 0, buffer, 1, data.length);
-        return i2CBus.execute(this, (i2cFileDescriptor) -> FILE.write(i2cFileDescriptor, buffer)) - 1;
+        return internalWrite(new byte[]{(byte) register}, data, offset, length);
     }
 
     @Override
     public int writeRegister(byte[] register, byte[] data, int offset, int length) {
-        var buffer = new byte[register.length + data.length];
-        System.arraycopy(register, 0, buffer, 0, register.length);
-        System.arraycopy(data, 0, buffer, register.length, data.length);
-        return i2CBus.execute(this, (i2cFileDescriptor) -> FILE.write(i2cFileDescriptor, buffer)) - register.length;
+        return internalWrite(register, data, offset, length);
+    }
+
+    /**
+     * Writes the register address followed by {@code length} bytes of {@code data} in a single
+     * {@code write(2)}, gathering both into the calling thread's native scratch buffer.
+     *
+     * @param register the register address bytes, possibly empty
+     * @param data     the data array to write from
+     * @param offset   starting position in the data array
+     * @param length   number of bytes to write from the data array
+     * @return the number of data bytes written (excluding register bytes)
+     */
+    private int internalWrite(byte[] register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        var size = register.length + length;
+        return i2CBus.execute(this, size, (i2cFileDescriptor) -> {
+            var buffer = threadScratch(size);
+            MemorySegment.copy(register, 0, buffer, ValueLayout.JAVA_BYTE, 0, register.length);
+            MemorySegment.copy(data, offset, buffer, ValueLayout.JAVA_BYTE, register.length, length);
+            return FILE.write(i2cFileDescriptor, buffer, size);
+        }) - register.length;
     }
 
     @Override
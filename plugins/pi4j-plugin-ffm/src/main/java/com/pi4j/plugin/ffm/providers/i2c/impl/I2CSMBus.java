@@ -67,7 +67,7 @@ public class I2CSMBus extends I2CBase<FFMI2CBus> {
      * @throws Pi4JException if the adapter advertises none of the supported SMBus write modes
      */
     private int writeInternal(int register, byte[] data) {
-        return i2CBus.execute(this, (i2cFileDescriptor) -> {
+        return i2CBus.execute(this, data.length + 1, (i2cFileDescriptor) -> {
             logger.trace("{} - writing into register '{}' data '{}'", i2CBus.getBusName(), Integer.toHexString(register), Arrays.toString(data));
             if (i2CBus.hasFunctionality(I2CFunctionality.I2C_FUNC_SMBUS_QUICK) && data.length == 1) {
                 return SMBUS.writeByteData(i2cFileDescriptor, (byte) register, data[0]);
@@ -91,7 +91,7 @@ public class I2CSMBus extends I2CBase<FFMI2CBus> {
      * @throws Pi4JException if the adapter advertises none of the supported SMBus read modes
      */
     private byte[] readInternal(int register, int size) {
-        return i2CBus.execute(this, (i2cFileDescriptor) -> {
+        return i2CBus.execute(this, size + 1, (i2cFileDescriptor) -> {
             logger.trace("{} - reading from register '{}' data size '{}'", i2CBus.getBusName(), Integer.toHexString(register), size);
             if (i2CBus.hasFunctionality(I2CFunctionality.I2C_FUNC_SMBUS_QUICK) && size == 1) {
                 return new byte[]{SMBUS.readByteData(i2cFileDescriptor, (byte) register)};
@@ -107,13 +107,13 @@ public class I2CSMBus extends I2CBase<FFMI2CBus> {
 
     @Override
     public byte readByte() {
-        return i2CBus.execute(this, SMBUS::readByte).byteValue();
+        return i2CBus.execute(this, 1, SMBUS::readByte).byteValue();
     }
 
     @Override
     public int read() {
         // this is needed, because we are receiving raw bytes, which we have to convert to proper int
-        return i2CBus.execute(this, SMBUS::readByte);
+        return i2CBus.execute(this, 1, SMBUS::readByte);
     }
 
     @Override
@@ -124,7 +124,7 @@ public class I2CSMBus extends I2CBase<FFMI2CBus> {
 
     @Override
     public int write(byte b) {
-        return i2CBus.execute(this, (i2cFileDescriptor) -> SMBUS.writeByte(i2cFileDescriptor, b));
+        return i2CBus.execute(this, 1, (i2cFileDescriptor) -> SMBUS.writeByte(i2cFileDescriptor, b));
     }
 
     @Override
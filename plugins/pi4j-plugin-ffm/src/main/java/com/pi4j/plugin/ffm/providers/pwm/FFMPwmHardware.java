@@ -6,14 +6,21 @@ import com.pi4j.exception.Pi4JException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.pwm.*;
+import com.pi4j.jfr.PwmConfigEvent;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
 import com.pi4j.plugin.ffm.common.FileWatcher;
 import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
 import com.pi4j.plugin.ffm.common.file.FileFlag;
+import com.pi4j.plugin.ffm.common.uring.IoUring;
+import com.pi4j.plugin.ffm.config.IoBackend;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import com.pi4j.util.Delay;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
@@ -27,6 +34,10 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Because sysfs attributes appear asynchronously after an export (the udev rules must apply first), the
  * implementation waits for read/write access to each attribute file before using it.
+ * <p>
+ * With the {@link IoBackend#IO_URING} backend, the attribute updates of {@link #on()} are queued as one
+ * linked batch of positional writes and submitted with a single {@code io_uring_enter(2)}, instead of an
+ * {@code lseek} and a {@code write} per attribute.
  *
  * @see com.pi4j.io.pwm.Pwm
  * @see FFMPwmProviderImpl
@@ -34,7 +45,7 @@ import java.util.concurrent.TimeUnit;
 public class FFMPwmHardware extends PwmBase implements Pwm {
     private final Logger logger = LoggerFactory.getLogger(FFMPwmHardware.class);
 
-    private final FileDescriptorNative file = new FileDescriptorNative();
+    private final FileDescriptorNative file;
 
     private static final String CHIP_PATH = "/sys/class/pwm/pwmchip";
     private static final String CHIP_EXPORT_PATH = "/export";
@@ -53,6 +64,8 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
      * decimal width of a {@code long} (19 digits) plus an optional sign and trailing newline.
      */
     private static final int MAX_FILE_SIZE = 21;
+    /** Number of attribute writes {@link #on()} submits in one io_uring batch. */
+    private static final int ATTRIBUTE_COUNT = 5;
     private static final long NANOS_IN_SECOND = TimeUnit.NANOSECONDS.convert(1, TimeUnit.SECONDS);
 
     /** Pre-encoded ASCII payloads for the two constant {@code enable} writes, avoiding per-call allocation. */
@@ -87,6 +100,11 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
     private int dutyCycleFd = -1;
     private int polarityFd = -1;
 
+    // batched attribute writes, only set up when the io_uring backend is in use
+    private final IoBackend ioBackend;
+    private IoUring ring;
+    private MemorySegment ringBuffer;
+
     /**
      * Creates a hardware PWM instance for the chip and channel given in the configuration, and verifies
      * that the corresponding {@code /sys/class/pwm/pwmchipN} path is accessible with the required
@@ -98,6 +116,13 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
      */
     public FFMPwmHardware(PwmProvider provider, PwmConfig config) {
         super(provider, config);
+        if (provider instanceof FFMPwmProviderImpl ffmProvider) {
+            this.file = new FileDescriptorNative(ffmProvider.callMode());
+            this.ioBackend = ffmProvider.ioBackend().resolve();
+        } else {
+            this.file = new FileDescriptorNative(NativeCallMode.STANDARD);
+            this.ioBackend = IoBackend.SYNCHRONOUS;
+        }
         this.chip = config.chip();
         this.channel = config.channel();
         FFMPermissionHelper.checkDevicePermissions(CHIP_PATH + chip, config);
@@ -150,6 +175,10 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
         this.periodFd = file.open(this.pwmPath + PERIOD_PATH, FileFlag.O_RDWR);
         this.dutyCycleFd = file.open(this.pwmPath + DUTY_CYCLE_PATH, FileFlag.O_RDWR);
         this.polarityFd = file.open(this.pwmPath + POLARITY_PATH, FileFlag.O_RDWR);
+        if (ioBackend == IoBackend.IO_URING) {
+            this.ring = IoUring.open(ATTRIBUTE_COUNT);
+            this.ringBuffer = Arena.ofAuto().allocate((long) ATTRIBUTE_COUNT * MAX_FILE_SIZE);
+        }
 
         this.onState = getLongContent(readAttribute(enableFd)) == 1;
 
@@ -200,6 +229,8 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
             throw new Pi4JException("cannot set frequency '" + frequency + "', required more then 0.");
         }
 
+        var event = new PwmConfigEvent();
+        event.begin();
         this.period = Math.round(NANOS_IN_SECOND / frequency);
         var dCycle = Math.round((double) (period * dutyCycle) / 100);
         logger.debug("{} - period is '{}', dutyCycle is '{}' and polarity '{}'.", pwmPath, period, dutyCycle, polarity);
@@ -211,13 +242,13 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
         // the 6.11+ PWM-core rework) tolerate/clamp it. Unconditionally zeroing duty_cycle first is always
         // valid (0 <= period holds for any period) and is correct on both kernels, so we no longer read
         // back the current period to decide whether the reset is needed.
-        writeAttribute(dutyCycleFd, DISABLE);
-        writeAttribute(periodFd, getByteContent(period));
-        writeAttribute(dutyCycleFd, getByteContent(dCycle));
-        writeAttribute(polarityFd, polarity.getName().getBytes(StandardCharsets.US_ASCII));
-        writeAttribute(enableFd, ENABLE);
+        writeAttributes(
+            new int[]{dutyCycleFd, periodFd, dutyCycleFd, polarityFd, enableFd},
+            new byte[][]{DISABLE, getByteContent(period), getByteContent(dCycle),
+                polarity.getName().getBytes(StandardCharsets.US_ASCII), ENABLE});
 
         this.onState = true;
+        commitEvent(event);
 
         return this;
     }
@@ -228,8 +259,11 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
             logger.warn("{} - PWM is already disabled.", pwmPath);
             return this;
         }
-        writeAttribute(enableFd, DISABLE);
+        var event = new PwmConfigEvent();
+        event.begin();
+        writeAttributes(new int[]{enableFd}, new byte[][]{DISABLE});
         this.onState = false;
+        commitEvent(event);
         return this;
     }
 
@@ -285,11 +319,57 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
         file.write(fd, value);
     }
 
+    /**
+     * Writes values to long-lived attribute descriptors, in order. With the io_uring backend the writes
+     * are queued as linked positional writes at offset 0 and submitted together, so a later write only
+     * runs if the earlier ones succeeded; otherwise each value goes through {@link #writeAttribute}.
+     * A short write counts as a failure, as sysfs stores the value of a single write.
+     *
+     * @param fds    the persistent attribute descriptors, at most {@link #ATTRIBUTE_COUNT}
+     * @param values the pre-encoded ASCII payloads, one per descriptor
+     * @throws Pi4JException if any write fails or writes less than the whole value
+     */
+    private void writeAttributes(int[] fds, byte[][] values) {
+        if (ring == null) {
+            for (var i = 0; i < fds.length; i++) {
+                writeAttribute(fds[i], values[i]);
+            }
+            return;
+        }
+        synchronized (ring) {
+            for (var i = 0; i < fds.length; i++) {
+                var buffer = ringBuffer.asSlice((long) i * MAX_FILE_SIZE, values[i].length);
+                MemorySegment.copy(values[i], 0, buffer, ValueLayout.JAVA_BYTE, 0, values[i].length);
+                ring.prepareWrite(fds[i], buffer, values[i].length, 0, i);
+                if (i < fds.length - 1) {
+                    ring.link();
+                }
+            }
+            ring.submitAndWait(fds.length);
+            var results = new int[fds.length];
+            ring.complete((index, result) -> results[(int) index] = result);
+            for (var i = 0; i < fds.length; i++) {
+                if (results[i] < 0) {
+                    throw new Pi4JException("Error during io_uring write of '" + new String(values[i], StandardCharsets.US_ASCII)
+                        + "' to '" + pwmPath + "' (fd " + fds[i] + "): errno " + -results[i]);
+                }
+                if (results[i] < values[i].length) {
+                    throw new Pi4JException("Short io_uring write of '" + new String(values[i], StandardCharsets.US_ASCII)
+                        + "' to '" + pwmPath + "' (fd " + fds[i] + "): " + results[i] + " of " + values[i].length + " bytes");
+                }
+            }
+        }
+    }
+
     /**
      * Closes all persistent attribute descriptors that are currently open and resets them to
-     * {@code -1}. Safe to call more than once.
+     * {@code -1}, and releases the io_uring instance if one is in use. Safe to call more than once.
      */
     private void closeAttributeFds() {
+        if (ring != null) {
+            ring.close();
+            ring = null;
+        }
         for (var fd : new int[]{enableFd, periodFd, dutyCycleFd, polarityFd}) {
             if (fd >= 0) {
                 file.close(fd);
@@ -394,4 +474,19 @@ public class FFMPwmHardware extends PwmBase implements Pwm {
             deferredDelay.materialize();
         }
     }
+
+    /**
+     * Reports the applied configuration to an active JFR recording.
+     *
+     * @param event the event started before the sysfs writes
+     */
+    private void commitEvent(PwmConfigEvent event) {
+        if (event.shouldCommit()) {
+            event.device = id;
+            event.frequency = frequency;
+            event.dutyCycle = dutyCycle / 100;
+            event.enabled = onState;
+            event.commit();
+        }
+    }
 }
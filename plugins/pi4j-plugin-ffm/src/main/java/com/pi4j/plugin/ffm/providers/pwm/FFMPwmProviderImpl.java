@@ -3,6 +3,8 @@ package com.pi4j.plugin.ffm.providers.pwm;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.pwm.*;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
+import com.pi4j.plugin.ffm.config.IoBackend;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 
 /**
  * {@link PwmProvider} for the FFM backend that creates hardware PWM instances driven through the Linux
@@ -14,16 +16,61 @@ import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
  */
 public class FFMPwmProviderImpl extends PwmProviderBase implements PwmProvider {
 
+    private final NativeCallMode callMode;
+    private final IoBackend ioBackend;
+
     /**
      * Creates the provider, assigning its id and name and verifying that the current user holds the
      * permissions required to access the sysfs PWM interface.
      */
     public FFMPwmProviderImpl() {
+        this(NativeCallMode.STANDARD);
+    }
+
+    /**
+     * Creates the provider with the given downcall mode for the {@code lseek} that rewinds a sysfs
+     * attribute before every read and write.
+     *
+     * @param callMode how the short file calls of the created instances are linked
+     */
+    public FFMPwmProviderImpl(NativeCallMode callMode) {
+        this(callMode, IoBackend.SYNCHRONOUS);
+    }
+
+    /**
+     * Creates the provider with the given downcall mode and I/O backend. With {@link IoBackend#IO_URING}
+     * the attribute updates of each {@code on()} are submitted as one batch; the created instances fall
+     * back to synchronous writes when io_uring is not available.
+     *
+     * @param callMode  how the short file calls of the created instances are linked
+     * @param ioBackend how the created instances write their sysfs attributes
+     */
+    public FFMPwmProviderImpl(NativeCallMode callMode, IoBackend ioBackend) {
+        this.callMode = callMode;
+        this.ioBackend = ioBackend;
         this.id = "ffm-pwm";
         this.name = "FFM API Provider PWM";
         FFMPermissionHelper.checkUserPermissions(this);
     }
 
+    /**
+     * Returns the downcall mode used for the short, non-blocking native calls of the created instances.
+     *
+     * @return the configured native call mode
+     */
+    public NativeCallMode callMode() {
+        return callMode;
+    }
+
+    /**
+     * Returns the I/O backend requested for the created instances.
+     *
+     * @return the requested I/O backend
+     */
+    public IoBackend ioBackend() {
+        return ioBackend;
+    }
+
     @Override
     public int getPriority() {
         return 200;
@@ -7,18 +7,24 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.spi.Spi;
 import com.pi4j.io.spi.SpiBase;
 import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.io.spi.SpiLanes;
 import com.pi4j.io.spi.SpiProvider;
+import com.pi4j.io.spi.SpiTransaction;
+import com.pi4j.jfr.SpiTransferEvent;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
 import com.pi4j.plugin.ffm.common.HexFormatter;
 import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
 import com.pi4j.plugin.ffm.common.file.FileFlag;
 import com.pi4j.plugin.ffm.common.ioctl.Command;
 import com.pi4j.plugin.ffm.common.ioctl.IoctlNative;
-import com.pi4j.plugin.ffm.common.spi.SpiMultipleTransferBuffer;
-import com.pi4j.plugin.ffm.common.spi.SpiTransferBuffer;
+import com.pi4j.plugin.ffm.common.ioctl.PreparedIoctl;
+import com.pi4j.plugin.ffm.common.spi.SpiIocTransferView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -27,14 +33,20 @@ import java.util.Objects;
  * ({@code /dev/spidevB.C}) using the {@code SPI_IOC_MESSAGE} ioctl.
  * <p>
  * During initialization the SPI mode, bits-per-word, maximum clock speed and bit order are configured
- * through the {@code SPI_IOC_WR_*}/{@code SPI_IOC_RD_*} ioctls. Transfers larger than the driver's
- * {@code bufsiz} limit are automatically split into chunks, each issued as its own ioctl, to avoid the
- * kernel rejecting the request with {@code EMSGSIZE}.
+ * through the {@code SPI_IOC_WR_*}/{@code SPI_IOC_RD_*} ioctls; multi-lane transmit and receive modes
+ * are enabled through {@code SPI_IOC_WR_MODE32} and every descriptor carries the configured
+ * {@code tx_nbits}/{@code rx_nbits}. Transfers larger than the driver's {@code bufsiz} limit are
+ * automatically split into chunks, each issued as its own ioctl, to avoid the kernel rejecting the
+ * request with {@code EMSGSIZE}. Chunks always hold whole words of the configured
+ * {@link SpiConfig#bitsPerWord() word size}.
+ * <p>
+ * Each instance owns native transmit and receive buffers of {@code bufsiz} bytes and preformatted
+ * {@code spi_ioc_transfer} descriptors bound to them, which every transfer, write, read and write-then-read
+ * reuses, so steady-state operation allocates neither heap nor native memory.
  *
  * @see com.pi4j.io.spi.Spi
  * @see IoctlNative
- * @see SpiTransferBuffer
- * @see SpiMultipleTransferBuffer
+ * @see SpiIocTransferView
  */
 public class FFMSpi extends SpiBase implements Spi {
     private static final Logger logger = LoggerFactory.getLogger(FFMSpi.class);
@@ -59,14 +71,56 @@ public class FFMSpi extends SpiBase implements Spi {
      */
     private static final int MAX_BUFSIZ_FILE_SIZE = 10;
 
+    /**
+     * Largest {@code N} of {@code SPI_IOC_MESSAGE(N)}: the ioctl encodes the descriptor array size in a
+     * 14-bit field, which holds at most 511 descriptors of 32 bytes.
+     */
+    private static final int MAX_MESSAGE_TRANSFERS = 511;
+
+    /**
+     * spidev rounds every transfer up to {@code ARCH_KMALLOC_MINALIGN} when it accounts it against
+     * {@code bufsiz}. 128 bytes is the largest value of the supported architectures (arm64), so packing
+     * with it never exceeds the limit.
+     */
+    private static final int BOUNCE_BUFFER_ALIGNMENT = 128;
+
+    // multi-lane mode bits of SPI_IOC_WR_MODE32/SPI_IOC_RD_MODE32, from linux/spi/spi.h
+    private static final int SPI_TX_DUAL = 0x100;
+    private static final int SPI_TX_QUAD = 0x200;
+    private static final int SPI_RX_DUAL = 0x400;
+    private static final int SPI_RX_QUAD = 0x800;
+    private static final int SPI_TX_OCTAL = 0x2000;
+    private static final int SPI_RX_OCTAL = 0x4000;
+
     private final FileDescriptorNative FILE = new FileDescriptorNative();
     private final IoctlNative IOCTL = new IoctlNative();
 
 
     private int spiFileDescriptor;
     private int bufferSize = DEFAULT_BUFFER_SIZE;
+    // largest chunk holding whole words of the configured size, at most bufferSize
+    private int chunkSize = DEFAULT_BUFFER_SIZE;
+    // SPI mode as reported by the controller after configuration, for validating multi-lane transfers
+    private int modeBits;
     private final String path;
 
+    // full-duplex SPI_IOC_MESSAGE(1) bound at initialization, with native tx/rx buffers of bufsiz bytes;
+    // the prepared ioctl also guards the buffers, which all transfers share
+    private PreparedIoctl transferIoctl;
+    private SpiIocTransferView transferView;
+    private MemorySegment txBuffer;
+    private MemorySegment rxBuffer;
+    // write-then-read SPI_IOC_MESSAGE(2): a write-only descriptor on txBuffer, a read-only one on rxBuffer
+    private PreparedIoctl writeThenReadIoctl;
+    private SpiIocTransferView writeThenReadView;
+    // SPI_IOC_MESSAGE(N) descriptors of transactions, grown on demand up to MAX_MESSAGE_TRANSFERS, and the
+    // heap read targets whose data is staged in rxBuffer until the message completes
+    private SpiIocTransferView transactionView;
+    private MemorySegment[] stagedReads = new MemorySegment[0];
+    private long[] stagedReadOffsets = new long[0];
+    private int[] stagedReadPositions = new int[0];
+    private int[] stagedReadSizes = new int[0];
+
     /**
      * Creates an SPI instance, resolving the spidev device path ({@code /dev/spidevB.C}) from the bus
      * and channel in the configuration and verifying that it is accessible with the required permissions.
@@ -83,9 +137,10 @@ public class FFMSpi extends SpiBase implements Spi {
     /**
      * {@inheritDoc}
      * <p>
-     * Opens the spidev device read-write and configures both the read and write SPI mode, 8-bit
-     * word length, maximum clock frequency and LSB-first setting via the {@code SPI_IOC_WR_*} and
-     * {@code SPI_IOC_RD_*} ioctls, then reads the driver's {@code bufsiz} to size the transfer chunks.
+     * Opens the spidev device read-write and configures both the read and write SPI mode, word
+     * length, maximum clock frequency and LSB-first setting via the {@code SPI_IOC_WR_*} and
+     * {@code SPI_IOC_RD_*} ioctls, enables the configured dual/quad/octal lanes via
+     * {@code SPI_IOC_WR_MODE32}, then reads the driver's {@code bufsiz} to size the transfer chunks.
      */
     @Override
     public Spi initialize(Context context) throws InitializeException {
@@ -99,10 +154,10 @@ public class FFMSpi extends SpiBase implements Spi {
         IOCTL.call(spiFileDescriptor, Command.getSpiIocWrMode(), config.mode().getMode());
         logger.debug("{} - setting Read SPI Mode to {}.", path, config.mode());
         IOCTL.call(spiFileDescriptor, Command.getSpiIocRdMode(), config.mode().getMode());
-        logger.debug("{} - setting Write Byte Length to {}.", path, 8);
-        IOCTL.call(spiFileDescriptor, Command.getSpiIocWrBitsPerWord(), 8);
-        logger.debug("{} - setting Read Byte Length to {}.", path, 8);
-        IOCTL.call(spiFileDescriptor, Command.getSpiIocRdBitsPerWord(), 8);
+        logger.debug("{} - setting Write Bits Per Word to {}.", path, config.bitsPerWord());
+        IOCTL.call(spiFileDescriptor, Command.getSpiIocWrBitsPerWord(), config.bitsPerWord());
+        logger.debug("{} - setting Read Bits Per Word to {}.", path, config.bitsPerWord());
+        IOCTL.call(spiFileDescriptor, Command.getSpiIocRdBitsPerWord(), config.bitsPerWord());
         logger.debug("{} - setting Write Clock Frequency to {}.", path, config.baud());
         IOCTL.call(spiFileDescriptor, Command.getSpiIocWrMaxSpeedHz(), config.baud());
         logger.debug("{} - setting Read Clock Frequency to {}.", path, config.baud());
@@ -111,15 +166,100 @@ public class FFMSpi extends SpiBase implements Spi {
         IOCTL.call(spiFileDescriptor, Command.getSpiIocWrLsbFirst(), config.getWriteLsbFirst());
         logger.debug("{} - setting readLsbFirst to {}.", path, config.getReadLsbFirst());
         IOCTL.call(spiFileDescriptor, Command.getSpiIocRdLsbFirst(), config.getReadLsbFirst());
+        configureLanes();
 
         this.bufferSize = readBufferSize();
-        logger.debug("{} - SPI transfer chunk size (bufsiz) is {} bytes.", path, bufferSize);
+        this.chunkSize = chunkSize(config.bitsPerWord());
+        logger.debug("{} - SPI transfer chunk size is {} bytes (bufsiz {}).", path, chunkSize, bufferSize);
+        prepareTransfer();
 
         this.isOpen = true;
         logger.info("{} - SPI Bus configured.", path);
         return this;
     }
 
+    /**
+     * Enables the multi-lane mode bits for the configured transmit and receive lanes through
+     * {@code SPI_IOC_WR_MODE32}. The kernel silently drops lane bits the controller does not support, so
+     * the mode is read back with {@code SPI_IOC_RD_MODE32} and initialization fails if a requested bit is
+     * missing.
+     *
+     * @throws InitializeException if the controller does not support the configured lanes
+     */
+    private void configureLanes() {
+        var laneBits = laneModeBits(config.txLanes(), true) | laneModeBits(config.rxLanes(), false);
+        if (laneBits == 0) {
+            this.modeBits = config.mode().getMode();
+            return;
+        }
+        var mode = IOCTL.call(spiFileDescriptor, Command.getSpiIocRdMode32(), 0);
+        logger.debug("{} - setting Write SPI Mode32 to 0x{}.", path, Integer.toHexString(mode | laneBits));
+        IOCTL.call(spiFileDescriptor, Command.getSpiIocWrMode32(), mode | laneBits);
+        this.modeBits = IOCTL.call(spiFileDescriptor, Command.getSpiIocRdMode32(), 0);
+        if ((modeBits & laneBits) != laneBits) {
+            FILE.close(spiFileDescriptor);
+            throw new InitializeException("SPI controller of '" + path + "' does not support " + config.txLanes()
+                + " transmit and " + config.rxLanes() + " receive lanes (requested mode 0x"
+                + Integer.toHexString(mode | laneBits) + ", reported 0x" + Integer.toHexString(modeBits) + ")");
+        }
+    }
+
+    /**
+     * Returns the {@code SPI_TX_*}/{@code SPI_RX_*} mode bit enabling the given lanes, {@code 0} for
+     * single-lane SPI.
+     */
+    private static int laneModeBits(SpiLanes lanes, boolean tx) {
+        return switch (lanes) {
+            case SINGLE -> 0;
+            case DUAL -> tx ? SPI_TX_DUAL : SPI_RX_DUAL;
+            case QUAD -> tx ? SPI_TX_QUAD : SPI_RX_QUAD;
+            case OCTAL -> tx ? SPI_TX_OCTAL : SPI_RX_OCTAL;
+        };
+    }
+
+    /**
+     * Checks that a transfer may use the given number of lanes. Mirrors the kernel's {@code __spi_validate}:
+     * dual transfers need the dual or quad mode bit, quad and octal transfers their own bit.
+     *
+     * @throws IllegalArgumentException if the lanes are not enabled for this device
+     */
+    private void checkLanes(int nbits, boolean tx) {
+        var supported = switch (nbits) {
+            case 1 -> true;
+            case 2 -> (modeBits & (tx ? SPI_TX_DUAL | SPI_TX_QUAD : SPI_RX_DUAL | SPI_RX_QUAD)) != 0;
+            case 4 -> (modeBits & (tx ? SPI_TX_QUAD : SPI_RX_QUAD)) != 0;
+            case 8 -> (modeBits & (tx ? SPI_TX_OCTAL : SPI_RX_OCTAL)) != 0;
+            default -> false;
+        };
+        if (!supported) {
+            throw new IllegalArgumentException((tx ? "Transmit" : "Receive") + " with " + nbits
+                + " lanes is not enabled on '" + path + "', configure it with " + (tx ? "txLanes" : "rxLanes"));
+        }
+    }
+
+    /**
+     * Allocates the native transmit and receive buffers, sized to one chunk, and binds the
+     * {@code SPI_IOC_MESSAGE(1)} ioctl used by the transfers and the {@code SPI_IOC_MESSAGE(2)} ioctl used
+     * by {@link #writeThenRead(byte[], int, int, int, byte[], int, int)} to them.
+     */
+    private void prepareTransfer() {
+        var arena = Arena.ofAuto();
+        this.txBuffer = arena.allocate(bufferSize);
+        this.rxBuffer = arena.allocate(bufferSize);
+        var txNbits = config.txLanes().getLanes();
+        var rxNbits = config.rxLanes().getLanes();
+        this.transferView = SpiIocTransferView.allocate(arena, 1).txBuf(txBuffer).rxBuf(rxBuffer).nbits(txNbits, rxNbits);
+        this.transferIoctl = new PreparedIoctl(IOCTL, spiFileDescriptor, Command.getSpiIocMessage(1),
+            transferView.segment());
+        // The unused direction of each half must be NULL: a non-null pointer with a non-zero len makes
+        // the kernel copy len bytes into/out of it.
+        this.writeThenReadView = SpiIocTransferView.allocate(arena, 2);
+        writeThenReadView.at(0).txBuf(txBuffer).rxBuf(MemorySegment.NULL).nbits(txNbits, rxNbits);
+        writeThenReadView.at(1).txBuf(MemorySegment.NULL).rxBuf(rxBuffer).nbits(txNbits, rxNbits);
+        this.writeThenReadIoctl = new PreparedIoctl(IOCTL, spiFileDescriptor, Command.getSpiIocMessage(2),
+            writeThenReadView.segment());
+    }
+
     /**
      * Reads the spidev {@code bufsiz} module parameter, which is the maximum number of bytes accepted
      * by the kernel in a single SPI_IOC_MESSAGE transfer. Falls back to {@link #DEFAULT_BUFFER_SIZE}
@@ -174,35 +314,360 @@ public class FFMSpi extends SpiBase implements Spi {
         Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
         Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
 
-        logger.trace("{} - Transferring data (length '{}') in chunks of at most {} bytes", path, numberOfBytes, bufferSize);
-        logger.trace("{} - Write buffer: {}", path, HexFormatter.format(write));
-
-        // Split larger transfers into bufsiz-sized chunks, each issued as its own SPI_IOC_MESSAGE(1)
-        // ioctl call. These must NOT be batched into one SPI_IOC_MESSAGE(N): spidev's 'bufsiz' limit
-        // applies to the cumulative tx (and rx) total across all transfers within a single ioctl, so
-        // batching would sum the chunks back up and fail with EMSGSIZE - exactly what we avoid here.
-        var totalRead = 0;
-        for (var chunkOffset = 0; chunkOffset < numberOfBytes; chunkOffset += bufferSize) {
-            var chunkSize = Math.min(bufferSize, numberOfBytes - chunkOffset);
-            var writeData = Arrays.copyOfRange(write, writeOffset + chunkOffset, writeOffset + chunkOffset + chunkSize);
-            var spiTransfer = new SpiTransferBuffer(writeData, new byte[chunkSize], chunkSize);
-            spiTransfer = IOCTL.call(spiFileDescriptor, Command.getSpiIocMessage(1), spiTransfer);
-            var readBytes = spiTransfer.getRxBuffer();
-            System.arraycopy(readBytes, 0, read, readOffset + chunkOffset, chunkSize);
-            totalRead += readBytes.length;
-        }
-        logger.trace("{} - Read buffer: {}", path, HexFormatter.format(read));
+        var event = new SpiTransferEvent();
+        event.begin();
+        var totalRead = transferChunks(write, writeOffset, read, readOffset, numberOfBytes, 0);
+        commitEvent(event, numberOfBytes, totalRead);
         return totalRead;
     }
 
+    /**
+     * Exchanges array data through the prepared {@code SPI_IOC_MESSAGE(1)} and the native buffers.
+     * <p>
+     * Larger transfers are split into bufsiz-sized chunks, each issued as its own ioctl call. These must
+     * NOT be batched into one {@code SPI_IOC_MESSAGE(N)}: spidev's 'bufsiz' limit applies to the cumulative
+     * tx (and rx) total across all transfers within a single ioctl, so batching would sum the chunks back
+     * up and fail with {@code EMSGSIZE} - exactly what we avoid here. Each chunk is copied into the native
+     * tx buffer bound to the prepared ioctl; only the length field of the descriptor changes between calls.
+     *
+     * @param write          the bytes to write, or {@code null} to clock out zeros ({@code tx_buf} is NULL)
+     * @param writeOffset    the index in {@code write} of the first byte to send
+     * @param read           the array receiving the bytes read back, or {@code null} to discard them
+     *                       ({@code rx_buf} is NULL)
+     * @param readOffset     the index in {@code read} at which to store the first received byte
+     * @param numberOfBytes  the number of bytes to exchange
+     * @param lastDelayUsecs delay in microseconds applied after the final chunk
+     * @return {@code numberOfBytes}
+     */
+    private int transferChunks(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes,
+                               int lastDelayUsecs) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("{} - Transferring data (length '{}') in chunks of at most {} bytes", path, numberOfBytes, chunkSize);
+            logger.trace("{} - Write buffer: {}", path, write == null ? "-" : HexFormatter.format(write));
+        }
+        synchronized (transferIoctl) {
+            transferView.txBuf(write == null ? 0 : txBuffer.address()).rxBuf(read == null ? 0 : rxBuffer.address());
+            try {
+                for (var chunkOffset = 0; chunkOffset < numberOfBytes; chunkOffset += this.chunkSize) {
+                    var chunkSize = Math.min(this.chunkSize, numberOfBytes - chunkOffset);
+                    if (write != null) {
+                        MemorySegment.copy(write, writeOffset + chunkOffset, txBuffer, ValueLayout.JAVA_BYTE, 0, chunkSize);
+                    }
+                    if (transferView.len() != chunkSize) {
+                        transferView.len(chunkSize);
+                    }
+                    if (lastDelayUsecs != 0 && chunkOffset + chunkSize == numberOfBytes) {
+                        transferView.delayUsecs(lastDelayUsecs);
+                    }
+                    transferIoctl.invoke();
+                    if (read != null) {
+                        MemorySegment.copy(rxBuffer, ValueLayout.JAVA_BYTE, 0, read, readOffset + chunkOffset, chunkSize);
+                    }
+                }
+            } finally {
+                if (lastDelayUsecs != 0) {
+                    transferView.delayUsecs(0);
+                }
+            }
+        }
+        if (read != null && logger.isTraceEnabled()) {
+            logger.trace("{} - Read buffer: {}", path, HexFormatter.format(read));
+        }
+        return numberOfBytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Native segments are used in place: for every chunk the {@code tx_buf}/{@code rx_buf} pointers of the
+     * prepared transfer point straight into them, so the data is never copied on the Java side. Heap
+     * segments are staged through the per-device native buffers, like byte arrays.
+     *
+     * @throws Pi4JException         if the SPI bus has been closed
+     * @throws IllegalStateException if a segment has already been freed
+     */
+    @Override
+    public int transfer(MemorySegment write, MemorySegment read) {
+        Objects.checkFromIndexSize(0, write.byteSize(), read.byteSize());
+        return transferSegments(write, read, write.byteSize());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The received bytes are discarded by the kernel ({@code rx_buf} is {@code NULL}); a native segment
+     * is written without copying it.
+     */
+    @Override
+    public int write(MemorySegment data) {
+        return transferSegments(data, null, data.byteSize());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The kernel clocks out zeros ({@code tx_buf} is {@code NULL}); a native segment is filled without
+     * copying it.
+     */
+    @Override
+    public int read(MemorySegment buffer) {
+        return transferSegments(null, buffer, buffer.byteSize());
+    }
+
+    /**
+     * Runs a transfer between caller-owned segments through the prepared {@code SPI_IOC_MESSAGE(1)},
+     * chunked by {@code bufsiz}.
+     *
+     * @param write         the bytes to write, or {@code null} to clock out zeros
+     * @param read          the segment receiving the bytes read back, or {@code null} to discard them
+     * @param numberOfBytes the number of bytes to exchange
+     * @return {@code numberOfBytes}
+     */
+    private int transferSegments(MemorySegment write, MemorySegment read, long numberOfBytes) {
+        checkClosed();
+        var length = Math.toIntExact(numberOfBytes);
+        checkAlive(write);
+        checkAlive(read);
+        logger.trace("{} - Transferring segment (length '{}') in chunks of at most {} bytes", path, length, chunkSize);
+
+        var event = new SpiTransferEvent();
+        event.begin();
+        synchronized (transferIoctl) {
+            for (var chunkOffset = 0; chunkOffset < length; chunkOffset += this.chunkSize) {
+                var chunkSize = Math.min(this.chunkSize, length - chunkOffset);
+                transferView.txBuf(txAddress(write, chunkOffset, chunkSize))
+                    .rxBuf(read == null ? 0 : read.isNative() ? read.address() + chunkOffset : rxBuffer.address());
+                if (transferView.len() != chunkSize) {
+                    transferView.len(chunkSize);
+                }
+                transferIoctl.invoke();
+                if (read != null && !read.isNative()) {
+                    MemorySegment.copy(rxBuffer, 0, read, chunkOffset, chunkSize);
+                }
+            }
+        }
+        commitEvent(event, write == null ? 0 : length, read == null ? 0 : length);
+        return length;
+    }
+
+    /**
+     * Returns the {@code tx_buf} address for one chunk of the write data. Native memory is used in place,
+     * heap memory is staged in {@link #txBuffer}.
+     */
+    private long txAddress(MemorySegment write, int offset, int size) {
+        if (write == null) {
+            return 0;
+        }
+        if (write.isNative()) {
+            return write.address() + offset;
+        }
+        MemorySegment.copy(write, offset, txBuffer, 0, size);
+        return txBuffer.address();
+    }
+
+    /**
+     * Only the raw address of a native segment reaches the kernel, so a freed segment must be rejected
+     * here rather than be written to after its memory was returned.
+     */
+    private static void checkAlive(MemorySegment segment) {
+        if (segment != null && !segment.scope().isAlive()) {
+            throw new IllegalStateException("Segment is already closed: " + segment);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The segments are packed into {@code spi_ioc_transfer} descriptors of one {@code SPI_IOC_MESSAGE(N)}
+     * ioctl. A new message is started only where spidev requires it: when the cumulative transmit or
+     * receive length of the message would exceed {@code bufsiz}, or after 511 descriptors. A segment larger
+     * than {@code bufsiz} is split into chunks; its delay and chip-select change apply after the last one.
+     * Chip-select is released between messages, so transactions that must stay under one assertion have to
+     * fit within {@code bufsiz} in each direction.
+     * <p>
+     * Native segments are used in place. Heap segments are staged through the per-device native buffers,
+     * at increasing offsets, so they share the buffers within one message.
+     *
+     * @throws Pi4JException             if the SPI bus has been closed
+     * @throws IllegalStateException     if a segment has already been freed
+     * @throws IndexOutOfBoundsException if a buffer is shorter than its segment
+     */
+    @Override
+    public int transfer(SpiTransaction transaction) {
+        checkClosed();
+        var segments = transaction.segments();
+        for (var segment : segments) {
+            checkSegment(segment.write(), segment.length());
+            checkSegment(segment.read(), segment.length());
+            checkLanes(txNbits(segment), true);
+            checkLanes(rxNbits(segment), false);
+        }
+        logger.trace("{} - Transferring transaction of {} segment(s)", path, segments.size());
+
+        var event = new SpiTransferEvent();
+        event.begin();
+        var bytesWritten = 0;
+        var bytesRead = 0;
+        synchronized (transferIoctl) {
+            var count = 0;
+            var staged = 0;
+            var txTotal = 0;
+            var rxTotal = 0;
+            var txStage = 0;
+            var rxStage = 0;
+            for (var segment : segments) {
+                var write = segment.write();
+                var read = segment.read();
+                var length = segment.length();
+                var segmentChunkSize = segment.bitsPerWord() == 0 ? this.chunkSize : chunkSize(segment.bitsPerWord());
+                var chunkOffset = 0;
+                do {
+                    var chunkSize = Math.min(segmentChunkSize, length - chunkOffset);
+                    var txSize = write == null ? 0 : alignToBounceBuffer(chunkSize);
+                    var rxSize = read == null ? 0 : alignToBounceBuffer(chunkSize);
+                    if (count > 0 && (count == MAX_MESSAGE_TRANSFERS
+                        || txTotal + txSize > bufferSize || rxTotal + rxSize > bufferSize)) {
+                        submitTransaction(count, staged);
+                        count = staged = txTotal = rxTotal = txStage = rxStage = 0;
+                    }
+                    ensureTransactionCapacity(count + 1);
+
+                    var tx = 0L;
+                    if (write != null && write.isNative()) {
+                        tx = write.address() + chunkOffset;
+                    } else if (write != null) {
+                        MemorySegment.copy(write, chunkOffset, txBuffer, txStage, chunkSize);
+                        tx = txBuffer.address() + txStage;
+                        txStage += chunkSize;
+                    }
+                    var rx = 0L;
+                    if (read != null && read.isNative()) {
+                        rx = read.address() + chunkOffset;
+                    } else if (read != null) {
+                        stagedReads[staged] = read;
+                        stagedReadOffsets[staged] = chunkOffset;
+                        stagedReadPositions[staged] = rxStage;
+                        stagedReadSizes[staged++] = chunkSize;
+                        rx = rxBuffer.address() + rxStage;
+                        rxStage += chunkSize;
+                    }
+
+                    var last = chunkOffset + chunkSize == length;
+                    transactionView.at(count++)
+                        .txBuf(tx)
+                        .rxBuf(rx)
+                        .len(chunkSize)
+                        .speedHz(segment.speedHz())
+                        .delayUsecs(last ? segment.delayUsecs() : 0)
+                        .bitsPerWord(segment.bitsPerWord())
+                        .csChange(last && segment.csChange())
+                        .wordDelayUsecs(segment.wordDelayUsecs())
+                        .nbits(txNbits(segment), rxNbits(segment));
+                    txTotal += txSize;
+                    rxTotal += rxSize;
+                    chunkOffset += chunkSize;
+                } while (chunkOffset < length);
+
+                bytesWritten += write == null ? 0 : length;
+                bytesRead += read == null ? 0 : length;
+            }
+            if (count > 0) {
+                submitTransaction(count, staged);
+            }
+        }
+        commitEvent(event, bytesWritten, bytesRead);
+        return transaction.length();
+    }
+
+    private int txNbits(SpiTransaction.Segment segment) {
+        return segment.txNbits() == 0 ? config.txLanes().getLanes() : segment.txNbits();
+    }
+
+    private int rxNbits(SpiTransaction.Segment segment) {
+        return segment.rxNbits() == 0 ? config.rxLanes().getLanes() : segment.rxNbits();
+    }
+
+    /**
+     * Issues the first {@code count} transaction descriptors as one {@code SPI_IOC_MESSAGE(count)} and
+     * copies the staged receive data back into the heap read targets.
+     */
+    private void submitTransaction(int count, int staged) {
+        IOCTL.call(spiFileDescriptor, Command.getSpiIocMessage(count), transactionView.segment());
+        for (var i = 0; i < staged; i++) {
+            MemorySegment.copy(rxBuffer, stagedReadPositions[i], stagedReads[i], stagedReadOffsets[i], stagedReadSizes[i]);
+            stagedReads[i] = null;
+        }
+    }
+
+    /**
+     * The kernel accesses {@code length} bytes behind the address of a native segment, so a segment that is
+     * freed or shorter than its transaction segment must be rejected before any descriptor is issued.
+     */
+    private static void checkSegment(MemorySegment segment, int length) {
+        checkAlive(segment);
+        if (segment != null) {
+            Objects.checkFromIndexSize(0, length, segment.byteSize());
+        }
+    }
+
+    /**
+     * Grows the transaction descriptors and the staged read bookkeeping to hold at least {@code count}
+     * entries, keeping the descriptors already filled for the current message.
+     */
+    private void ensureTransactionCapacity(int count) {
+        if (transactionView != null && transactionView.capacity() >= count) {
+            return;
+        }
+        var capacity = Math.min(MAX_MESSAGE_TRANSFERS, Math.max(8, count * 2));
+        var view = SpiIocTransferView.allocate(Arena.ofAuto(), capacity);
+        if (transactionView != null) {
+            MemorySegment.copy(transactionView.segment(), 0, view.segment(), 0, transactionView.segment().byteSize());
+        }
+        this.transactionView = view;
+        this.stagedReads = Arrays.copyOf(stagedReads, capacity);
+        this.stagedReadOffsets = Arrays.copyOf(stagedReadOffsets, capacity);
+        this.stagedReadPositions = Arrays.copyOf(stagedReadPositions, capacity);
+        this.stagedReadSizes = Arrays.copyOf(stagedReadSizes, capacity);
+    }
+
+    /**
+     * Returns the largest chunk of at most {@code bufsiz} bytes that holds whole words: the kernel stores
+     * words of up to 8 bits in one byte, up to 16 bits in two and up to 32 bits in four, and rejects
+     * transfers whose length is not a multiple of that.
+     *
+     * @param bitsPerWord the word size in bits
+     * @return the chunk size in bytes
+     */
+    private int chunkSize(int bitsPerWord) {
+        var wordSize = bitsPerWord <= 8 ? 1 : bitsPerWord <= 16 ? 2 : 4;
+        var size = bufferSize - bufferSize % wordSize;
+        return size > 0 ? size : bufferSize;
+    }
+
+    private static int alignToBounceBuffer(int size) {
+        return (size + BOUNCE_BUFFER_ALIGNMENT - 1) & -BOUNCE_BUFFER_ALIGNMENT;
+    }
+
     @Override
     public int write(byte data) {
-        return write(new byte[]{data}, 0, 1);
+        exchangeByte(data, false);
+        return 1;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The received bytes are discarded by the kernel ({@code rx_buf} is {@code NULL}).
+     */
     @Override
     public int write(byte[] data, int offset, int length) {
-        return transfer(data, offset, new byte[data.length], 0, length);
+        checkClosed();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        var event = new SpiTransferEvent();
+        event.begin();
+        transferChunks(data, offset, null, 0, length, 0);
+        commitEvent(event, length, 0);
+        return length;
     }
 
     @Override
@@ -231,28 +696,31 @@ public class FFMSpi extends SpiBase implements Spi {
         Objects.checkFromIndexSize(readOffset, readLength, read.length);
         Objects.checkFromIndexSize(writeOffset, writeLength, write.length);
 
-        logger.trace("{} - Write-then-read (write '{}', read '{}') with chunk size {}", path, writeLength, readLength, bufferSize);
-        logger.trace("{} - Write buffer: {}", path, HexFormatter.format(write));
-
         var delayUsecs = readDelayNanos / 1000;
+        var event = new SpiTransferEvent();
+        event.begin();
 
         // Fast path: both halves fit within a single bufsiz, so the whole exchange runs as one
         // SPI_IOC_MESSAGE(2) under a single chip-select assertion (write, delay, then read). The
         // bufsiz limit is checked per direction (tx total vs rx total), so the write-only and
         // read-only transfers are bounded independently.
         if (writeLength <= bufferSize && readLength <= bufferSize) {
-            var writeData = Arrays.copyOfRange(write, writeOffset, writeOffset + writeLength);
-            // The unused direction must be null (not an empty array): a non-null pointer with a
-            // non-zero len makes the kernel copy len bytes into/out of a zero-length buffer.
-            var inputBuffer = new SpiTransferBuffer(writeData, null, writeLength, delayUsecs);
-            var outputBuffer = new SpiTransferBuffer(null, read, readLength, delayUsecs);
-
-            var transferBuffer = new SpiMultipleTransferBuffer(inputBuffer, outputBuffer);
-            transferBuffer = IOCTL.call(spiFileDescriptor, Command.getSpiIocMessage(2), transferBuffer);
-            var readBytes = transferBuffer.transferBuffer()[1].getRxBuffer();
-            System.arraycopy(readBytes, 0, read, readOffset, readLength);
+            if (logger.isTraceEnabled()) {
+                logger.trace("{} - Write-then-read (write '{}', read '{}') as one message", path, writeLength, readLength);
+                logger.trace("{} - Write buffer: {}", path, HexFormatter.format(write));
+            }
+            synchronized (transferIoctl) {
+                MemorySegment.copy(write, writeOffset, txBuffer, ValueLayout.JAVA_BYTE, 0, writeLength);
+                writeThenReadView.at(0).len(writeLength).delayUsecs(delayUsecs);
+                writeThenReadView.at(1).len(readLength).delayUsecs(delayUsecs);
+                writeThenReadIoctl.invoke();
+                MemorySegment.copy(rxBuffer, ValueLayout.JAVA_BYTE, 0, read, readOffset, readLength);
+            }
+            commitEvent(event, writeLength, readLength);
 
-            logger.trace("{} - Read buffer: {}", path, HexFormatter.format(read));
+            if (logger.isTraceEnabled()) {
+                logger.trace("{} - Read buffer: {}", path, HexFormatter.format(read));
+            }
             return;
         }
 
@@ -261,25 +729,10 @@ public class FFMSpi extends SpiBase implements Spi {
         // phase and then the read phase are issued as separate bufsiz-sized SPI_IOC_MESSAGE(1)
         // calls. This releases chip-select between chunks - unavoidable once a transfer is larger
         // than bufsiz; the only way to keep a single assertion is to raise the kernel's bufsiz.
-        for (var chunkOffset = 0; chunkOffset < writeLength; chunkOffset += bufferSize) {
-            var chunkSize = Math.min(bufferSize, writeLength - chunkOffset);
-            var writeData = Arrays.copyOfRange(write, writeOffset + chunkOffset, writeOffset + chunkOffset + chunkSize);
-            // apply the read delay only after the final write chunk, i.e. between the write and read phases
-            var chunkDelay = chunkOffset + chunkSize >= writeLength ? delayUsecs : 0;
-            // null rx (write-only): a non-null zero-length rx buffer would be overrun by the kernel
-            var spiTransfer = new SpiTransferBuffer(writeData, null, chunkSize, chunkDelay);
-            IOCTL.call(spiFileDescriptor, Command.getSpiIocMessage(1), spiTransfer);
-        }
-
-        for (var chunkOffset = 0; chunkOffset < readLength; chunkOffset += bufferSize) {
-            var chunkSize = Math.min(bufferSize, readLength - chunkOffset);
-            // null tx (read-only): clocks out zeros without reading from a zero-length tx buffer
-            var spiTransfer = new SpiTransferBuffer(null, new byte[chunkSize], chunkSize);
-            spiTransfer = IOCTL.call(spiFileDescriptor, Command.getSpiIocMessage(1), spiTransfer);
-            System.arraycopy(spiTransfer.getRxBuffer(), 0, read, readOffset + chunkOffset, chunkSize);
-        }
-
-        logger.trace("{} - Read buffer: {}", path, HexFormatter.format(read));
+        // The read delay is applied only after the final write chunk, i.e. between the two phases.
+        transferChunks(write, writeOffset, null, 0, writeLength, delayUsecs);
+        transferChunks(null, 0, read, readOffset, readLength, 0);
+        commitEvent(event, writeLength, readLength);
     }
 
     @Override
@@ -287,16 +740,53 @@ public class FFMSpi extends SpiBase implements Spi {
         return readByte();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The kernel clocks out zeros ({@code tx_buf} is {@code NULL}).
+     */
     @Override
     public int read(byte[] buffer, int offset, int length) {
-        return transfer(new byte[length], 0, buffer, offset, length);
+        checkClosed();
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        var event = new SpiTransferEvent();
+        event.begin();
+        transferChunks(null, 0, buffer, offset, length, 0);
+        commitEvent(event, 0, length);
+        return length;
     }
 
     @Override
     public byte readByte() {
-        var buffer = new byte[1];
-        transfer(new byte[1], 0, buffer, 0, 1);
-        return buffer[0];
+        return exchangeByte((byte) 0, true);
+    }
+
+    /**
+     * Exchanges a single byte through the native buffers, so single-byte writes and reads need no
+     * temporary arrays.
+     *
+     * @param data    the byte to clock out
+     * @param receive {@code true} to return the byte clocked in, {@code false} to discard it
+     * @return the byte clocked in, or {@code 0} if it was discarded
+     */
+    private byte exchangeByte(byte data, boolean receive) {
+        checkClosed();
+        var event = new SpiTransferEvent();
+        event.begin();
+        byte received = 0;
+        synchronized (transferIoctl) {
+            txBuffer.set(ValueLayout.JAVA_BYTE, 0, data);
+            transferView.txBuf(txBuffer).rxBuf(receive ? rxBuffer : MemorySegment.NULL);
+            if (transferView.len() != 1) {
+                transferView.len(1);
+            }
+            transferIoctl.invoke();
+            if (receive) {
+                received = rxBuffer.get(ValueLayout.JAVA_BYTE, 0);
+            }
+        }
+        commitEvent(event, 1, receive ? 1 : 0);
+        return received;
     }
 
     /**
@@ -307,4 +797,20 @@ public class FFMSpi extends SpiBase implements Spi {
             throw new Pi4JException("SPI bus  '" + path + "' is closed");
         }
     }
+
+    /**
+     * Reports a completed transfer to an active JFR recording.
+     *
+     * @param event        the event started before the transfer
+     * @param bytesWritten number of bytes clocked out
+     * @param bytesRead    number of bytes clocked in
+     */
+    private void commitEvent(SpiTransferEvent event, int bytesWritten, int bytesRead) {
+        if (event.shouldCommit()) {
+            event.device = path;
+            event.bytesWritten = bytesWritten;
+            event.bytesRead = bytesRead;
+            event.commit();
+        }
+    }
 }
@@ -5,7 +5,11 @@ module com.pi4j.plugin.ffm {
     // depends on SLF4J
     requires org.slf4j;
     requires com.pi4j;
+    // commits the com.pi4j.jfr flight recorder events
+    requires jdk.jfr;
 
+    // provider constructor options and real-time helpers (NativeCallMode, IoBackend, RealtimeHelper)
+    exports com.pi4j.plugin.ffm.config;
     exports com.pi4j.plugin.ffm.providers.pwm;
     exports com.pi4j.plugin.ffm.providers.spi;
     exports com.pi4j.plugin.ffm.providers.i2c;
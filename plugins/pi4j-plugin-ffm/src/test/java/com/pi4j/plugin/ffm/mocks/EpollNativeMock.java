@@ -0,0 +1,91 @@
+package com.pi4j.plugin.ffm.mocks;
+
+import com.pi4j.plugin.ffm.common.epoll.EpollFlag;
+import com.pi4j.plugin.ffm.common.epoll.EpollNative;
+import com.pi4j.plugin.ffm.common.epoll.structs.EpollEvent;
+import com.pi4j.plugin.ffm.common.eventfd.EventFdNative;
+import org.mockito.MockedConstruction;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+/**
+ * Emulates an epoll instance: {@code epoll_wait} asks the {@code readyEvents} callback for the ready events
+ * of every descriptor added with {@code epoll_ctl} and reports those with events, blocking like the real
+ * call until one is ready or its timeout expired. The reactor wakeup eventfd is a real descriptor, reported
+ * once signalled.
+ * <p>
+ * Event loops outlive a test when their context is shared, so every descriptor keeps the callback of the
+ * latest {@link #setup(IntUnaryOperator)} at the time it was added.
+ */
+public class EpollNativeMock {
+    private static volatile IntUnaryOperator currentReadyEvents = _ -> 0;
+
+    private record Registration(int fd, long data, IntUnaryOperator readyEvents) {
+    }
+
+    /**
+     * @param readyEvents maps a watched file descriptor to its ready {@link EpollFlag} events, {@code 0}
+     *                    if none; called from the event loop threads
+     */
+    public static MockedConstruction<EpollNative> setup(IntUnaryOperator readyEvents) {
+        currentReadyEvents = readyEvents;
+        return mockConstruction(EpollNative.class, (mock, _) -> {
+            Map<Long, Registration> registrations = new ConcurrentHashMap<>();
+            when(mock.create(anyInt())).thenReturn(99);
+            doAnswer(answer -> {
+                int op = answer.getArgument(1);
+                int fd = answer.getArgument(2);
+                long data = answer.getArgument(4);
+                if (op == EpollFlag.EPOLL_CTL_ADD) {
+                    registrations.put(data, new Registration(fd, data, currentReadyEvents));
+                } else if (op == EpollFlag.EPOLL_CTL_DEL) {
+                    registrations.remove(data);
+                }
+                return null;
+            }).when(mock).ctl(anyInt(), anyInt(), anyInt(), anyInt(), anyLong());
+            var eventFd = new EventFdNative();
+            when(mock.waitEvents(anyInt(), any(MemorySegment.class), anyInt(), anyInt())).thenAnswer(answer -> {
+                MemorySegment events = answer.getArgument(1);
+                int maxEvents = answer.getArgument(2);
+                int timeout = answer.getArgument(3);
+                var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeout));
+                while (true) {
+                    var ready = 0;
+                    for (var registration : registrations.values()) {
+                        if (ready == maxEvents) {
+                            break;
+                        }
+                        int revents;
+                        if (registration.data() < 0) {
+                            // reactor wakeup eventfd, a real descriptor signalled by the reactor
+                            revents = eventFd.drain(registration.fd()) > 0 ? EpollFlag.EPOLLIN : 0;
+                        } else {
+                            revents = registration.readyEvents().applyAsInt(registration.fd());
+                        }
+                        if (revents != 0) {
+                            new EpollEvent(revents, registration.data())
+                                .to(events.asSlice(ready * EpollEvent.LAYOUT.byteSize()));
+                            ready++;
+                        }
+                    }
+                    // like epoll_wait(), block until a descriptor is ready or the timeout (if any) expired
+                    if (ready > 0 || (timeout >= 0 && System.nanoTime() - deadline >= 0)) {
+                        return ready;
+                    }
+                    Thread.sleep(1);
+                }
+            });
+        });
+    }
+}
@@ -5,6 +5,9 @@ import org.mockito.AdditionalMatchers;
 import org.mockito.MockedConstruction;
 import org.mockito.invocation.InvocationOnMock;
 
+import java.io.ByteArrayOutputStream;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.eq;
@@ -26,7 +29,30 @@ public class FileDescriptorNativeMock {
                 } else {
                     when(mock.read(eq(descriptor.fd), any(byte[].class), anyInt())).thenReturn(descriptor.data);
                 }
+                // segment based variant is routed through the byte array stub above
+                when(mock.read(eq(descriptor.fd), any(MemorySegment.class), anyInt())).thenAnswer(answer -> {
+                    MemorySegment buffer = answer.getArgument(1);
+                    int size = answer.getArgument(2);
+                    var data = mock.read(descriptor.fd, new byte[size], size);
+                    var length = Math.min(Math.min(data.length, size), (int) buffer.byteSize());
+                    MemorySegment.copy(data, 0, buffer, ValueLayout.JAVA_BYTE, 0, length);
+                    return length;
+                });
                 when(mock.write(eq(descriptor.fd), AdditionalMatchers.aryEq(descriptor.data))).thenReturn(descriptor.data.length);
+                // segment and vectored writes are routed through the byte array stub above
+                when(mock.write(eq(descriptor.fd), any(MemorySegment.class), anyInt())).thenAnswer(answer -> {
+                    MemorySegment data = answer.getArgument(1);
+                    int size = answer.getArgument(2);
+                    return mock.write(descriptor.fd, data.asSlice(0, size).toArray(ValueLayout.JAVA_BYTE));
+                });
+                when(mock.writev(eq(descriptor.fd), any(MemorySegment[].class))).thenAnswer(answer -> {
+                    var buffers = (MemorySegment[]) answer.getRawArguments()[1];
+                    var out = new ByteArrayOutputStream();
+                    for (var buffer : buffers) {
+                        out.writeBytes(buffer.toArray(ValueLayout.JAVA_BYTE));
+                    }
+                    return (long) mock.write(descriptor.fd, out.toByteArray());
+                });
                 doNothing().when(mock).close(eq(descriptor.fd));
                 when(mock.access(anyString(), anyInt())).thenReturn(0);
             }
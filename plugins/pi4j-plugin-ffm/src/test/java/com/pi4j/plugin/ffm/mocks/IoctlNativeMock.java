@@ -3,11 +3,20 @@ package com.pi4j.plugin.ffm.mocks;
 import com.pi4j.plugin.ffm.common.Pi4JLayout;
 import com.pi4j.plugin.ffm.common.gpio.structs.LineRequest;
 import com.pi4j.plugin.ffm.common.gpio.structs.LineValues;
+import com.pi4j.plugin.ffm.common.gpio.structs.LineValuesView;
+import com.pi4j.plugin.ffm.common.i2c.I2cConstants;
+import com.pi4j.plugin.ffm.common.i2c.rdwr.I2CMessage;
+import com.pi4j.plugin.ffm.common.i2c.rdwr.RDWRData;
 import com.pi4j.plugin.ffm.common.ioctl.Command;
 import com.pi4j.plugin.ffm.common.ioctl.IoctlNative;
+import com.pi4j.plugin.ffm.common.spi.SpiMultipleTransferBuffer;
+import com.pi4j.plugin.ffm.common.spi.SpiTransferBuffer;
 import org.mockito.MockedConstruction;
 import org.mockito.invocation.InvocationOnMock;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -15,23 +24,60 @@ import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.when;
 
 public class IoctlNativeMock {
+    // struct spi_ioc_transfer and struct i2c_msg field offsets
+    private static final long SPI_TX_BUF_OFFSET = 0;
+    private static final long SPI_RX_BUF_OFFSET = 8;
+    private static final long SPI_LEN_OFFSET = 16;
+    private static final long SPI_SPEED_HZ_OFFSET = 20;
+    private static final long SPI_DELAY_USECS_OFFSET = 24;
+    private static final long SPI_BITS_PER_WORD_OFFSET = 26;
+    private static final long SPI_CS_CHANGE_OFFSET = 27;
+    private static final long SPI_TX_NBITS_OFFSET = 28;
+    private static final long SPI_RX_NBITS_OFFSET = 29;
+    private static final long SPI_WORD_DELAY_USECS_OFFSET = 30;
+    private static final long SPI_TRANSFER_SIZE = 32;
+    // SPI_TX_DUAL | SPI_TX_QUAD | SPI_RX_DUAL | SPI_RX_QUAD | SPI_TX_OCTAL | SPI_RX_OCTAL
+    private static final int SPI_LANE_MODE_BITS = 0x100 | 0x200 | 0x400 | 0x800 | 0x2000 | 0x4000;
+    private static final long I2C_MSG_BUF_OFFSET = 8;
 
     public record IoctlTestData(Class<? extends Pi4JLayout> objClass, Function<InvocationOnMock, ?> callback) {
     }
 
     public static MockedConstruction<IoctlNative> setup(IoctlTestData... data) {
+        return mockConstruction(IoctlNative.class, (mock, _) -> stub(mock, data));
+    }
+
+    /**
+     * Emulates a spidev controller supporting the given {@code SPI_TX_*}/{@code SPI_RX_*} mode bits:
+     * {@code SPI_IOC_WR_MODE32} drops the unsupported lane bits like {@code spi_setup} does, and
+     * {@code SPI_IOC_RD_MODE32} reports the resulting mode.
+     */
+    public static MockedConstruction<IoctlNative> spi(int controllerModeBits, IoctlTestData... data) {
         return mockConstruction(IoctlNative.class, (mock, _) -> {
-            // Register the defaults first so that test-provided callbacks for the same struct
-            // (e.g. LineRequest) take precedence over them.
-            when(mock.call(anyInt(), anyLong(), isA(LineValues.class))).thenAnswer((answer) -> answer.<LineValues>getArgument(2));
-            when(mock.call(anyInt(), anyLong(), isA(LineRequest.class))).thenAnswer((answer) -> {
-                LineRequest lineRequest = answer.getArgument(2);
-                return new LineRequest(lineRequest.offsets(), lineRequest.consumer(), lineRequest.config(), lineRequest.numLines(), lineRequest.eventBufferSize(), 42);
+            stub(mock, data);
+            var mode = new AtomicInteger();
+            when(mock.call(anyInt(), eq(Command.getSpiIocWrMode32()), anyInt())).thenAnswer(answer -> {
+                int requested = answer.getArgument(2);
+                mode.set(requested & ~SPI_LANE_MODE_BITS | requested & controllerModeBits);
+                return requested;
             });
-            for (IoctlTestData testData : data) {
-                when(mock.call(anyInt(), anyLong(), isA(testData.objClass))).thenAnswer(testData.callback::apply);
-            }
+            when(mock.call(anyInt(), eq(Command.getSpiIocRdMode32()), anyInt())).thenAnswer(_ -> mode.get());
+        });
+    }
+
+    private static void stub(IoctlNative mock, IoctlTestData... data) {
+        // Register the defaults first so that test-provided callbacks for the same struct
+        // (e.g. LineRequest) take precedence over them.
+        when(mock.call(anyInt(), anyLong(), isA(LineValues.class))).thenAnswer((answer) -> answer.<LineValues>getArgument(2));
+        when(mock.call(anyInt(), anyLong(), isA(LineRequest.class))).thenAnswer((answer) -> {
+            LineRequest lineRequest = answer.getArgument(2);
+            return new LineRequest(lineRequest.offsets(), lineRequest.consumer(), lineRequest.config(), lineRequest.numLines(), lineRequest.eventBufferSize(), 42);
         });
+        for (IoctlTestData testData : data) {
+            when(mock.call(anyInt(), anyLong(), isA(testData.objClass))).thenAnswer(testData.callback::apply);
+        }
+        // segment based variant (prepared calls and views) is routed through the record stubs above
+        when(mock.call(anyInt(), anyLong(), any(MemorySegment.class))).thenAnswer(answer -> routeSegmentCall(mock, answer));
     }
 
     public static MockedConstruction<IoctlNative> i2c(int i2CFunctionalities, IoctlTestData... data) {
@@ -42,6 +88,71 @@ public class IoctlNativeMock {
             //I2CSMBus
             when(mock.call(anyInt(), eq(Command.getI2CFuncs()), anyInt())).thenReturn(i2CFunctionalities);
             when(mock.callByValue(anyInt(), eq(Command.getI2CSlave()), anyInt())).thenReturn(42);
+            when(mock.call(anyInt(), anyLong(), any(MemorySegment.class))).thenAnswer(answer -> routeSegmentCall(mock, answer));
         });
     }
+
+    /**
+     * Decodes the struct passed to {@code call(fd, command, MemorySegment)} into the matching record,
+     * invokes the record stub and writes its result back into native memory, like the kernel would.
+     */
+    private static int routeSegmentCall(IoctlNative mock, InvocationOnMock answer) throws Throwable {
+        int fd = answer.getArgument(0);
+        long command = answer.getArgument(1);
+        MemorySegment segment = answer.getArgument(2);
+        var spiTransfers = (int) (((command >> 16) & 0x3FFF) / SPI_TRANSFER_SIZE);
+        if (spiTransfers > 0 && command == Command.getSpiIocMessage(spiTransfers)) {
+            // SPI_IOC_MESSAGE(1) is stubbed with SpiTransferBuffer, SPI_IOC_MESSAGE(N) with SpiMultipleTransferBuffer
+            var transfers = new SpiTransferBuffer[spiTransfers];
+            for (int i = 0; i < spiTransfers; i++) {
+                transfers[i] = decodeSpiTransfer(segment, i * SPI_TRANSFER_SIZE);
+            }
+            var results = spiTransfers == 1
+                ? new SpiTransferBuffer[]{mock.call(fd, command, transfers[0])}
+                : mock.call(fd, command, new SpiMultipleTransferBuffer(transfers)).transferBuffer();
+            for (int i = 0; i < spiTransfers; i++) {
+                var base = i * SPI_TRANSFER_SIZE;
+                var rxAddress = segment.get(ValueLayout.JAVA_LONG, base + SPI_RX_BUF_OFFSET);
+                var length = segment.get(ValueLayout.JAVA_INT, base + SPI_LEN_OFFSET);
+                var rx = results[i].getRxBuffer();
+                if (rxAddress != 0 && rx != null) {
+                    MemorySegment.copy(rx, 0, MemorySegment.ofAddress(rxAddress).reinterpret(length), ValueLayout.JAVA_BYTE, 0, Math.min(rx.length, length));
+                }
+            }
+        } else if (command == I2cConstants.I2C_RDWR.getValue()) {
+            var result = mock.call(fd, command, new RDWRData(new I2CMessage[0], 0).from(segment));
+            var messages = segment.get(ValueLayout.ADDRESS, 0)
+                .reinterpret(result.nmsgs() * I2CMessage.LAYOUT.byteSize());
+            for (int i = 0; i < result.nmsgs(); i++) {
+                var message = messages.asSlice(i * I2CMessage.LAYOUT.byteSize());
+                var buf = message.get(ValueLayout.ADDRESS, I2C_MSG_BUF_OFFSET).reinterpret(result.msgs()[i].len());
+                MemorySegment.copy(result.msgs()[i].buf(), 0, buf, ValueLayout.JAVA_BYTE, 0, result.msgs()[i].len());
+            }
+        } else {
+            var view = new LineValuesView(segment);
+            var result = mock.call(fd, command, view.toRecord());
+            view.bits(result.bits()).mask(result.mask());
+        }
+        return 0;
+    }
+
+    /**
+     * Reads one {@code struct spi_ioc_transfer} into a record, with a copy of the tx data and an empty rx
+     * array ({@code null} for NULL pointers).
+     */
+    private static SpiTransferBuffer decodeSpiTransfer(MemorySegment segment, long base) {
+        var txAddress = segment.get(ValueLayout.JAVA_LONG, base + SPI_TX_BUF_OFFSET);
+        var rxAddress = segment.get(ValueLayout.JAVA_LONG, base + SPI_RX_BUF_OFFSET);
+        var length = segment.get(ValueLayout.JAVA_INT, base + SPI_LEN_OFFSET);
+        var tx = txAddress == 0 ? null : MemorySegment.ofAddress(txAddress).reinterpret(length).toArray(ValueLayout.JAVA_BYTE);
+        return new SpiTransferBuffer(tx, rxAddress == 0 ? null : new byte[length], length,
+            segment.get(ValueLayout.JAVA_INT, base + SPI_SPEED_HZ_OFFSET),
+            Short.toUnsignedInt(segment.get(ValueLayout.JAVA_SHORT, base + SPI_DELAY_USECS_OFFSET)),
+            segment.get(ValueLayout.JAVA_BYTE, base + SPI_BITS_PER_WORD_OFFSET),
+            segment.get(ValueLayout.JAVA_BYTE, base + SPI_CS_CHANGE_OFFSET),
+            segment.get(ValueLayout.JAVA_BYTE, base + SPI_TX_NBITS_OFFSET),
+            segment.get(ValueLayout.JAVA_BYTE, base + SPI_RX_NBITS_OFFSET),
+            segment.get(ValueLayout.JAVA_BYTE, base + SPI_WORD_DELAY_USECS_OFFSET),
+            (byte) 0);
+    }
 }
@@ -0,0 +1,28 @@
+package com.pi4j.plugin.ffm.model;
+
+import com.pi4j.plugin.ffm.common.eventfd.EventFdFlag;
+import com.pi4j.plugin.ffm.common.eventfd.EventFdNative;
+import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventFdTest {
+
+    @Test
+    public void testSignalAndDrain() {
+        var eventFd = new EventFdNative();
+        var fd = eventFd.create(EventFdFlag.EFD_CLOEXEC | EventFdFlag.EFD_NONBLOCK);
+        try {
+            assertTrue(fd >= 0);
+            // nothing signalled yet, a non-blocking drain must not fail
+            assertEquals(0, eventFd.drain(fd));
+            eventFd.signal(fd);
+            eventFd.signal(fd);
+            assertEquals(2, eventFd.drain(fd));
+            assertEquals(0, eventFd.drain(fd));
+        } finally {
+            new FileDescriptorNative().close(fd);
+        }
+    }
+}
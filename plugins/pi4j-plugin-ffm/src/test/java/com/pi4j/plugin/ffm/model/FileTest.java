@@ -0,0 +1,54 @@
+package com.pi4j.plugin.ffm.model;
+
+import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
+import com.pi4j.plugin.ffm.common.file.FileFlag;
+import com.pi4j.plugin.ffm.common.file.IoVec;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileTest {
+
+    @Test
+    public void testIoVec() throws Throwable {
+        try (var offheap = Arena.ofConfined()) {
+            var header = offheap.allocate(2);
+            var payload = offheap.allocate(5);
+            var iov = IoVec.allocate(offheap, 2).set(0, header).set(1, payload);
+            assertEquals(2, iov.capacity());
+            assertEquals(2, iov.length(0));
+            assertEquals(5, iov.length(1));
+            assertEquals(header.address(), iov.segment().get(ValueLayout.ADDRESS, 0).address());
+            assertThrows(IllegalArgumentException.class, () -> iov.set(0, MemorySegment.ofArray(new byte[2])));
+        }
+    }
+
+    @Test
+    public void testVectoredIO() throws Throwable {
+        var path = Files.createTempFile("pi4j-iovec", ".bin");
+        var file = new FileDescriptorNative();
+        var fd = file.open(path.toString(), FileFlag.O_RDWR);
+        try (var offheap = Arena.ofConfined()) {
+            var header = offheap.allocateFrom(ValueLayout.JAVA_BYTE, (byte) 0x1C, (byte) 0x00);
+            var payload = MemorySegment.ofBuffer(ByteBuffer.allocateDirect(4).put("Test".getBytes()).flip());
+            assertEquals(6, file.writev(fd, header, payload));
+            assertArrayEquals(new byte[]{0x1C, 0x00, 'T', 'e', 's', 't'}, Files.readAllBytes(path));
+
+            file.lseek(fd, 0, FileFlag.SEEK_SET);
+            var readHeader = offheap.allocate(2);
+            var readPayload = offheap.allocate(4);
+            assertEquals(6, file.readv(fd, readHeader, readPayload));
+            assertArrayEquals(header.toArray(ValueLayout.JAVA_BYTE), readHeader.toArray(ValueLayout.JAVA_BYTE));
+            assertArrayEquals("Test".getBytes(), readPayload.toArray(ValueLayout.JAVA_BYTE));
+        } finally {
+            file.close(fd);
+            Files.delete(path);
+        }
+    }
+}
@@ -128,4 +128,34 @@ public class GPIOTest {
             assertTrue(new ReflectionEquals(lineValues2).matches(lineValues));
         }
     }
+
+    @Test
+    public void testLineValuesView() throws Throwable {
+        try (var offheap = Arena.ofConfined()) {
+            var view = LineValuesView.allocate(offheap).bits(1).mask(2);
+            var lineValues = LineValues.create(view.segment());
+            assertEquals(1, lineValues.bits());
+            assertEquals(2, lineValues.mask());
+            assertTrue(new ReflectionEquals(view.toRecord()).matches(lineValues));
+        }
+    }
+
+    @Test
+    public void testLineEventView() throws Throwable {
+        try (var offheap = Arena.ofConfined()) {
+            var buffer = offheap.allocate(LineEventView.BYTE_SIZE * 2, LineEvent.LAYOUT.byteAlignment());
+            var lineEvent = new LineEvent(1, 2, 3, 4, 5);
+            var lineEvent2 = new LineEvent(6, 7, 8, 9, 10);
+            lineEvent.to(buffer);
+            lineEvent2.to(buffer.asSlice(LineEventView.BYTE_SIZE));
+            var view = new LineEventView(buffer);
+            assertEquals(2, view.capacity());
+            assertTrue(new ReflectionEquals(view.at(0).toRecord()).matches(lineEvent));
+            assertEquals(6, view.at(1).timestampNs());
+            assertEquals(7, view.id());
+            assertEquals(8, view.offset());
+            assertEquals(9, view.seqno());
+            assertEquals(10, view.lineSeqno());
+        }
+    }
 }
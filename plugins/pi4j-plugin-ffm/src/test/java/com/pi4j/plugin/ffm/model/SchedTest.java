@@ -0,0 +1,48 @@
+package com.pi4j.plugin.ffm.model;
+
+import com.pi4j.Pi4J;
+import com.pi4j.plugin.ffm.common.sched.SchedFlag;
+import com.pi4j.plugin.ffm.common.sched.SchedNative;
+import com.pi4j.plugin.ffm.config.RealtimeHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchedTest {
+
+    @Test
+    public void testAffinity() throws InterruptedException {
+        // every core of the mask, the kernel keeps the ones this process may use
+        var cpus = IntStream.range(0, SchedFlag.CPU_SET_SIZE * 8).toArray();
+        // run on a throwaway thread, affinity sticks to the calling thread
+        var failure = new AtomicReference<Throwable>();
+        var thread = Thread.ofPlatform().start(() -> {
+            try {
+                new SchedNative().setAffinity(cpus);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.join();
+        assertNull(failure.get());
+        assertThrows(IllegalArgumentException.class, () -> new SchedNative().setAffinity(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SchedNative().setAffinity(SchedFlag.CPU_SET_SIZE * 8));
+    }
+
+    @Test
+    public void testRealtimeConfig() {
+        var config = Pi4J.newContextBuilder().realtimePriority(10).realtimeCpus(0).toConfig();
+        assertTrue(config.isRealtime());
+        assertEquals(10, config.realtimePriority());
+        assertArrayEquals(new int[]{0}, config.realtimeCpus());
+        assertFalse(config.lockMemory());
+        assertFalse(Pi4J.newContextBuilder().toConfig().isRealtime());
+        assertThrows(IllegalArgumentException.class, () -> Pi4J.newContextBuilder().realtimePriority(100));
+        // missing privileges only skip the settings
+        var thread = Thread.ofPlatform().start(() -> RealtimeHelper.applyToCurrentThread(config));
+        assertDoesNotThrow(() -> thread.join());
+    }
+}
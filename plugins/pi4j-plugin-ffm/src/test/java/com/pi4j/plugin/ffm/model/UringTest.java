@@ -0,0 +1,52 @@
+package com.pi4j.plugin.ffm.model;
+
+import com.pi4j.plugin.ffm.common.file.FileDescriptorNative;
+import com.pi4j.plugin.ffm.common.file.FileFlag;
+import com.pi4j.plugin.ffm.common.uring.IoUring;
+import com.pi4j.plugin.ffm.config.IoBackend;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class UringTest {
+
+    @Test
+    public void testBackendFallback() {
+        assertEquals(IoBackend.SYNCHRONOUS, IoBackend.SYNCHRONOUS.resolve());
+        assertEquals(IoUring.isSupported() ? IoBackend.IO_URING : IoBackend.SYNCHRONOUS, IoBackend.IO_URING.resolve());
+    }
+
+    @Test
+    public void testLinkedWriteThenRead() throws Throwable {
+        assumeTrue(IoUring.isSupported(), "io_uring is not available on this machine");
+        var path = Files.createTempFile("pi4j-uring", ".bin");
+        var file = new FileDescriptorNative();
+        var fd = file.open(path.toString(), FileFlag.O_RDWR);
+        try (var offheap = Arena.ofConfined(); var ring = IoUring.open(4)) {
+            var header = offheap.allocateFrom(ValueLayout.JAVA_BYTE, (byte) 0x1C, (byte) 0x00);
+            var payload = offheap.allocateFrom(ValueLayout.JAVA_BYTE, "Test".getBytes());
+            var readBack = offheap.allocate(6);
+            ring.prepareWrite(fd, header, 2, 0, 1).link()
+                .prepareWrite(fd, payload, 4, 2, 2).link()
+                .prepareRead(fd, readBack, 6, 0, 3);
+            assertEquals(3, ring.submitAndWait(3));
+
+            var completions = new ArrayList<long[]>();
+            assertEquals(3, ring.complete((userData, result) -> completions.add(new long[]{userData, result})));
+            assertArrayEquals(new long[]{1, 2}, completions.get(0));
+            assertArrayEquals(new long[]{2, 4}, completions.get(1));
+            assertArrayEquals(new long[]{3, 6}, completions.get(2));
+            assertArrayEquals(new byte[]{0x1C, 0x00, 'T', 'e', 's', 't'}, readBack.toArray(ValueLayout.JAVA_BYTE));
+            assertEquals(0, ring.complete((_, _) -> fail("no completion expected")));
+        } finally {
+            file.close(fd);
+            Files.delete(path);
+        }
+    }
+}
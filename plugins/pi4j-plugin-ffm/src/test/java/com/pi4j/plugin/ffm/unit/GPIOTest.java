@@ -4,13 +4,20 @@ import com.pi4j.Pi4J;
 import com.pi4j.boardinfo.definition.BoardModel;
 import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfigBuilder;
 import com.pi4j.io.gpio.digital.DigitalOutputConfigBuilder;
+import com.pi4j.io.gpio.digital.DigitalPortConfigBuilder;
+import com.pi4j.io.gpio.digital.DigitalPortDirection;
 import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.io.gpio.digital.DigitalStateChangeListener;
 import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.io.gpio.digital.decoder.WiegandDecoder;
 import com.pi4j.plugin.ffm.api.Pi4JApi;
 import com.pi4j.plugin.ffm.api.RaspberryPi;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
+import com.pi4j.plugin.ffm.common.epoll.EpollFlag;
 import com.pi4j.plugin.ffm.common.gpio.PinEvent;
 import com.pi4j.plugin.ffm.common.gpio.PinFlag;
 import com.pi4j.plugin.ffm.common.gpio.enums.LineAttributeId;
@@ -18,26 +25,29 @@ import com.pi4j.plugin.ffm.common.gpio.structs.LineAttribute;
 import com.pi4j.plugin.ffm.common.gpio.structs.LineEvent;
 import com.pi4j.plugin.ffm.common.gpio.structs.LineInfo;
 import com.pi4j.plugin.ffm.common.gpio.structs.LineRequest;
-import com.pi4j.plugin.ffm.common.poll.PollFlag;
-import com.pi4j.plugin.ffm.common.poll.structs.PollingData;
+import com.pi4j.plugin.ffm.common.gpio.structs.LineValues;
+import com.pi4j.plugin.ffm.common.ioctl.Command;
 import com.pi4j.plugin.ffm.mocks.*;
+import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalInput;
 import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalInputProviderImpl;
 import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalOutputProviderImpl;
+import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalPortProviderImpl;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
-import org.mockito.invocation.InvocationOnMock;
 
 import java.lang.foreign.Arena;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -54,7 +64,7 @@ public class GPIOTest {
     @BeforeAll
     public static void setup() {
         pi4j0 = Pi4J.newContextBuilder()
-            .add(new FFMDigitalInputProviderImpl(), new FFMDigitalOutputProviderImpl())
+            .add(new FFMDigitalInputProviderImpl(), new FFMDigitalOutputProviderImpl(), new FFMDigitalPortProviderImpl())
             .build();
         pi4j1 = Pi4J.newContextBuilder()
             .add(new FFMDigitalInputProviderImpl())
@@ -149,13 +159,7 @@ public class GPIOTest {
                 PinFlag.INPUT.getValue(),
                 new LineAttribute[0]);
         });
-        var pollingCallback = new Function<InvocationOnMock, PollingData>() {
-            @Override
-            public PollingData apply(InvocationOnMock answer) {
-                PollingData pollingData = answer.getArgument(0);
-                return new PollingData(pollingData.fd(), pollingData.events(), (short) PollFlag.POLLIN);
-            }
-        };
+        IntUnaryOperator readyEvents = _ -> EpollFlag.EPOLLIN;
         var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
             byte[] buffer = answer.getArgument(1);
             var lineEvent = new LineEvent(1, PinEvent.RISING.getValue(), 3, 4, 5);
@@ -172,7 +176,7 @@ public class GPIOTest {
         });
         try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
              var _ = IoctlNativeMock.setup(lineInfoTestData);
-             var _ = PollNativeMock.setup(pollingCallback)) {
+             var _ = EpollNativeMock.setup(readyEvents)) {
             var builder = DigitalInputConfigBuilder.newInstance()
                 .bus(-1)
                 .bcm(7)
@@ -203,13 +207,7 @@ public class GPIOTest {
                 PinFlag.INPUT.getValue(),
                 new LineAttribute[0]);
         });
-        var pollingCallback = new Function<InvocationOnMock, PollingData>() {
-            @Override
-            public PollingData apply(InvocationOnMock answer) {
-                PollingData pollingData = answer.getArgument(0);
-                return new PollingData(pollingData.fd(), pollingData.events(), (short) PollFlag.POLLIN);
-            }
-        };
+        IntUnaryOperator readyEvents = _ -> EpollFlag.EPOLLIN;
         // Use a timestamp whose LSB is 0 (i.e. divisible by 256); this exposed the bug.
         // fd=42 must match the chipFileDescriptor returned by IoctlNativeMock for LineRequest.
         long timestampWithZeroLSB = 256L;
@@ -229,7 +227,7 @@ public class GPIOTest {
         });
         try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
              var _ = IoctlNativeMock.setup(lineInfoTestData);
-             var _ = PollNativeMock.setup(pollingCallback)) {
+             var _ = EpollNativeMock.setup(readyEvents)) {
             var builder = DigitalInputConfigBuilder.newInstance()
                 .bus(-1)
                 .bcm(17)
@@ -257,20 +255,9 @@ public class GPIOTest {
                 PinFlag.INPUT.getValue(),
                 new LineAttribute[0]);
         });
-        var pollingCallback = new Function<InvocationOnMock, PollingData>() {
-            private int callCount = 0;
-
-            @Override
-            public PollingData apply(InvocationOnMock answer) {
-                PollingData pollingData = answer.getArgument(0);
-                callCount++;
-                // Return event on first call, then timeout (null) on subsequent calls
-                if (callCount == 1) {
-                    return new PollingData(pollingData.fd(), pollingData.events(), (short) PollFlag.POLLIN);
-                }
-                return null;
-            }
-        };
+        // Report the line readable on the first wait only, then let the waits time out
+        var waitCount = new AtomicInteger(0);
+        IntUnaryOperator readyEvents = _ -> waitCount.incrementAndGet() == 1 ? EpollFlag.EPOLLIN : 0;
         var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
             byte[] buffer = answer.getArgument(1);
             long timestampNs = System.nanoTime();
@@ -288,7 +275,7 @@ public class GPIOTest {
         });
         try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
              var _ = IoctlNativeMock.setup(lineInfoTestData);
-             var _ = PollNativeMock.setup(pollingCallback)) {
+             var _ = EpollNativeMock.setup(readyEvents)) {
             var builder = DigitalInputConfigBuilder.newInstance()
                 .bus(-1)
                 .bcm(8)
@@ -307,6 +294,383 @@ public class GPIOTest {
         }
     }
 
+    @Test
+    public void testInputEventCarriesKernelTimestampAndSequence() throws InterruptedException {
+        var latch = new CountDownLatch(2);
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        IntUnaryOperator readyEvents = _ -> EpollFlag.EPOLLIN;
+        // First read delivers line_seqno 1, second read line_seqno 4: the kernel dropped two edges in between.
+        var lineEvents = List.of(
+            new LineEvent(1_000L, PinEvent.RISING.getValue(), 12, 1, 1),
+            new LineEvent(2_000L, PinEvent.FALLING.getValue(), 12, 4, 4));
+        var readCount = new AtomicInteger(0);
+        var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
+            byte[] buffer = answer.getArgument(1);
+            var index = readCount.getAndIncrement();
+            if (index >= lineEvents.size()) {
+                return buffer;
+            }
+            var memoryBuffer = Arena.ofAuto().allocate(LineEvent.LAYOUT);
+            try {
+                lineEvents.get(index).to(memoryBuffer);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+            var lineBuffer = new byte[(int) LineEvent.LAYOUT.byteSize()];
+            ByteBuffer.wrap(lineBuffer).put(memoryBuffer.asByteBuffer());
+            System.arraycopy(lineBuffer, 0, buffer, 0, lineBuffer.length);
+            return buffer;
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
+             var _ = IoctlNativeMock.setup(lineInfoTestData);
+             var _ = EpollNativeMock.setup(readyEvents)) {
+            var builder = DigitalInputConfigBuilder.newInstance()
+                .bus(-1)
+                .bcm(12)
+                .debounce(0L)
+                .build();
+            var pin = pi4j0.digitalInput().create(builder);
+            var events = new CopyOnWriteArrayList<DigitalStateChangeEvent>();
+            pin.addListener(event -> {
+                events.add(event);
+                latch.countDown();
+            });
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+            var rising = events.get(0);
+            assertTrue(rising.hasTimestamp());
+            assertEquals(DigitalState.HIGH, rising.state());
+            assertEquals(1_000L, rising.timestampNanos());
+            assertEquals(1L, rising.sequenceNumber());
+            assertEquals(1L, rising.lineSequenceNumber());
+            assertEquals(0L, rising.droppedEvents());
+
+            var falling = events.get(1);
+            assertEquals(DigitalState.LOW, falling.state());
+            assertEquals(2_000L, falling.timestampNanos());
+            assertEquals(4L, falling.lineSequenceNumber());
+            assertEquals(2L, falling.droppedEvents());
+
+            var statistics = ((FFMDigitalInput) pin).eventStatistics();
+            assertEquals(2L, statistics.eventsReceived());
+            assertEquals(2L, statistics.eventsDropped());
+            assertEquals(1, statistics.maxBatchSize());
+            assertEquals(16, statistics.bufferSize());
+        }
+    }
+
+    @Test
+    public void testDecoderFrameEndsWithoutFurtherEdges() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        // the line is readable once; afterward the reactor must wake up by itself to end the frame
+        var delivered = new AtomicBoolean(false);
+        IntUnaryOperator readyEvents = _ -> delivered.get() ? 0 : EpollFlag.EPOLLIN;
+        var readCount = new AtomicInteger(0);
+        var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
+            byte[] buffer = answer.getArgument(1);
+            readCount.incrementAndGet();
+            if (delivered.getAndSet(true)) {
+                return buffer;
+            }
+            // four 1 bits on DATA1, 1ms apart, the last one just now
+            var eventSize = (int) LineEvent.LAYOUT.byteSize();
+            var memoryBuffer = Arena.ofAuto().allocate(LineEvent.LAYOUT);
+            var start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(3);
+            for (int i = 0; i < 8; i++) {
+                var timestamp = start + TimeUnit.MILLISECONDS.toNanos(i / 2) + (i % 2) * TimeUnit.MICROSECONDS.toNanos(50);
+                var id = i % 2 == 0 ? PinEvent.FALLING.getValue() : PinEvent.RISING.getValue();
+                try {
+                    new LineEvent(timestamp, id, 18, i + 1, i + 1).to(memoryBuffer);
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+                ByteBuffer.wrap(buffer, i * eventSize, eventSize).put(memoryBuffer.asByteBuffer());
+            }
+            return buffer;
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
+             var _ = IoctlNativeMock.setup(lineInfoTestData);
+             var _ = EpollNativeMock.setup(readyEvents)) {
+            // own context, so no line of another test keeps its event loop busy
+            var pi4j = Pi4J.newContextBuilder()
+                .add(new FFMDigitalInputProviderImpl())
+                .build();
+            try {
+                var builder = DigitalInputConfigBuilder.newInstance()
+                    .bus(-1)
+                    .bcm(18)
+                    .debounce(0L)
+                    .build();
+                var pin = pi4j.digitalInput().create(builder);
+                var decoder = new WiegandDecoder(TimeUnit.MILLISECONDS.toNanos(25));
+                var frames = new CopyOnWriteArrayList<WiegandDecoder.Frame>();
+                decoder.addListener((_, frame) -> {
+                    frames.add(frame);
+                    latch.countDown();
+                });
+                pin.addDecoder(decoder, WiegandDecoder.CHANNEL_DATA1);
+                assertTrue(latch.await(5, TimeUnit.SECONDS), "Wiegand frame was not ended by its gap");
+
+                assertEquals(List.of(new WiegandDecoder.Frame(4, 0b1111)), frames);
+                assertEquals(1, readCount.get(), "the frame must end without reading further edges");
+            } finally {
+                pi4j.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testInputBatchListenerReceivesOneBatchPerRead() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        IntUnaryOperator readyEvents = _ -> EpollFlag.EPOLLIN;
+        // a single read returns three queued edges
+        var lineEvents = List.of(
+            new LineEvent(1_000L, PinEvent.RISING.getValue(), 15, 1, 1),
+            new LineEvent(2_000L, PinEvent.FALLING.getValue(), 15, 2, 2),
+            new LineEvent(3_000L, PinEvent.RISING.getValue(), 15, 3, 3));
+        var delivered = new AtomicBoolean(false);
+        var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
+            byte[] buffer = answer.getArgument(1);
+            if (delivered.getAndSet(true)) {
+                return buffer;
+            }
+            var eventSize = (int) LineEvent.LAYOUT.byteSize();
+            var memoryBuffer = Arena.ofAuto().allocate(LineEvent.LAYOUT);
+            for (int i = 0; i < lineEvents.size(); i++) {
+                try {
+                    lineEvents.get(i).to(memoryBuffer);
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+                ByteBuffer.wrap(buffer, i * eventSize, eventSize).put(memoryBuffer.asByteBuffer());
+            }
+            return buffer;
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
+             var _ = IoctlNativeMock.setup(lineInfoTestData);
+             var _ = EpollNativeMock.setup(readyEvents)) {
+            var builder = DigitalInputConfigBuilder.newInstance()
+                .bus(-1)
+                .bcm(15)
+                .debounce(0L)
+                .build();
+            var pin = pi4j0.digitalInput().create(builder);
+            var sizes = new CopyOnWriteArrayList<Integer>();
+            var timestamps = new CopyOnWriteArrayList<Long>();
+            var states = new CopyOnWriteArrayList<DigitalState>();
+            var sources = new CopyOnWriteArrayList<Object>();
+            pin.addBatchListener(batch -> {
+                sizes.add(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    timestamps.add(batch.timestamps()[i]);
+                    states.add(batch.state(i));
+                }
+                sources.add(batch.source());
+                latch.countDown();
+            });
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+            assertEquals(List.of(3), sizes);
+            assertEquals(List.of(1_000L, 2_000L, 3_000L), timestamps);
+            assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW, DigitalState.HIGH), states);
+            assertSame(pin, sources.get(0));
+        }
+    }
+
+    @Test
+    public void testInputStateCacheFollowsEdges() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        // the line itself always reads LOW, so HIGH can only come from the cache
+        var valueReads = new AtomicInteger(0);
+        var lineValuesTestData = new IoctlNativeMock.IoctlTestData(LineValues.class, (answer) -> {
+            LineValues lineValues = answer.getArgument(2);
+            valueReads.incrementAndGet();
+            return new LineValues(0L, lineValues.mask());
+        });
+        IntUnaryOperator readyEvents = _ -> EpollFlag.EPOLLIN;
+        var delivered = new AtomicBoolean(false);
+        var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
+            byte[] buffer = answer.getArgument(1);
+            if (delivered.getAndSet(true)) {
+                return buffer;
+            }
+            var memoryBuffer = Arena.ofAuto().allocate(LineEvent.LAYOUT);
+            try {
+                new LineEvent(1_000L, PinEvent.RISING.getValue(), 16, 1, 1).to(memoryBuffer);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+            ByteBuffer.wrap(buffer).put(memoryBuffer.asByteBuffer());
+            return buffer;
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
+             var _ = IoctlNativeMock.setup(lineInfoTestData, lineValuesTestData);
+             var _ = EpollNativeMock.setup(readyEvents)) {
+            var builder = DigitalInputConfigBuilder.newInstance()
+                .bus(-1)
+                .bcm(16)
+                .debounce(0L)
+                .cacheState(true)
+                .build();
+            var pin = pi4j0.digitalInput().create(builder);
+            DigitalStateChangeListener listener = _ -> latch.countDown();
+            pin.addListener(listener);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+            var readsBefore = valueReads.get();
+            assertEquals(DigitalState.HIGH, pin.state());
+            assertEquals(DigitalState.HIGH, pin.state());
+            assertEquals(readsBefore, valueReads.get(), "Cached state must not read the line");
+
+            // without edge detection the line is read again
+            pin.removeListener(listener);
+            assertEquals(DigitalState.LOW, pin.state());
+            assertEquals(readsBefore + 1, valueReads.get());
+        }
+    }
+
+    @Test
+    public void testInputMeasurementWithoutListeners() throws InterruptedException {
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        IntUnaryOperator readyEvents = _ -> EpollFlag.EPOLLIN;
+        // 1 MHz square wave with 25% duty cycle
+        var lineEvents = List.of(
+            new LineEvent(1_000L, PinEvent.RISING.getValue(), 17, 1, 1),
+            new LineEvent(1_250L, PinEvent.FALLING.getValue(), 17, 2, 2),
+            new LineEvent(2_000L, PinEvent.RISING.getValue(), 17, 3, 3),
+            new LineEvent(2_250L, PinEvent.FALLING.getValue(), 17, 4, 4),
+            new LineEvent(3_000L, PinEvent.RISING.getValue(), 17, 5, 5));
+        var delivered = new AtomicBoolean(false);
+        var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
+            byte[] buffer = answer.getArgument(1);
+            if (delivered.getAndSet(true)) {
+                return buffer;
+            }
+            var eventSize = (int) LineEvent.LAYOUT.byteSize();
+            var memoryBuffer = Arena.ofAuto().allocate(LineEvent.LAYOUT);
+            for (int i = 0; i < lineEvents.size(); i++) {
+                try {
+                    lineEvents.get(i).to(memoryBuffer);
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+                ByteBuffer.wrap(buffer, i * eventSize, eventSize).put(memoryBuffer.asByteBuffer());
+            }
+            return buffer;
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
+             var _ = IoctlNativeMock.setup(lineInfoTestData);
+             var _ = EpollNativeMock.setup(readyEvents)) {
+            var builder = DigitalInputConfigBuilder.newInstance()
+                .bus(-1)
+                .bcm(17)
+                .debounce(0L)
+                .build();
+            var pin = pi4j0.digitalInput().create(builder);
+            assertEquals(0, pin.measurement().edges());
+
+            pin.startMeasurement();
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pin.measurement().edges() < lineEvents.size() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            var measurement = pin.measurement();
+            assertEquals(3, measurement.risingEdges());
+            assertEquals(2, measurement.fallingEdges());
+            assertEquals(3_000L, measurement.lastEdgeNanos());
+            assertEquals(1_000L, measurement.lastPeriodNanos());
+            assertEquals(1_000_000d, measurement.frequencyHz(), 1e-6);
+            assertEquals(0.25d, measurement.dutyCycle(), 1e-9);
+
+            pin.stopMeasurement();
+            assertFalse(((FFMDigitalInput) pin).hasListenersOrBindings());
+            assertEquals(measurement, pin.measurement());
+        }
+    }
+
+    @Test
+    public void testInputEventBufferSizePassedToKernel() {
+        var capturedRequest = new java.util.concurrent.atomic.AtomicReference<LineRequest>();
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        var lineRequestTestData = new IoctlNativeMock.IoctlTestData(LineRequest.class, (answer) -> {
+            LineRequest lineRequest = answer.getArgument(2);
+            capturedRequest.set(lineRequest);
+            return new LineRequest(lineRequest.offsets(), lineRequest.consumer(), lineRequest.config(),
+                lineRequest.numLines(), lineRequest.eventBufferSize(), 42);
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE);
+             var _ = IoctlNativeMock.setup(lineInfoTestData, lineRequestTestData)) {
+
+            var config = DigitalInputConfigBuilder.newInstance()
+                .bus(-1)
+                .bcm(13)
+                .eventBufferSize(256)
+                .build();
+            var pin = pi4j0.digitalInput().create(config);
+            assertEquals(256, pin.config().eventBufferSize());
+
+            var request = capturedRequest.get();
+            assertNotNull(request, "LineRequest was not sent to the kernel");
+            assertEquals(256, request.eventBufferSize());
+            assertEquals(256, ((FFMDigitalInput) pin).eventStatistics().bufferSize());
+
+            // the kernel rounds the queue up to a power of two
+            var rounded = pi4j0.digitalInput().create(DigitalInputConfigBuilder.newInstance()
+                .bus(-1)
+                .bcm(21)
+                .eventBufferSize(100)
+                .build());
+            assertEquals(100, capturedRequest.get().eventBufferSize());
+            assertEquals(128, ((FFMDigitalInput) rounded).eventStatistics().bufferSize());
+
+            var oversized = DigitalInputConfigBuilder.newInstance()
+                .bus(-1)
+                .bcm(14)
+                .eventBufferSize(64 * 16 + 1)
+                .build();
+            assertThrows(IllegalStateException.class, () -> pi4j0.digitalInput().create(oversized));
+        }
+    }
+
     @Test
     public void testInputIsOccupied() {
         var lineInfoOccupied = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
@@ -506,6 +870,128 @@ public class GPIOTest {
         }
     }
 
+    @Test
+    public void testPortInputRequestsAllLinesAtOnce() {
+        var capturedRequest = new java.util.concurrent.atomic.AtomicReference<LineRequest>();
+        var capturedValues = new java.util.concurrent.atomic.AtomicReference<LineValues>();
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        var lineRequestTestData = new IoctlNativeMock.IoctlTestData(LineRequest.class, (answer) -> {
+            LineRequest lineRequest = answer.getArgument(2);
+            capturedRequest.set(lineRequest);
+            return new LineRequest(lineRequest.offsets(), lineRequest.consumer(), lineRequest.config(),
+                lineRequest.numLines(), lineRequest.eventBufferSize(), 42);
+        });
+        var lineValuesTestData = new IoctlNativeMock.IoctlTestData(LineValues.class, (answer) -> {
+            LineValues lineValues = answer.getArgument(2);
+            capturedValues.set(lineValues);
+            // line 0 and line 2 are HIGH, plus a bit outside of the port that must be masked out
+            return new LineValues(0b1101L, lineValues.mask());
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE);
+             var _ = IoctlNativeMock.setup(lineInfoTestData, lineRequestTestData, lineValuesTestData)) {
+
+            var builder = DigitalPortConfigBuilder.newInstance()
+                .bus(-1)
+                .bcms(20, 21, 22)
+                .direction(DigitalPortDirection.INPUT)
+                .pull(PullResistance.PULL_UP)
+                .build();
+            var port = pi4j0.digitalPort().create(builder);
+            assertEquals(3, port.width());
+
+            var request = capturedRequest.get();
+            assertNotNull(request, "LineRequest was not sent to the kernel");
+            assertEquals(3, request.numLines());
+            assertArrayEquals(new int[]{20, 21, 22}, request.offsets());
+            assertEquals(PinFlag.INPUT.getValue() | PinFlag.BIAS_PULL_UP.getValue(), request.config().flags());
+
+            assertEquals(0b101L, port.read());
+            assertEquals(0b111L, capturedValues.get().mask());
+        }
+    }
+
+    @Test
+    public void testPortOutputInitialValueAndMaskedWrite() {
+        var capturedRequest = new java.util.concurrent.atomic.AtomicReference<LineRequest>();
+        var writtenValues = new ArrayList<LineValues>();
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.OUTPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        var lineRequestTestData = new IoctlNativeMock.IoctlTestData(LineRequest.class, (answer) -> {
+            LineRequest lineRequest = answer.getArgument(2);
+            capturedRequest.set(lineRequest);
+            return new LineRequest(lineRequest.offsets(), lineRequest.consumer(), lineRequest.config(),
+                lineRequest.numLines(), lineRequest.eventBufferSize(), 42);
+        });
+        var lineValuesTestData = new IoctlNativeMock.IoctlTestData(LineValues.class, (answer) -> {
+            LineValues lineValues = answer.getArgument(2);
+            if (answer.<Long>getArgument(1) == Command.getGpioV2SetValuesIoctl()) {
+                writtenValues.add(lineValues);
+            }
+            return lineValues;
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE);
+             var _ = IoctlNativeMock.setup(lineInfoTestData, lineRequestTestData, lineValuesTestData)) {
+
+            var builder = DigitalPortConfigBuilder.newInstance()
+                .bus(-1)
+                .bcms(23, 24, 25, 26)
+                .direction(DigitalPortDirection.OUTPUT)
+                .initial(0b1010L)
+                .build();
+            var port = pi4j0.digitalPort().create(builder);
+
+            var request = capturedRequest.get();
+            assertNotNull(request, "LineRequest was not sent to the kernel");
+            assertEquals(4, request.numLines());
+            var config = request.config();
+            assertEquals(1, config.numAttrs(), "Initial value should add a single output-values attribute");
+            var attribute = config.attrs()[0];
+            assertEquals(LineAttributeId.GPIO_V2_LINE_ATTR_ID_OUTPUT_VALUES.getValue(), attribute.attr().id());
+            assertEquals(0b1111L, attribute.mask());
+            assertEquals(0b1010L, attribute.attr().values());
+
+            port.write(0b0110L, 0b0011L);
+            port.write(0b11111L);
+            assertEquals(2, writtenValues.size());
+            assertEquals(0b0010L, writtenValues.get(0).bits());
+            assertEquals(0b0011L, writtenValues.get(0).mask());
+            assertEquals(0b1111L, writtenValues.get(1).bits());
+            assertEquals(0b1111L, writtenValues.get(1).mask());
+        }
+    }
+
+    @Test
+    public void testPortInputCannotBeWritten() {
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE);
+             var _ = IoctlNativeMock.setup(lineInfoTestData)) {
+
+            var builder = DigitalPortConfigBuilder.newInstance()
+                .bus(-1)
+                .bcms(27, 28)
+                .build();
+            var port = pi4j0.digitalPort().create(builder);
+            assertThrows(com.pi4j.io.exception.IOException.class, () -> port.write(0b11L));
+        }
+    }
+
     @Test
     public void testApi() {
         var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
@@ -526,34 +1012,87 @@ public class GPIOTest {
         }
     }
 
+    @Test
+    public void testListenersOnDifferentLoopsRemoveEachOther() throws InterruptedException {
+        // Each listener runs on its own event loop and removes the other input from the reactor while
+        // both are still being called; this deadlocked while the loops held their lock during dispatch.
+        var lineInfoTestData = new IoctlNativeMock.IoctlTestData(LineInfo.class, (answer) -> {
+            LineInfo lineInfo = answer.getArgument(2);
+            return new LineInfo(("Test").getBytes(), ("FFM-Test").getBytes(),
+                lineInfo.offset(), 0,
+                PinFlag.INPUT.getValue(),
+                new LineAttribute[0]);
+        });
+        IntUnaryOperator readyEvents = _ -> EpollFlag.EPOLLIN;
+        var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
+            byte[] buffer = answer.getArgument(1);
+            var memoryBuffer = Arena.ofAuto().allocate(LineEvent.LAYOUT);
+            try {
+                new LineEvent(1, PinEvent.RISING.getValue(), 3, 4, 5).to(memoryBuffer);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+            var lineBuffer = new byte[(int) LineEvent.LAYOUT.byteSize()];
+            ByteBuffer.wrap(lineBuffer).put(memoryBuffer.asByteBuffer());
+            System.arraycopy(lineBuffer, 0, buffer, 0, lineBuffer.length);
+            return buffer;
+        });
+        try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
+             var _ = IoctlNativeMock.setup(lineInfoTestData);
+             var _ = EpollNativeMock.setup(readyEvents)) {
+            var pi4j = Pi4J.newContextBuilder()
+                .add(new FFMDigitalInputProviderImpl(2))
+                .build();
+            try {
+                var pins = new DigitalInput[2];
+                var listeners = new DigitalStateChangeListener[2];
+                var inCallback = new CyclicBarrier(2);
+                var removed = new CountDownLatch(2);
+                for (int i = 0; i < 2; i++) {
+                    pins[i] = pi4j.digitalInput().create(DigitalInputConfigBuilder.newInstance()
+                        .bus(-1)
+                        .bcm(19 + i)
+                        .debounce(0L)
+                        .build());
+                }
+                for (int i = 0; i < 2; i++) {
+                    var other = 1 - i;
+                    var done = new AtomicBoolean(false);
+                    listeners[i] = _ -> {
+                        if (done.getAndSet(true)) {
+                            return;
+                        }
+                        try {
+                            inCallback.await(5, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                        pins[other].removeListener(listeners[other]);
+                        removed.countDown();
+                    };
+                }
+                pins[0].addListener(listeners[0]);
+                pins[1].addListener(listeners[1]);
+                assertTrue(removed.await(5, TimeUnit.SECONDS), "Listeners removing each other deadlocked");
+            } finally {
+                pi4j.shutdown();
+            }
+        }
+    }
+
     @Test
     public void testMoreThanFourInputsReceiveEvents() throws InterruptedException {
-        // Regression test for the carrier-thread-pinning bug:
-        //
-        // Before the fix, EventWatcher used virtual threads. Virtual threads that call a
-        // blocking native method (poll()) are *pinned* to a ForkJoinPool carrier thread
-        // for the duration of the call. The carrier pool size defaults to the number of
-        // available CPU cores (4 on a Raspberry Pi 4). Once 4 pins are listening, all
-        // carrier threads are pinned and the 5th+ EventWatcher can never be scheduled.
-        //
-        // This test makes each watcher's first poll() call block until ALL numPins
-        // watchers are simultaneously blocked, then releases them. That directly mirrors
-        // the real scenario: concurrent blocking native poll() calls.
-        //
-        // With the old virtual-thread code on a <=4-core machine the test would time out
-        // at allWatchersBlockingLatch because the 5th watcher can never enter poll().
-        // With the fixed platform-daemon-thread code every watcher runs on its own OS
-        // thread, all 5 block simultaneously, and the test completes.
+        // Regression test for the carrier-thread-pinning bug: with one virtual thread per watcher
+        // blocked in native poll(), the 5th+ input on a <=4-core machine never received events.
+        // Inputs are now multiplexed by the provider's epoll event loop, so every pin must deliver
+        // its events and all of them must be dispatched from that single shared thread.
         int numPins = 5;
 
-        // Latch that counts down once per watcher that reaches (and blocks inside) poll()
-        var allWatchersBlockingLatch = new CountDownLatch(numPins);
-        // Released by the test thread once all watchers are simultaneously blocking
-        var releaseWatchersLatch = new CountDownLatch(1);
         // Counts down as each pin's listener fires the first HIGH event
         var eventsDeliveredLatch = new CountDownLatch(numPins);
 
         var pinReceivedEvent = new AtomicBoolean[numPins];
+        var pinEventThread = new String[numPins];
         for (int i = 0; i < numPins; i++) {
             pinReceivedEvent[i] = new AtomicBoolean(false);
         }
@@ -564,28 +1103,7 @@ public class GPIOTest {
                 PinFlag.INPUT.getValue(),
                 new LineAttribute[0]);
         });
-
-        // Each of the first numPins poll() calls (one per watcher thread) blocks until
-        // the test thread sees all watchers are blocked and releases them.  Subsequent
-        // calls return immediately so the loop can continue delivering events.
-        var blockedWatcherCount = new AtomicInteger(0);
-        var pollingCallback = new Function<InvocationOnMock, PollingData>() {
-            @Override
-            public PollingData apply(InvocationOnMock answer) {
-                PollingData pollingData = answer.getArgument(0);
-                if (blockedWatcherCount.incrementAndGet() <= numPins) {
-                    // Signal: this watcher is now blocked in poll(), simulating the real
-                    // blocking native syscall that pins a virtual-thread carrier thread.
-                    allWatchersBlockingLatch.countDown();
-                    try {
-                        releaseWatchersLatch.await(5, TimeUnit.SECONDS);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
-                return new PollingData(pollingData.fd(), pollingData.events(), (short) PollFlag.POLLIN);
-            }
-        };
+        IntUnaryOperator readyEvents = _ -> EpollFlag.EPOLLIN;
         var pollingFile = new FileDescriptorNativeMock.FileDescriptorTestData("/dev/null", 42, ("Test").getBytes(), (answer) -> {
             byte[] buffer = answer.getArgument(1);
             var lineEvent = new LineEvent(1, PinEvent.RISING.getValue(), 3, 4, 5);
@@ -602,7 +1120,7 @@ public class GPIOTest {
         });
         try (var _ = FileDescriptorNativeMock.setup(GPIOCHIP_FILE, pollingFile);
              var _ = IoctlNativeMock.setup(lineInfoTestData);
-             var _ = PollNativeMock.setup(pollingCallback)) {
+             var _ = EpollNativeMock.setup(readyEvents)) {
             List<Object> pins = new ArrayList<>();
             for (int i = 0; i < numPins; i++) {
                 var builder = DigitalInputConfigBuilder.newInstance()
@@ -614,27 +1132,21 @@ public class GPIOTest {
                 final int pinIndex = i;
                 pin.addListener(event -> {
                     if (event.state() == DigitalState.HIGH && pinReceivedEvent[pinIndex].compareAndSet(false, true)) {
+                        pinEventThread[pinIndex] = Thread.currentThread().getName();
                         eventsDeliveredLatch.countDown();
                     }
                 });
                 pins.add(pin);
             }
 
-            // All numPins watcher threads must reach poll() simultaneously.
-            // With virtual threads on <=4 cores this assertion would time out because the
-            // 5th+ watcher is never scheduled while the first 4 pin the carrier pool.
-            assertTrue(allWatchersBlockingLatch.await(5, TimeUnit.SECONDS),
-                (numPins - allWatchersBlockingLatch.getCount()) + " of " + numPins +
-                    " watcher threads reached poll(). " +
-                    "Carrier thread pinning may have prevented remaining watchers from being scheduled.");
-
-            // Release all watchers so they return from poll() and process the event.
-            releaseWatchersLatch.countDown();
-
             // All numPins pins must deliver a state change event.
             assertTrue(eventsDeliveredLatch.await(5, TimeUnit.SECONDS),
                 "Only " + (numPins - eventsDeliveredLatch.getCount()) + " of " + numPins +
-                    " digital inputs delivered a state change event after poll() was released.");
+                    " digital inputs delivered a state change event.");
+            for (int i = 1; i < numPins; i++) {
+                assertEquals(pinEventThread[0], pinEventThread[i],
+                    "All digital inputs must share one event loop thread");
+            }
         }
     }
 }
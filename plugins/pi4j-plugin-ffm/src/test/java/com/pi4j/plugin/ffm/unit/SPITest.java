@@ -1,10 +1,14 @@
 package com.pi4j.plugin.ffm.unit;
 
 import com.pi4j.Pi4J;
+import com.pi4j.config.exception.ConfigException;
 import com.pi4j.context.Context;
 import com.pi4j.io.spi.SpiBus;
+import com.pi4j.io.spi.SpiConfig;
 import com.pi4j.io.spi.SpiConfigBuilder;
+import com.pi4j.io.spi.SpiLanes;
 import com.pi4j.plugin.ffm.common.FFMPermissionHelper;
+import com.pi4j.plugin.ffm.common.ioctl.Command;
 import com.pi4j.plugin.ffm.common.spi.SpiMultipleTransferBuffer;
 import com.pi4j.plugin.ffm.common.spi.SpiTransferBuffer;
 import com.pi4j.plugin.ffm.mocks.FileDescriptorNativeMock;
@@ -18,12 +22,25 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.io.ByteArrayOutputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 
 public class SPITest {
     private static final String SPIDEV_BUFSIZ_PATH = "/sys/module/spidev/parameters/bufsiz";
@@ -279,4 +296,333 @@ public class SPITest {
             assertTrue(maxChunkSize.get() <= 4, "no chunk may exceed the reported bufsiz");
         }
     }
+
+    @Test
+    public void testSegmentTransfer() {
+        // native segments are chunked like byte arrays, with the descriptor pointing into them
+        var callCount = new AtomicInteger();
+        var spiTestData = new IoctlNativeMock.IoctlTestData(SpiTransferBuffer.class, (answer) -> {
+            SpiTransferBuffer buffer = answer.getArgument(2);
+            callCount.incrementAndGet();
+            if (buffer.getTxBuffer() == null) {
+                // read-only: answer with a recognizable pattern
+                var rx = new byte[buffer.getRxBuffer().length];
+                Arrays.fill(rx, (byte) 0x5A);
+                return new SpiTransferBuffer(null, rx, rx.length);
+            }
+            return new SpiTransferBuffer(buffer.getTxBuffer(), buffer.getTxBuffer(), buffer.getTxBuffer().length);
+        });
+        var bufsiz = new FileDescriptorTestData(SPIDEV_BUFSIZ_PATH, 99, "4".getBytes());
+        try (var _ = FileDescriptorNativeMock.setup(bufsiz);
+             var _ = IoctlNativeMock.setup(spiTestData);
+             var arena = Arena.ofConfined()) {
+
+            var spi = pi4j.spi().create(SpiConfigBuilder.newInstance()
+                .bus(SpiBus.BUS_0)
+                .channel(8)
+                .mode(0)
+                .baud(50_000)
+                .build());
+
+            var write = arena.allocate(10);
+            for (var i = 0; i < write.byteSize(); i++) {
+                write.set(ValueLayout.JAVA_BYTE, i, (byte) (i + 1));
+            }
+            var read = arena.allocate(10);
+            assertEquals(10, spi.transfer(write, read));
+            assertEquals(-1, write.mismatch(read));
+            assertEquals(3, callCount.get());
+
+            // heap segments are staged through the device buffers
+            var heap = MemorySegment.ofArray(new byte[]{1, 2, 3, 4, 5});
+            assertEquals(5, spi.transfer(heap, MemorySegment.ofArray(new byte[5])));
+
+            var direct = ByteBuffer.allocateDirect(6);
+            assertEquals(6, spi.read(direct, 0, 6));
+            assertEquals(0x5A, direct.get(5));
+            assertEquals(6, direct.position(), "read must advance the position like for heap buffers");
+            assertEquals(6, spi.write(direct, 0, 6));
+            var received = ByteBuffer.allocateDirect(8);
+            assertEquals(6, spi.transfer(direct, 0, received, 2, 6));
+            assertEquals(8, received.position());
+
+            assertThrows(IndexOutOfBoundsException.class, () -> spi.transfer(write, arena.allocate(4)));
+        }
+    }
+
+    @Test
+    public void testWriteAndReadLeaveUnusedDirectionNull() {
+        // writes discard rx and reads clock out zeros through NULL pointers instead of scratch arrays
+        var directions = new ArrayList<String>();
+        var spiTestData = new IoctlNativeMock.IoctlTestData(SpiTransferBuffer.class, (answer) -> {
+            SpiTransferBuffer buffer = answer.getArgument(2);
+            directions.add((buffer.getTxBuffer() == null ? "-" : "tx") + "/" + (buffer.getRxBuffer() == null ? "-" : "rx"));
+            var length = buffer.getTxBuffer() != null ? buffer.getTxBuffer().length : buffer.getRxBuffer().length;
+            return new SpiTransferBuffer(buffer.getTxBuffer(), new byte[length], length);
+        });
+        try (var _ = FileDescriptorNativeMock.setup();
+             var _ = IoctlNativeMock.setup(spiTestData)) {
+
+            var spi = pi4j.spi().create(SpiConfigBuilder.newInstance()
+                .bus(SpiBus.BUS_0)
+                .channel(9)
+                .mode(0)
+                .baud(50_000)
+                .build());
+
+            spi.write((byte) 0x01);
+            spi.write(new byte[]{1, 2, 3});
+            spi.read(new byte[3]);
+            spi.readByte();
+            spi.transfer(new byte[3], new byte[3]);
+
+            assertEquals(List.of("tx/-", "tx/-", "-/rx", "tx/rx", "tx/rx"), directions);
+        }
+    }
+
+    @Test
+    public void testTransaction() {
+        var messages = new ArrayList<List<SpiTransferBuffer>>();
+        try (var _ = FileDescriptorNativeMock.setup();
+             var _ = IoctlNativeMock.setup(recordMessages(messages));
+             var arena = Arena.ofConfined()) {
+
+            var spi = pi4j.spi().create(SpiConfigBuilder.newInstance()
+                .bus(SpiBus.BUS_0)
+                .channel(10)
+                .mode(0)
+                .baud(50_000)
+                .build());
+
+            var id = new byte[3];
+            var exchange = arena.allocate(2);
+            exchange.set(ValueLayout.JAVA_BYTE, 0, (byte) 0x11);
+            exchange.set(ValueLayout.JAVA_BYTE, 1, (byte) 0x22);
+            var transaction = spi.transaction()
+                .write(new byte[]{(byte) 0x9F}).delayUsecs(10)
+                .read(id).csChange()
+                .transfer(exchange, exchange).speedHz(1_000_000).bitsPerWord(8).wordDelayUsecs(2);
+
+            assertEquals(6, transaction.execute());
+
+            // all three segments are submitted as one SPI_IOC_MESSAGE(3)
+            assertEquals(1, messages.size());
+            var message = messages.getFirst();
+            assertEquals(3, message.size());
+            assertArrayEquals(new byte[]{(byte) 0x9F}, message.get(0).getTxBuffer());
+            assertNull(message.get(0).getRxBuffer());
+            assertEquals(10, message.get(0).getDelayUsecs());
+            assertNull(message.get(1).getTxBuffer());
+            assertTrue(message.get(1).isCsChange());
+            assertEquals(1_000_000, message.get(2).getSpeedHz());
+            assertEquals(8, message.get(2).getBitsPerWord());
+            assertEquals(2, message.get(2).getWordDelayUsecs());
+            assertArrayEquals(new byte[]{0x5A, 0x5A, 0x5A}, id);
+            assertArrayEquals(new byte[]{0x11, 0x22}, exchange.toArray(ValueLayout.JAVA_BYTE));
+
+            // a transaction can be executed again
+            assertEquals(6, transaction.execute());
+            assertEquals(2, messages.size());
+
+            assertThrows(IllegalArgumentException.class, () -> spi.transaction().write(new byte[1]).delayUsecs(0x10000));
+            assertThrows(IllegalStateException.class, () -> spi.transaction().csChange());
+        }
+    }
+
+    @Test
+    public void testTransactionSplitAtBufsiz() {
+        // bufsiz is reported as 256 bytes and spidev rounds each transfer up to 128 bytes, so the two
+        // 100 byte writes fill the tx budget of the first message and the 600 byte write is split in chunks
+        var messages = new ArrayList<List<SpiTransferBuffer>>();
+        var bufsiz = new FileDescriptorTestData(SPIDEV_BUFSIZ_PATH, 99, "256".getBytes());
+        try (var _ = FileDescriptorNativeMock.setup(bufsiz);
+             var _ = IoctlNativeMock.setup(recordMessages(messages))) {
+
+            var spi = pi4j.spi().create(SpiConfigBuilder.newInstance()
+                .bus(SpiBus.BUS_0)
+                .channel(11)
+                .mode(0)
+                .baud(50_000)
+                .build());
+
+            var first = new byte[100];
+            Arrays.fill(first, (byte) 1);
+            var second = new byte[100];
+            Arrays.fill(second, (byte) 2);
+            var status = new byte[50];
+            var length = spi.transaction()
+                .write(first)
+                .write(second).delayUsecs(7)
+                .read(status).csChange()
+                .write(new byte[600]).delayUsecs(5)
+                .execute();
+
+            assertEquals(850, length);
+            var layout = messages.stream()
+                .map(message -> message.stream()
+                    .map(transfer -> transferLength(transfer) + "/" + transfer.getDelayUsecs() + "/" + (transfer.isCsChange() ? 1 : 0))
+                    .toList())
+                .toList();
+            assertEquals(List.of(
+                List.of("100/0/0", "100/7/0", "50/0/1"),
+                List.of("256/0/0"),
+                List.of("256/0/0"),
+                List.of("88/5/0")), layout);
+            // heap data is staged at separate offsets of the native buffers
+            assertEquals(1, messages.getFirst().get(0).getTxBuffer()[99]);
+            assertEquals(2, messages.getFirst().get(1).getTxBuffer()[0]);
+            var expected = new byte[50];
+            Arrays.fill(expected, (byte) 0x5A);
+            assertArrayEquals(expected, status);
+        }
+    }
+
+    @Test
+    public void testWordTransfer() {
+        // bufsiz is reported as 5 bytes, so 16-bit words are chunked at 4 bytes to keep each word whole
+        var messages = new ArrayList<List<SpiTransferBuffer>>();
+        var bufsiz = new FileDescriptorTestData(SPIDEV_BUFSIZ_PATH, 99, "5".getBytes());
+        try (var _ = FileDescriptorNativeMock.setup(bufsiz);
+             var ioctl = IoctlNativeMock.setup(recordMessages(messages))) {
+
+            var spi = pi4j.spi().create(SpiConfigBuilder.newInstance()
+                .bus(SpiBus.BUS_0)
+                .channel(12)
+                .mode(0)
+                .baud(50_000)
+                .bitsPerWord(16)
+                .build());
+
+            assertEquals(16, spi.config().bitsPerWord());
+            verify(ioctl.constructed().getFirst()).call(anyInt(), eq(Command.getSpiIocWrBitsPerWord()), eq(16));
+
+            var write = new short[]{0x0123, (short) 0xABCD, 0x7FFF};
+            var read = new short[3];
+            assertEquals(3, spi.transfer(write, read));
+            assertArrayEquals(write, read);
+            assertEquals(List.of(4, 2), messages.stream().map(message -> transferLength(message.getFirst())).toList());
+            // the words are passed in native byte order
+            var expected = ByteBuffer.allocate(4).order(ByteOrder.nativeOrder()).putShort((short) 0x0123).putShort((short) 0xABCD).array();
+            assertArrayEquals(expected, messages.getFirst().getFirst().getTxBuffer());
+
+            // int words need a word size of 17 to 32 bits
+            assertThrows(IllegalStateException.class, () -> spi.transfer(new int[2], new int[2]));
+
+            var wideSpi = pi4j.spi().create(SpiConfigBuilder.newInstance()
+                .bus(SpiBus.BUS_0)
+                .channel(15)
+                .mode(0)
+                .baud(50_000)
+                .bitsPerWord(24)
+                .build());
+            var words = new int[]{0x00ABCDEF, 0x00123456};
+            var wordsRead = new int[4];
+            assertEquals(2, wideSpi.transfer(words, 0, wordsRead, 1, 2));
+            assertArrayEquals(new int[]{0, 0x00ABCDEF, 0x00123456, 0}, wordsRead);
+            assertThrows(IllegalStateException.class, () -> wideSpi.transfer(new short[2], new short[2]));
+        }
+        assertThrows(IllegalArgumentException.class, () -> SpiConfigBuilder.newInstance().bitsPerWord(33));
+        // properties bypass the builder method, so the configuration checks the range itself
+        var invalid = assertThrows(ConfigException.class, () -> SpiConfigBuilder.newInstance()
+            .bus(SpiBus.BUS_0)
+            .channel(0)
+            .load(Map.of(SpiConfig.BITS_PER_WORD_KEY, "64"))
+            .build());
+        assertTrue(invalid.getMessage().contains("word size"));
+    }
+
+    @Test
+    public void testQuadLanes() {
+        // SPI_TX_QUAD | SPI_RX_QUAD
+        var quad = 0x200 | 0x800;
+        var messages = new ArrayList<List<SpiTransferBuffer>>();
+        try (var _ = FileDescriptorNativeMock.setup();
+             var ioctl = IoctlNativeMock.spi(quad, recordMessages(messages))) {
+
+            var spi = pi4j.spi().create(SpiConfigBuilder.newInstance()
+                .bus(SpiBus.BUS_0)
+                .channel(13)
+                .mode(0)
+                .baud(50_000)
+                .txLanes(SpiLanes.QUAD)
+                .rxLanes(SpiLanes.QUAD)
+                .build());
+
+            verify(ioctl.constructed().getFirst()).call(anyInt(), eq(Command.getSpiIocWrMode32()), eq(quad));
+
+            spi.write(new byte[4]);
+            assertEquals(4, messages.getFirst().getFirst().getTxNbits());
+            assertEquals(4, messages.getFirst().getFirst().getRxNbits());
+
+            // a quad flash read: command in single-lane mode, data in quad mode
+            messages.clear();
+            spi.transaction()
+                .write(new byte[]{0x6B, 0, 0, 0, 0}).txLanes(SpiLanes.SINGLE)
+                .read(new byte[16])
+                .execute();
+            var message = messages.getFirst();
+            assertEquals(1, message.get(0).getTxNbits());
+            assertEquals(4, message.get(1).getRxNbits());
+
+            assertThrows(IllegalArgumentException.class, () -> spi.transaction()
+                .read(new byte[16]).rxLanes(SpiLanes.OCTAL)
+                .execute());
+        }
+    }
+
+    @Test
+    public void testUnsupportedLanes() {
+        // the controller only supports dual SPI (SPI_TX_DUAL | SPI_RX_DUAL), so the quad bit is dropped
+        try (var _ = FileDescriptorNativeMock.setup();
+             var _ = IoctlNativeMock.spi(0x100 | 0x400)) {
+
+            var config = SpiConfigBuilder.newInstance()
+                .bus(SpiBus.BUS_0)
+                .channel(14)
+                .mode(0)
+                .baud(50_000)
+                .txLanes(SpiLanes.QUAD)
+                .build();
+            assertThrows(IllegalStateException.class, () -> pi4j.spi().create(config));
+        }
+        assertEquals(SpiLanes.DUAL, SpiConfigBuilder.newInstance().rxLanes(SpiLanes.DUAL).build().rxLanes());
+        assertEquals(SpiLanes.SINGLE, SpiConfigBuilder.newInstance().build().txLanes());
+    }
+
+    /**
+     * Stubs SPI_IOC_MESSAGE(1) and SPI_IOC_MESSAGE(N), recording the descriptors of every message. Reads
+     * echo the written bytes, or return 0x5A for read-only transfers.
+     */
+    private static IoctlNativeMock.IoctlTestData[] recordMessages(List<List<SpiTransferBuffer>> messages) {
+        return new IoctlNativeMock.IoctlTestData[]{
+            new IoctlNativeMock.IoctlTestData(SpiTransferBuffer.class, (answer) -> {
+                SpiTransferBuffer buffer = answer.getArgument(2);
+                messages.add(List.of(buffer));
+                return echo(buffer);
+            }),
+            new IoctlNativeMock.IoctlTestData(SpiMultipleTransferBuffer.class, (answer) -> {
+                SpiMultipleTransferBuffer buffer = answer.getArgument(2);
+                messages.add(List.of(buffer.transferBuffer()));
+                return new SpiMultipleTransferBuffer(Arrays.stream(buffer.transferBuffer())
+                    .map(SPITest::echo)
+                    .toArray(SpiTransferBuffer[]::new));
+            })
+        };
+    }
+
+    private static SpiTransferBuffer echo(SpiTransferBuffer buffer) {
+        var length = transferLength(buffer);
+        var rx = buffer.getRxBuffer();
+        if (rx != null) {
+            rx = buffer.getTxBuffer() != null ? buffer.getTxBuffer() : new byte[length];
+            if (buffer.getTxBuffer() == null) {
+                Arrays.fill(rx, (byte) 0x5A);
+            }
+        }
+        return new SpiTransferBuffer(buffer.getTxBuffer(), rx, length);
+    }
+
+    private static int transferLength(SpiTransferBuffer buffer) {
+        return buffer.getTxBuffer() != null ? buffer.getTxBuffer().length : buffer.getRxBuffer().length;
+    }
 }
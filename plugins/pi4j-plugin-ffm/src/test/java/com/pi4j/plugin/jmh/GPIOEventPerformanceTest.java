@@ -0,0 +1,69 @@
+package com.pi4j.plugin.jmh;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfigBuilder;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.plugin.BaseSetup;
+import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalInputProviderImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a single edge event travelling from the kernel to a listener. A background
+ * script toggles the input line of the mock chip through debugfs, and each benchmark operation waits
+ * for one dispatched event.
+ * <p>
+ * Run with the GC profiler ({@code -prof gc}) and read {@code gc.alloc.rate.norm} to see the bytes
+ * allocated per delivered event.
+ */
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GPIOEventPerformanceTest extends BaseSetup {
+
+    private Context pi4j;
+    private DigitalInput pin;
+    private Process edges;
+    private final Semaphore events = new Semaphore(0);
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException, IOException {
+        setup("gpio");
+
+        this.pi4j = Pi4J.newContextBuilder().add(new FFMDigitalInputProviderImpl()).build();
+        var config = DigitalInputConfigBuilder.newInstance()
+            .bus(97)
+            .bcm(4)
+            .pull(PullResistance.OFF)
+            .build();
+        this.pin = pi4j.digitalInput().create(config);
+        pin.addListener(_ -> events.release());
+
+        var scriptPath = Paths.get("src/test/resources").toFile().getAbsoluteFile();
+        this.edges = new ProcessBuilder("/bin/bash", "-c", "sudo " + scriptPath + "/gpio-edges.sh accessible 4 600")
+            .directory(scriptPath)
+            .start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException, IOException {
+        pi4j.shutdown();
+        tearDown("gpio");
+        // the script exits on its own once the mock driver is unloaded
+        edges.waitFor(5, TimeUnit.SECONDS);
+        edges.destroy();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    public void testFFMEventDelivery() throws InterruptedException {
+        events.acquire();
+    }
+}
@@ -4,6 +4,7 @@ import com.pi4j.Pi4J;
 import com.pi4j.context.Context;
 import com.pi4j.io.gpio.digital.*;
 import com.pi4j.plugin.BaseSetup;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalInputProviderImpl;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -23,11 +24,14 @@ public class GPIOInputPerformanceTest extends BaseSetup {
     private Context pi4j;
     private DigitalInput pin;
 
+    @Param({"STANDARD", "CRITICAL"})
+    private NativeCallMode callMode;
+
     @Setup(Level.Trial)
     public void setup() throws InterruptedException, IOException {
         setup("gpio");
 
-        this.pi4j = Pi4J.newContextBuilder().add(new FFMDigitalInputProviderImpl()).build();
+        this.pi4j = Pi4J.newContextBuilder().add(new FFMDigitalInputProviderImpl(1, callMode)).build();
         var config = DigitalInputConfigBuilder.newInstance()
             .bus(97)
             .bcm(3)
@@ -49,6 +53,13 @@ public class GPIOInputPerformanceTest extends BaseSetup {
         blackhole.consume(pin.state());
     }
 
+    @Benchmark
+    @Threads(4)
+    @Warmup(iterations = 3)
+    public void testFFMInputConcurrentRoundTrip(Blackhole blackhole) {
+        blackhole.consume(pin.state());
+    }
+
     @Benchmark
     @Warmup(iterations = 3)
     public void testFFMInputWithListenerRoundTrip(Blackhole blackhole) {
@@ -0,0 +1,80 @@
+package com.pi4j.plugin.jmh;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfigBuilder;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.plugin.BaseSetup;
+import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalInputProviderImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the jitter of edge-event delivery with and without real-time execution of the GPIO event
+ * loop ({@code SCHED_FIFO}, CPU affinity and locked memory). A background script toggles the input line
+ * of the mock chip through debugfs; each benchmark operation waits for the listener call of the next edge
+ * and returns its delay from the kernel timestamp.
+ * <p>
+ * The edges come at a fixed rate, so the spread of the sample-time distribution (its upper percentiles
+ * against the median) is the jitter of the delivery. Run under load (e.g. {@code stress-ng --cpu 4}) and
+ * with {@code CAP_SYS_NICE} and {@code CAP_IPC_LOCK} for the real-time settings to take effect, otherwise
+ * they are skipped with a warning.
+ */
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GPIOJitterPerformanceTest extends BaseSetup {
+
+    private Context pi4j;
+    private DigitalInput pin;
+    private Process edges;
+    private final BlockingQueue<Long> delays = new ArrayBlockingQueue<>(1024);
+
+    @Param({"false", "true"})
+    private boolean realtime;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException, IOException {
+        setup("gpio");
+
+        var builder = Pi4J.newContextBuilder().add(new FFMDigitalInputProviderImpl());
+        if (realtime) {
+            builder.realtimePriority(80).realtimeCpus(3).lockMemory();
+        }
+        this.pi4j = builder.build();
+        var config = DigitalInputConfigBuilder.newInstance()
+            .bus(97)
+            .bcm(4)
+            .pull(PullResistance.OFF)
+            .build();
+        this.pin = pi4j.digitalInput().create(config);
+        pin.addListener(event -> delays.offer(System.nanoTime() - event.timestampNanos()));
+
+        var scriptPath = Paths.get("src/test/resources").toFile().getAbsoluteFile();
+        this.edges = new ProcessBuilder("/bin/bash", "-c", "sudo " + scriptPath + "/gpio-edges.sh accessible 4 600")
+            .directory(scriptPath)
+            .start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException, IOException {
+        pi4j.shutdown();
+        tearDown("gpio");
+        // the script exits on its own once the mock driver is unloaded
+        edges.waitFor(5, TimeUnit.SECONDS);
+        edges.destroy();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    public long testFFMEventJitter() throws InterruptedException {
+        return delays.take();
+    }
+}
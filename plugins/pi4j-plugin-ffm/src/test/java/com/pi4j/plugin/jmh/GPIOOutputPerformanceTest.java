@@ -6,6 +6,7 @@ import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfigBuilder;
 import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.plugin.BaseSetup;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import com.pi4j.plugin.ffm.providers.gpio.FFMDigitalOutputProviderImpl;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -25,10 +26,13 @@ public class GPIOOutputPerformanceTest extends BaseSetup {
     private Context pi4j;
     private DigitalOutput pin;
 
+    @Param({"STANDARD", "CRITICAL"})
+    private NativeCallMode callMode;
+
     @Setup
     public void setup() throws InterruptedException, IOException {
         setup("gpio");
-        this.pi4j = Pi4J.newContextBuilder().add(new FFMDigitalOutputProviderImpl()).build();
+        this.pi4j = Pi4J.newContextBuilder().add(new FFMDigitalOutputProviderImpl(callMode)).build();
         var config = DigitalOutputConfigBuilder.newInstance()
             .bus(97)
             .bcm(5)
@@ -55,4 +55,14 @@ public class I2CSMBusPerformanceTest extends BaseSetup {
                 " write[" + Arrays.toString(writeBuffer) + "]");
         }
     }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    public void testSMBusByteRoundTrip() {
+        i2c.writeRegister(0xFE, (byte) 0x2A);
+        var read = i2c.readRegister(0xFE);
+        if (read != 0x2A) {
+            throw new RuntimeException("Read byte mismatch: read[" + read + "], write[42]");
+        }
+    }
 }
@@ -6,6 +6,8 @@ import com.pi4j.io.pwm.Pwm;
 import com.pi4j.io.pwm.PwmConfigBuilder;
 import com.pi4j.io.pwm.PwmType;
 import com.pi4j.plugin.BaseSetup;
+import com.pi4j.plugin.ffm.config.IoBackend;
+import com.pi4j.plugin.ffm.config.NativeCallMode;
 import com.pi4j.plugin.ffm.providers.pwm.FFMPwmProviderImpl;
 import org.openjdk.jmh.annotations.*;
 
@@ -24,10 +26,16 @@ public class PWMPerformanceTest extends BaseSetup {
     private Context pi4j;
     private Pwm pwm;
 
+    @Param({"STANDARD", "CRITICAL"})
+    private NativeCallMode callMode;
+
+    @Param({"SYNCHRONOUS", "IO_URING"})
+    private IoBackend ioBackend;
+
     @Setup
     public void setup() throws InterruptedException, IOException {
         setup("pwm");
-        this.pi4j = Pi4J.newContextBuilder().add(new FFMPwmProviderImpl()).build();
+        this.pi4j = Pi4J.newContextBuilder().add(new FFMPwmProviderImpl(callMode, ioBackend)).build();
         var config = PwmConfigBuilder.newInstance(pi4j)
             .pwmType(PwmType.HARDWARE)
             .chip(0)
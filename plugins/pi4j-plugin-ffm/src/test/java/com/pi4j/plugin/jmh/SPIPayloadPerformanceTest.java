@@ -0,0 +1,113 @@
+package com.pi4j.plugin.jmh;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.io.spi.SpiConfigBuilder;
+import com.pi4j.plugin.BaseSetup;
+import com.pi4j.plugin.ffm.providers.spi.FFMSpiProviderImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sweeps SPI payload sizes from 1 B to 64 KiB over the persistent per-device native buffers of
+ * {@code FFMSpi}. Payloads above the spidev {@code bufsiz} (4 KiB by default) exercise the chunked path.
+ * <p>
+ * The {@code bytes} counter reports the payload throughput next to the operation throughput. Run with
+ * the GC profiler ({@code -prof gc}) to get the allocation per operation ({@code gc.alloc.rate.norm}),
+ * which should stay at zero for every payload size in steady state.
+ */
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SPIPayloadPerformanceTest extends BaseSetup {
+
+    @Param({"1", "16", "256", "4096", "16384", "65536"})
+    private int payloadSize;
+
+    private Context pi4j;
+    private Spi spi;
+    private Arena arena;
+    private byte[] writeArray;
+    private byte[] readArray;
+    private MemorySegment writeSegment;
+    private MemorySegment readSegment;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException, IOException {
+        setup("spi");
+        this.pi4j = Pi4J.newContextBuilder()
+            .add(new FFMSpiProviderImpl())
+            .build();
+        var config = SpiConfigBuilder.newInstance()
+            .bus(SpiBus.BUS_6)
+            .channel(0)
+            .mode(0)
+            .baud(50_000)
+            .build();
+        this.spi = pi4j.spi().create(config);
+
+        this.writeArray = new byte[payloadSize];
+        new Random(42).nextBytes(writeArray);
+        this.readArray = new byte[payloadSize];
+        this.arena = Arena.ofShared();
+        this.writeSegment = arena.allocate(payloadSize);
+        MemorySegment.copy(MemorySegment.ofArray(writeArray), 0, writeSegment, 0, payloadSize);
+        this.readSegment = arena.allocate(payloadSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() throws InterruptedException, IOException {
+        pi4j.shutdown();
+        arena.close();
+        tearDown("spi");
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    public int testFFMArrayTransfer(Bytes counter) {
+        counter.bytes += payloadSize;
+        return spi.transfer(writeArray, 0, readArray, 0, payloadSize);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    public int testFFMArrayWrite(Bytes counter) {
+        counter.bytes += payloadSize;
+        return spi.write(writeArray, 0, payloadSize);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    public int testFFMArrayRead(Bytes counter) {
+        counter.bytes += payloadSize;
+        return spi.read(readArray, 0, payloadSize);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    public void testFFMArrayWriteThenRead(Bytes counter) {
+        counter.bytes += 2L * payloadSize;
+        spi.writeThenRead(writeArray, 0, payloadSize, 0, readArray, 0, payloadSize);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    public int testFFMSegmentTransfer(Bytes counter) {
+        counter.bytes += payloadSize;
+        return spi.transfer(writeSegment, readSegment);
+    }
+}
@@ -60,4 +60,15 @@ public class SPIPerformanceTest extends BaseSetup {
             throw new RuntimeException("Read buffer mismatch: read[" + Arrays.toString(readBuffer) + "], write[" + Arrays.toString(writeBuffer) + "]");
         }
     }
+
+    private final byte[] shortWriteBuffer = {0x01, 0x02, 0x03, 0x04};
+    private final byte[] shortReadBuffer = new byte[4];
+    @Benchmark
+    @Warmup(iterations = 3)
+    public void testFFMShortTransferRoundTrip() {
+        spi.transfer(shortWriteBuffer, shortReadBuffer);
+        if (!Arrays.equals(shortReadBuffer, shortWriteBuffer)) {
+            throw new RuntimeException("Read buffer mismatch: read[" + Arrays.toString(shortReadBuffer) + "], write[" + Arrays.toString(shortWriteBuffer) + "]");
+        }
+    }
 }
@@ -0,0 +1,16 @@
+#!/bin/bash
+
+# Toggles an input line of the mock GPIO chip through debugfs so benchmarks have a
+# steady stream of edge events to consume. Stops when the time budget is spent or
+# the mock driver is unloaded (the debugfs file disappears).
+# Usage: ./gpio-edges.sh <label> <line> <seconds>
+LABEL="${1:-accessible}"
+LINE="${2:-4}"
+SECONDS_LIMIT="${3:-600}"
+LINE_FILE="/sys/kernel/debug/gpio-mock/$LABEL/line$LINE"
+
+END=$((SECONDS + SECONDS_LIMIT))
+while [ -e "$LINE_FILE" ] && [ $SECONDS -lt $END ]; do
+	echo 1 > "$LINE_FILE" 2>/dev/null || break
+	echo 0 > "$LINE_FILE" 2>/dev/null || break
+done
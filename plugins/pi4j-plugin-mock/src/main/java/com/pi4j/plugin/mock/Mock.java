@@ -53,6 +53,16 @@ public class Mock {
      */
     public static final String DIGITAL_OUTPUT_PROVIDER_ID = ID + "-digital-output";
 
+    // Digital Port (GPIO) Provider name and unique ID
+    /**
+     * Display name of the mock digital port (GPIO) provider.
+     */
+    public static final String DIGITAL_PORT_PROVIDER_NAME = NAME + " Digital Port (GPIO) Provider";
+    /**
+     * Unique ID of the mock digital port (GPIO) provider, used when registering and resolving it.
+     */
+    public static final String DIGITAL_PORT_PROVIDER_ID = ID + "-digital-port";
+
     // PWM Provider name and unique ID
     /**
      * Display name of the mock PWM provider.
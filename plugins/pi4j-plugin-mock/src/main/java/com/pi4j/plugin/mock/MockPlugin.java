@@ -4,6 +4,7 @@ import com.pi4j.extension.Plugin;
 import com.pi4j.extension.PluginService;
 import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
 import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalPortProvider;
 import com.pi4j.plugin.mock.provider.i2c.MockI2CProvider;
 import com.pi4j.plugin.mock.provider.pwm.MockPwmProvider;
 import com.pi4j.plugin.mock.provider.spi.MockSpiProvider;
@@ -15,13 +16,14 @@ import com.pi4j.provider.Provider;
  * <p>
  * On {@link #initialize(PluginService) initialization} it registers the mock implementations of the
  * pi4j-core I/O contracts: {@link MockDigitalInputProvider}, {@link MockDigitalOutputProvider},
- * {@link MockPwmProvider}, {@link MockI2CProvider} and {@link MockSpiProvider}.
+ * {@link MockDigitalPortProvider}, {@link MockPwmProvider}, {@link MockI2CProvider} and {@link MockSpiProvider}.
  */
 public class MockPlugin implements Plugin {
 
     private final Provider[] providers = {
         MockDigitalInputProvider.newInstance(),
         MockDigitalOutputProvider.newInstance(),
+        MockDigitalPortProvider.newInstance(),
         MockPwmProvider.newInstance(),
         MockI2CProvider.newInstance(),
         MockSpiProvider.newInstance()
@@ -41,7 +43,7 @@ public class MockPlugin implements Plugin {
     /**
      * {@inheritDoc}
      * <p>
-     * Registers all Mock I/O providers (digital input/output, PWM, I2C and SPI) with the given
+     * Registers all Mock I/O providers (digital input/output/port, PWM, I2C and SPI) with the given
      * {@link PluginService} so they become available to the Pi4J runtime.
      */
     @Override
@@ -0,0 +1,61 @@
+package com.pi4j.plugin.mock.provider.gpio.digital;
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalPort;
+import com.pi4j.io.gpio.digital.DigitalPortBase;
+import com.pi4j.io.gpio.digital.DigitalPortConfig;
+import com.pi4j.io.gpio.digital.DigitalPortDirection;
+import com.pi4j.io.gpio.digital.DigitalPortProvider;
+
+/**
+ * Mock, in-memory implementation of the pi4j-core {@link DigitalPort} contract.
+ * <p>
+ * The port value is kept in a single {@code long}; writes on an output port update it under the
+ * supplied mask, and {@link #mockValue(long)} lets tests simulate the levels seen by an input port.
+ *
+ * @see MockDigitalPortProvider
+ */
+public class MockDigitalPort extends DigitalPortBase implements DigitalPort {
+
+    private volatile long value;
+
+    /**
+     * Creates a mock digital port bound to the given provider and configuration. An output port starts
+     * at its configured initial value, if any.
+     *
+     * @param provider the {@link DigitalPortProvider} that created this instance
+     * @param config the {@link DigitalPortConfig} describing the port lines and direction
+     */
+    public MockDigitalPort(DigitalPortProvider provider, DigitalPortConfig config) {
+        super(provider, config);
+        if (config.direction() == DigitalPortDirection.OUTPUT && config.initial() != null) {
+            this.value = config.initial() & mask();
+        }
+    }
+
+    @Override
+    public long read() throws IOException {
+        return this.value;
+    }
+
+    @Override
+    public synchronized DigitalPort write(long bits, long mask) throws IOException {
+        if (direction() != DigitalPortDirection.OUTPUT) {
+            throw new IOException("Digital port '" + id() + "' is not an output");
+        }
+        var effectiveMask = mask & mask();
+        this.value = (this.value & ~effectiveMask) | (bits & effectiveMask);
+        return this;
+    }
+
+    /**
+     * Test helper that simulates the levels seen on the port lines, regardless of direction.
+     *
+     * @param bits the simulated port value; bit {@code n} is the level of the {@code n}-th line
+     * @return this instance for method chaining
+     */
+    public MockDigitalPort mockValue(long bits) {
+        this.value = bits & mask();
+        return this;
+    }
+}
@@ -0,0 +1,27 @@
+package com.pi4j.plugin.mock.provider.gpio.digital;
+
+import com.pi4j.io.gpio.digital.DigitalPortProvider;
+import com.pi4j.plugin.mock.Mock;
+
+/**
+ * Mock implementation of the pi4j-core {@link DigitalPortProvider} contract. This provider
+ * creates {@link MockDigitalPort} instances backed by in-memory state instead of real GPIO
+ * hardware, allowing digital-port code to be exercised in unit tests.
+ *
+ * @see MockDigitalPort
+ */
+public interface MockDigitalPortProvider extends DigitalPortProvider {
+    /** Unique provider name, as defined by {@link Mock#DIGITAL_PORT_PROVIDER_NAME}. */
+    String NAME = Mock.DIGITAL_PORT_PROVIDER_NAME;
+    /** Unique provider identifier, as defined by {@link Mock#DIGITAL_PORT_PROVIDER_ID}. */
+    String ID = Mock.DIGITAL_PORT_PROVIDER_ID;
+
+    /**
+     * Creates a new mock digital port provider instance.
+     *
+     * @return a new {@link MockDigitalPortProvider} backed by {@link MockDigitalPortProviderImpl}
+     */
+    static MockDigitalPortProvider newInstance() {
+        return new MockDigitalPortProviderImpl();
+    }
+}
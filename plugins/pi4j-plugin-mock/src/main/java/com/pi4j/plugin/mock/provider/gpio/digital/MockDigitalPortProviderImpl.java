@@ -0,0 +1,48 @@
+package com.pi4j.plugin.mock.provider.gpio.digital;
+
+import com.pi4j.io.gpio.digital.DigitalPort;
+import com.pi4j.io.gpio.digital.DigitalPortConfig;
+import com.pi4j.io.gpio.digital.DigitalPortProviderBase;
+
+/**
+ * Default implementation of {@link MockDigitalPortProvider}. Extends the pi4j-core
+ * {@link DigitalPortProviderBase} and produces {@link MockDigitalPort} instances that
+ * simulate GPIO ports entirely in memory for use in unit tests.
+ *
+ * @see MockDigitalPort
+ */
+public class MockDigitalPortProviderImpl extends DigitalPortProviderBase implements MockDigitalPortProvider {
+
+    /**
+     * Creates the provider and assigns its mock {@link #ID} and {@link #NAME}.
+     */
+    public MockDigitalPortProviderImpl() {
+        this.id = ID;
+        this.name = NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a deliberately high priority ({@code 1000}) so that, when the mock plugin is on
+     * the classpath, it is preferred over real hardware providers during testing.
+     */
+    @Override
+    public int getPriority() {
+        // if the mock is loaded, then we most probably want to use it for testing
+        return 1000;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Creates a {@link MockDigitalPort} that simulates the port in memory and registers it
+     * with the Pi4J context.
+     */
+    @Override
+    public DigitalPort create(DigitalPortConfig config) {
+        MockDigitalPort port = new MockDigitalPort(this, config);
+        this.context.register(port);
+        return port;
+    }
+}
@@ -1,6 +1,8 @@
 module com.pi4j.plugin.mock {
     requires com.pi4j;
     requires org.slf4j;
+    // for tests: the flight recorder events of com.pi4j are read back from recordings
+    requires static jdk.jfr;
 
     uses com.pi4j.extension.Plugin;
 
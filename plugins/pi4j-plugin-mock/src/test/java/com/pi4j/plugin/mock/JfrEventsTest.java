@@ -0,0 +1,61 @@
+package com.pi4j.plugin.mock;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalOutputConfigBuilder;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProviderImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+    private final Context pi4j = Pi4J.newContextBuilder()
+        .add(new MockDigitalOutputProviderImpl())
+        .build();
+
+    @AfterEach
+    void tearDown() {
+        pi4j.shutdown();
+    }
+
+    @Test
+    void recordsLifecycleEvents() throws IOException {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.enable("com.pi4j.IoLifecycle").withThreshold(Duration.ZERO);
+            recording.start();
+
+            var device = pi4j.create(DigitalOutputConfigBuilder.newInstance().bcm(1).build());
+            pi4j.shutdown(device.id());
+
+            recording.stop();
+            var file = Files.createTempFile("pi4j", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        var lifecycle = events.stream()
+            .filter(event -> event.getEventType().getName().equals("com.pi4j.IoLifecycle"))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .toList();
+        assertEquals(2, lifecycle.size());
+        assertEquals("register", lifecycle.get(0).getString("action"));
+        assertEquals("shutdown", lifecycle.get(1).getString("action"));
+        assertEquals("DIGITAL_OUTPUT", lifecycle.get(0).getString("type"));
+        assertFalse(lifecycle.get(0).getBoolean("failed"));
+    }
+}